@@ -29,6 +29,75 @@ dependencies {
   testImplementation("org.mockito:mockito-core:5.11.0")
 }
 
+///////////////////////////////////////////////////////////////////////////////
+//  BENCHMARKS CONFIGURATION
+///////////////////////////////////////////////////////////////////////////////
+
+val jmh: SourceSet by
+    sourceSets.creating {
+      compileClasspath += sourceSets.main.get().output
+      runtimeClasspath += sourceSets.main.get().output
+    }
+
+configurations {
+  named(jmh.implementationConfigurationName) { extendsFrom(configurations.implementation.get()) }
+}
+
+dependencies {
+  "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+  "jmhImplementation"("org.slf4j:slf4j-api:1.7.36")
+  "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+  "jmhRuntimeOnly"("org.slf4j:slf4j-nop:1.7.36")
+}
+
+// Runs the JMH benchmarks with the GC profiler (allocation rate).
+// Usage: ./gradlew jmh [-PjmhIncludes=<regexp>] [-PjmhArgs="<additional JMH options>"]
+tasks.register<JavaExec>("jmh") {
+  group = "benchmark"
+  description = "Runs the JMH benchmarks."
+  dependsOn(jmh.classesTaskName)
+  classpath = jmh.runtimeClasspath
+  mainClass.set("org.openjdk.jmh.Main")
+  val reportFile = File(layout.buildDirectory.get().asFile, "reports/jmh/results.json")
+  doFirst { reportFile.parentFile.mkdirs() }
+  args(
+      listOfNotNull(project.findProperty("jmhIncludes") as String?) +
+          listOf("-prof", "gc", "-rf", "json", "-rff", reportFile.absolutePath) +
+          (project.findProperty("jmhArgs") as String?)?.split(" ").orEmpty())
+}
+
+///////////////////////////////////////////////////////////////////////////////
+//  LOAD TEST CONFIGURATION
+///////////////////////////////////////////////////////////////////////////////
+
+val loadtest: SourceSet by
+    sourceSets.creating {
+      compileClasspath += sourceSets.main.get().output
+      runtimeClasspath += sourceSets.main.get().output
+    }
+
+configurations {
+  named(loadtest.implementationConfigurationName) {
+    extendsFrom(configurations.implementation.get())
+  }
+}
+
+dependencies {
+  "loadtestImplementation"("org.slf4j:slf4j-api:1.7.36")
+  "loadtestRuntimeOnly"("org.slf4j:slf4j-nop:1.7.36")
+}
+
+// Runs the in-process load test (simulated network and cards, no external resource needed).
+// Usage: ./gradlew loadTest [-PloadTestArgs="<option>=<value> ..."] (see the LoadTest class)
+tasks.register<JavaExec>("loadTest") {
+  group = "verification"
+  description = "Runs the in-process load test."
+  dependsOn(loadtest.classesTaskName)
+  classpath = loadtest.runtimeClasspath
+  mainClass.set("org.eclipse.keyple.distributed.LoadTest")
+  args((project.findProperty("loadTestArgs") as String?)?.split(" ").orEmpty())
+}
+
 ///////////////////////////////////////////////////////////////////////////////
 //  STANDARD CONFIGURATION FOR JAVA PROJECTS
 ///////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,53 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import com.google.gson.JsonObject;
+import java.util.Arrays;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+
+/** Data shared by the benchmarks. */
+final class BenchmarkData {
+
+  static final String SERVICE_ID = "SERVICE_ID";
+  static final String LOCAL_READER_NAME = "LOCAL_READER_NAME";
+
+  /** A payload similar to a smart card content (hex strings). */
+  static final class Payload {
+
+    String powerOnData;
+    String[] apdus;
+
+    Payload(int size) {
+      char[] hex = new char[64];
+      Arrays.fill(hex, 'A');
+      powerOnData = new String(hex, 0, Math.min(size, 64));
+      apdus = new String[Math.max(size / 64, 1)];
+      Arrays.fill(apdus, new String(hex));
+    }
+  }
+
+  private BenchmarkData() {}
+
+  /**
+   * Builds the body of a message ending a remote service.
+   *
+   * @param outputData The output data.
+   * @return A JSON string.
+   */
+  static String buildEndRemoteServiceBody(Object outputData) {
+    JsonObject body = new JsonObject();
+    body.add(
+        MessageDto.JsonProperty.OUTPUT_DATA.getKey(), JsonUtil.getParser().toJsonTree(outputData));
+    return body.toString();
+  }
+}
@@ -0,0 +1,91 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.BenchmarkData.*;
+
+import com.google.gson.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the binary encoding of the message bodies with the JSON parsing performed by Gson.
+ *
+ * <p>The sizes sent on the wire, i.e. the serialized messages carrying the JSON body or the
+ * encoded body (Base64 form included), are printed once per payload size during the setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BodyCodecBenchmark {
+
+  /** Size of the simulated card content. */
+  @Param({"64", "1024", "16384"})
+  public int payloadSize;
+
+  private String jsonBody;
+  private String encodedBody;
+
+  @Setup
+  public void setUp() {
+    jsonBody = buildEndRemoteServiceBody(new Payload(payloadSize));
+    encodedBody = BinaryBodyCodec.encode(jsonBody);
+    System.out.println(
+        "\nWire size [payloadSize="
+            + payloadSize
+            + "]: JSON="
+            + getWireSize(jsonBody)
+            + " bytes, binary="
+            + getWireSize(encodedBody)
+            + " bytes, isEncoded="
+            + BinaryBodyCodec.isEncoded(encodedBody));
+  }
+
+  /**
+   * Returns the size of the serialized message carrying the provided body.
+   *
+   * @param body The message body.
+   * @return A number of bytes.
+   */
+  private static int getWireSize(String body) {
+    MessageDto message =
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.END_REMOTE_SERVICE.name())
+            .setSessionId("9b6a1a0e-5e0e-4c1b-8f2a-3c1d2e4f5a6b")
+            .setBody(body);
+    return JsonUtil.toJson(message).getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  /** Parsing of the JSON body by Gson. */
+  @Benchmark
+  public JsonObject gsonParse() {
+    return JsonUtil.getParser().fromJson(jsonBody, JsonObject.class);
+  }
+
+  /** Decoding of the encoded body into its JSON form. */
+  @Benchmark
+  public String binaryDecode() {
+    return BinaryBodyCodec.decode(encodedBody);
+  }
+
+  /** Encoding of the JSON body. */
+  @Benchmark
+  public String binaryEncode() {
+    return BinaryBodyCodec.encode(jsonBody);
+  }
+}
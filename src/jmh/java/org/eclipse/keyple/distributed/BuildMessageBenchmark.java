@@ -0,0 +1,86 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.BenchmarkData.*;
+
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the streaming serialization of the remote service request body with the former
+ * serialization through an intermediate JSON tree.
+ *
+ * <p>To be run with the GC profiler in order to compare the allocated bytes per operation
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildMessageBenchmark {
+
+  /** Number of applications of the simulated card selection result. */
+  @Param({"1", "16", "128"})
+  public int selectionResultCount;
+
+  private LocalServiceClientAdapter service;
+  private List<Payload> selectionResult;
+  private Payload inputData;
+
+  @Setup
+  public void setUp() {
+    LocalServiceClientFactoryAdapter factory =
+        (LocalServiceClientFactoryAdapter)
+            LocalServiceClientFactoryBuilder.builder("BENCHMARK")
+                .withSyncNode(new StubSyncEndpointClient(0, "{}", "{}"))
+                .build();
+    service = (LocalServiceClientAdapter) factory.getLocalService();
+    service.connect(new FakeLocalServiceApi("{}"));
+    selectionResult = new ArrayList<>();
+    for (int i = 0; i < selectionResultCount; i++) {
+      selectionResult.add(new Payload(4096));
+    }
+    inputData = new Payload(256);
+  }
+
+  /** Current streaming serialization. */
+  @Benchmark
+  public MessageDto streaming() {
+    return service.buildMessage(
+        SERVICE_ID, LOCAL_READER_NAME, selectionResult, inputData, "sessionId");
+  }
+
+  /** Former serialization through a JSON tree. */
+  @Benchmark
+  public String jsonTree() {
+    JsonObject body = new JsonObject();
+    body.addProperty(MessageDto.JsonProperty.CORE_API_LEVEL.getKey(), 3);
+    body.addProperty(MessageDto.JsonProperty.SERVICE_ID.getKey(), SERVICE_ID);
+    body.addProperty(MessageDto.JsonProperty.IS_READER_CONTACTLESS.getKey(), true);
+    body.add(
+        MessageDto.JsonProperty.INITIAL_CARD_CONTENT.getKey(),
+        JsonUtil.getParser().toJsonTree(selectionResult));
+    body.addProperty(
+        MessageDto.JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey(),
+        selectionResult.getClass().getName());
+    body.add(
+        MessageDto.JsonProperty.INPUT_DATA.getKey(), JsonUtil.getParser().toJsonTree(inputData));
+    return body.toString();
+  }
+}
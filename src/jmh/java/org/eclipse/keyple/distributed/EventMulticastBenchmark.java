@@ -0,0 +1,119 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the building of the messages of an event sent to many subscribers: former inline
+ * building, current building by the event (shared parts resolved once per event), and copy of a
+ * template message shared by the subscribers having the same API level.
+ *
+ * <p>A message must be built for each subscriber in any case, as the messages are mutable and may
+ * be retained by the node. The template copy therefore does not reduce the allocation and costs an
+ * extra copy of the fields, which is why it has not been retained.
+ *
+ * <p>The benchmarks are run with the GC profiler by the {@code jmh} task, which gives the
+ * allocation per event ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMulticastBenchmark {
+
+  private static final String READER_NAME = "readerName";
+  private static final String EVENT_DATA =
+      "{\"readerEvent\":{\"readerName\":\"readerName\",\"type\":\"CARD_INSERTED\"}}";
+
+  @Param({"1000"})
+  public int subscriberCount;
+
+  /** Number of distinct API levels among the subscribers. */
+  @Param({"1", "3"})
+  public int apiLevelCount;
+
+  private int[] apiLevels;
+  private String[] clientNodeIds;
+  private String[] sessionIds;
+
+  @Setup
+  public void setUp() {
+    apiLevels = new int[subscriberCount];
+    clientNodeIds = new String[subscriberCount];
+    sessionIds = new String[subscriberCount];
+    for (int i = 0; i < subscriberCount; i++) {
+      apiLevels[i] = MessageDto.API_LEVEL - i % apiLevelCount;
+      clientNodeIds[i] = "clientNodeId" + i;
+      sessionIds[i] = "sessionId" + i;
+    }
+  }
+
+  /** Building of each message from scratch, as done before the introduction of the templates. */
+  @Benchmark
+  public void perClientMessage(Blackhole blackhole) {
+    ClientEventMailbox.Event event =
+        new ClientEventMailbox.Event(MessageDto.Action.READER_EVENT, READER_NAME, EVENT_DATA);
+    for (int i = 0; i < subscriberCount; i++) {
+      blackhole.consume(
+          new MessageDto()
+              .setApiLevel(apiLevels[i])
+              .setAction(event.getAction().name())
+              .setLocalReaderName(event.getReaderName())
+              .setRemoteReaderName(event.getReaderName())
+              .setClientNodeId(clientNodeIds[i])
+              .setSessionId(sessionIds[i])
+              .setBody(event.getBody(false, null, -1)));
+    }
+  }
+
+  /** Building by the event, as currently done by the server. */
+  @Benchmark
+  public void eventBuildMessage(Blackhole blackhole) {
+    ClientEventMailbox.Event event =
+        new ClientEventMailbox.Event(MessageDto.Action.READER_EVENT, READER_NAME, EVENT_DATA);
+    for (int i = 0; i < subscriberCount; i++) {
+      blackhole.consume(
+          event.buildMessage(apiLevels[i], false, null, -1, clientNodeIds[i], sessionIds[i]));
+    }
+  }
+
+  /** Copy of a template built once per event and per API level. */
+  @Benchmark
+  public void templateCopy(Blackhole blackhole) {
+    ClientEventMailbox.Event event =
+        new ClientEventMailbox.Event(MessageDto.Action.READER_EVENT, READER_NAME, EVENT_DATA);
+    MessageDto[] templates = new MessageDto[MessageDto.API_LEVEL + 1];
+    for (int i = 0; i < subscriberCount; i++) {
+      MessageDto template = templates[apiLevels[i]];
+      if (template == null) {
+        template =
+            new MessageDto()
+                .setApiLevel(apiLevels[i])
+                .setAction(event.getAction().name())
+                .setLocalReaderName(event.getReaderName())
+                .setRemoteReaderName(event.getReaderName())
+                .setBody(event.getBody(false, null, -1));
+        templates[apiLevels[i]] = template;
+      }
+      blackhole.consume(
+          new MessageDto(template)
+              .setClientNodeId(clientNodeIds[i])
+              .setSessionId(sessionIds[i])
+              .setBody(template.getBody()));
+    }
+  }
+}
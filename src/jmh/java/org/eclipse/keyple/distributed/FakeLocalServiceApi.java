@@ -0,0 +1,47 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+
+/**
+ * In-memory {@link LocalServiceApi} simulating a card which answers each command with a fixed
+ * response.
+ */
+final class FakeLocalServiceApi implements LocalServiceApi {
+
+  private final String commandResponse;
+
+  /**
+   * Constructor.
+   *
+   * @param commandResponse The JSON response returned for each command.
+   */
+  FakeLocalServiceApi(String commandResponse) {
+    this.commandResponse = commandResponse;
+  }
+
+  @Override
+  public void setPoolPluginNames(String... poolPluginNames) {
+    // NOP
+  }
+
+  @Override
+  public String executeLocally(String jsonData, String readerName) {
+    return commandResponse;
+  }
+
+  @Override
+  public boolean isReaderContactless(String readerName) {
+    return true;
+  }
+}
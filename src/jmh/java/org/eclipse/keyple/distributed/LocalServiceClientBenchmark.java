@@ -0,0 +1,78 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.BenchmarkData.*;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the client side hot paths: message building, transaction loop and output data
+ * extraction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalServiceClientBenchmark {
+
+  /** Approximate size (in bytes) of the initial card content, input and output data. */
+  @Param({"256", "4096", "32768"})
+  public int payloadSize;
+
+  private LocalServiceClientAdapter noCommandService;
+  private LocalServiceClientAdapter commandsService;
+  private Payload payload;
+
+  @Setup
+  public void setUp() {
+    payload = new Payload(payloadSize);
+    String commandBody = JsonUtil.toJson(new Payload(64));
+    String endBody = buildEndRemoteServiceBody(payload);
+    FakeLocalServiceApi localServiceApi = new FakeLocalServiceApi(JsonUtil.toJson(new Payload(64)));
+    noCommandService = createService(0, commandBody, endBody, localServiceApi);
+    commandsService = createService(10, commandBody, endBody, localServiceApi);
+  }
+
+  private static LocalServiceClientAdapter createService(
+      int commandCount, String commandBody, String endBody, FakeLocalServiceApi localServiceApi) {
+    LocalServiceClientFactoryAdapter factory =
+        (LocalServiceClientFactoryAdapter)
+            LocalServiceClientFactoryBuilder.builder("BENCHMARK")
+                .withSyncNode(new StubSyncEndpointClient(commandCount, commandBody, endBody))
+                .build();
+    LocalServiceClientAdapter service = (LocalServiceClientAdapter) factory.getLocalService();
+    service.connect(localServiceApi);
+    return service;
+  }
+
+  /**
+   * Measures a remote service without any card command: message building and output data
+   * extraction.
+   */
+  @Benchmark
+  public Payload executeRemoteService_withoutCommand() {
+    return noCommandService.executeRemoteService(
+        SERVICE_ID, LOCAL_READER_NAME, payload, payload, Payload.class);
+  }
+
+  /** Measures a remote service with 10 card commands processed by the transaction loop. */
+  @Benchmark
+  public Payload executeRemoteService_with10Commands() {
+    return commandsService.executeRemoteService(
+        SERVICE_ID, LOCAL_READER_NAME, payload, payload, Payload.class);
+  }
+}
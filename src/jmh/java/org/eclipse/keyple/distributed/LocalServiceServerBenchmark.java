@@ -0,0 +1,84 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.eclipse.keyple.distributed.BenchmarkData.*;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks of the server side hot paths: command processing and event fan-out. */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalServiceServerBenchmark {
+
+  /** Approximate size (in bytes) of the command response and event data. */
+  @Param({"256", "4096"})
+  public int payloadSize;
+
+  /** Number of clients subscribed to the reader events. */
+  @Param({"1", "100", "1000"})
+  public int subscriberCount;
+
+  private StubAsyncEndpointServer endpoint;
+  private LocalServiceServerAdapter service;
+  private MessageDto command;
+  private String eventData;
+
+  @Setup
+  public void setUp() {
+    String payloadJson = JsonUtil.toJson(new Payload(payloadSize));
+    endpoint = new StubAsyncEndpointServer();
+    LocalServiceServerFactoryAdapter factory =
+        (LocalServiceServerFactoryAdapter)
+            LocalServiceServerFactoryBuilder.builder("BENCHMARK").withAsyncNode(endpoint).build();
+    service = (LocalServiceServerAdapter) factory.getLocalService();
+    service.connect(new FakeLocalServiceApi(payloadJson));
+    for (int i = 0; i < subscriberCount; i++) {
+      service.onMessage(newCommand("clientNodeId" + i, payloadJson));
+    }
+    command = newCommand("clientNodeId0", payloadJson);
+    eventData = payloadJson;
+  }
+
+  private static MessageDto newCommand(String clientNodeId, String body) {
+    return new MessageDto()
+        .setApiLevel(MessageDto.API_LEVEL)
+        .setAction(MessageDto.Action.CMD.name())
+        .setSessionId("sessionId")
+        .setClientNodeId(clientNodeId)
+        .setServerNodeId("serverNodeId")
+        .setLocalReaderName(LOCAL_READER_NAME)
+        .setRemoteReaderName(LOCAL_READER_NAME)
+        .setBody(body);
+  }
+
+  /** Measures the processing of a reader command received from a client. */
+  @Benchmark
+  public void onMessage(Blackhole blackhole) {
+    endpoint.setBlackhole(blackhole);
+    service.onMessage(command);
+  }
+
+  /** Measures the synchronous delivery of a reader event to all subscribed clients. */
+  @Benchmark
+  public void onReaderEvent(Blackhole blackhole) {
+    endpoint.setBlackhole(blackhole);
+    service.onReaderEvent(LOCAL_READER_NAME, eventData);
+  }
+}
@@ -0,0 +1,37 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** In-memory {@link AsyncEndpointServerSpi} consuming the sent messages. */
+final class StubAsyncEndpointServer implements AsyncEndpointServerSpi {
+
+  private Blackhole blackhole;
+
+  /**
+   * Sets the blackhole consuming the sent messages.
+   *
+   * @param blackhole The JMH blackhole.
+   */
+  void setBlackhole(Blackhole blackhole) {
+    this.blackhole = blackhole;
+  }
+
+  @Override
+  public void sendMessage(MessageDto message) {
+    if (blackhole != null) {
+      blackhole.consume(message);
+    }
+  }
+}
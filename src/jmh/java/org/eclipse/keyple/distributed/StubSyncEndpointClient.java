@@ -0,0 +1,63 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+
+/**
+ * In-memory {@link SyncEndpointClientSpi} simulating a server which sends a fixed number of
+ * commands before ending the remote service.
+ */
+final class StubSyncEndpointClient implements SyncEndpointClientSpi {
+
+  private final int commandCount;
+  private final String commandBody;
+  private final String endBody;
+  private int sentCommandCount;
+
+  /**
+   * Constructor.
+   *
+   * @param commandCount The number of commands sent by the server for each remote service.
+   * @param commandBody The body of each command.
+   * @param endBody The body of the final message (output data).
+   */
+  StubSyncEndpointClient(int commandCount, String commandBody, String endBody) {
+    this.commandCount = commandCount;
+    this.commandBody = commandBody;
+    this.endBody = endBody;
+  }
+
+  @Override
+  public List<MessageDto> sendRequest(MessageDto message) {
+    if (MessageDto.Action.EXECUTE_REMOTE_SERVICE.name().equals(message.getAction())) {
+      sentCommandCount = 0;
+    }
+    MessageDto response =
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setSessionId(message.getSessionId())
+            .setClientNodeId(message.getClientNodeId())
+            .setServerNodeId("serverNodeId")
+            .setLocalReaderName(message.getLocalReaderName())
+            .setRemoteReaderName(message.getLocalReaderName());
+    if (sentCommandCount < commandCount) {
+      sentCommandCount++;
+      response.setAction(MessageDto.Action.CMD.name()).setBody(commandBody);
+    } else {
+      response.setAction(MessageDto.Action.END_REMOTE_SERVICE.name()).setBody(endBody);
+    }
+    return Collections.singletonList(response);
+  }
+}
@@ -0,0 +1,65 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the iteration over the event subscribers with the former per-event copy of a concurrent
+ * set and with the current copy-on-write snapshots.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscriberRegistryBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int subscriberCount;
+
+  private Set<String> concurrentSet;
+  private SnapshotSet<String> snapshotSet;
+
+  @Setup
+  public void setUp() {
+    concurrentSet = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    snapshotSet = new SnapshotSet<>(new String[0]);
+    for (int i = 0; i < subscriberCount; i++) {
+      concurrentSet.add("clientNodeId" + i);
+      snapshotSet.addIfAbsent("clientNodeId" + i);
+    }
+  }
+
+  /** Iteration as done before the introduction of the snapshots. */
+  @Benchmark
+  public void hashSetCopy(Blackhole blackhole) {
+    for (String subscriber : new HashSet<>(concurrentSet)) {
+      blackhole.consume(subscriber);
+    }
+  }
+
+  /** Iteration over the current snapshot. */
+  @Benchmark
+  public void snapshot(Blackhole blackhole) {
+    for (String subscriber : snapshotSet.snapshot()) {
+      blackhole.consume(subscriber);
+    }
+  }
+}
@@ -0,0 +1,358 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process load test of the local services, running entirely offline.
+ *
+ * <p>The remote peers, the network and the cards are simulated in memory (see {@link
+ * LoopbackSyncEndpointClient}, {@link LoopbackAsyncEndpointServer} and {@link
+ * SimulatedLocalServiceApi}). For each concurrency level, the given number of sessions are run in
+ * parallel without pause during the test duration, after a warm-up period. The throughput, the
+ * latency percentiles and the error rate of the sessions are then reported.
+ *
+ * <p>Two scenarios are available:
+ *
+ * <ul>
+ *   <li>{@code client}: remote services executed by a {@link LocalServiceClient} bound to a
+ *       synchronous node,
+ *   <li>{@code server}: commands sent by remote clients to a {@link LocalServiceServer} bound to
+ *       an asynchronous node.
+ * </ul>
+ *
+ * <p>Usage: {@code ./gradlew loadTest -PloadTestArgs="<option>=<value> ..."}, with the following
+ * options:
+ *
+ * <ul>
+ *   <li>{@code scenario}: {@code client}, {@code server} or {@code all} (default {@code all}),
+ *   <li>{@code levels}: the comma-separated concurrency levels (default {@code 1,10,100,1000}),
+ *   <li>{@code warmupSeconds}: the warm-up duration of each level (default 2),
+ *   <li>{@code durationSeconds}: the measurement duration of each level (default 10),
+ *   <li>{@code commands}: the number of card commands per session (default 5),
+ *   <li>{@code networkLatencyMillis}: the one-way network latency (default 2),
+ *   <li>{@code cardResponseMillis}: the response time of the cards (default 5),
+ *   <li>{@code cardErrorRate}: the probability of failure of a card command (default 0.001),
+ *   <li>{@code stripes}: the number of command workers of the server, 0 to process the commands on
+ *       the network threads (default 0),
+ *   <li>{@code networkThreads}: the number of network threads of the server scenario (default 4).
+ * </ul>
+ */
+public final class LoadTest {
+
+  private static final String SERVICE_NAME = "LOAD_TEST";
+  private static final String SERVICE_ID = "SERVICE_ID";
+  private static final String COMMAND_BODY = "{\"apdu\":\"00A4040007A0000004040125\"}";
+  private static final String COMMAND_RESPONSE =
+      "{\"apdu\":\"6F1A840E315041592E5359532E44444630319000\"}";
+  private static final String END_BODY = "{}";
+  private static final long RESPONSE_TIMEOUT_SECONDS = 30;
+
+  private final Map<String, String> options;
+  private final long warmupNanos;
+  private final long durationNanos;
+  private final int commandCount;
+  private final long networkLatencyMillis;
+  private final SimulatedLocalServiceApi localServiceApi;
+
+  private LoadTest(Map<String, String> options) {
+    this.options = options;
+    this.warmupNanos = TimeUnit.SECONDS.toNanos(getLong("warmupSeconds", 2));
+    this.durationNanos = TimeUnit.SECONDS.toNanos(getLong("durationSeconds", 10));
+    this.commandCount = (int) getLong("commands", 5);
+    this.networkLatencyMillis = getLong("networkLatencyMillis", 2);
+    this.localServiceApi =
+        new SimulatedLocalServiceApi(
+            getLong("cardResponseMillis", 5),
+            Double.parseDouble(getString("cardErrorRate", "0.001")),
+            COMMAND_RESPONSE);
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @param args The options, with the form {@code <option>=<value>}.
+   * @throws InterruptedException If the test is interrupted.
+   */
+  public static void main(String[] args) throws InterruptedException {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      int index = arg.indexOf('=');
+      if (index <= 0) {
+        throw new IllegalArgumentException("Malformed option (<option>=<value> expected): " + arg);
+      }
+      options.put(arg.substring(0, index), arg.substring(index + 1));
+    }
+    new LoadTest(options).run();
+  }
+
+  /**
+   * Sleeps during the provided duration, restoring the interrupted status if interrupted.
+   *
+   * @param nanos The duration (in nanoseconds).
+   */
+  static void sleepNanos(long nanos) {
+    if (nanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() throws InterruptedException {
+    String scenario = getString("scenario", "all");
+    List<Integer> levels = new ArrayList<>();
+    for (String level : getString("levels", "1,10,100,1000").split(",")) {
+      levels.add(Integer.parseInt(level.trim()));
+    }
+    System.out.println("Load test options: " + options);
+    if ("client".equals(scenario) || "all".equals(scenario)) {
+      printHeader("client (remote services executed by a LocalServiceClient)");
+      for (int concurrency : levels) {
+        runClientLevel(concurrency).print(concurrency, durationNanos);
+      }
+    }
+    if ("server".equals(scenario) || "all".equals(scenario)) {
+      printHeader("server (commands processed by a LocalServiceServer)");
+      for (int concurrency : levels) {
+        runServerLevel(concurrency).print(concurrency, durationNanos);
+      }
+    }
+  }
+
+  /**
+   * Runs the client scenario at the provided concurrency level.
+   *
+   * @param concurrency The number of concurrent sessions.
+   * @return The measures.
+   * @throws InterruptedException If the test is interrupted.
+   */
+  private Measures runClientLevel(int concurrency) throws InterruptedException {
+    final LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(
+                            new LoopbackSyncEndpointClient(
+                                networkLatencyMillis, commandCount, COMMAND_BODY, END_BODY))
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    try {
+      return runLevel(
+          concurrency,
+          new Session() {
+            @Override
+            public void run(int index) {
+              service.executeRemoteService(SERVICE_ID, "reader-" + index, null, null, null);
+            }
+          });
+    } finally {
+      service.close();
+    }
+  }
+
+  /**
+   * Runs the server scenario at the provided concurrency level.
+   *
+   * @param concurrency The number of concurrent sessions.
+   * @return The measures.
+   * @throws InterruptedException If the test is interrupted.
+   */
+  private Measures runServerLevel(int concurrency) throws InterruptedException {
+    ScheduledExecutorService network =
+        Executors.newScheduledThreadPool(
+            (int) getLong("networkThreads", 4), new DaemonThreadFactory("load-test-network"));
+    try {
+      final LoopbackAsyncEndpointServer endpoint =
+          new LoopbackAsyncEndpointServer(networkLatencyMillis, network);
+      int stripeCount = (int) getLong("stripes", 0);
+      LocalServiceServerFactoryBuilder.BuilderStep builder =
+          LocalServiceServerFactoryBuilder.builder(SERVICE_NAME).withAsyncNode(endpoint);
+      if (stripeCount > 0) {
+        builder.withStripedCommandExecution(stripeCount);
+      }
+      LocalServiceServerAdapter service =
+          (LocalServiceServerAdapter)
+              ((LocalServiceServerFactoryAdapter) builder.build()).getLocalService();
+      endpoint.bind(service);
+      service.connect(localServiceApi);
+      try {
+        return runLevel(
+            concurrency,
+            new Session() {
+              @Override
+              public void run(int index) throws Exception {
+                runRemoteClientSession(endpoint, index);
+              }
+            });
+      } finally {
+        service.close();
+      }
+    } finally {
+      network.shutdownNow();
+    }
+  }
+
+  /**
+   * Sends the commands of a session on behalf of a remote client, one after the other.
+   *
+   * @param endpoint The endpoint.
+   * @param index The index of the remote client.
+   * @throws Exception If the session failed.
+   */
+  private void runRemoteClientSession(LoopbackAsyncEndpointServer endpoint, int index)
+      throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    for (int i = 0; i < commandCount; i++) {
+      MessageDto response =
+          endpoint
+              .sendCommand(
+                  new MessageDto()
+                      .setApiLevel(MessageDto.API_LEVEL)
+                      .setAction(MessageDto.Action.CMD.name())
+                      .setSessionId(sessionId)
+                      .setClientNodeId("client-" + index)
+                      .setServerNodeId("loopbackServerNodeId")
+                      .setLocalReaderName("reader-" + index)
+                      .setRemoteReaderName("reader-" + index)
+                      .setBody(COMMAND_BODY))
+              .get(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      if (MessageDto.Action.ERROR.name().equals(response.getAction())) {
+        throw new IllegalStateException("Command failed: " + response.getBody());
+      }
+    }
+  }
+
+  /**
+   * Runs the provided session in a loop on each of the concurrent workers, during the warm-up and
+   * the measurement periods.
+   *
+   * @param concurrency The number of workers.
+   * @param session The session.
+   * @return The measures of the sessions started during the measurement period.
+   * @throws InterruptedException If the test is interrupted.
+   */
+  private Measures runLevel(int concurrency, final Session session)
+      throws InterruptedException {
+    final Measures measures = new Measures();
+    final long measurementStartNanos = System.nanoTime() + warmupNanos;
+    final long endNanos = measurementStartNanos + durationNanos;
+    ExecutorService workers =
+        Executors.newFixedThreadPool(concurrency, new DaemonThreadFactory("load-test-session"));
+    for (int i = 0; i < concurrency; i++) {
+      final int index = i;
+      workers.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              long startNanos;
+              while ((startNanos = System.nanoTime()) < endNanos) {
+                boolean isSuccessful = true;
+                try {
+                  session.run(index);
+                } catch (Exception e) {
+                  isSuccessful = false;
+                }
+                if (startNanos >= measurementStartNanos) {
+                  measures.record(startNanos, isSuccessful);
+                }
+              }
+            }
+          });
+    }
+    workers.shutdown();
+    workers.awaitTermination(
+        endNanos - System.nanoTime() + TimeUnit.SECONDS.toNanos(RESPONSE_TIMEOUT_SECONDS),
+        TimeUnit.NANOSECONDS);
+    return measures;
+  }
+
+  private static void printHeader(String scenario) {
+    System.out.println();
+    System.out.println("Scenario: " + scenario);
+    System.out.println(
+        String.format(
+            "%11s %14s %9s %9s %9s %9s %9s",
+            "concurrency",
+            "sessions/s",
+            "p50 (ms)",
+            "p99 (ms)",
+            "p999 (ms)",
+            "max (ms)",
+            "errors"));
+  }
+
+  private String getString(String name, String defaultValue) {
+    String value = options.get(name);
+    return value != null ? value : defaultValue;
+  }
+
+  private long getLong(String name, long defaultValue) {
+    String value = options.get(name);
+    return value != null ? Long.parseLong(value) : defaultValue;
+  }
+
+  /** A simulated session. */
+  private interface Session {
+
+    /**
+     * Runs the session.
+     *
+     * @param index The index of the worker running the session.
+     * @throws Exception If the session failed.
+     */
+    void run(int index) throws Exception;
+  }
+
+  /** Measures of the sessions of a concurrency level. */
+  private static final class Measures {
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder errorCount = new LongAdder();
+
+    private void record(long startNanos, boolean isSuccessful) {
+      latencies.record(System.nanoTime() - startNanos);
+      if (!isSuccessful) {
+        errorCount.increment();
+      }
+    }
+
+    private void print(int concurrency, long durationNanos) {
+      LatencyStatistics statistics = latencies.snapshot(LatencyMetricType.REMOTE_SERVICE, null);
+      long count = statistics.getCount();
+      System.out.println(
+          String.format(
+              "%11d %14.1f %9.2f %9.2f %9.2f %9.2f %8.2f%%",
+              concurrency,
+              count * 1e9 / durationNanos,
+              statistics.getP50Nanos() / 1e6,
+              statistics.getP99Nanos() / 1e6,
+              statistics.getP999Nanos() / 1e6,
+              statistics.getMaxNanos() / 1e6,
+              count == 0 ? 0.0 : errorCount.sum() * 100.0 / count));
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
+
+/**
+ * Loopback {@link AsyncEndpointServerSpi} simulating remote clients reached through a network with
+ * a fixed latency.
+ *
+ * <p>The commands and the responses are delivered after the one-way latency by the threads of the
+ * provided scheduler, which play the role of the network I/O threads of a real endpoint. The
+ * endpoint is thread-safe and serves any number of concurrent sessions.
+ */
+final class LoopbackAsyncEndpointServer implements AsyncEndpointServerSpi {
+
+  private final long networkLatencyNanos;
+  private final ScheduledExecutorService network;
+  private final ConcurrentMap<String, CompletableFuture<MessageDto>> pendingResponses;
+  private volatile LocalServiceServerAdapter service;
+
+  /**
+   * Constructor.
+   *
+   * @param networkLatencyMillis The one-way network latency (in milliseconds).
+   * @param network The scheduler delivering the messages.
+   */
+  LoopbackAsyncEndpointServer(long networkLatencyMillis, ScheduledExecutorService network) {
+    this.networkLatencyNanos = TimeUnit.MILLISECONDS.toNanos(networkLatencyMillis);
+    this.network = network;
+    this.pendingResponses = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Binds the local service receiving the commands.
+   *
+   * @param service The local service.
+   */
+  void bind(LocalServiceServerAdapter service) {
+    this.service = service;
+  }
+
+  /**
+   * Sends a command on behalf of a remote client.
+   *
+   * <p>A session can only have one pending command at a time.
+   *
+   * @param command The command.
+   * @return The future of the response (action {@code RESP} or {@code ERROR}).
+   */
+  CompletableFuture<MessageDto> sendCommand(final MessageDto command) {
+    CompletableFuture<MessageDto> response = new CompletableFuture<>();
+    pendingResponses.put(command.getSessionId(), response);
+    network.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            service.onMessage(command);
+          }
+        },
+        networkLatencyNanos,
+        TimeUnit.NANOSECONDS);
+    return response;
+  }
+
+  @Override
+  public void sendMessage(final MessageDto message) {
+    if (MessageDto.Action.PLUGIN_EVENT.name().equals(message.getAction())
+        || MessageDto.Action.READER_EVENT.name().equals(message.getAction())) {
+      // The events are not part of the simulated sessions.
+      return;
+    }
+    final CompletableFuture<MessageDto> response = pendingResponses.remove(message.getSessionId());
+    if (response == null) {
+      return;
+    }
+    network.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            response.complete(message);
+          }
+        },
+        networkLatencyNanos,
+        TimeUnit.NANOSECONDS);
+  }
+}
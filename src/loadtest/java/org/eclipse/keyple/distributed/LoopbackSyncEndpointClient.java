@@ -0,0 +1,86 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
+
+/**
+ * Loopback {@link SyncEndpointClientSpi} simulating a remote server reached through a network with
+ * a fixed latency.
+ *
+ * <p>For each remote service, the simulated server sends a fixed number of commands before ending
+ * the remote service. If the client reports a failure of a command, the server ends the remote
+ * service with this error. The endpoint is thread-safe and serves any number of concurrent
+ * sessions.
+ */
+final class LoopbackSyncEndpointClient implements SyncEndpointClientSpi {
+
+  private final long roundTripNanos;
+  private final int commandCount;
+  private final String commandBody;
+  private final String endBody;
+  private final ConcurrentMap<String, AtomicInteger> sentCommandCounts;
+
+  /**
+   * Constructor.
+   *
+   * @param networkLatencyMillis The one-way network latency (in milliseconds).
+   * @param commandCount The number of commands sent by the server for each remote service.
+   * @param commandBody The body of each command.
+   * @param endBody The body of the final message (output data).
+   */
+  LoopbackSyncEndpointClient(
+      long networkLatencyMillis, int commandCount, String commandBody, String endBody) {
+    this.roundTripNanos = TimeUnit.MILLISECONDS.toNanos(2 * networkLatencyMillis);
+    this.commandCount = commandCount;
+    this.commandBody = commandBody;
+    this.endBody = endBody;
+    this.sentCommandCounts = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public List<MessageDto> sendRequest(MessageDto message) {
+    LoadTest.sleepNanos(roundTripNanos);
+    String sessionId = message.getSessionId();
+    MessageDto response =
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setSessionId(sessionId)
+            .setClientNodeId(message.getClientNodeId())
+            .setServerNodeId("loopbackServerNodeId")
+            .setLocalReaderName(message.getLocalReaderName())
+            .setRemoteReaderName(message.getLocalReaderName());
+    if (MessageDto.Action.ERROR.name().equals(message.getAction())) {
+      sentCommandCounts.remove(sessionId);
+      response.setAction(MessageDto.Action.ERROR.name()).setBody(message.getBody());
+      return Collections.singletonList(response);
+    }
+    AtomicInteger sentCommandCount = sentCommandCounts.get(sessionId);
+    if (sentCommandCount == null) {
+      sentCommandCount = new AtomicInteger();
+      sentCommandCounts.put(sessionId, sentCommandCount);
+    }
+    if (sentCommandCount.getAndIncrement() < commandCount) {
+      response.setAction(MessageDto.Action.CMD.name()).setBody(commandBody);
+    } else {
+      sentCommandCounts.remove(sessionId);
+      response.setAction(MessageDto.Action.END_REMOTE_SERVICE.name()).setBody(endBody);
+    }
+    return Collections.singletonList(response);
+  }
+}
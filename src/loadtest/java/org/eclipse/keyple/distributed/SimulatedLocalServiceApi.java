@@ -0,0 +1,59 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+
+/**
+ * In-memory {@link LocalServiceApi} simulating cards which answer each command after a fixed
+ * response time, and fail with a given probability.
+ */
+final class SimulatedLocalServiceApi implements LocalServiceApi {
+
+  private final long cardResponseNanos;
+  private final double cardErrorRate;
+  private final String commandResponse;
+
+  /**
+   * Constructor.
+   *
+   * @param cardResponseMillis The time taken by the card to answer a command (in milliseconds).
+   * @param cardErrorRate The probability of failure of a command (between 0 and 1).
+   * @param commandResponse The JSON response returned for each successful command.
+   */
+  SimulatedLocalServiceApi(long cardResponseMillis, double cardErrorRate, String commandResponse) {
+    this.cardResponseNanos = TimeUnit.MILLISECONDS.toNanos(cardResponseMillis);
+    this.cardErrorRate = cardErrorRate;
+    this.commandResponse = commandResponse;
+  }
+
+  @Override
+  public void setPoolPluginNames(String... poolPluginNames) {
+    // NOP
+  }
+
+  @Override
+  public String executeLocally(String jsonData, String readerName) {
+    LoadTest.sleepNanos(cardResponseNanos);
+    if (cardErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < cardErrorRate) {
+      throw new IllegalStateException("Simulated card failure on reader " + readerName);
+    }
+    return commandResponse;
+  }
+
+  @Override
+  public boolean isReaderContactless(String readerName) {
+    return true;
+  }
+}
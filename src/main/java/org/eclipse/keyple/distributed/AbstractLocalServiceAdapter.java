@@ -23,17 +23,69 @@ abstract class AbstractLocalServiceAdapter extends AbstractMessageHandlerAdapter
     implements LocalServiceSpi {
 
   private final String localServiceName;
+  private final LatencyRecorder latencyRecorder;
 
   private LocalServiceApi localServiceApi;
+  private LatencyStatisticsExporter latencyStatisticsExporter;
+  private int latencyStatisticsExportPeriodSeconds;
 
   /**
    * Constructor.
    *
    * @param localServiceName The name of the local service.
+   * @param latencyMetricTypes The types of the latencies measured by the local service (since
+   *     2.6.0).
    * @since 2.0.0
    */
-  AbstractLocalServiceAdapter(String localServiceName) {
+  AbstractLocalServiceAdapter(String localServiceName, LatencyMetricType... latencyMetricTypes) {
     this.localServiceName = localServiceName;
+    this.latencyRecorder = new LatencyRecorder(latencyMetricTypes);
+  }
+
+  /**
+   * Gets the recorder of the latencies measured by the local service.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  final LatencyRecorder getLatencyRecorder() {
+    return latencyRecorder;
+  }
+
+  /**
+   * Configures the periodic export of the latency statistics, performed while the local service is
+   * connected to the Keyple core.
+   *
+   * @param exporter The exporter.
+   * @param periodSeconds The export period (in seconds).
+   * @since 2.6.0
+   */
+  final void setLatencyStatisticsExporter(LatencyStatisticsExporter exporter, int periodSeconds) {
+    this.latencyStatisticsExporter = exporter;
+    this.latencyStatisticsExportPeriodSeconds = periodSeconds;
+  }
+
+  /**
+   * Starts the background tasks of the local service (threads, network sessions...), when it is
+   * connected to the Keyple core. Does nothing for the tasks already started.
+   *
+   * @since 2.6.0
+   */
+  void startBackgroundTasks() {
+    if (latencyStatisticsExporter != null) {
+      latencyRecorder.startExport(
+          localServiceName, latencyStatisticsExporter, latencyStatisticsExportPeriodSeconds);
+    }
+  }
+
+  /**
+   * Stops the background tasks of the local service and releases their resources, when it is
+   * closed or disconnected from the Keyple core.
+   *
+   * @since 2.6.0
+   */
+  void stopBackgroundTasks() {
+    latencyRecorder.stopExport();
   }
 
   /**
@@ -49,11 +101,19 @@ final LocalServiceApi getLocalServiceApi() {
   /**
    * {@inheritDoc}
    *
+   * <p>The background tasks of the local service are started when it is connected to a Keyple core
+   * API, i.e. when it is registered, and stopped when it is disconnected (null API) or closed.
+   *
    * @since 2.0.0
    */
   @Override
   public void connect(LocalServiceApi localServiceApi) {
     this.localServiceApi = localServiceApi;
+    if (localServiceApi != null) {
+      startBackgroundTasks();
+    } else {
+      stopBackgroundTasks();
+    }
   }
 
   /**
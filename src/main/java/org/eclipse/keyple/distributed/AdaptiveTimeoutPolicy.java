@@ -0,0 +1,224 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Policy computing the timeout of the requests sent to the server from the round trip times
+ * observed for each ticketing service and each action.
+ *
+ * <p>The timeout of a request is twice the 99th percentile of the last {@value #WINDOW_SIZE} round
+ * trips of the same service and action, bounded by a floor and a ceiling. The ceiling is used as
+ * long as fewer than {@value #MIN_SAMPLE_COUNT} round trips have been observed, and the timeout is
+ * doubled (up to the ceiling) each time it expires, so that a slow but legitimate exchange is not
+ * failed again.
+ *
+ * <p>The policy only computes the timeouts: the caller enforces them with a bounded wait for the
+ * response, and reports the expirations to the {@link SessionTimer}.
+ *
+ * @since 2.6.0
+ */
+final class AdaptiveTimeoutPolicy {
+
+  static final int WINDOW_SIZE = 128;
+  static final int MIN_SAMPLE_COUNT = 16;
+  private static final int RECOMPUTE_INTERVAL = 16;
+  private static final double PERCENTILE = 0.99;
+  private static final int MARGIN_FACTOR = 2;
+
+  private final long floorNanos;
+  private final long ceilingNanos;
+  private final NanoClock clock;
+  private final ConcurrentMap<String, ConcurrentMap<String, Estimator>> estimatorsByService;
+
+  /**
+   * Constructor.
+   *
+   * @param floorMillis The minimum timeout (in milliseconds).
+   * @param ceilingMillis The maximum timeout (in milliseconds).
+   * @since 2.6.0
+   */
+  AdaptiveTimeoutPolicy(long floorMillis, long ceilingMillis) {
+    this(floorMillis, ceilingMillis, NanoClock.SYSTEM);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param floorMillis The minimum timeout (in milliseconds).
+   * @param ceilingMillis The maximum timeout (in milliseconds).
+   * @param clock The clock measuring the round trip times.
+   * @since 2.6.0
+   */
+  AdaptiveTimeoutPolicy(long floorMillis, long ceilingMillis, NanoClock clock) {
+    this.floorNanos = TimeUnit.MILLISECONDS.toNanos(floorMillis);
+    this.ceilingNanos = TimeUnit.MILLISECONDS.toNanos(ceilingMillis);
+    this.clock = clock;
+    this.estimatorsByService = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Creates the timer of the requests of a new session.
+   *
+   * @param serviceId The ticketing service ID.
+   * @return A new instance, to be used by the thread processing the session.
+   * @since 2.6.0
+   */
+  SessionTimer newSessionTimer(String serviceId) {
+    ConcurrentMap<String, Estimator> estimators = estimatorsByService.get(serviceId);
+    if (estimators == null) {
+      estimators = new ConcurrentHashMap<>();
+      ConcurrentMap<String, Estimator> existing =
+          estimatorsByService.putIfAbsent(serviceId, estimators);
+      if (existing != null) {
+        estimators = existing;
+      }
+    }
+    return new SessionTimer(estimators);
+  }
+
+  /**
+   * Gets the current timeout of the provided service and action.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param action The action of the request.
+   * @return The ceiling if no round trip has been observed yet.
+   * @since 2.6.0
+   */
+  long getTimeoutNanos(String serviceId, String action) {
+    ConcurrentMap<String, Estimator> estimators = estimatorsByService.get(serviceId);
+    Estimator estimator = estimators != null ? estimators.get(action) : null;
+    return estimator != null ? estimator.timeoutNanos : ceilingNanos;
+  }
+
+  /**
+   * Estimator of the timeout of a service and an action, based on a sliding window of round trip
+   * times.
+   */
+  private final class Estimator {
+
+    private final AtomicLongArray window;
+    private final AtomicLong sampleCount;
+    private volatile long timeoutNanos;
+
+    private Estimator() {
+      this.window = new AtomicLongArray(WINDOW_SIZE);
+      this.sampleCount = new AtomicLong();
+      this.timeoutNanos = ceilingNanos;
+    }
+
+    /**
+     * Records a round trip time, and computes again the timeout periodically.
+     *
+     * @param durationNanos The round trip time.
+     */
+    private void record(long durationNanos) {
+      long count = sampleCount.getAndIncrement() + 1;
+      window.set((int) ((count - 1) % WINDOW_SIZE), durationNanos);
+      if (count >= MIN_SAMPLE_COUNT && count % RECOMPUTE_INTERVAL == 0) {
+        int size = (int) Math.min(count, WINDOW_SIZE);
+        long[] samples = new long[size];
+        for (int i = 0; i < size; i++) {
+          samples[i] = window.get(i);
+        }
+        Arrays.sort(samples);
+        long percentileNanos = samples[(int) Math.ceil(PERCENTILE * size) - 1];
+        timeoutNanos =
+            Math.min(Math.max(MARGIN_FACTOR * percentileNanos, floorNanos), ceilingNanos);
+      }
+    }
+
+    /**
+     * Registers an expiration of the timeout, which is recorded as a round trip time and doubles
+     * the timeout.
+     *
+     * @param durationNanos The time elapsed until the expiration.
+     */
+    private void onExpiration(long durationNanos) {
+      record(durationNanos);
+      timeoutNanos = Math.min(2 * Math.max(timeoutNanos, durationNanos), ceilingNanos);
+    }
+  }
+
+  /**
+   * Timer of the requests of a session, giving the timeout of each request and recording its round
+   * trip time.
+   *
+   * <p>The requests are timed one at a time by the thread processing the session.
+   *
+   * @since 2.6.0
+   */
+  final class SessionTimer {
+
+    private final ConcurrentMap<String, Estimator> estimators;
+    private Estimator estimator;
+    private long startNanos;
+    private long currentTimeoutNanos;
+
+    private SessionTimer(ConcurrentMap<String, Estimator> estimators) {
+      this.estimators = estimators;
+    }
+
+    /**
+     * Starts timing a request.
+     *
+     * @param action The action of the request.
+     * @return The timeout of the request (in nanoseconds).
+     * @since 2.6.0
+     */
+    long start(String action) {
+      estimator = estimators.get(action);
+      if (estimator == null) {
+        estimator = new Estimator();
+        Estimator existing = estimators.putIfAbsent(action, estimator);
+        if (existing != null) {
+          estimator = existing;
+        }
+      }
+      currentTimeoutNanos = estimator.timeoutNanos;
+      startNanos = clock.nanoTime();
+      return currentTimeoutNanos;
+    }
+
+    /**
+     * Stops timing the current request and records its round trip time.
+     *
+     * @param isExpired True if no response has been received within the timeout of the request,
+     *     in which case the timeout of the next requests is doubled.
+     * @since 2.6.0
+     */
+    void stop(boolean isExpired) {
+      long durationNanos = clock.nanoTime() - startNanos;
+      if (isExpired) {
+        estimator.onExpiration(durationNanos);
+      } else {
+        estimator.record(durationNanos);
+      }
+    }
+
+    /**
+     * Gets the timeout applied to the last started request.
+     *
+     * @return The timeout (in milliseconds).
+     * @since 2.6.0
+     */
+    long getTimeoutMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(currentTimeoutNanos);
+    }
+  }
+}
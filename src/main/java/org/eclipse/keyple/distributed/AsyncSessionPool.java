@@ -0,0 +1,312 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of node sessions opened in advance, so that a remote service can send its first message
+ * without waiting for the opening of a session on an async node.
+ *
+ * <p>The sessions are single-use: a session taken from the pool is closed at the end of the remote
+ * service as usual, and the pool is replenished in the background by a dedicated daemon thread,
+ * running between {@link #start()} and {@link #close()}. The sessions which have not been used
+ * within the idle timeout are closed and replaced, so that the pool never hands out a session
+ * already closed by the server.
+ *
+ * <p>The expired sessions are only replaced while the pool is in use: once no session has been
+ * taken for the idle timeout, the pool drains and keeps no session open on the server. It is
+ * refilled at the next {@link #poll()}, which then returns null.
+ *
+ * @since 2.6.0
+ */
+final class AsyncSessionPool {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncSessionPool.class);
+
+  private static final long MIN_SWEEP_PERIOD_MILLIS = 100;
+
+  private final String threadName;
+  private final int size;
+  private final long idleTimeoutNanos;
+  private final long sweepPeriodMillis;
+  private final SessionFactory sessionFactory;
+  private final NanoClock clock;
+  private final ConcurrentLinkedQueue<PooledSession> idleSessions;
+  private final AtomicInteger idleSessionCount;
+  private final AtomicBoolean isReplenishing;
+  private final AtomicReference<ScheduledExecutorService> scheduler;
+  private volatile long lastDemandNanos;
+  private final Runnable replenishTask;
+  private final Runnable sweepTask;
+
+  /**
+   * Opener of the node sessions.
+   *
+   * @since 2.6.0
+   */
+  interface SessionFactory {
+
+    /**
+     * Opens a new node session.
+     *
+     * @return The ID of the opened session.
+     * @throws RuntimeException If the session cannot be opened.
+     * @since 2.6.0
+     */
+    String openSession();
+
+    /**
+     * Closes a node session, ignoring any error.
+     *
+     * @param sessionId The session ID.
+     * @since 2.6.0
+     */
+    void closeSession(String sessionId);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param localServiceName The name of the local service, used to name the thread of the pool.
+   * @param size The number of sessions to keep open.
+   * @param idleTimeoutMillis The time (in milliseconds) after which an unused session is closed.
+   * @param sessionFactory The opener of the sessions.
+   * @since 2.6.0
+   */
+  AsyncSessionPool(
+      String localServiceName, int size, long idleTimeoutMillis, SessionFactory sessionFactory) {
+    this(localServiceName, size, idleTimeoutMillis, sessionFactory, NanoClock.SYSTEM);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param localServiceName The name of the local service, used to name the thread of the pool.
+   * @param size The number of sessions to keep open.
+   * @param idleTimeoutMillis The time (in milliseconds) after which an unused session is closed.
+   * @param sessionFactory The opener of the sessions.
+   * @param clock The clock giving the age of the sessions.
+   * @since 2.6.0
+   */
+  AsyncSessionPool(
+      String localServiceName,
+      int size,
+      long idleTimeoutMillis,
+      SessionFactory sessionFactory,
+      NanoClock clock) {
+    this.threadName = "keyple-" + localServiceName + "-session-pool";
+    this.size = size;
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+    this.sweepPeriodMillis = Math.max(idleTimeoutMillis / 2, MIN_SWEEP_PERIOD_MILLIS);
+    this.sessionFactory = sessionFactory;
+    this.clock = clock;
+    this.idleSessions = new ConcurrentLinkedQueue<>();
+    this.idleSessionCount = new AtomicInteger();
+    this.isReplenishing = new AtomicBoolean();
+    this.scheduler = new AtomicReference<>();
+    this.replenishTask =
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              replenish();
+            } finally {
+              isReplenishing.set(false);
+            }
+          }
+        };
+    this.sweepTask =
+        new Runnable() {
+          @Override
+          public void run() {
+            closeExpiredSessions();
+            if (clock.nanoTime() - lastDemandNanos < idleTimeoutNanos) {
+              requestReplenishment();
+            }
+          }
+        };
+  }
+
+  /**
+   * Starts the thread of the pool, which opens the sessions in the background.
+   *
+   * @since 2.6.0
+   */
+  void start() {
+    if (scheduler.get() != null) {
+      return;
+    }
+    lastDemandNanos = clock.nanoTime();
+    ScheduledExecutorService executor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(threadName));
+    if (!scheduler.compareAndSet(null, executor)) {
+      executor.shutdown();
+      return;
+    }
+    executor.scheduleWithFixedDelay(sweepTask, 0, sweepPeriodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops the thread of the pool and closes the idle sessions. The pool is then empty until it is
+   * started again.
+   *
+   * @since 2.6.0
+   */
+  void close() {
+    ScheduledExecutorService executor = scheduler.getAndSet(null);
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    closeIdleSessions();
+  }
+
+  /**
+   * Takes an open session from the pool, and requests the opening of a new one in the background.
+   *
+   * <p>The pool is refilled if it has drained after being unused for the idle timeout.
+   *
+   * @return The ID of an open session, or null if the pool is empty, in which case the caller has
+   *     to open its own session.
+   * @since 2.6.0
+   */
+  String poll() {
+    long nowNanos = clock.nanoTime();
+    lastDemandNanos = nowNanos;
+    PooledSession session;
+    while ((session = idleSessions.poll()) != null) {
+      idleSessionCount.decrementAndGet();
+      if (nowNanos - session.openingNanos < idleTimeoutNanos) {
+        break;
+      }
+      closeInBackground(session.sessionId);
+    }
+    requestReplenishment();
+    return session != null ? session.sessionId : null;
+  }
+
+  /**
+   * Gets the number of open sessions currently available.
+   *
+   * @return A positive number.
+   * @since 2.6.0
+   */
+  int getIdleSessionCount() {
+    return idleSessionCount.get();
+  }
+
+  /** Schedules the replenishment of the pool if it is started and not already in progress. */
+  private void requestReplenishment() {
+    ScheduledExecutorService executor = scheduler.get();
+    if (executor != null
+        && idleSessionCount.get() < size
+        && isReplenishing.compareAndSet(false, true)) {
+      try {
+        executor.execute(replenishTask);
+      } catch (RejectedExecutionException e) {
+        // Closed in the meantime.
+        isReplenishing.set(false);
+      }
+    }
+  }
+
+  /**
+   * Opens sessions until the pool is full. Stops at the first failure, the next attempt being made
+   * at the next sweep.
+   */
+  private void replenish() {
+    while (scheduler.get() != null && idleSessionCount.get() < size) {
+      String sessionId;
+      try {
+        sessionId = sessionFactory.openSession();
+      } catch (RuntimeException e) {
+        logger.debug("Failed to open a pooled session [error={}]", e.getMessage());
+        return;
+      }
+      idleSessions.offer(new PooledSession(sessionId, clock.nanoTime()));
+      idleSessionCount.incrementAndGet();
+    }
+    if (scheduler.get() == null) {
+      // Closed while a session was being opened.
+      closeIdleSessions();
+    }
+  }
+
+  /** Closes the sessions which have not been used within the idle timeout. */
+  private void closeExpiredSessions() {
+    long nowNanos = clock.nanoTime();
+    Iterator<PooledSession> iterator = idleSessions.iterator();
+    while (iterator.hasNext()) {
+      PooledSession session = iterator.next();
+      if (nowNanos - session.openingNanos >= idleTimeoutNanos
+          && idleSessions.remove(session)) {
+        idleSessionCount.decrementAndGet();
+        sessionFactory.closeSession(session.sessionId);
+      }
+    }
+  }
+
+  /** Closes all the idle sessions on the calling thread. */
+  private void closeIdleSessions() {
+    PooledSession session;
+    while ((session = idleSessions.poll()) != null) {
+      idleSessionCount.decrementAndGet();
+      sessionFactory.closeSession(session.sessionId);
+    }
+  }
+
+  /**
+   * Closes a session on the thread of the pool, or on the calling thread if the pool is closed.
+   *
+   * @param sessionId The session ID.
+   */
+  private void closeInBackground(final String sessionId) {
+    ScheduledExecutorService executor = scheduler.get();
+    if (executor != null) {
+      try {
+        executor.execute(
+            new Runnable() {
+              @Override
+              public void run() {
+                sessionFactory.closeSession(sessionId);
+              }
+            });
+        return;
+      } catch (RejectedExecutionException e) {
+        // Closed in the meantime.
+      }
+    }
+    sessionFactory.closeSession(sessionId);
+  }
+
+  /** A session of the pool with its opening time. */
+  private static final class PooledSession {
+
+    private final String sessionId;
+    private final long openingNanos;
+
+    private PooledSession(String sessionId, long openingNanos) {
+      this.sessionId = sessionId;
+      this.openingNanos = openingNanos;
+    }
+  }
+}
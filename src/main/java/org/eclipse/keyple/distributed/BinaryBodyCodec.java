@@ -0,0 +1,429 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the JSON message bodies.
+ *
+ * <p>The JSON content is transcoded token by token into a tag-length-value format, so any body
+ * keeps its meaning once decoded:
+ *
+ * <ul>
+ *   <li>the property names defined by {@link MessageDto.JsonProperty} are replaced by a one-byte
+ *       index,
+ *   <li>the strings made of uppercase hexadecimal digits (APDUs, power-on data...) are stored as
+ *       raw bytes, one byte for two digits,
+ *   <li>the lengths are stored as unsigned variable-length integers.
+ * </ul>
+ *
+ * The binary content is carried in the string body of the message with the form {@code
+ * !<Base64 content>}, which can never be mistaken for a JSON body. As for the compression, the
+ * support of the encoding is negotiated with each peer: a client declares it in the body of the
+ * {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} message using the {@value #BODY_ENCODING}
+ * property, and a peer which sends an encoded body is able to decode the encoded bodies.
+ *
+ * <p>The Base64 form inflates the binary content by a third, so a hexadecimal string finally takes
+ * two thirds of its JSON size, while the other strings (including the property names of the core
+ * commands, which are not in the dictionary) take a third more. A body which would not be shorter
+ * once encoded is therefore kept in its JSON form, which the peers accept as well.
+ *
+ * @since 2.6.0
+ */
+final class BinaryBodyCodec {
+
+  /**
+   * Property of the {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} body containing the name of
+   * the body encoding supported by the client.
+   *
+   * @since 2.6.0
+   */
+  static final String BODY_ENCODING = "BODY_ENCODING";
+
+  /**
+   * Name of the binary encoding, as declared by the {@value #BODY_ENCODING} property.
+   *
+   * @since 2.6.0
+   */
+  static final String BINARY = "BINARY";
+
+  private static final char PREFIX = '!';
+  private static final int VERSION = 1;
+
+  private static final int BEGIN_OBJECT = 1;
+  private static final int END_OBJECT = 2;
+  private static final int BEGIN_ARRAY = 3;
+  private static final int END_ARRAY = 4;
+  private static final int NAME = 5;
+  private static final int KNOWN_NAME = 6;
+  private static final int STRING = 7;
+  private static final int HEX_STRING = 8;
+  private static final int NUMBER = 9;
+  private static final int TRUE = 10;
+  private static final int FALSE = 11;
+  private static final int NULL = 12;
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * Dictionary of the property names. The indexes are part of the format: new names must only be
+   * appended.
+   */
+  private static final String[] KNOWN_NAMES = {
+    MessageDto.JsonProperty.CORE_API_LEVEL.getKey(),
+    MessageDto.JsonProperty.SERVICE_ID.getKey(),
+    MessageDto.JsonProperty.IS_READER_CONTACTLESS.getKey(),
+    MessageDto.JsonProperty.INITIAL_CARD_CONTENT.getKey(),
+    MessageDto.JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey(),
+    MessageDto.JsonProperty.INPUT_DATA.getKey(),
+    MessageDto.JsonProperty.OUTPUT_DATA.getKey(),
+    MessageDto.JsonProperty.ERROR.getKey()
+  };
+
+  private static final Map<String, Integer> KNOWN_NAME_INDEXES = new HashMap<>();
+
+  static {
+    for (int i = 0; i < KNOWN_NAMES.length; i++) {
+      KNOWN_NAME_INDEXES.put(KNOWN_NAMES[i], i);
+    }
+  }
+
+  /** Private constructor. */
+  private BinaryBodyCodec() {}
+
+  /**
+   * Indicates if the provided body is encoded.
+   *
+   * @param body The message body (may be null).
+   * @return True if the body has been produced by {@link #encode(String)}.
+   * @since 2.6.0
+   */
+  static boolean isEncoded(String body) {
+    return body != null && !body.isEmpty() && body.charAt(0) == PREFIX;
+  }
+
+  /**
+   * Encodes a JSON body.
+   *
+   * @param json The JSON body (may be null).
+   * @return The encoded body, the provided body if its encoded form would not be shorter, or null
+   *     if the provided body is null.
+   * @throws IllegalArgumentException If the body is not a valid JSON content.
+   * @since 2.6.0
+   */
+  static String encode(String json) {
+    if (json == null) {
+      return null;
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream(json.length() / 2 + 16);
+    output.write(VERSION);
+    try {
+      JsonReader reader = new JsonReader(new StringReader(json));
+      reader.setLenient(true);
+      JsonToken token;
+      while ((token = reader.peek()) != JsonToken.END_DOCUMENT) {
+        switch (token) {
+          case BEGIN_OBJECT:
+            reader.beginObject();
+            output.write(BEGIN_OBJECT);
+            break;
+          case END_OBJECT:
+            reader.endObject();
+            output.write(END_OBJECT);
+            break;
+          case BEGIN_ARRAY:
+            reader.beginArray();
+            output.write(BEGIN_ARRAY);
+            break;
+          case END_ARRAY:
+            reader.endArray();
+            output.write(END_ARRAY);
+            break;
+          case NAME:
+            writeName(reader.nextName(), output);
+            break;
+          case STRING:
+            writeString(reader.nextString(), output);
+            break;
+          case NUMBER:
+            output.write(NUMBER);
+            writeBytes(reader.nextString().getBytes(StandardCharsets.US_ASCII), output);
+            break;
+          case BOOLEAN:
+            output.write(reader.nextBoolean() ? TRUE : FALSE);
+            break;
+          default:
+            // NULL
+            reader.nextNull();
+            output.write(NULL);
+            break;
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed JSON message body", e);
+    }
+    // The Base64 form is 1 + 4 * ceil(n / 3) characters long.
+    if (1 + 4L * ((output.size() + 2) / 3) >= json.length()) {
+      return json;
+    }
+    return PREFIX + Base64.getEncoder().encodeToString(output.toByteArray());
+  }
+
+  /**
+   * Decodes an encoded body into its JSON form.
+   *
+   * @param body The encoded body.
+   * @return A not null string.
+   * @throws IllegalArgumentException If the body is malformed.
+   * @since 2.6.0
+   */
+  static String decode(String body) {
+    Input input = new Input(Base64.getDecoder().decode(body.substring(1)));
+    if (input.readByte() != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary message body version");
+    }
+    ReusableStringWriter buffer = ReusableStringWriter.acquire();
+    try {
+      JsonWriter writer = new JsonWriter(buffer);
+      writer.setLenient(true);
+      writer.setSerializeNulls(true);
+      while (input.hasRemaining()) {
+        int tag = input.readByte();
+        switch (tag) {
+          case BEGIN_OBJECT:
+            writer.beginObject();
+            break;
+          case END_OBJECT:
+            writer.endObject();
+            break;
+          case BEGIN_ARRAY:
+            writer.beginArray();
+            break;
+          case END_ARRAY:
+            writer.endArray();
+            break;
+          case NAME:
+            writer.name(input.readString());
+            break;
+          case KNOWN_NAME:
+            writer.name(knownName(input.readByte()));
+            break;
+          case STRING:
+            writer.value(input.readString());
+            break;
+          case HEX_STRING:
+            writer.value(input.readHexString());
+            break;
+          case NUMBER:
+            writer.jsonValue(input.readAsciiString());
+            break;
+          case TRUE:
+            writer.value(true);
+            break;
+          case FALSE:
+            writer.value(false);
+            break;
+          case NULL:
+            writer.nullValue();
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown binary message body tag: " + tag);
+        }
+      }
+      // Fails if the document is incomplete
+      writer.close();
+      return buffer.toStringAndRelease();
+
+    } catch (IOException | IllegalStateException e) {
+      buffer.release();
+      throw new IllegalArgumentException("Malformed binary message body", e);
+    } catch (RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Writes a property name, using its index if it is part of the dictionary.
+   *
+   * @param name The name.
+   * @param output The target stream.
+   */
+  private static void writeName(String name, ByteArrayOutputStream output) {
+    Integer index = KNOWN_NAME_INDEXES.get(name);
+    if (index != null) {
+      output.write(KNOWN_NAME);
+      output.write(index);
+    } else {
+      output.write(NAME);
+      writeBytes(name.getBytes(StandardCharsets.UTF_8), output);
+    }
+  }
+
+  /**
+   * Writes a string value, as raw bytes if it is made of uppercase hexadecimal digits.
+   *
+   * @param value The value.
+   * @param output The target stream.
+   */
+  private static void writeString(String value, ByteArrayOutputStream output) {
+    if (!isUppercaseHex(value)) {
+      output.write(STRING);
+      writeBytes(value.getBytes(StandardCharsets.UTF_8), output);
+      return;
+    }
+    output.write(HEX_STRING);
+    int length = value.length() / 2;
+    writeLength(length, output);
+    for (int i = 0; i < length; i++) {
+      output.write(
+          (Character.digit(value.charAt(2 * i), 16) << 4)
+              | Character.digit(value.charAt(2 * i + 1), 16));
+    }
+  }
+
+  /**
+   * Indicates if the provided string is a not empty even-length sequence of uppercase hexadecimal
+   * digits, which is restored identically from its bytes.
+   *
+   * @param value The string.
+   * @return True if the string can be stored as raw bytes.
+   */
+  private static boolean isUppercaseHex(String value) {
+    int length = value.length();
+    if (length == 0 || (length & 1) != 0) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if ((c < '0' || c > '9') && (c < 'A' || c > 'F')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes a byte array preceded by its length.
+   *
+   * @param bytes The bytes.
+   * @param output The target stream.
+   */
+  private static void writeBytes(byte[] bytes, ByteArrayOutputStream output) {
+    writeLength(bytes.length, output);
+    output.write(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Writes a length as an unsigned variable-length integer (7 bits per byte).
+   *
+   * @param length The length.
+   * @param output The target stream.
+   */
+  private static void writeLength(int length, ByteArrayOutputStream output) {
+    int value = length;
+    while ((value & ~0x7F) != 0) {
+      output.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.write(value);
+  }
+
+  /**
+   * Gets a name of the dictionary.
+   *
+   * @param index The index.
+   * @return A not null string.
+   * @throws IllegalArgumentException If the index is unknown.
+   */
+  private static String knownName(int index) {
+    if (index >= KNOWN_NAMES.length) {
+      throw new IllegalArgumentException("Unknown binary message body name index: " + index);
+    }
+    return KNOWN_NAMES[index];
+  }
+
+  /** Cursor over the decoded bytes. */
+  private static final class Input {
+
+    private final byte[] bytes;
+    private int position;
+
+    private Input(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    private boolean hasRemaining() {
+      return position < bytes.length;
+    }
+
+    private int readByte() {
+      if (position >= bytes.length) {
+        throw new IllegalArgumentException("Truncated binary message body");
+      }
+      return bytes[position++] & 0xFF;
+    }
+
+    private int readLength() {
+      int length = 0;
+      int shift = 0;
+      int b;
+      do {
+        if (shift > 28) {
+          throw new IllegalArgumentException("Malformed binary message body length");
+        }
+        b = readByte();
+        length |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      if (length < 0 || length > bytes.length - position) {
+        throw new IllegalArgumentException("Truncated binary message body");
+      }
+      return length;
+    }
+
+    private String readString() {
+      int length = readLength();
+      String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return value;
+    }
+
+    private String readAsciiString() {
+      int length = readLength();
+      String value = new String(bytes, position, length, StandardCharsets.US_ASCII);
+      position += length;
+      return value;
+    }
+
+    private String readHexString() {
+      int length = readLength();
+      char[] hex = new char[length * 2];
+      for (int i = 0; i < length; i++) {
+        int b = bytes[position++] & 0xFF;
+        hex[2 * i] = HEX_DIGITS[b >>> 4];
+        hex[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+      }
+      return new String(hex);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encoding of the compressed message bodies.
+ *
+ * <p>A compressed body has the form {@code #<ALGORITHM>:<Base64 content>}, which can never be
+ * mistaken for a JSON body. The support of the compression is negotiated with each peer: a peer
+ * which sends a compressed body declares that it is able to decompress the bodies compressed with
+ * the same algorithm. A client declares its algorithm in the body of the {@link
+ * MessageDto.Action#EXECUTE_REMOTE_SERVICE} message using the {@value #BODY_COMPRESSION} property.
+ *
+ * @since 2.6.0
+ */
+final class BodyCompression {
+
+  /**
+   * Property of the {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} body containing the name of
+   * the compression algorithm supported by the client.
+   *
+   * @since 2.6.0
+   */
+  static final String BODY_COMPRESSION = "BODY_COMPRESSION";
+
+  /**
+   * Maximum size (in bytes) of a decompressed body, in order to protect the peers against the
+   * bodies designed to expand to an excessive size.
+   *
+   * @since 2.6.0
+   */
+  static final int MAX_DECOMPRESSED_SIZE = 8 * 1024 * 1024;
+
+  private static final char PREFIX = '#';
+  private static final char SEPARATOR = ':';
+  private static final CompressionAlgorithm[] ALGORITHMS = CompressionAlgorithm.values();
+
+  /** Private constructor. */
+  private BodyCompression() {}
+
+  /**
+   * Gets the algorithm used to compress the provided body.
+   *
+   * @param body The message body (may be null).
+   * @return Null if the body is not compressed.
+   * @since 2.6.0
+   */
+  static CompressionAlgorithm getAlgorithm(String body) {
+    if (body == null || body.isEmpty() || body.charAt(0) != PREFIX) {
+      return null;
+    }
+    for (CompressionAlgorithm algorithm : ALGORITHMS) {
+      String name = algorithm.name();
+      if (body.startsWith(name, 1)
+          && body.length() > name.length() + 1
+          && body.charAt(name.length() + 1) == SEPARATOR) {
+        return algorithm;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Compresses the provided body if its length reaches the threshold and if the compressed form is
+   * shorter.
+   *
+   * @param body The message body (may be null).
+   * @param algorithm The algorithm to use.
+   * @param threshold The minimum length of the bodies to compress.
+   * @return The compressed body, or the provided body if it is not worth compressing it.
+   * @since 2.6.0
+   */
+  static String compress(String body, CompressionAlgorithm algorithm, int threshold) {
+    if (body == null || body.length() < threshold) {
+      return body;
+    }
+    byte[] input = body.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 4 + 32);
+    try {
+      OutputStream compressor =
+          algorithm == CompressionAlgorithm.GZIP
+              ? new GZIPOutputStream(output)
+              : new DeflaterOutputStream(output);
+      try {
+        compressor.write(input);
+      } finally {
+        compressor.close();
+      }
+    } catch (IOException e) {
+      // Cannot occur with in-memory streams.
+      throw new IllegalStateException("Failed to compress the message body", e);
+    }
+    String name = algorithm.name();
+    // The Base64 content is 4/3 of the compressed length.
+    int compressedLength = name.length() + 2 + (output.size() + 2) / 3 * 4;
+    if (compressedLength >= body.length()) {
+      return body;
+    }
+    return PREFIX + name + SEPARATOR + Base64.getEncoder().encodeToString(output.toByteArray());
+  }
+
+  /**
+   * Decompresses the provided body.
+   *
+   * @param body The compressed message body.
+   * @param algorithm The algorithm used, as returned by {@link #getAlgorithm(String)}.
+   * @return A not null string.
+   * @throws IllegalArgumentException If the body is malformed or if its decompressed size exceeds
+   *     {@link #MAX_DECOMPRESSED_SIZE}.
+   * @since 2.6.0
+   */
+  static String decompress(String body, CompressionAlgorithm algorithm) {
+    byte[] compressed =
+        Base64.getDecoder().decode(body.substring(algorithm.name().length() + 2));
+    ByteArrayOutputStream output =
+        new ByteArrayOutputStream(Math.min(compressed.length * 4, MAX_DECOMPRESSED_SIZE));
+    try {
+      InputStream decompressor =
+          algorithm == CompressionAlgorithm.GZIP
+              ? new GZIPInputStream(new ByteArrayInputStream(compressed))
+              : new InflaterInputStream(new ByteArrayInputStream(compressed));
+      try {
+        byte[] buffer = new byte[4096];
+        int length;
+        while ((length = decompressor.read(buffer)) != -1) {
+          if (output.size() + length > MAX_DECOMPRESSED_SIZE) {
+            throw new IllegalArgumentException(
+                "Decompressed message body exceeds the maximum size of "
+                    + MAX_DECOMPRESSED_SIZE
+                    + " bytes");
+          }
+          output.write(buffer, 0, length);
+        }
+      } finally {
+        decompressor.close();
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed compressed message body", e);
+    }
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
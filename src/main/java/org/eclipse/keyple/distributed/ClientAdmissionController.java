@@ -0,0 +1,246 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control of the commands received by a {@link LocalServiceServer}, applied separately to
+ * each remote client node.
+ *
+ * <p>Two limits can be enforced:
+ *
+ * <ul>
+ *   <li>a rate limit, equivalent to a token bucket refilled at a constant rate and holding up to a
+ *       given number of tokens (burst). It is implemented with the virtual scheduling form of the
+ *       generic cell rate algorithm, which only requires a single atomic timestamp per client,
+ *   <li>a maximum number of in-flight commands, i.e. commands admitted and not yet answered.
+ * </ul>
+ *
+ * All the operations are lock-free. The state of the clients which are idle (no in-flight command,
+ * full bucket) is discarded when the number of known clients doubles, so that the memory footprint
+ * remains proportional to the number of active clients. A command admitted just before the state
+ * of its client is discarded may let the next command of this client exceed the limits by one.
+ *
+ * @since 2.6.0
+ */
+final class ClientAdmissionController {
+
+  private static final int MIN_SWEEP_THRESHOLD = 1024;
+
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+  private final int maxInFlightCommands;
+  private final NanoClock clock;
+  private final ConcurrentMap<String, ClientQuota> quotas;
+  private final AtomicInteger sweepThreshold;
+
+  /**
+   * Constructor.
+   *
+   * @param commandsPerSecond The sustained number of commands per second allowed for each client
+   *     (0 to disable the rate limit).
+   * @param burstSize The number of commands a client can send at once after an idle period.
+   * @param maxInFlightCommands The maximum number of in-flight commands of each client (0 to
+   *     disable the limit).
+   * @since 2.6.0
+   */
+  ClientAdmissionController(int commandsPerSecond, int burstSize, int maxInFlightCommands) {
+    this(commandsPerSecond, burstSize, maxInFlightCommands, NanoClock.SYSTEM);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param commandsPerSecond The sustained number of commands per second allowed for each client
+   *     (0 to disable the rate limit).
+   * @param burstSize The number of commands a client can send at once after an idle period.
+   * @param maxInFlightCommands The maximum number of in-flight commands of each client (0 to
+   *     disable the limit).
+   * @param clock The clock used to refill the buckets.
+   * @since 2.6.0
+   */
+  ClientAdmissionController(
+      int commandsPerSecond, int burstSize, int maxInFlightCommands, NanoClock clock) {
+    this.emissionIntervalNanos =
+        commandsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / commandsPerSecond : 0;
+    this.burstToleranceNanos = emissionIntervalNanos * (Math.max(burstSize, 1) - 1);
+    this.maxInFlightCommands = maxInFlightCommands;
+    this.clock = clock;
+    this.quotas = new ConcurrentHashMap<>();
+    this.sweepThreshold = new AtomicInteger(MIN_SWEEP_THRESHOLD);
+  }
+
+  /**
+   * Admits a command of the provided client if its limits allow it.
+   *
+   * <p>The returned quota must be released once the command has been answered.
+   *
+   * @param clientNodeId The client node ID.
+   * @return A not null reference.
+   * @throws CommandRejectedException If the command is not admitted.
+   * @since 2.6.0
+   */
+  ClientQuota acquire(String clientNodeId) {
+    ClientQuota quota = quotas.get(clientNodeId);
+    if (quota == null) {
+      ClientQuota newQuota = new ClientQuota(clientNodeId);
+      quota = quotas.putIfAbsent(clientNodeId, newQuota);
+      if (quota == null) {
+        quota = newQuota;
+        sweepIfNeeded();
+      }
+    }
+    quota.acquire();
+    return quota;
+  }
+
+  /**
+   * Gets a snapshot of the state of the known clients.
+   *
+   * @return A not null list.
+   * @since 2.6.0
+   */
+  List<ClientAdmissionStatistics> getStatistics() {
+    List<ClientAdmissionStatistics> statistics = new ArrayList<>(quotas.size());
+    for (ClientQuota quota : quotas.values()) {
+      statistics.add(quota.getStatistics());
+    }
+    return statistics;
+  }
+
+  /** Discards the state of the idle clients if the number of known clients has doubled. */
+  private void sweepIfNeeded() {
+    int threshold = sweepThreshold.get();
+    if (quotas.size() < threshold || !sweepThreshold.compareAndSet(threshold, Integer.MAX_VALUE)) {
+      return;
+    }
+    long nowNanos = clock.nanoTime();
+    for (Map.Entry<String, ClientQuota> entry : quotas.entrySet()) {
+      if (entry.getValue().isIdle(nowNanos)) {
+        quotas.remove(entry.getKey(), entry.getValue());
+      }
+    }
+    sweepThreshold.set(Math.max(MIN_SWEEP_THRESHOLD, 2 * quotas.size()));
+  }
+
+  /**
+   * Admission state of a client.
+   *
+   * @since 2.6.0
+   */
+  final class ClientQuota {
+
+    private final String clientNodeId;
+    private final AtomicLong theoreticalArrivalNanos;
+    private final AtomicInteger inFlightCommandCount;
+    private final LongAdder admittedCommandCount;
+    private final LongAdder throttledCommandCount;
+    private final LongAdder rejectedCommandCount;
+
+    private ClientQuota(String clientNodeId) {
+      this.clientNodeId = clientNodeId;
+      this.theoreticalArrivalNanos = new AtomicLong(clock.nanoTime());
+      this.inFlightCommandCount = new AtomicInteger();
+      this.admittedCommandCount = new LongAdder();
+      this.throttledCommandCount = new LongAdder();
+      this.rejectedCommandCount = new LongAdder();
+    }
+
+    /**
+     * Admits a command if the limits allow it.
+     *
+     * @throws CommandRejectedException If the command is not admitted.
+     */
+    private void acquire() {
+      if (maxInFlightCommands > 0 && !tryIncrementInFlightCommandCount()) {
+        rejectedCommandCount.increment();
+        throw new CommandRejectedException(
+            CommandRejectedException.Reason.TOO_MANY_IN_FLIGHT_COMMANDS,
+            "Too many in-flight commands [clientNodeId="
+                + clientNodeId
+                + ", maxInFlightCommands="
+                + maxInFlightCommands
+                + "]");
+      }
+      if (emissionIntervalNanos > 0 && !tryConsumeToken()) {
+        if (maxInFlightCommands > 0) {
+          inFlightCommandCount.decrementAndGet();
+        }
+        throttledCommandCount.increment();
+        throw new CommandRejectedException(
+            CommandRejectedException.Reason.RATE_LIMIT_EXCEEDED,
+            "Rate limit exceeded [clientNodeId=" + clientNodeId + "]");
+      }
+      if (maxInFlightCommands <= 0) {
+        inFlightCommandCount.incrementAndGet();
+      }
+      admittedCommandCount.increment();
+    }
+
+    /**
+     * Releases an admitted command once it has been answered.
+     *
+     * @since 2.6.0
+     */
+    void release() {
+      inFlightCommandCount.decrementAndGet();
+    }
+
+    private boolean tryIncrementInFlightCommandCount() {
+      int count;
+      do {
+        count = inFlightCommandCount.get();
+        if (count >= maxInFlightCommands) {
+          return false;
+        }
+      } while (!inFlightCommandCount.compareAndSet(count, count + 1));
+      return true;
+    }
+
+    private boolean tryConsumeToken() {
+      long nowNanos = clock.nanoTime();
+      long arrivalNanos;
+      long nextArrivalNanos;
+      do {
+        arrivalNanos = theoreticalArrivalNanos.get();
+        long startNanos = arrivalNanos - nowNanos > 0 ? arrivalNanos : nowNanos;
+        if (startNanos - nowNanos > burstToleranceNanos) {
+          return false;
+        }
+        nextArrivalNanos = startNanos + emissionIntervalNanos;
+      } while (!theoreticalArrivalNanos.compareAndSet(arrivalNanos, nextArrivalNanos));
+      return true;
+    }
+
+    private boolean isIdle(long nowNanos) {
+      return inFlightCommandCount.get() == 0 && theoreticalArrivalNanos.get() - nowNanos <= 0;
+    }
+
+    private ClientAdmissionStatistics getStatistics() {
+      return new ClientAdmissionStatisticsAdapter(
+          clientNodeId,
+          inFlightCommandCount.get(),
+          admittedCommandCount.sum(),
+          throttledCommandCount.sum(),
+          rejectedCommandCount.sum());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Snapshot of the admission control state of a remote client of a {@link LocalServiceServer}.
+ *
+ * @see LocalServiceServer#getClientAdmissionStatistics()
+ * @since 2.6.0
+ */
+public interface ClientAdmissionStatistics {
+
+  /**
+   * Gets the ID of the remote client node.
+   *
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  String getClientNodeId();
+
+  /**
+   * Gets the number of commands of the client currently being executed or waiting to be executed.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getInFlightCommandCount();
+
+  /**
+   * Gets the number of commands of the client admitted for execution.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getAdmittedCommandCount();
+
+  /**
+   * Gets the number of commands of the client rejected because its rate limit was exceeded.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getThrottledCommandCount();
+
+  /**
+   * Gets the number of commands of the client rejected because its limit of concurrent commands
+   * was reached.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getRejectedCommandCount();
+}
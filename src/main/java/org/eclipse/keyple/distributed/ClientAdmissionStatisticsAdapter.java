@@ -0,0 +1,121 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link ClientAdmissionStatistics}.
+ *
+ * @since 2.6.0
+ */
+final class ClientAdmissionStatisticsAdapter implements ClientAdmissionStatistics {
+
+  private final String clientNodeId;
+  private final int inFlightCommandCount;
+  private final long admittedCommandCount;
+  private final long throttledCommandCount;
+  private final long rejectedCommandCount;
+
+  /**
+   * Constructor.
+   *
+   * @param clientNodeId The client node ID.
+   * @param inFlightCommandCount The number of in-flight commands.
+   * @param admittedCommandCount The number of admitted commands.
+   * @param throttledCommandCount The number of commands rejected by the rate limit.
+   * @param rejectedCommandCount The number of commands rejected by the in-flight limit.
+   * @since 2.6.0
+   */
+  ClientAdmissionStatisticsAdapter(
+      String clientNodeId,
+      int inFlightCommandCount,
+      long admittedCommandCount,
+      long throttledCommandCount,
+      long rejectedCommandCount) {
+    this.clientNodeId = clientNodeId;
+    this.inFlightCommandCount = inFlightCommandCount;
+    this.admittedCommandCount = admittedCommandCount;
+    this.throttledCommandCount = throttledCommandCount;
+    this.rejectedCommandCount = rejectedCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String getClientNodeId() {
+    return clientNodeId;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getInFlightCommandCount() {
+    return inFlightCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getAdmittedCommandCount() {
+    return admittedCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getThrottledCommandCount() {
+    return throttledCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getRejectedCommandCount() {
+    return rejectedCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "ClientAdmissionStatistics{"
+        + "clientNodeId='"
+        + clientNodeId
+        + '\''
+        + ", inFlightCommandCount="
+        + inFlightCommandCount
+        + ", admittedCommandCount="
+        + admittedCommandCount
+        + ", throttledCommandCount="
+        + throttledCommandCount
+        + ", rejectedCommandCount="
+        + rejectedCommandCount
+        + '}';
+  }
+}
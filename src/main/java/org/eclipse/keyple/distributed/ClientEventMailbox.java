@@ -0,0 +1,384 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbound event queue of a single subscribed client.
+ *
+ * <p>Events posted to a mailbox are delivered one at a time and in posting order, using the
+ * provided executor. Distinct mailboxes are drained independently, so the delivery to a slow client
+ * does not delay the delivery to the other ones.
+ *
+ * <p>The number of pending events is bounded by a capacity. When it is reached, the configured
+ * {@link EventQueueOverflowPolicy} is applied.
+ *
+ * @since 2.6.0
+ */
+final class ClientEventMailbox implements Runnable {
+
+  /** Maximum number of events delivered by a single executor task before yielding the thread. */
+  private static final int MAX_EVENTS_PER_RUN = 16;
+
+  private static final int IDLE = 0;
+  private static final int SCHEDULED = 1;
+  private static final int CLOSED = 2;
+
+  private final Executor executor;
+  private final int capacity;
+  private final EventQueueOverflowPolicy overflowPolicy;
+  private final EventHandler eventHandler;
+  private final Queue<Event> events;
+  private final AtomicInteger state;
+  private final AtomicInteger queueDepth;
+  private final AtomicInteger maxQueueDepth;
+  private final AtomicLong droppedEventCount;
+
+  /**
+   * Constructor.
+   *
+   * @param executor The executor used to deliver the events.
+   * @param capacity The maximum number of pending events.
+   * @param overflowPolicy The policy to apply when the capacity is reached.
+   * @param eventHandler The handler in charge of the delivery of each event.
+   * @since 2.6.0
+   */
+  ClientEventMailbox(
+      Executor executor,
+      int capacity,
+      EventQueueOverflowPolicy overflowPolicy,
+      EventHandler eventHandler) {
+    this.executor = executor;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.eventHandler = eventHandler;
+    this.events = new ConcurrentLinkedQueue<>();
+    this.state = new AtomicInteger(IDLE);
+    this.queueDepth = new AtomicInteger();
+    this.maxQueueDepth = new AtomicInteger();
+    this.droppedEventCount = new AtomicLong();
+  }
+
+  /**
+   * Posts an event to deliver.
+   *
+   * <p>The method returns immediately, the delivery is performed asynchronously. The event is
+   * rejected if the mailbox is closed, including when it is closed during the call.
+   *
+   * @param event The event to deliver.
+   * @return False if the mailbox is closed, true if the event has been queued or handled by the
+   *     overflow policy.
+   * @since 2.6.0
+   */
+  boolean post(Event event) {
+    if (state.get() == CLOSED) {
+      return false;
+    }
+    int depth = queueDepth.incrementAndGet();
+    if (depth > capacity) {
+      switch (overflowPolicy) {
+        case DROP_NEWEST:
+          queueDepth.decrementAndGet();
+          droppedEventCount.incrementAndGet();
+          return true;
+        case DROP_OLDEST:
+          if (events.poll() != null) {
+            depth = queueDepth.decrementAndGet();
+            droppedEventCount.incrementAndGet();
+          }
+          break;
+        default:
+          // DISCONNECT
+          long droppedEvents = queueDepth.get();
+          close();
+          droppedEventCount.addAndGet(droppedEvents);
+          eventHandler.onDeliveryFailure(
+              event,
+              new IllegalStateException(
+                  "Outbound event queue overflow [capacity=" + capacity + "]"));
+          return true;
+      }
+    }
+    updateMaxQueueDepth(depth);
+    events.offer(event);
+    if (state.get() == CLOSED) {
+      // Closed concurrently, possibly before the event was queued: the pending events are
+      // discarded again so that none of them is left behind.
+      close();
+      return false;
+    }
+    schedule(event);
+    return true;
+  }
+
+  /**
+   * Closes the mailbox and discards all pending events.
+   *
+   * @since 2.6.0
+   */
+  void close() {
+    state.set(CLOSED);
+    events.clear();
+    queueDepth.set(0);
+  }
+
+  /**
+   * Gets a snapshot of the queue statistics.
+   *
+   * @param clientNodeId The client node ID.
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  EventQueueStatistics getStatistics(String clientNodeId) {
+    return new EventQueueStatisticsAdapter(
+        clientNodeId,
+        Math.max(queueDepth.get(), 0),
+        maxQueueDepth.get(),
+        droppedEventCount.get());
+  }
+
+  /**
+   * Records the provided depth as the highest one if needed.
+   *
+   * @param depth The current depth.
+   */
+  private void updateMaxQueueDepth(int depth) {
+    int max;
+    while (depth > (max = maxQueueDepth.get())) {
+      if (maxQueueDepth.compareAndSet(max, depth)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Indicates if the mailbox is closed.
+   *
+   * @return True if the mailbox no longer accepts events.
+   * @since 2.6.0
+   */
+  boolean isClosed() {
+    return state.get() == CLOSED;
+  }
+
+  /**
+   * Submits a drain task to the executor if none is already pending or running.
+   *
+   * <p>If the executor rejects the task, the mailbox is closed and the handler is notified.
+   *
+   * @param pendingEvent A pending event, used to report a possible failure.
+   */
+  private void schedule(Event pendingEvent) {
+    if (state.compareAndSet(IDLE, SCHEDULED)) {
+      try {
+        executor.execute(this);
+      } catch (RuntimeException e) {
+        close();
+        eventHandler.onDeliveryFailure(pendingEvent, e);
+      }
+    }
+  }
+
+  /**
+   * Delivers the pending events (at most {@link #MAX_EVENTS_PER_RUN} per run in order to share
+   * the executor threads fairly between clients).
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void run() {
+    int count = 0;
+    Event event;
+    while (count < MAX_EVENTS_PER_RUN
+        && state.get() != CLOSED
+        && (event = events.poll()) != null) {
+      queueDepth.decrementAndGet();
+      try {
+        eventHandler.onEvent(event);
+      } catch (RuntimeException e) {
+        close();
+        eventHandler.onDeliveryFailure(event, e);
+        return;
+      }
+      count++;
+    }
+    if (state.compareAndSet(SCHEDULED, IDLE)) {
+      Event pendingEvent = events.peek();
+      if (pendingEvent != null) {
+        schedule(pendingEvent);
+      }
+    }
+  }
+
+  /**
+   * An event to deliver to a client.
+   *
+   * <p>The same instance can be posted to several mailboxes.
+   *
+   * @since 2.6.0
+   */
+  static final class Event {
+
+    private static final int BODY_VARIANT_COUNT = 2 * (CompressionAlgorithm.values().length + 1);
+
+    private final MessageDto.Action action;
+    private final String actionName;
+    private final String readerName;
+    private final String jsonData;
+    private String[] encodedBodies;
+
+    /**
+     * Constructor.
+     *
+     * @param action The message action ({@link MessageDto.Action#PLUGIN_EVENT} or {@link
+     *     MessageDto.Action#READER_EVENT}).
+     * @param readerName The reader name (local and remote).
+     * @param jsonData The body content.
+     * @since 2.6.0
+     */
+    Event(MessageDto.Action action, String readerName, String jsonData) {
+      this.action = action;
+      this.readerName = readerName;
+      this.actionName = action.name();
+      this.jsonData = jsonData;
+    }
+
+    /**
+     * @return The message action.
+     * @since 2.6.0
+     */
+    MessageDto.Action getAction() {
+      return action;
+    }
+
+    /**
+     * @return The reader name.
+     * @since 2.6.0
+     */
+    String getReaderName() {
+      return readerName;
+    }
+
+    /**
+     * @return The body content.
+     * @since 2.6.0
+     */
+    String getJsonData() {
+      return jsonData;
+    }
+
+    /**
+     * Gets the body to send to a client, encoded using the binary encoding if requested, then
+     * compressed with the provided algorithm if it is worth it.
+     *
+     * <p>The body is encoded only once per combination of encoding and algorithm, whatever the
+     * number of clients it is sent to. The result is cached without synchronization: as strings
+     * are immutable, a concurrent access may at worst encode the body twice.
+     *
+     * @param isBinary True if the client supports the binary encoding.
+     * @param algorithm The compression algorithm supported by the client (null if none).
+     * @param threshold The minimum length of the bodies to compress.
+     * @return The body content.
+     * @since 2.6.0
+     */
+    String getBody(boolean isBinary, CompressionAlgorithm algorithm, int threshold) {
+      if (!isBinary && algorithm == null) {
+        return jsonData;
+      }
+      String[] bodies = encodedBodies;
+      if (bodies == null) {
+        bodies = new String[BODY_VARIANT_COUNT];
+        encodedBodies = bodies;
+      }
+      int index = getBodyVariantIndex(isBinary, algorithm);
+      String body = bodies[index];
+      if (body == null) {
+        body = isBinary ? BinaryBodyCodec.encode(jsonData) : jsonData;
+        if (algorithm != null) {
+          body = BodyCompression.compress(body, algorithm, threshold);
+        }
+        bodies[index] = body;
+      }
+      return body;
+    }
+
+    /**
+     * Builds the message to send to a client.
+     *
+     * <p>The parts of the message shared by the clients (action name and body variants) are
+     * resolved only once per event, so that only the routing fields and the API level of the
+     * client remain to be filled in. A distinct message is built for each client because the
+     * messages are mutable and may be retained by the node until they are sent.
+     *
+     * @param apiLevel The distributed API level of the client.
+     * @param isBinary True if the client supports the binary encoding.
+     * @param algorithm The compression algorithm supported by the client (null if none).
+     * @param threshold The minimum length of the bodies to compress.
+     * @param clientNodeId The client node ID.
+     * @param sessionId The session ID of the client.
+     * @return A new message.
+     * @since 2.6.0
+     */
+    MessageDto buildMessage(
+        int apiLevel,
+        boolean isBinary,
+        CompressionAlgorithm algorithm,
+        int threshold,
+        String clientNodeId,
+        String sessionId) {
+      return new MessageDto()
+          .setApiLevel(apiLevel)
+          .setAction(actionName)
+          .setLocalReaderName(readerName)
+          .setRemoteReaderName(readerName)
+          .setClientNodeId(clientNodeId)
+          .setSessionId(sessionId)
+          .setBody(getBody(isBinary, algorithm, threshold));
+    }
+
+    private static int getBodyVariantIndex(boolean isBinary, CompressionAlgorithm algorithm) {
+      return (isBinary ? BODY_VARIANT_COUNT / 2 : 0)
+          + (algorithm != null ? algorithm.ordinal() + 1 : 0);
+    }
+  }
+
+  /**
+   * Handler of the events posted to a mailbox.
+   *
+   * @since 2.6.0
+   */
+  interface EventHandler {
+
+    /**
+     * Delivers an event to the client.
+     *
+     * @param event The event.
+     * @throws RuntimeException If the delivery failed. The mailbox is then closed.
+     * @since 2.6.0
+     */
+    void onEvent(Event event);
+
+    /**
+     * Invoked once when the mailbox is closed because of a delivery failure.
+     *
+     * @param event The event that could not be delivered.
+     * @param e The cause.
+     * @since 2.6.0
+     */
+    void onDeliveryFailure(Event event, RuntimeException e);
+  }
+}
@@ -0,0 +1,140 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.keyple.core.util.json.BodyError;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+
+/**
+ * Wire format of the batched commands exchanged during a remote service.
+ *
+ * <p>A client supporting the batches declares it in the body of the {@link
+ * MessageDto.Action#EXECUTE_REMOTE_SERVICE} message using the {@value #COMMAND_BATCH_API_LEVEL}
+ * property. The server may then send a {@value #CMD_BATCH} message whose body contains the ordered
+ * list of commands:
+ *
+ * <pre>{"COMMANDS":[{...},{...}]}</pre>
+ *
+ * The client executes the commands in order and sends back a single {@value #RESP_BATCH} message
+ * containing the responses of the executed commands. The execution stops at the first failure, in
+ * which case the error is appended after the responses of the previous commands:
+ *
+ * <pre>{"RESPONSES":[{...}],"ERROR":{...}}</pre>
+ *
+ * <p>The actions are not members of {@link MessageDto.Action} because they are only exchanged with
+ * servers which have negotiated them.
+ *
+ * @since 2.6.0
+ */
+final class CommandBatch {
+
+  /**
+   * Version of the batch format supported by this library.
+   *
+   * @since 2.6.0
+   */
+  static final int API_LEVEL = 1;
+
+  /**
+   * Action of a message containing a batch of commands.
+   *
+   * @since 2.6.0
+   */
+  static final String CMD_BATCH = "CMD_BATCH";
+
+  /**
+   * Action of a message containing the responses to a batch of commands.
+   *
+   * @since 2.6.0
+   */
+  static final String RESP_BATCH = "RESP_BATCH";
+
+  /**
+   * Property of the {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} body containing the version of
+   * the batch format supported by the client.
+   *
+   * @since 2.6.0
+   */
+  static final String COMMAND_BATCH_API_LEVEL = "COMMAND_BATCH_API_LEVEL";
+
+  private static final String COMMANDS = "COMMANDS";
+  private static final String RESPONSES = "RESPONSES";
+
+  /** Private constructor. */
+  private CommandBatch() {}
+
+  /**
+   * Extracts the ordered list of commands contained in the body of a {@value #CMD_BATCH} message.
+   *
+   * @param body The message body.
+   * @return A not null list containing the JSON content of each command.
+   * @throws IllegalArgumentException If the body does not contain a list of commands.
+   * @since 2.6.0
+   */
+  static List<String> parseCommands(String body) {
+    JsonObject json = JsonUtil.getParser().fromJson(body, JsonObject.class);
+    JsonElement commands = json != null ? json.get(COMMANDS) : null;
+    if (commands == null || !commands.isJsonArray()) {
+      throw new IllegalArgumentException("Malformed command batch: missing '" + COMMANDS + "'");
+    }
+    JsonArray array = commands.getAsJsonArray();
+    List<String> result = new ArrayList<>(array.size());
+    for (JsonElement command : array) {
+      result.add(command.toString());
+    }
+    return result;
+  }
+
+  /**
+   * Builds the body of a {@value #RESP_BATCH} message.
+   *
+   * @param responses The JSON responses of the commands successfully executed, in order.
+   * @param error The error which stopped the execution of the batch (null if none).
+   * @return A not null string.
+   * @since 2.6.0
+   */
+  static String buildResponse(List<String> responses, Exception error) {
+    ReusableStringWriter buffer = ReusableStringWriter.acquire();
+    try {
+      JsonWriter writer = new JsonWriter(buffer);
+      writer.setLenient(true);
+      writer.beginObject();
+      writer.name(RESPONSES).beginArray();
+      for (String response : responses) {
+        writer.jsonValue(response);
+      }
+      writer.endArray();
+      if (error != null) {
+        writer
+            .name(MessageDto.JsonProperty.ERROR.getKey())
+            .jsonValue(JsonUtil.toJson(new BodyError(error)));
+      }
+      writer.endObject();
+      return buffer.toStringAndRelease();
+
+    } catch (IOException e) {
+      buffer.release();
+      // Cannot occur with an in-memory writer.
+      throw new IllegalStateException("Failed to serialize the command batch responses", e);
+    } catch (RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+  }
+}
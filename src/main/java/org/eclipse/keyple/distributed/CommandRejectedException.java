@@ -0,0 +1,81 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Indicates that a command sent by a remote client must not be executed by a {@link
+ * LocalServiceServer} because the client exceeded its rate limit or its limit of concurrent
+ * commands.
+ *
+ * <p>This exception is internal: as the remote clients are not able to resolve it, the rejection
+ * is transmitted to them as an {@link IllegalStateException}, whose error body is completed with
+ * the {@value #COMMAND_REJECTED} property containing the name of the {@link Reason}, so that a
+ * rejection can be told apart from a failure of the command.
+ *
+ * @since 2.6.0
+ */
+final class CommandRejectedException extends RuntimeException {
+
+  /**
+   * Property of the {@link MessageDto.Action#ERROR} body containing the name of the reason of the
+   * rejection of the command.
+   *
+   * @since 2.6.0
+   */
+  static final String COMMAND_REJECTED = "COMMAND_REJECTED";
+
+  /**
+   * Reason of the rejection of a command.
+   *
+   * @since 2.6.0
+   */
+  enum Reason {
+
+    /**
+     * The client exceeded its rate limit.
+     *
+     * @since 2.6.0
+     */
+    RATE_LIMIT_EXCEEDED,
+
+    /**
+     * The client reached its maximum number of in-flight commands.
+     *
+     * @since 2.6.0
+     */
+    TOO_MANY_IN_FLIGHT_COMMANDS
+  }
+
+  private final Reason reason;
+
+  /**
+   * Constructor.
+   *
+   * @param reason The reason of the rejection.
+   * @param message The message to identify the exception context.
+   * @since 2.6.0
+   */
+  CommandRejectedException(Reason reason, String message) {
+    super(message);
+    this.reason = reason;
+  }
+
+  /**
+   * Gets the reason of the rejection.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  Reason getReason() {
+    return reason;
+  }
+}
@@ -0,0 +1,55 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Snapshot of the state of a stripe of the command worker pool of a {@link LocalServiceServer}.
+ *
+ * <p>Each stripe processes sequentially the commands of the local readers assigned to it.
+ *
+ * @see LocalServiceServer#getCommandStripeStatistics()
+ * @since 2.6.0
+ */
+public interface CommandStripeStatistics {
+
+  /**
+   * Gets the index of the stripe in the pool.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getStripeIndex();
+
+  /**
+   * Gets the number of commands waiting to be processed.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getQueueDepth();
+
+  /**
+   * Gets the highest number of commands that have been waiting at the same time.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getMaxQueueDepth();
+
+  /**
+   * Gets the number of commands processed by the stripe.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getProcessedCommandCount();
+}
@@ -0,0 +1,101 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link CommandStripeStatistics}.
+ *
+ * @since 2.6.0
+ */
+final class CommandStripeStatisticsAdapter implements CommandStripeStatistics {
+
+  private final int stripeIndex;
+  private final int queueDepth;
+  private final int maxQueueDepth;
+  private final long processedCommandCount;
+
+  /**
+   * Constructor.
+   *
+   * @param stripeIndex The stripe index.
+   * @param queueDepth The current queue depth.
+   * @param maxQueueDepth The highest queue depth.
+   * @param processedCommandCount The number of processed commands.
+   * @since 2.6.0
+   */
+  CommandStripeStatisticsAdapter(
+      int stripeIndex, int queueDepth, int maxQueueDepth, long processedCommandCount) {
+    this.stripeIndex = stripeIndex;
+    this.queueDepth = queueDepth;
+    this.maxQueueDepth = maxQueueDepth;
+    this.processedCommandCount = processedCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getStripeIndex() {
+    return stripeIndex;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getProcessedCommandCount() {
+    return processedCommandCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "CommandStripeStatistics{"
+        + "stripeIndex="
+        + stripeIndex
+        + ", queueDepth="
+        + queueDepth
+        + ", maxQueueDepth="
+        + maxQueueDepth
+        + ", processedCommandCount="
+        + processedCommandCount
+        + '}';
+  }
+}
@@ -0,0 +1,36 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Algorithm used to compress the bodies of the messages exchanged with a peer supporting it.
+ *
+ * @see LocalServiceClientFactoryBuilder.BuilderStep#withCompression(CompressionAlgorithm, int)
+ * @see LocalServiceServerFactoryBuilder.BuilderStep#withCompression(int)
+ * @since 2.6.0
+ */
+public enum CompressionAlgorithm {
+
+  /**
+   * Deflate algorithm with the zlib format (RFC 1950).
+   *
+   * @since 2.6.0
+   */
+  DEFLATE,
+
+  /**
+   * Deflate algorithm with the GZIP format (RFC 1952).
+   *
+   * @since 2.6.0
+   */
+  GZIP
+}
@@ -0,0 +1,50 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of named daemon threads, used by the executors created internally by the local services
+ * so that they never prevent the JVM from exiting.
+ *
+ * @since 2.6.0
+ */
+final class DaemonThreadFactory implements ThreadFactory {
+
+  private final String namePrefix;
+  private final AtomicInteger threadCount;
+
+  /**
+   * Constructor.
+   *
+   * @param namePrefix The prefix of the thread names, completed by a sequence number.
+   * @since 2.6.0
+   */
+  DaemonThreadFactory(String namePrefix) {
+    this.namePrefix = namePrefix;
+    this.threadCount = new AtomicInteger();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public Thread newThread(Runnable task) {
+    Thread thread = new Thread(task, namePrefix + "-" + threadCount.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  }
+}
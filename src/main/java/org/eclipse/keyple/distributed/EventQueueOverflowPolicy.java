@@ -0,0 +1,45 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Policy applied by a {@link LocalServiceServer} when the outbound event queue of a remote client
+ * is full.
+ *
+ * @see LocalServiceServerFactoryBuilder.BuilderStep#withEventQueueCapacity(int,
+ *     EventQueueOverflowPolicy)
+ * @since 2.6.0
+ */
+public enum EventQueueOverflowPolicy {
+
+  /**
+   * The oldest pending event of the client is discarded to make room for the new one.
+   *
+   * @since 2.6.0
+   */
+  DROP_OLDEST,
+
+  /**
+   * The new event is discarded for this client.
+   *
+   * @since 2.6.0
+   */
+  DROP_NEWEST,
+
+  /**
+   * All pending events of the client are discarded and the client is de-referenced. It will be
+   * referenced again at its next request.
+   *
+   * @since 2.6.0
+   */
+  DISCONNECT
+}
@@ -0,0 +1,57 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Snapshot of the state of the outbound event queue of a remote client subscribed to the plugin or
+ * reader events of a {@link LocalServiceServer}.
+ *
+ * <p>A single queue is used for all the subscriptions of a client (plugin events and events of
+ * each observed reader).
+ *
+ * @see LocalServiceServer#getEventQueueStatistics()
+ * @since 2.6.0
+ */
+public interface EventQueueStatistics {
+
+  /**
+   * Gets the ID of the remote client node.
+   *
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  String getClientNodeId();
+
+  /**
+   * Gets the number of events waiting to be sent to the client.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getQueueDepth();
+
+  /**
+   * Gets the highest number of events that have been waiting at the same time.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getMaxQueueDepth();
+
+  /**
+   * Gets the number of events discarded because the queue was full.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getDroppedEventCount();
+}
@@ -0,0 +1,102 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link EventQueueStatistics}.
+ *
+ * @since 2.6.0
+ */
+final class EventQueueStatisticsAdapter implements EventQueueStatistics {
+
+  private final String clientNodeId;
+  private final int queueDepth;
+  private final int maxQueueDepth;
+  private final long droppedEventCount;
+
+  /**
+   * Constructor.
+   *
+   * @param clientNodeId The client node ID.
+   * @param queueDepth The current queue depth.
+   * @param maxQueueDepth The highest queue depth.
+   * @param droppedEventCount The number of dropped events.
+   * @since 2.6.0
+   */
+  EventQueueStatisticsAdapter(
+      String clientNodeId, int queueDepth, int maxQueueDepth, long droppedEventCount) {
+    this.clientNodeId = clientNodeId;
+    this.queueDepth = queueDepth;
+    this.maxQueueDepth = maxQueueDepth;
+    this.droppedEventCount = droppedEventCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String getClientNodeId() {
+    return clientNodeId;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "EventQueueStatistics{"
+        + "clientNodeId='"
+        + clientNodeId
+        + '\''
+        + ", queueDepth="
+        + queueDepth
+        + ", maxQueueDepth="
+        + maxQueueDepth
+        + ", droppedEventCount="
+        + droppedEventCount
+        + '}';
+  }
+}
@@ -0,0 +1,290 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Approximate timer based on a hashed wheel of buckets, designed for a large number of timeouts
+ * which are rarely expired in time (e.g. idle subscriptions).
+ *
+ * <p>Scheduling and cancelling a timeout are constant-time operations. Timeouts are executed by a
+ * single daemon worker thread, started on the first scheduling, with a precision of one tick.
+ * Tasks must therefore be short and non-blocking. The worker only ticks while timeouts are
+ * scheduled: once they have all expired or been cancelled, it sleeps until the next scheduling.
+ *
+ * <p>The worker thread runs until {@link #stop()}, which drops the pending timeouts. A new worker
+ * is started by the next scheduling.
+ *
+ * @since 2.6.0
+ */
+final class HashedTimingWheel {
+
+  private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+  private final long tickDurationNanos;
+  private final int wheelSize;
+  private final int mask;
+  private final String threadName;
+  private final Queue<Timeout> pendingTimeouts;
+  private final AtomicReference<Worker> worker;
+  private final long startTimeNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param tickDurationMillis The duration of a tick (in milliseconds).
+   * @param ticksPerWheel The number of buckets of the wheel (rounded up to a power of 2).
+   * @param threadName The name of the worker thread.
+   * @since 2.6.0
+   */
+  HashedTimingWheel(long tickDurationMillis, int ticksPerWheel, String threadName) {
+    this.tickDurationNanos = TimeUnit.MILLISECONDS.toNanos(tickDurationMillis);
+    int size = Integer.highestOneBit(Math.max(ticksPerWheel, 1) - 1) << 1;
+    this.wheelSize = Math.max(size, 1);
+    this.mask = wheelSize - 1;
+    this.threadName = threadName;
+    this.pendingTimeouts = new ConcurrentLinkedQueue<>();
+    this.worker = new AtomicReference<>();
+    this.startTimeNanos = System.nanoTime();
+  }
+
+  /**
+   * Schedules the execution of a task after the provided delay.
+   *
+   * @param task The task to execute.
+   * @param delayNanos The delay (in nanoseconds).
+   * @return A handle allowing to cancel the execution.
+   * @since 2.6.0
+   */
+  Timeout schedule(Runnable task, long delayNanos) {
+    Timeout timeout = new Timeout(task, System.nanoTime() - startTimeNanos + delayNanos);
+    Thread currentThread = Thread.currentThread();
+    if (currentThread instanceof Worker
+        && ((Worker) currentThread).isWorkerOf(this)
+        && worker.get() != currentThread) {
+      // Re-scheduled by a task of a stopped worker.
+      timeout.cancel();
+      return timeout;
+    }
+    pendingTimeouts.offer(timeout);
+    Worker currentWorker = worker.get();
+    if (currentWorker == null) {
+      start();
+    } else if (currentWorker.isIdle) {
+      LockSupport.unpark(currentWorker);
+    }
+    return timeout;
+  }
+
+  /**
+   * Stops the worker thread and drops the pending timeouts, which are marked as cancelled.
+   *
+   * @since 2.6.0
+   */
+  void stop() {
+    Worker currentWorker = worker.getAndSet(null);
+    if (currentWorker != null) {
+      currentWorker.interrupt();
+    }
+    Timeout timeout;
+    while ((timeout = pendingTimeouts.poll()) != null) {
+      timeout.cancel();
+    }
+  }
+
+  /** Starts the worker thread if not already started. */
+  private void start() {
+    if (worker.get() == null) {
+      Worker newWorker = new Worker();
+      if (worker.compareAndSet(null, newWorker)) {
+        newWorker.start();
+      }
+    }
+  }
+
+  /**
+   * Handle of a scheduled task.
+   *
+   * @since 2.6.0
+   */
+  static final class Timeout {
+
+    private final Runnable task;
+    private final long deadlineNanos;
+    private long remainingRounds;
+    private volatile boolean isCancelled;
+
+    private Timeout(Runnable task, long deadlineNanos) {
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Cancels the execution of the task if not already executed.
+     *
+     * @since 2.6.0
+     */
+    void cancel() {
+      isCancelled = true;
+    }
+
+    /**
+     * Indicates if the task has been cancelled or dropped by the stop of the timer.
+     *
+     * @return True if the task will not be executed.
+     * @since 2.6.0
+     */
+    boolean isCancelled() {
+      return isCancelled;
+    }
+  }
+
+  /** A bucket of the wheel, only accessed by the worker thread. */
+  private static final class Bucket extends LinkedList<Timeout> {}
+
+  /** The worker thread advancing the wheel at each tick, owning its buckets. */
+  private final class Worker extends Thread {
+
+    private final Bucket[] wheel;
+    private long tick = (System.nanoTime() - startTimeNanos) / tickDurationNanos;
+    private int timeoutCount;
+    private volatile boolean isIdle;
+
+    private Worker() {
+      super(threadName);
+      setDaemon(true);
+      wheel = new Bucket[wheelSize];
+      for (int i = 0; i < wheel.length; i++) {
+        wheel[i] = new Bucket();
+      }
+    }
+
+    private boolean isWorkerOf(HashedTimingWheel timingWheel) {
+      return timingWheel == HashedTimingWheel.this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public void run() {
+      try {
+        // A stopped worker leaves the pending timeouts to the next one.
+        while (worker.get() == this) {
+          if (timeoutCount == 0 && pendingTimeouts.isEmpty()) {
+            waitForTimeouts();
+            continue;
+          }
+          long deadline = tickDurationNanos * (tick + 1);
+          long sleepNanos = deadline - (System.nanoTime() - startTimeNanos);
+          if (sleepNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            continue;
+          }
+          transferPendingTimeouts();
+          expireTimeouts(wheel[(int) (tick & mask)]);
+          tick++;
+        }
+      } catch (InterruptedException e) {
+        // Stopped.
+      } finally {
+        // Allows a new worker to be started if this one has been interrupted by other means.
+        worker.compareAndSet(this, null);
+        cancelTimeouts();
+      }
+    }
+
+    /**
+     * Sleeps until a timeout is scheduled, then resumes the ticks from the current time, the
+     * buckets being empty.
+     *
+     * @throws InterruptedException If the worker is stopped.
+     */
+    private void waitForTimeouts() throws InterruptedException {
+      isIdle = true;
+      try {
+        // Checked again once idle, a timeout scheduled in the meantime not having woken the worker.
+        while (pendingTimeouts.isEmpty() && worker.get() == this) {
+          LockSupport.park(this);
+          if (isInterrupted()) {
+            throw new InterruptedException();
+          }
+        }
+      } finally {
+        isIdle = false;
+      }
+      tick = (System.nanoTime() - startTimeNanos) / tickDurationNanos;
+    }
+
+    /** Marks the timeouts remaining in the buckets as cancelled once stopped. */
+    private void cancelTimeouts() {
+      for (Bucket bucket : wheel) {
+        for (Timeout timeout : bucket) {
+          timeout.cancel();
+        }
+        bucket.clear();
+      }
+      timeoutCount = 0;
+    }
+
+    /** Moves the newly scheduled timeouts into their bucket. */
+    private void transferPendingTimeouts() {
+      Timeout timeout;
+      while ((timeout = pendingTimeouts.poll()) != null) {
+        if (timeout.isCancelled) {
+          continue;
+        }
+        long calculatedTick = Math.max(timeout.deadlineNanos / tickDurationNanos, tick);
+        timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+        wheel[(int) (calculatedTick & mask)].add(timeout);
+        timeoutCount++;
+      }
+    }
+
+    /**
+     * Executes the expired timeouts of the provided bucket.
+     *
+     * @param bucket The bucket of the current tick.
+     */
+    private void expireTimeouts(Bucket bucket) {
+      Iterator<Timeout> iterator = bucket.iterator();
+      while (iterator.hasNext()) {
+        Timeout timeout = iterator.next();
+        if (timeout.isCancelled) {
+          iterator.remove();
+          timeoutCount--;
+        } else if (timeout.remainingRounds <= 0) {
+          iterator.remove();
+          timeoutCount--;
+          try {
+            timeout.task.run();
+          } catch (RuntimeException e) {
+            logger.error("Unexpected error while executing a timer task [error={}]", e.getMessage());
+          }
+        } else {
+          timeout.remainingRounds--;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of the Gson {@link TypeAdapter}s resolved for the classes exchanged with the server.
+ *
+ * <p>The cache is bound to a parser instance and is reset when another parser is provided (e.g.
+ * after the registration of a new type adapter in {@link
+ * org.eclipse.keyple.core.util.json.JsonUtil}).
+ *
+ * @since 2.6.0
+ */
+final class JsonTypeAdapterCache {
+
+  private volatile Entries entries;
+
+  /**
+   * Constructor.
+   *
+   * @since 2.6.0
+   */
+  JsonTypeAdapterCache() {
+    this.entries = new Entries(null);
+  }
+
+  /**
+   * Gets the type adapter of the provided class.
+   *
+   * @param parser The parser to use to resolve the type adapter.
+   * @param type The class.
+   * @param <T> The type.
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  @SuppressWarnings("unchecked")
+  <T> TypeAdapter<T> getAdapter(Gson parser, Class<T> type) {
+    Entries currentEntries = entries;
+    if (currentEntries.parser != parser) {
+      currentEntries = new Entries(parser);
+      entries = currentEntries;
+    }
+    TypeAdapter<?> adapter = currentEntries.adapters.get(type);
+    if (adapter == null) {
+      adapter = parser.getAdapter(type);
+      currentEntries.adapters.putIfAbsent(type, adapter);
+    }
+    return (TypeAdapter<T>) adapter;
+  }
+
+  /** The type adapters resolved by a given parser. */
+  private static final class Entries {
+
+    private final Gson parser;
+    private final ConcurrentMap<Class<?>, TypeAdapter<?>> adapters;
+
+    private Entries(Gson parser) {
+      this.parser = parser;
+      this.adapters = new ConcurrentHashMap<>();
+    }
+  }
+}
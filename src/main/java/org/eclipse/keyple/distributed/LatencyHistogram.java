@@ -0,0 +1,149 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies with log-linear buckets.
+ *
+ * <p>Each power of 2 range is divided into {@value #SUB_BUCKET_COUNT} linear buckets, which bounds
+ * the relative error of the percentiles to about 3% whatever the magnitude of the values, with a
+ * fixed memory footprint. Recording a value is wait-free for the buckets and does not allocate.
+ *
+ * @since 2.6.0
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder sum;
+  private final AtomicLong max;
+
+  /**
+   * Constructor.
+   *
+   * @since 2.6.0
+   */
+  LatencyHistogram() {
+    this.buckets = new AtomicLongArray(BUCKET_COUNT);
+    this.sum = new LongAdder();
+    this.max = new AtomicLong();
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param valueNanos The latency (in nanoseconds). Negative values are recorded as 0.
+   * @since 2.6.0
+   */
+  void record(long valueNanos) {
+    long value = Math.max(valueNanos, 0);
+    buckets.incrementAndGet(indexOf(value));
+    sum.add(value);
+    long currentMax;
+    while (value > (currentMax = max.get())) {
+      if (max.compareAndSet(currentMax, value)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Creates an immutable snapshot of the current distribution.
+   *
+   * @param type The type of the measure.
+   * @param serviceId The service ID (null if not applicable).
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  LatencyStatistics snapshot(LatencyMetricType type, String serviceId) {
+    long[] counts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      count += counts[i];
+    }
+    long maxValue = max.get();
+    return new LatencyStatisticsAdapter(
+        type,
+        serviceId,
+        count,
+        count == 0 ? 0 : sum.sum() / count,
+        maxValue,
+        valueAtPercentile(counts, count, 0.5, maxValue),
+        valueAtPercentile(counts, count, 0.99, maxValue),
+        valueAtPercentile(counts, count, 0.999, maxValue));
+  }
+
+  /**
+   * Gets the bucket index of the provided value.
+   *
+   * @param value A positive value.
+   * @return The index.
+   * @since 2.6.0
+   */
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Gets the highest value of the provided bucket.
+   *
+   * @param index The bucket index.
+   * @return The highest value that can be recorded in the bucket.
+   * @since 2.6.0
+   */
+  static long highestValueOf(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowestValue = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowestValue + (1L << shift) - 1;
+  }
+
+  /**
+   * Computes the value at the provided percentile.
+   *
+   * @param counts The bucket counts.
+   * @param count The total count.
+   * @param percentile The percentile (between 0 and 1).
+   * @param maxValue The highest recorded value.
+   * @return 0 if the count is 0.
+   */
+  private static long valueAtPercentile(
+      long[] counts, long count, double percentile, long maxValue) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max((long) Math.ceil(percentile * count), 1);
+    long cumulativeCount = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulativeCount += counts[i];
+      if (cumulativeCount >= rank) {
+        return Math.min(highestValueOf(i), maxValue);
+      }
+    }
+    return maxValue;
+  }
+}
@@ -0,0 +1,62 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Type of a latency measured by a local service.
+ *
+ * @see LatencyStatistics
+ * @since 2.6.0
+ */
+public enum LatencyMetricType {
+
+  /**
+   * Total duration of a remote service executed by a {@link LocalServiceClient}, from the
+   * generation of the session until the extraction of the output data. A distinct measure is kept
+   * for each service ID.
+   *
+   * @since 2.6.0
+   */
+  REMOTE_SERVICE,
+
+  /**
+   * Duration of a request/response exchange between a {@link LocalServiceClient} and the server
+   * (network and server processing time).
+   *
+   * @since 2.6.0
+   */
+  ROUND_TRIP,
+
+  /**
+   * Duration of the local execution of a command on the card reader (card time).
+   *
+   * @since 2.6.0
+   */
+  LOCAL_EXECUTION,
+
+  /**
+   * Total duration of the processing of a command received by a {@link LocalServiceServer},
+   * including its local execution and the sending of the response.
+   *
+   * @since 2.6.0
+   */
+  SERVER_COMMAND,
+
+  /**
+   * Time spent by a reader allocation request of a pool plugin in the wait queue of a {@link
+   * LocalServiceServer}, until a reader of the requested group is allocated.
+   *
+   * @see ReaderAllocationStatistics#getWaitTimeStatistics()
+   * @since 2.6.0
+   */
+  READER_ALLOCATION_WAIT
+}
@@ -0,0 +1,172 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recorder of the latencies measured by a local service, with optional periodic export.
+ *
+ * @since 2.6.0
+ */
+final class LatencyRecorder {
+
+  private static final Logger logger = LoggerFactory.getLogger(LatencyRecorder.class);
+
+  private final LatencyMetricType[] types;
+  private final LatencyHistogram[] histograms;
+  private final ConcurrentMap<String, LatencyHistogram> remoteServiceHistograms;
+  private final AtomicReference<ScheduledExecutorService> exportScheduler;
+
+  /**
+   * Constructor.
+   *
+   * @param types The types of the measures recorded by the local service, excepted {@link
+   *     LatencyMetricType#REMOTE_SERVICE} which is recorded per service ID.
+   * @since 2.6.0
+   */
+  LatencyRecorder(LatencyMetricType... types) {
+    this.types = types;
+    this.histograms = new LatencyHistogram[LatencyMetricType.values().length];
+    for (LatencyMetricType type : types) {
+      histograms[type.ordinal()] = new LatencyHistogram();
+    }
+    this.remoteServiceHistograms = new ConcurrentHashMap<>();
+    this.exportScheduler = new AtomicReference<>();
+  }
+
+  /**
+   * Records a latency measured since the provided start time.
+   *
+   * @param type The type of the measure (not {@link LatencyMetricType#REMOTE_SERVICE}).
+   * @param startNanos The start time, as returned by {@link System#nanoTime()}.
+   * @return The recorded latency (in nanoseconds).
+   * @since 2.6.0
+   */
+  long record(LatencyMetricType type, long startNanos) {
+    long durationNanos = System.nanoTime() - startNanos;
+    histograms[type.ordinal()].record(durationNanos);
+    return durationNanos;
+  }
+
+  /**
+   * Records the latency of a remote service measured since the provided start time.
+   *
+   * @param serviceId The service ID.
+   * @param startNanos The start time, as returned by {@link System#nanoTime()}.
+   * @since 2.6.0
+   */
+  void recordRemoteService(String serviceId, long startNanos) {
+    long durationNanos = System.nanoTime() - startNanos;
+    LatencyHistogram histogram = remoteServiceHistograms.get(serviceId);
+    if (histogram == null) {
+      LatencyHistogram newHistogram = new LatencyHistogram();
+      histogram = remoteServiceHistograms.putIfAbsent(serviceId, newHistogram);
+      if (histogram == null) {
+        histogram = newHistogram;
+      }
+    }
+    histogram.record(durationNanos);
+  }
+
+  /**
+   * Gets a snapshot of all measures.
+   *
+   * @return A not null list containing the measures of the configured types, followed by the
+   *     measures of the remote services sorted by service ID.
+   * @since 2.6.0
+   */
+  List<LatencyStatistics> getStatistics() {
+    List<LatencyStatistics> statistics = new ArrayList<>();
+    for (LatencyMetricType type : types) {
+      statistics.add(histograms[type.ordinal()].snapshot(type, null));
+    }
+    for (Map.Entry<String, LatencyHistogram> entry :
+        new TreeMap<>(remoteServiceHistograms).entrySet()) {
+      statistics.add(
+          entry.getValue().snapshot(LatencyMetricType.REMOTE_SERVICE, entry.getKey()));
+    }
+    return statistics;
+  }
+
+  /**
+   * Starts the periodic export of the statistics on a dedicated daemon thread, if not already
+   * started.
+   *
+   * @param localServiceName The name of the local service.
+   * @param exporter The exporter.
+   * @param periodSeconds The export period (in seconds).
+   * @since 2.6.0
+   */
+  void startExport(
+      final String localServiceName,
+      final LatencyStatisticsExporter exporter,
+      int periodSeconds) {
+    ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("keyple-latency-exporter-" + localServiceName));
+    if (!exportScheduler.compareAndSet(null, scheduler)) {
+      scheduler.shutdown();
+      return;
+    }
+    scheduler.scheduleAtFixedRate(
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              exporter.export(localServiceName, getStatistics());
+            } catch (RuntimeException e) {
+              logger.warn(
+                  "Failed to export latency statistics [localServiceName={}, error={}]",
+                  localServiceName,
+                  e.getMessage());
+            }
+          }
+        },
+        periodSeconds,
+        periodSeconds,
+        TimeUnit.SECONDS);
+  }
+
+  /**
+   * Stops the periodic export of the statistics and its thread, if started.
+   *
+   * @since 2.6.0
+   */
+  void stopExport() {
+    ScheduledExecutorService scheduler = exportScheduler.getAndSet(null);
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * Indicates if the periodic export of the statistics is started.
+   *
+   * @return True if started.
+   * @since 2.6.0
+   */
+  boolean isExportStarted() {
+    return exportScheduler.get() != null;
+  }
+}
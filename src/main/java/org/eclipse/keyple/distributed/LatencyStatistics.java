@@ -0,0 +1,89 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Snapshot of the latency distribution of a measure of a local service.
+ *
+ * <p>Latencies are recorded in nanoseconds with a relative precision of about 3%. The values are
+ * cumulative since the creation of the local service.
+ *
+ * @see LocalServiceClient#getLatencyStatistics()
+ * @see LocalServiceServer#getLatencyStatistics()
+ * @since 2.6.0
+ */
+public interface LatencyStatistics {
+
+  /**
+   * Gets the type of the measure.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  LatencyMetricType getType();
+
+  /**
+   * Gets the ID of the remote service.
+   *
+   * @return Null if the type is not {@link LatencyMetricType#REMOTE_SERVICE}.
+   * @since 2.6.0
+   */
+  String getServiceId();
+
+  /**
+   * Gets the number of recorded latencies.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getCount();
+
+  /**
+   * Gets the mean latency.
+   *
+   * @return A positive long (0 if no latency is recorded).
+   * @since 2.6.0
+   */
+  long getMeanNanos();
+
+  /**
+   * Gets the highest recorded latency.
+   *
+   * @return A positive long (0 if no latency is recorded).
+   * @since 2.6.0
+   */
+  long getMaxNanos();
+
+  /**
+   * Gets the median latency.
+   *
+   * @return A positive long (0 if no latency is recorded).
+   * @since 2.6.0
+   */
+  long getP50Nanos();
+
+  /**
+   * Gets the 99th percentile of the latencies.
+   *
+   * @return A positive long (0 if no latency is recorded).
+   * @since 2.6.0
+   */
+  long getP99Nanos();
+
+  /**
+   * Gets the 99.9th percentile of the latencies.
+   *
+   * @return A positive long (0 if no latency is recorded).
+   * @since 2.6.0
+   */
+  long getP999Nanos();
+}
@@ -0,0 +1,169 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link LatencyStatistics}.
+ *
+ * @since 2.6.0
+ */
+final class LatencyStatisticsAdapter implements LatencyStatistics {
+
+  private final LatencyMetricType type;
+  private final String serviceId;
+  private final long count;
+  private final long meanNanos;
+  private final long maxNanos;
+  private final long p50Nanos;
+  private final long p99Nanos;
+  private final long p999Nanos;
+
+  /**
+   * Constructor.
+   *
+   * @param type The type of the measure.
+   * @param serviceId The service ID (null if not applicable).
+   * @param count The number of recorded latencies.
+   * @param meanNanos The mean latency.
+   * @param maxNanos The highest latency.
+   * @param p50Nanos The median latency.
+   * @param p99Nanos The 99th percentile.
+   * @param p999Nanos The 99.9th percentile.
+   * @since 2.6.0
+   */
+  LatencyStatisticsAdapter(
+      LatencyMetricType type,
+      String serviceId,
+      long count,
+      long meanNanos,
+      long maxNanos,
+      long p50Nanos,
+      long p99Nanos,
+      long p999Nanos) {
+    this.type = type;
+    this.serviceId = serviceId;
+    this.count = count;
+    this.meanNanos = meanNanos;
+    this.maxNanos = maxNanos;
+    this.p50Nanos = p50Nanos;
+    this.p99Nanos = p99Nanos;
+    this.p999Nanos = p999Nanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public LatencyMetricType getType() {
+    return type;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String getServiceId() {
+    return serviceId;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getMeanNanos() {
+    return meanNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getP50Nanos() {
+    return p50Nanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getP99Nanos() {
+    return p99Nanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getP999Nanos() {
+    return p999Nanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "LatencyStatistics{"
+        + "type="
+        + type
+        + ", serviceId='"
+        + serviceId
+        + '\''
+        + ", count="
+        + count
+        + ", meanNanos="
+        + meanNanos
+        + ", maxNanos="
+        + maxNanos
+        + ", p50Nanos="
+        + p50Nanos
+        + ", p99Nanos="
+        + p99Nanos
+        + ", p999Nanos="
+        + p999Nanos
+        + '}';
+  }
+}
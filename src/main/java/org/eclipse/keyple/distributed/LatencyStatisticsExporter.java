@@ -0,0 +1,39 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.List;
+
+/**
+ * Exporter of the latency statistics of a local service to an external monitoring system.
+ *
+ * <p>An exporter is invoked periodically on a dedicated daemon thread (see {@link
+ * LocalServiceClientFactoryBuilder.BuilderStep#withLatencyStatisticsExporter(
+ * LatencyStatisticsExporter, int)} and {@link
+ * LocalServiceServerFactoryBuilder.BuilderStep#withLatencyStatisticsExporter(
+ * LatencyStatisticsExporter, int)}).
+ *
+ * @since 2.6.0
+ */
+public interface LatencyStatisticsExporter {
+
+  /**
+   * Exports the provided statistics.
+   *
+   * <p>Any runtime exception thrown by this method is logged and does not stop the next exports.
+   *
+   * @param localServiceName The name of the local service.
+   * @param statistics The current statistics of the local service.
+   * @since 2.6.0
+   */
+  void export(String localServiceName, List<LatencyStatistics> statistics);
+}
@@ -0,0 +1,41 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Card selection scenario executed locally by a {@link LocalServiceClient} before a remote service,
+ * so that the server can start from an already selected card instead of sending the selection
+ * commands one round trip at a time.
+ *
+ * <p>A scenario is registered for a ticketing service using {@link
+ * LocalServiceClientFactoryBuilder.BuilderStep#withLocalPreSelection(String,
+ * LocalSelectionScenario)}. It is typically implemented by processing a card selection scenario
+ * prepared by the application on the local reader, and by returning the selected smart card.
+ *
+ * @since 2.6.0
+ */
+public interface LocalSelectionScenario {
+
+  /**
+   * Processes the card selection on the provided local reader.
+   *
+   * <p>This method is invoked on the thread processing the remote service. Any runtime exception
+   * thrown by this method ends the remote service with this exception.
+   *
+   * @param localReaderName The name of the local reader on which the remote service is executed.
+   * @return The selected smart card to transmit to the server as initial card content, or null if
+   *     no card has been selected, in which case the remote service is executed without initial
+   *     card content.
+   * @since 2.6.0
+   */
+  Object processSelection(String localReaderName);
+}
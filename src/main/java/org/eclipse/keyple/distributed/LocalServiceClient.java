@@ -11,6 +11,9 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtension;
 
 /**
@@ -26,7 +29,8 @@
  *       build an instance of the factory {@link LocalServiceClientFactory} and register it to the
  *       Keyple service.
  *   <li>To <b>access</b> the service, use the available accessors in the Keyple service.
- *   <li>To <b>stop</b> the service, unregister it from the Keyple service.
+ *   <li>To <b>stop</b> the service, unregister it from the Keyple service, then invoke {@link
+ *       #close()}.
  * </ul>
  *
  * @since 2.0.0
@@ -82,4 +86,173 @@ <T> T executeRemoteService(
       Object initialCardContent,
       Object inputData,
       Class<T> outputDataClass);
+
+  /**
+   * Executes asynchronously on a local reader a specific ticketing service remotely from the
+   * server.
+   *
+   * <p>The behaviour is the same as {@link #executeRemoteService(String, String, Object, Object,
+   * Class)}, except that the transaction is processed by the executor configured with {@link
+   * LocalServiceClientFactoryBuilder.BuilderStep#withRemoteServiceExecutor(
+   * java.util.concurrent.Executor)} and that the method returns immediately.
+   *
+   * <p>The returned future can be cancelled: the transaction is then aborted before the next
+   * exchange with the server and the session is closed. If {@code mayInterruptIfRunning} is true,
+   * the thread processing the transaction is also interrupted if it is waiting for the server, but
+   * never while a command is executed on the local reader.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param localReaderName The name of the local reader to manage remotely from the server.
+   * @param initialCardContent (optional) : The initial smart card content to transmit to the
+   *     remote ticketing service.
+   * @param inputData (optional) : A DTO containing additional information if needed.
+   * @param outputDataClass (optional) : The class of the expected output data.
+   * @param <T> The generic type of the expected output data.
+   * @return A not null future completed with the output data (null if the provided output data
+   *     class is null or if the returned server output data is null), or completed exceptionally
+   *     with the error that occurred.
+   * @throws IllegalArgumentException If the service ID or the local reader name are null or empty.
+   * @see #executeRemoteService(String, String, Object, Object, Class)
+   * @since 2.6.0
+   */
+  <T> CompletableFuture<T> executeRemoteServiceAsync(
+      String serviceId,
+      String localReaderName,
+      Object initialCardContent,
+      Object inputData,
+      Class<T> outputDataClass);
+
+  /**
+   * Executes asynchronously on a local reader a specific ticketing service remotely from the
+   * server, within a time limit.
+   *
+   * <p>The behaviour is the same as {@link #executeRemoteServiceAsync(String, String, Object,
+   * Object, Class)}, except that if the transaction is not completed when the timeout expires, the
+   * returned future is completed exceptionally with a {@link java.util.concurrent.TimeoutException}
+   * and the transaction is aborted.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param localReaderName The name of the local reader to manage remotely from the server.
+   * @param initialCardContent (optional) : The initial smart card content to transmit to the
+   *     remote ticketing service.
+   * @param inputData (optional) : A DTO containing additional information if needed.
+   * @param outputDataClass (optional) : The class of the expected output data.
+   * @param timeout The maximum duration of the whole transaction.
+   * @param unit The unit of the timeout.
+   * @param <T> The generic type of the expected output data.
+   * @return A not null future.
+   * @throws IllegalArgumentException If the service ID or the local reader name are null or empty,
+   *     if the timeout {@code <} 1 or if the unit is null.
+   * @since 2.6.0
+   */
+  <T> CompletableFuture<T> executeRemoteServiceAsync(
+      String serviceId,
+      String localReaderName,
+      Object initialCardContent,
+      Object inputData,
+      Class<T> outputDataClass,
+      long timeout,
+      TimeUnit unit);
+
+  /**
+   * Executes the same ticketing service remotely from the server on several local readers, with a
+   * bounded parallelism.
+   *
+   * <p>Each request is processed as by {@link #executeRemoteService(String, String, Object, Object,
+   * Class)}. The requests targeting different readers are processed concurrently, up to the
+   * provided parallelism limit, using the executor configured with {@link
+   * LocalServiceClientFactoryBuilder.BuilderStep#withRemoteServiceExecutor(
+   * java.util.concurrent.Executor)} and the calling thread. The requests targeting the same reader
+   * are always processed sequentially, in the order of the list, so that two sessions never use the
+   * same reader at the same time.
+   *
+   * <p>The method blocks until all requests have been processed. The failure of a request does not
+   * prevent the processing of the others.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param requests The list of requests (local reader name, initial card content and input data).
+   * @param outputDataClass (optional) : The class of the expected output data.
+   * @param maxParallelism The maximum number of remote services processed at the same time.
+   * @param <T> The generic type of the expected output data.
+   * @return A not null list containing one result per request, in the order of the requests.
+   * @throws IllegalArgumentException If the service ID is null or empty, if the list of requests
+   *     is null or contains null elements, or if the parallelism limit {@code <} 1.
+   * @since 2.6.0
+   */
+  <T> List<RemoteServiceResult<T>> executeRemoteServices(
+      String serviceId,
+      List<RemoteServiceRequest> requests,
+      Class<T> outputDataClass,
+      int maxParallelism);
+
+  /**
+   * Gets a snapshot of the latencies measured by the service since its creation.
+   *
+   * <p>The list contains the latencies of the exchanges with the server ({@link
+   * LatencyMetricType#ROUND_TRIP}) and of the local executions of the card commands ({@link
+   * LatencyMetricType#LOCAL_EXECUTION}), followed by the total latency of each executed remote
+   * service ({@link LatencyMetricType#REMOTE_SERVICE}), sorted by service ID.
+   *
+   * @return A not null list.
+   * @since 2.6.0
+   */
+  List<LatencyStatistics> getLatencyStatistics();
+
+  /**
+   * Removes the cached metadata of the provided local reader (e.g. after a change of its
+   * configuration), so that they are retrieved again from the Keyple core on the next remote
+   * service.
+   *
+   * <p>The metadata of the local readers (e.g. contactless or not) are cached on the first remote
+   * service executed on each reader. They are kept until they are invalidated or, if configured,
+   * until they expire (see {@link
+   * LocalServiceClientFactoryBuilder.BuilderStep#withReaderMetadataTimeToLive(int)}).
+   *
+   * @param localReaderName The name of the local reader.
+   * @throws IllegalArgumentException If the reader name is null or empty.
+   * @since 2.6.0
+   */
+  void invalidateReaderMetadata(String localReaderName);
+
+  /**
+   * Removes the cached metadata of all local readers.
+   *
+   * @see #invalidateReaderMetadata(String)
+   * @since 2.6.0
+   */
+  void invalidateAllReaderMetadata();
+
+  /**
+   * Gets a snapshot of the state of the cache of the local reader metadata.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  ReaderMetadataCacheStatistics getReaderMetadataCacheStatistics();
+
+  /**
+   * Gets the most recent events recorded during the remote services (start, exchanges with the
+   * server, local executions, end or error), from the oldest to the most recent.
+   *
+   * <p>The events are kept in a fixed-size buffer (see {@link
+   * LocalServiceClientFactoryBuilder.BuilderStep#withSessionFlightRecorderCapacity(int)}), the
+   * oldest ones being overwritten. The events of a failed remote service are also logged with the
+   * failure, so the start and end of each remote service are only logged at the DEBUG level.
+   *
+   * @return A not null list.
+   * @since 2.6.0
+   */
+  List<SessionEvent> getSessionEvents();
+
+  /**
+   * Stops the background tasks of the service and releases their resources (threads, timers,
+   * pooled sessions).
+   *
+   * <p>The Keyple service does not notify the local service of its unregistration: this method
+   * should therefore be invoked once the service has been unregistered from the Keyple service. If
+   * the service is registered again, its background tasks are restarted.
+   *
+   * @since 2.6.0
+   */
+  void close();
 }
@@ -14,7 +14,32 @@
 import static org.eclipse.keyple.distributed.MessageDto.*;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
@@ -31,15 +56,131 @@ final class LocalServiceClientAdapter extends AbstractLocalServiceAdapter
 
   private static final Logger logger = LoggerFactory.getLogger(LocalServiceClientAdapter.class);
 
+  private static final long TIMEOUT_TIMER_TICK_MILLIS = 10;
+  private static final int TIMEOUT_TIMER_TICKS_PER_WHEEL = 512;
+  private static final long SESSION_RESUME_INITIAL_BACKOFF_MILLIS = 100;
+  private static final long SESSION_RESUME_MAX_BACKOFF_MILLIS = 1000;
+
+  private static final JsonTypeAdapterCache typeAdapters = new JsonTypeAdapterCache();
+
+  private final Executor remoteServiceExecutor;
+  private final boolean isCommandBatchingEnabled;
+  private final ReaderMetadataCache readerMetadataCache;
+  private final SessionFlightRecorder sessionFlightRecorder;
+  private final CompressionAlgorithm compressionAlgorithm;
+  private final int compressionThreshold;
+  private final boolean isBinaryEncodingEnabled;
+  private final boolean isVirtualThreadsEnabled;
+  private final long sessionResumeGraceWindowNanos;
+  private final Map<String, LocalSelectionScenario> localSelectionScenarios;
+  private final AdaptiveTimeoutPolicy adaptiveTimeoutPolicy;
+  private final ReentrantLock lazyInitLock;
+  private volatile ExecutorService defaultRemoteServiceExecutor;
+  private volatile HashedTimingWheel timeoutTimer;
+  private volatile ExecutorService nodeRequestExecutor;
+  private volatile CompressionAlgorithm serverCompressionAlgorithm;
+  private volatile boolean isServerBinaryEncodingSupported;
+  private volatile AsyncSessionPool sessionPool;
+
   /**
    * Constructor.
    *
    * @param localServiceName The name of the local service to build.
+   * @param config The options of the service (see {@link LocalServiceClientConfig}).
    * @since 2.0.0
    */
-  LocalServiceClientAdapter(String localServiceName) {
+  LocalServiceClientAdapter(String localServiceName, LocalServiceClientConfig config) {
 
-    super(localServiceName);
+    super(localServiceName, LatencyMetricType.ROUND_TRIP, LatencyMetricType.LOCAL_EXECUTION);
+    this.remoteServiceExecutor = config.getRemoteServiceExecutor();
+    this.isCommandBatchingEnabled = config.isCommandBatchingEnabled();
+    this.readerMetadataCache =
+        new ReaderMetadataCache(
+            TimeUnit.SECONDS.toMillis(config.getReaderMetadataTimeToLiveSeconds()));
+    this.sessionFlightRecorder =
+        new SessionFlightRecorder(config.getSessionFlightRecorderCapacity());
+    this.compressionAlgorithm = config.getCompressionAlgorithm();
+    this.compressionThreshold = config.getCompressionThreshold();
+    this.isBinaryEncodingEnabled = config.isBinaryEncodingEnabled();
+    this.isVirtualThreadsEnabled = config.isVirtualThreadsEnabled();
+    this.sessionResumeGraceWindowNanos =
+        TimeUnit.SECONDS.toNanos(config.getSessionResumeGraceWindowSeconds());
+    this.localSelectionScenarios = config.getLocalSelectionScenarios();
+    this.adaptiveTimeoutPolicy =
+        config.getAdaptiveTimeoutCeilingMillis() > 0
+            ? new AdaptiveTimeoutPolicy(
+                config.getAdaptiveTimeoutFloorMillis(), config.getAdaptiveTimeoutCeilingMillis())
+            : null;
+    this.lazyInitLock = new ReentrantLock();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The cached reader metadata are cleared, as they may come from another Keyple core.
+   *
+   * @since 2.0.0
+   */
+  @Override
+  public void connect(LocalServiceApi localServiceApi) {
+    super.connect(localServiceApi);
+    readerMetadataCache.invalidateAll();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void close() {
+    stopBackgroundTasks();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Also starts the session pool if enabled.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void startBackgroundTasks() {
+    super.startBackgroundTasks();
+    if (sessionPool != null) {
+      sessionPool.start();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Also closes the session pool if enabled, including its idle sessions, stops the timer of
+   * the asynchronous remote services, and shuts down the internal executors. The remote services
+   * in progress are completed, but their timeout is no longer enforced.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void stopBackgroundTasks() {
+    super.stopBackgroundTasks();
+    if (sessionPool != null) {
+      sessionPool.close();
+    }
+    HashedTimingWheel timer = timeoutTimer;
+    if (timer != null) {
+      timer.stop();
+    }
+    ExecutorService executor = defaultRemoteServiceExecutor;
+    if (executor != null) {
+      defaultRemoteServiceExecutor = null;
+      executor.shutdown();
+    }
+    executor = nodeRequestExecutor;
+    if (executor != null) {
+      nodeRequestExecutor = null;
+      executor.shutdownNow();
+    }
   }
 
   /**
@@ -76,44 +217,612 @@ public <T> T executeRemoteService(
         .notEmpty(serviceId, "serviceId")
         .notEmpty(localReaderName, "localReaderName");
 
-    // Generate a new session ID.
-    String sessionId = generateSessionId();
+    return processRemoteService(
+        serviceId, localReaderName, initialCardContent, inputData, outputDataClass, null);
+  }
 
-    logger.info(
-        "Processing remote service [serviceId={}, localReaderName={}, sessionId={}]",
-        serviceId,
-        localReaderName,
-        sessionId);
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public <T> CompletableFuture<T> executeRemoteServiceAsync(
+      String serviceId,
+      String localReaderName,
+      Object initialCardContent,
+      Object inputData,
+      Class<T> outputDataClass) {
+
+    // Check params.
+    Assert.getInstance()
+        .notEmpty(serviceId, "serviceId")
+        .notEmpty(localReaderName, "localReaderName");
+
+    return submitRemoteService(
+        serviceId, localReaderName, initialCardContent, inputData, outputDataClass);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public <T> CompletableFuture<T> executeRemoteServiceAsync(
+      String serviceId,
+      String localReaderName,
+      Object initialCardContent,
+      Object inputData,
+      Class<T> outputDataClass,
+      final long timeout,
+      final TimeUnit unit) {
+
+    // Check params.
+    Assert.getInstance()
+        .notEmpty(serviceId, "serviceId")
+        .notEmpty(localReaderName, "localReaderName")
+        .isTrue(timeout >= 1, "timeout >= 1")
+        .notNull(unit, "unit");
+
+    final RemoteServiceFuture<T> future =
+        submitRemoteService(
+            serviceId, localReaderName, initialCardContent, inputData, outputDataClass);
+    if (!future.isDone()) {
+      final HashedTimingWheel.Timeout timerTimeout =
+          getTimeoutTimer()
+              .schedule(
+                  new Runnable() {
+                    @Override
+                    public void run() {
+                      future.abort(
+                          new TimeoutException(
+                              "Remote service not completed within "
+                                  + timeout
+                                  + " "
+                                  + unit.name().toLowerCase()));
+                    }
+                  },
+                  unit.toNanos(timeout));
+      future.whenComplete(
+          new BiConsumer<T, Throwable>() {
+            @Override
+            public void accept(T outputData, Throwable throwable) {
+              timerTimeout.cancel();
+            }
+          });
+    }
+    return future;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public <T> List<RemoteServiceResult<T>> executeRemoteServices(
+      String serviceId,
+      List<RemoteServiceRequest> requests,
+      Class<T> outputDataClass,
+      int maxParallelism) {
+
+    // Check params.
+    Assert.getInstance()
+        .notEmpty(serviceId, "serviceId")
+        .notNull(requests, "requests")
+        .greaterOrEqual(maxParallelism, 1, "maxParallelism");
+    for (RemoteServiceRequest request : requests) {
+      Assert.getInstance().notNull(request, "request");
+    }
+
+    // Group the requests by reader, in order to never process two requests on the same reader at
+    // the same time.
+    Map<String, List<Integer>> requestIndexesByReader = new LinkedHashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      String localReaderName = requests.get(i).getLocalReaderName();
+      List<Integer> requestIndexes = requestIndexesByReader.get(localReaderName);
+      if (requestIndexes == null) {
+        requestIndexes = new ArrayList<>();
+        requestIndexesByReader.put(localReaderName, requestIndexes);
+      }
+      requestIndexes.add(i);
+    }
+
+    AtomicReferenceArray<RemoteServiceResult<T>> results =
+        new AtomicReferenceArray<>(requests.size());
+    final BatchWorker<T> worker =
+        new BatchWorker<>(
+            serviceId,
+            requests,
+            outputDataClass,
+            new ConcurrentLinkedQueue<>(requestIndexesByReader.values()),
+            results);
+
+    // Start the additional workers on the executor, the current thread being the first worker.
+    int additionalWorkerCount = Math.min(maxParallelism, requestIndexesByReader.size()) - 1;
+    final CountDownLatch additionalWorkersLatch =
+        new CountDownLatch(Math.max(additionalWorkerCount, 0));
+    for (int i = 0; i < additionalWorkerCount; i++) {
+      try {
+        getRemoteServiceExecutor()
+            .execute(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    try {
+                      worker.run();
+                    } finally {
+                      additionalWorkersLatch.countDown();
+                    }
+                  }
+                });
+      } catch (RuntimeException e) {
+        // The remaining requests will be processed by the other workers.
+        additionalWorkersLatch.countDown();
+      }
+    }
+    worker.run();
+    awaitUninterruptibly(additionalWorkersLatch);
+
+    List<RemoteServiceResult<T>> resultList = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      resultList.add(results.get(i));
+    }
+    return resultList;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<LatencyStatistics> getLatencyStatistics() {
+    return getLatencyRecorder().getStatistics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void invalidateReaderMetadata(String localReaderName) {
+    Assert.getInstance().notEmpty(localReaderName, "localReaderName");
+    readerMetadataCache.invalidate(localReaderName);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void invalidateAllReaderMetadata() {
+    readerMetadataCache.invalidateAll();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public ReaderMetadataCacheStatistics getReaderMetadataCacheStatistics() {
+    return readerMetadataCache.getStatistics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<SessionEvent> getSessionEvents() {
+    return sessionFlightRecorder.getEvents();
+  }
+
+  /**
+   * Creates the pool of sessions opened in advance on the async node, started when the local
+   * service is connected to the Keyple core and closed with the local service.
+   *
+   * @param size The number of sessions to keep open.
+   * @param idleTimeoutSeconds The time (in seconds) after which an unused session is closed.
+   * @since 2.6.0
+   */
+  void createSessionPool(int size, int idleTimeoutSeconds) {
+    sessionPool =
+        new AsyncSessionPool(
+            getName(),
+            size,
+            TimeUnit.SECONDS.toMillis(idleTimeoutSeconds),
+            new AsyncSessionPool.SessionFactory() {
+              @Override
+              public String openSession() {
+                String sessionId = generateSessionId();
+                getNode().openSession(sessionId);
+                return sessionId;
+              }
+
+              @Override
+              public void closeSession(String sessionId) {
+                getNode().closeSessionSilently(sessionId);
+              }
+            });
+  }
+
+  /**
+   * Waits for the provided latch to reach zero, preserving the interrupted status of the current
+   * thread.
+   *
+   * @param latch The latch.
+   */
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    boolean isInterrupted = false;
+    while (true) {
+      try {
+        latch.await();
+        break;
+      } catch (InterruptedException e) {
+        isInterrupted = true;
+      }
+    }
+    if (isInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Worker processing the groups of requests of a batch, one reader after the other.
+   *
+   * @param <T> The type of the output data.
+   */
+  private final class BatchWorker<T> implements Runnable {
+
+    private final String serviceId;
+    private final List<RemoteServiceRequest> requests;
+    private final Class<T> outputDataClass;
+    private final Queue<List<Integer>> pendingRequestIndexes;
+    private final AtomicReferenceArray<RemoteServiceResult<T>> results;
+
+    private BatchWorker(
+        String serviceId,
+        List<RemoteServiceRequest> requests,
+        Class<T> outputDataClass,
+        Queue<List<Integer>> pendingRequestIndexes,
+        AtomicReferenceArray<RemoteServiceResult<T>> results) {
+      this.serviceId = serviceId;
+      this.requests = requests;
+      this.outputDataClass = outputDataClass;
+      this.pendingRequestIndexes = pendingRequestIndexes;
+      this.results = results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public void run() {
+      List<Integer> requestIndexes;
+      while ((requestIndexes = pendingRequestIndexes.poll()) != null) {
+        for (int requestIndex : requestIndexes) {
+          RemoteServiceRequest request = requests.get(requestIndex);
+          RemoteServiceResult<T> result;
+          try {
+            T outputData =
+                processRemoteService(
+                    serviceId,
+                    request.getLocalReaderName(),
+                    request.getInitialCardContent(),
+                    request.getInputData(),
+                    outputDataClass,
+                    null);
+            result = new RemoteServiceResultAdapter<>(request, outputData, null);
+          } catch (RuntimeException e) {
+            // The failure has already been logged with the events of the session.
+            result = new RemoteServiceResultAdapter<>(request, null, e);
+          }
+          results.set(requestIndex, result);
+        }
+      }
+    }
+  }
+
+  /**
+   * Submits the processing of a remote service to the remote service executor.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param localReaderName The name of the local reader.
+   * @param initialCardContent The initial card content if needed.
+   * @param inputData The additional information if needed.
+   * @param outputDataClass The class of the output data.
+   * @param <T> The type of the output data.
+   * @return A not null future.
+   */
+  private <T> RemoteServiceFuture<T> submitRemoteService(
+      final String serviceId,
+      final String localReaderName,
+      final Object initialCardContent,
+      final Object inputData,
+      final Class<T> outputDataClass) {
+
+    final RemoteServiceFuture<T> future = new RemoteServiceFuture<>();
+    try {
+      getRemoteServiceExecutor()
+          .execute(
+              new Runnable() {
+                @Override
+                public void run() {
+                  if (future.isDone()) {
+                    return;
+                  }
+                  future.bindCurrentThread();
+                  try {
+                    future.complete(
+                        processRemoteService(
+                            serviceId,
+                            localReaderName,
+                            initialCardContent,
+                            inputData,
+                            outputDataClass,
+                            future));
+                  } catch (Throwable e) { // NOSONAR - all errors are reported to the future
+                    future.completeExceptionally(e);
+                  } finally {
+                    future.unbindCurrentThread();
+                  }
+                }
+              });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Processes a remote service on the current thread.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param localReaderName The name of the local reader.
+   * @param initialCardContent The initial card content if needed.
+   * @param inputData The additional information if needed.
+   * @param outputDataClass The class of the output data.
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @param <T> The type of the output data.
+   * @return Null if there is no output data.
+   */
+  private <T> T processRemoteService(
+      String serviceId,
+      String localReaderName,
+      Object initialCardContent,
+      Object inputData,
+      Class<T> outputDataClass,
+      RemoteServiceFuture<?> future) {
+
+    long startNanos = System.nanoTime();
 
-    // Build the message DTO.
-    MessageDto message =
-        buildMessage(serviceId, localReaderName, initialCardContent, inputData, sessionId);
+    // Take a pre-opened session from the pool if available, otherwise generate a new session ID.
+    String sessionId = sessionPool != null ? sessionPool.poll() : null;
+    boolean isPooledSessionPending = sessionId != null;
+    if (sessionId == null) {
+      sessionId = generateSessionId();
+    }
+
+    // The sessions are traced by the flight recorder, which is dumped in case of failure.
+    sessionFlightRecorder.record(SessionEventType.SESSION_START, sessionId, 0, serviceId);
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "Processing remote service [serviceId={}, localReaderName={}, sessionId={}]",
+          serviceId,
+          localReaderName,
+          sessionId);
+    }
 
     T outputData;
     try {
-      // Open a new session on the node.
-      getNode().openSession(sessionId);
+      // Select the card locally if a pre-selection is registered for the service.
+      if (initialCardContent == null) {
+        initialCardContent =
+            processLocalSelection(serviceId, localReaderName, sessionId, future);
+      }
+
+      // Build the message DTO.
+      MessageDto message =
+          buildMessage(serviceId, localReaderName, initialCardContent, inputData, sessionId);
+
+      // The requests are numbered if the session may be resumed after a network failure.
+      SessionCheckpoint checkpoint =
+          sessionResumeGraceWindowNanos > 0 ? new SessionCheckpoint() : null;
+
+      // The requests are timed if the timeouts are adaptive.
+      AdaptiveTimeoutPolicy.SessionTimer timer =
+          adaptiveTimeoutPolicy != null
+              ? adaptiveTimeoutPolicy.newSessionTimer(serviceId)
+              : null;
+
+      try {
+        // Open a new session on the node, unless it has been opened in advance.
+        if (isPooledSessionPending) {
+          isPooledSessionPending = false;
+        } else {
+          getNode().openSession(sessionId);
+        }
 
-      // Send the first message.
-      message = getNode().sendRequest(message);
+        // Send the first message.
+        message = sendRequest(message, checkpoint, timer, future);
 
-      // Process the entire transaction.
-      message = processTransaction(message);
+        // Process the entire transaction.
+        message = processTransaction(message, checkpoint, timer, future);
 
-      // Extract output data from last received message.
-      outputData = extractOutputData(message, outputDataClass);
+        // Check the error and extract the output data from the last received message.
+        outputData = extractOutputData(message, outputDataClass);
 
+      } finally {
+        getNode().closeSessionSilently(sessionId);
+        getLatencyRecorder().recordRemoteService(serviceId, startNanos);
+      }
+
+    } catch (RuntimeException e) {
+      if (isPooledSessionPending) {
+        getNode().closeSessionSilently(sessionId);
+      }
+      sessionFlightRecorder.record(
+          SessionEventType.ERROR, sessionId, System.nanoTime() - startNanos, e.getMessage());
+      dumpSessionEvents(serviceId, localReaderName, sessionId);
+      throw e;
+    }
+
+    sessionFlightRecorder.record(
+        SessionEventType.SESSION_END, sessionId, System.nanoTime() - startNanos, null);
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "Remote service processed [serviceId={}, localReaderName={}, sessionId={}]",
+          serviceId,
+          localReaderName,
+          sessionId);
+    }
+
+    return outputData;
+  }
+
+  /**
+   * Processes the local selection scenario registered for the provided service, if any.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param localReaderName The name of the local reader.
+   * @param sessionId The session ID.
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @return Null if no scenario is registered or if no card has been selected.
+   */
+  private Object processLocalSelection(
+      String serviceId,
+      String localReaderName,
+      String sessionId,
+      RemoteServiceFuture<?> future) {
+    LocalSelectionScenario scenario = localSelectionScenarios.get(serviceId);
+    if (scenario == null) {
+      return null;
+    }
+    long startNanos = System.nanoTime();
+    Object smartCard;
+    if (future != null) {
+      future.beginLocalExecution();
+    }
+    try {
+      smartCard = scenario.processSelection(localReaderName);
     } finally {
-      getNode().closeSessionSilently(sessionId);
+      if (future != null) {
+        future.endLocalExecution();
+      }
     }
+    sessionFlightRecorder.record(
+        SessionEventType.LOCAL_SELECTION,
+        sessionId,
+        System.nanoTime() - startNanos,
+        smartCard != null ? "selected" : "not selected");
+    return smartCard;
+  }
 
-    logger.info(
-        "Remote service processed [serviceId={}, localReaderName={}, sessionId={}]",
+  /**
+   * Logs the recorded events of a failed session, including the failure.
+   *
+   * <p>This is the only place where the failure of a remote service is logged.
+   *
+   * @param serviceId The ticketing service ID.
+   * @param localReaderName The name of the local reader.
+   * @param sessionId The session ID.
+   */
+  private void dumpSessionEvents(String serviceId, String localReaderName, String sessionId) {
+    logger.warn(
+        "Remote service failed [serviceId={}, localReaderName={}, sessionId={}, events={}]",
         serviceId,
         localReaderName,
-        sessionId);
+        sessionId,
+        sessionFlightRecorder.getEvents(sessionId));
+  }
 
-    return outputData;
+  /**
+   * Gets the executor to use to process the asynchronous remote services.
+   *
+   * @return A not null reference.
+   */
+  private Executor getRemoteServiceExecutor() {
+    if (remoteServiceExecutor != null) {
+      return remoteServiceExecutor;
+    }
+    ExecutorService executor = defaultRemoteServiceExecutor;
+    if (executor == null) {
+      lazyInitLock.lock();
+      try {
+        executor = defaultRemoteServiceExecutor;
+        if (executor == null) {
+          String threadNamePrefix = "keyple-" + getName() + "-remote-service";
+          executor =
+              isVirtualThreadsEnabled
+                  ? VirtualThreads.newThreadPerTaskExecutor(threadNamePrefix)
+                  : Executors.newCachedThreadPool(new DaemonThreadFactory(threadNamePrefix));
+          defaultRemoteServiceExecutor = executor;
+        }
+      } finally {
+        lazyInitLock.unlock();
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * Gets the timer used to enforce the timeouts of the asynchronous remote services.
+   *
+   * @return A not null reference.
+   */
+  private HashedTimingWheel getTimeoutTimer() {
+    HashedTimingWheel timer = timeoutTimer;
+    if (timer == null) {
+      lazyInitLock.lock();
+      try {
+        timer = timeoutTimer;
+        if (timer == null) {
+          timer =
+              new HashedTimingWheel(
+                  TIMEOUT_TIMER_TICK_MILLIS,
+                  TIMEOUT_TIMER_TICKS_PER_WHEEL,
+                  "keyple-" + getName() + "-remote-service-timer");
+          timeoutTimer = timer;
+        }
+      } finally {
+        lazyInitLock.unlock();
+      }
+    }
+    return timer;
+  }
+
+  /**
+   * Gets the executor sending the requests whose response is awaited within an adaptive timeout.
+   *
+   * @return A not null reference.
+   */
+  private ExecutorService getNodeRequestExecutor() {
+    ExecutorService executor = nodeRequestExecutor;
+    if (executor == null) {
+      lazyInitLock.lock();
+      try {
+        executor = nodeRequestExecutor;
+        if (executor == null) {
+          String threadNamePrefix = "keyple-" + getName() + "-request";
+          executor =
+              isVirtualThreadsEnabled
+                  ? VirtualThreads.newThreadPerTaskExecutor(threadNamePrefix)
+                  : Executors.newCachedThreadPool(new DaemonThreadFactory(threadNamePrefix));
+          nodeRequestExecutor = executor;
+        }
+      } finally {
+        lazyInitLock.unlock();
+      }
+    }
+    return executor;
   }
 
   /**
@@ -125,44 +834,91 @@ public <T> T executeRemoteService(
    * @param inputData The additional information if needed.
    * @param sessionId The session ID to use.
    * @return A not null reference.
+   * @since 2.6.0
    */
-  private MessageDto buildMessage(
+  MessageDto buildMessage(
       String serviceId,
       String localReaderName,
       Object initialCardContent,
       Object inputData,
       String sessionId) {
 
-    JsonObject body = new JsonObject();
+    boolean isReaderContactless =
+        readerMetadataCache.isReaderContactless(getLocalServiceApi(), localReaderName);
 
-    // API level:
-    // The API level is retrieved from the wrapper, as the body content has been created by the
-    // Distributed client layer.
-    // In this particular case, the API level contained in the body does not reflect the version of
-    // the body, but that of the Core client layer.
-    body.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), getCoreApiLevel());
+    // The body is streamed into a reusable buffer instead of building an intermediate JSON tree.
+    // Its content is identical to the serialization of the equivalent JsonObject (compact
+    // format, no HTML escaping, nulls serialized according to the parser configuration).
+    Gson parser = JsonUtil.getParser();
+    ReusableStringWriter buffer = ReusableStringWriter.acquire();
+    String body;
+    try {
+      JsonWriter writer = new JsonWriter(buffer);
+      writer.setLenient(true);
+      writer.setSerializeNulls(parser.serializeNulls());
+      writer.beginObject();
 
-    // Service ID
-    body.addProperty(JsonProperty.SERVICE_ID.getKey(), serviceId);
+      // API level:
+      // The API level is retrieved from the wrapper, as the body content has been created by the
+      // Distributed client layer.
+      // In this particular case, the API level contained in the body does not reflect the version
+      // of the body, but that of the Core client layer.
+      writer.name(JsonProperty.CORE_API_LEVEL.getKey()).value(getCoreApiLevel());
 
-    // Is local reader contactless?
-    body.addProperty(
-        JsonProperty.IS_READER_CONTACTLESS.getKey(),
-        getLocalServiceApi().isReaderContactless(localReaderName));
+      // Service ID
+      writer.name(JsonProperty.SERVICE_ID.getKey()).value(serviceId);
 
-    // Initial card content
-    if (initialCardContent != null) {
-      body.add(
-          JsonProperty.INITIAL_CARD_CONTENT.getKey(),
-          JsonUtil.getParser().toJsonTree(initialCardContent));
-      body.addProperty(
-          JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey(),
-          initialCardContent.getClass().getName());
-    }
+      // Is local reader contactless?
+      writer.name(JsonProperty.IS_READER_CONTACTLESS.getKey()).value(isReaderContactless);
+
+      // Initial card content
+      if (initialCardContent != null) {
+        writer.name(JsonProperty.INITIAL_CARD_CONTENT.getKey());
+        writeValue(parser, initialCardContent, writer);
+        writer
+            .name(JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey())
+            .value(initialCardContent.getClass().getName());
+      }
+
+      // Input data
+      if (inputData != null) {
+        writer.name(JsonProperty.INPUT_DATA.getKey());
+        writeValue(parser, inputData, writer);
+      }
+
+      // Supported version of the command batches (not sent if disabled, so that the body remains
+      // unchanged for the servers which do not know this property)
+      if (isCommandBatchingEnabled) {
+        writer.name(CommandBatch.COMMAND_BATCH_API_LEVEL).value(CommandBatch.API_LEVEL);
+      }
+
+      // Supported compression algorithm (not sent if disabled, for the same reason)
+      if (compressionAlgorithm != null) {
+        writer.name(BodyCompression.BODY_COMPRESSION).value(compressionAlgorithm.name());
+      }
+
+      // Supported body encoding (not sent if disabled, for the same reason)
+      if (isBinaryEncodingEnabled) {
+        writer.name(BinaryBodyCodec.BODY_ENCODING).value(BinaryBodyCodec.BINARY);
+      }
 
-    // Input data
-    if (inputData != null) {
-      body.add(JsonProperty.INPUT_DATA.getKey(), JsonUtil.getParser().toJsonTree(inputData));
+      // Grace window of the session resumption (not sent if disabled, for the same reason)
+      if (sessionResumeGraceWindowNanos > 0) {
+        writer
+            .name(SessionCheckpoint.SESSION_RESUME)
+            .value(TimeUnit.NANOSECONDS.toSeconds(sessionResumeGraceWindowNanos));
+      }
+
+      writer.endObject();
+      body = buffer.toStringAndRelease();
+
+    } catch (IOException e) {
+      buffer.release();
+      // Cannot occur with an in-memory writer.
+      throw new IllegalStateException("Failed to serialize the remote service request", e);
+    } catch (RuntimeException e) {
+      buffer.release();
+      throw e;
     }
 
     return new MessageDto()
@@ -170,7 +926,21 @@ private MessageDto buildMessage(
         .setSessionId(sessionId)
         .setAction(Action.EXECUTE_REMOTE_SERVICE.name())
         .setLocalReaderName(localReaderName)
-        .setBody(body.toString());
+        .setBody(body);
+  }
+
+  /**
+   * Writes the provided object using the type adapter of its runtime class, as done by {@link
+   * Gson#toJsonTree(Object)}.
+   *
+   * @param parser The parser.
+   * @param value The object to write.
+   * @param writer The target writer.
+   * @throws IOException If an I/O error occurs.
+   */
+  @SuppressWarnings("unchecked")
+  private static void writeValue(Gson parser, Object value, JsonWriter writer) throws IOException {
+    ((TypeAdapter<Object>) typeAdapters.getAdapter(parser, value.getClass())).write(writer, value);
   }
 
   /**
@@ -178,19 +948,46 @@ private MessageDto buildMessage(
    * Check server response : loop while message action is not a terminate service or an error, then
    * execute the command locally and send back response to the server.
    *
+   * <p>A {@link CommandBatch#CMD_BATCH} message is answered with a single {@link
+   * CommandBatch#RESP_BATCH} message after the execution of all its commands.
+   *
    * @param message The first message received from the server.
-   * @return A not null reference.
-   * @throws RuntimeException If an error occurs.
+   * @param checkpoint The checkpoint of the session (null if the session is not resumable).
+   * @param timer The timer of the requests (null if the timeouts are not adaptive).
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @return The last received message ({@link Action#END_REMOTE_SERVICE} or {@link
+   *     Action#ERROR}).
+   * @throws java.util.concurrent.CancellationException If the asynchronous execution has been
+   *     cancelled or has timed out.
    */
-  private MessageDto processTransaction(MessageDto message) {
+  private MessageDto processTransaction(
+      MessageDto message,
+      SessionCheckpoint checkpoint,
+      AdaptiveTimeoutPolicy.SessionTimer timer,
+      RemoteServiceFuture<?> future) {
 
     while (!message.getAction().equals(Action.END_REMOTE_SERVICE.name())
         && !message.getAction().equals(Action.ERROR.name())) {
 
+      // Abort the transaction if the asynchronous execution is no longer awaited.
+      if (future != null) {
+        future.checkNotDone();
+      }
+
+      // Execute a whole batch of commands at once if the server sent one.
+      if (message.getAction().equals(CommandBatch.CMD_BATCH)) {
+        message
+            .setAction(CommandBatch.RESP_BATCH)
+            .setBody(executeCommandBatch(message, future));
+        message = sendRequest(message, checkpoint, timer, future);
+        continue;
+      }
+
+      long startNanos = System.nanoTime();
       try {
         // Execute the command locally.
         String jsonResult =
-            getLocalServiceApi().executeLocally(message.getBody(), message.getLocalReaderName());
+            executeLocally(message.getBody(), message.getLocalReaderName(), future);
 
         // Build the response to send back to the server.
         message.setAction(Action.RESP.name()).setBody(jsonResult);
@@ -201,36 +998,361 @@ private MessageDto processTransaction(MessageDto message) {
             .setAction(MessageDto.Action.ERROR.name())
             .setBody(JsonUtil.toJson(new BodyError(e)));
       }
+      recordLocalExecution(message.getSessionId(), startNanos);
 
       // Send the response and get the next command to process.
-      message = getNode().sendRequest(message);
+      message = sendRequest(message, checkpoint, timer, future);
     }
 
-    // Check if the last received message contains an error.
-    checkError(message);
-
     return message;
   }
 
   /**
-   * Extracts the output data from the provided message if configured.
+   * Executes locally the commands of a batch in order, stopping at the first failure as done for
+   * the single commands.
+   *
+   * @param message The {@link CommandBatch#CMD_BATCH} message.
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @return The body of the {@link CommandBatch#RESP_BATCH} message to send back to the server.
+   * @throws java.util.concurrent.CancellationException If the asynchronous execution has been
+   *     cancelled or has timed out.
+   */
+  private String executeCommandBatch(MessageDto message, RemoteServiceFuture<?> future) {
+
+    List<String> commands;
+    try {
+      commands = CommandBatch.parseCommands(message.getBody());
+    } catch (RuntimeException e) {
+      return CommandBatch.buildResponse(new ArrayList<String>(0), e);
+    }
+
+    List<String> responses = new ArrayList<>(commands.size());
+    Exception error = null;
+    for (String command : commands) {
+      if (future != null) {
+        future.checkNotDone();
+      }
+      long startNanos = System.nanoTime();
+      try {
+        responses.add(executeLocally(command, message.getLocalReaderName(), future));
+      } catch (Exception e) {
+        error = e;
+      }
+      recordLocalExecution(message.getSessionId(), startNanos);
+      if (error != null) {
+        break;
+      }
+    }
+    return CommandBatch.buildResponse(responses, error);
+  }
+
+  /**
+   * Executes a command locally, preventing the future of the asynchronous execution from
+   * interrupting the current thread during the exchange with the card.
+   *
+   * @param command The JSON command.
+   * @param localReaderName The name of the local reader.
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @return The JSON result.
+   */
+  private String executeLocally(
+      String command, String localReaderName, RemoteServiceFuture<?> future) {
+    if (future == null) {
+      return getLocalServiceApi().executeLocally(command, localReaderName);
+    }
+    future.beginLocalExecution();
+    try {
+      return getLocalServiceApi().executeLocally(command, localReaderName);
+    } finally {
+      future.endLocalExecution();
+    }
+  }
+
+  /**
+   * Records the latency of a local execution.
+   *
+   * @param sessionId The session ID.
+   * @param startNanos The start time of the execution.
+   */
+  private void recordLocalExecution(String sessionId, long startNanos) {
+    long durationNanos = getLatencyRecorder().record(LatencyMetricType.LOCAL_EXECUTION, startNanos);
+    sessionFlightRecorder.record(SessionEventType.LOCAL_EXECUTION, sessionId, durationNanos, null);
+  }
+
+  /**
+   * Sends a request to the server and records the round trip latency.
+   *
+   * <p>The body of the request is compressed if the compression is enabled and if the server has
+   * already shown that it supports it, by sending a compressed body. The body of the response is
+   * decompressed if needed.
+   *
+   * <p>In the same way, the body of the request is encoded using the binary encoding if it is
+   * enabled and if the server has already sent an encoded body. The encoding is applied before the
+   * compression.
+   *
+   * <p>If the session is resumable, the request is numbered before being encoded, and the response
+   * is unwrapped from the acknowledgement of the server once decoded.
+   *
+   * @param message The message to send.
+   * @param checkpoint The checkpoint of the session (null if the session is not resumable).
+   * @param timer The timer of the requests (null if the timeouts are not adaptive).
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @return The response.
+   * @throws java.util.concurrent.CancellationException If the asynchronous execution has been
+   *     cancelled or has timed out.
+   */
+  private MessageDto sendRequest(
+      MessageDto message,
+      SessionCheckpoint checkpoint,
+      AdaptiveTimeoutPolicy.SessionTimer timer,
+      RemoteServiceFuture<?> future) {
+    // Abort the transaction if the asynchronous execution has been cancelled during the local
+    // execution.
+    if (future != null) {
+      future.checkNotDone();
+    }
+    String sessionId = message.getSessionId();
+    if (checkpoint != null) {
+      message.setBody(checkpoint.stamp(message.getBody()));
+    }
+    if (isServerBinaryEncodingSupported && message.getBody() != null) {
+      message.setBody(BinaryBodyCodec.encode(message.getBody()));
+    }
+    CompressionAlgorithm serverAlgorithm = serverCompressionAlgorithm;
+    if (serverAlgorithm != null) {
+      message.setBody(
+          BodyCompression.compress(message.getBody(), serverAlgorithm, compressionThreshold));
+    }
+    long startNanos = System.nanoTime();
+    try {
+      MessageDto response =
+          checkpoint != null
+              ? sendResumableRequest(message, checkpoint, timer, future)
+              : sendNodeRequest(message, timer);
+      CompressionAlgorithm responseAlgorithm = BodyCompression.getAlgorithm(response.getBody());
+      if (responseAlgorithm != null) {
+        response.setBody(BodyCompression.decompress(response.getBody(), responseAlgorithm));
+        if (compressionAlgorithm != null) {
+          serverCompressionAlgorithm = responseAlgorithm;
+        }
+      }
+      if (BinaryBodyCodec.isEncoded(response.getBody())) {
+        response.setBody(BinaryBodyCodec.decode(response.getBody()));
+        if (isBinaryEncodingEnabled) {
+          isServerBinaryEncodingSupported = true;
+        }
+      }
+      if (checkpoint != null) {
+        response.setBody(checkpoint.acknowledge(response.getBody()));
+      }
+      return response;
+    } finally {
+      long durationNanos = getLatencyRecorder().record(LatencyMetricType.ROUND_TRIP, startNanos);
+      sessionFlightRecorder.record(SessionEventType.ROUND_TRIP, sessionId, durationNanos, null);
+    }
+  }
+
+  /**
+   * Sends a request of a resumable session, sending it again on a new node session in case of
+   * network failure until the grace window expires.
+   *
+   * <p>The request is sent again only if the server has already acknowledged a request of the
+   * session, which shows that it is able to recognize a request it has already processed.
+   *
+   * @param message The message to send, already numbered, encoded and compressed.
+   * @param checkpoint The checkpoint of the session.
+   * @param timer The timer of the requests (null if the timeouts are not adaptive).
+   * @param future The future of the asynchronous execution (null if synchronous).
+   * @return The response.
+   * @throws RuntimeException The first failure if the request is not resumable or if the grace
+   *     window has expired.
+   * @throws java.util.concurrent.CancellationException If the asynchronous execution has been
+   *     cancelled or has timed out.
+   */
+  private MessageDto sendResumableRequest(
+      MessageDto message,
+      SessionCheckpoint checkpoint,
+      AdaptiveTimeoutPolicy.SessionTimer timer,
+      RemoteServiceFuture<?> future) {
+    String sessionId = message.getSessionId();
+    long deadlineNanos = 0;
+    long backoffMillis = SESSION_RESUME_INITIAL_BACKOFF_MILLIS;
+    RuntimeException failure = null;
+    while (true) {
+      try {
+        return sendNodeRequest(message, timer);
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+          deadlineNanos = System.nanoTime() + sessionResumeGraceWindowNanos;
+        }
+        if (!checkpoint.isResumable()) {
+          throw failure;
+        }
+      }
+      // Wait before resuming the session on a new node session.
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+      if (remainingMillis <= 0) {
+        throw failure;
+      }
+      try {
+        Thread.sleep(Math.min(backoffMillis, remainingMillis));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw failure;
+      }
+      if (future != null) {
+        future.checkNotDone();
+      }
+      backoffMillis = Math.min(2 * backoffMillis, SESSION_RESUME_MAX_BACKOFF_MILLIS);
+      sessionFlightRecorder.record(
+          SessionEventType.SESSION_RESUME,
+          sessionId,
+          0,
+          "sequenceNumber=" + checkpoint.getSequenceNumber() + ", error=" + failure.getMessage());
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "Resuming session [sessionId={}, sequenceNumber={}, error={}]",
+            sessionId,
+            checkpoint.getSequenceNumber(),
+            failure.getMessage());
+      }
+      getNode().closeSessionSilently(sessionId);
+      try {
+        getNode().openSession(sessionId);
+      } catch (RuntimeException e) {
+        // The next attempt will fail in the same way and wait again.
+        logger.debug("Failed to reopen session [sessionId={}, error={}]", sessionId, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Sends a request using the node, failing it if no response is received within the adaptive
+   * timeout of the request.
+   *
+   * <p>With an adaptive timeout, the request is sent by a thread of the local service while the
+   * current thread waits for the response at most for the timeout. The sending thread is not
+   * interrupted if the timeout expires, it is released by the late response or by the timeout of
+   * the async node, and the response is then discarded.
    *
-   * @param message The message.
+   * @param message The message to send.
+   * @param timer The timer of the requests (null if the timeouts are not adaptive).
+   * @return A not null reference.
+   * @throws IllegalStateException If no response has been received, or if the adaptive timeout has
+   *     expired.
+   */
+  private MessageDto sendNodeRequest(
+      final MessageDto message, AdaptiveTimeoutPolicy.SessionTimer timer) {
+    MessageDto response =
+        timer != null ? sendTimedNodeRequest(message, timer) : getNode().sendRequest(message);
+    if (response == null) {
+      throw new IllegalStateException(
+          "No response received from the server [sessionId="
+              + message.getSessionId()
+              + ", action="
+              + message.getAction()
+              + "]");
+    }
+    return response;
+  }
+
+  /**
+   * Sends a request using the node and waits for the response within the adaptive timeout of the
+   * request.
+   *
+   * <p>The request is left running if the timeout expires or if the current thread is interrupted,
+   * because interrupting the node while it is processing the request could break the session.
+   *
+   * @param message The message to send.
+   * @param timer The timer of the requests.
+   * @return The response (may be null).
+   * @throws IllegalStateException If the adaptive timeout has expired or if the current thread is
+   *     interrupted.
+   */
+  private MessageDto sendTimedNodeRequest(
+      final MessageDto message, AdaptiveTimeoutPolicy.SessionTimer timer) {
+    long timeoutNanos = timer.start(message.getAction());
+    Future<MessageDto> response;
+    try {
+      response =
+          getNodeRequestExecutor()
+              .submit(
+                  new Callable<MessageDto>() {
+                    @Override
+                    public MessageDto call() {
+                      return getNode().sendRequest(message);
+                    }
+                  });
+    } catch (RejectedExecutionException e) {
+      // The local service is being closed, the request is sent without timeout.
+      MessageDto result = getNode().sendRequest(message);
+      timer.stop(false);
+      return result;
+    }
+    try {
+      MessageDto result = response.get(timeoutNanos, TimeUnit.NANOSECONDS);
+      timer.stop(false);
+      return result;
+    } catch (ExecutionException e) {
+      timer.stop(false);
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    } catch (TimeoutException e) {
+      timer.stop(true);
+      throw new IllegalStateException(
+          "No response received from the server within the adaptive timeout of "
+              + timer.getTimeoutMillis()
+              + " ms [sessionId="
+              + message.getSessionId()
+              + ", action="
+              + message.getAction()
+              + "]",
+          e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          "Interrupted while waiting for the response of the server [sessionId="
+              + message.getSessionId()
+              + "]",
+          e);
+    }
+  }
+
+  /**
+   * Throws the error contained in the provided message if any, otherwise extracts the output data
+   * if configured.
+   *
+   * <p>The body is parsed only once, and the output data is decoded directly from the parsed
+   * element using a cached type adapter.
+   *
+   * @param message The last message received from the server.
    * @param outputDataClass The class of the output data.
    * @param <T> The type of the output data.
    * @return Null if there is no output data to extract.
+   * @throws RuntimeException If the message contains an error.
    */
   private <T> T extractOutputData(MessageDto message, Class<T> outputDataClass) {
-    if (outputDataClass == null) {
+    boolean isError = message.getAction().equals(Action.ERROR.name());
+    if (!isError && outputDataClass == null) {
       return null;
     }
     Gson parser = JsonUtil.getParser();
-    String outputDataJson =
-        parser
-            .fromJson(message.getBody(), JsonObject.class)
-            .getAsJsonObject(JsonProperty.OUTPUT_DATA.getKey())
-            .toString();
-    return parser.fromJson(outputDataJson, outputDataClass);
+    JsonObject body = parser.fromJson(message.getBody(), JsonObject.class);
+    if (isError) {
+      throw parser.fromJson(body, BodyError.class).getException();
+    }
+    JsonElement outputData = body.get(JsonProperty.OUTPUT_DATA.getKey());
+    if (outputData == null || outputData.isJsonNull()) {
+      return null;
+    }
+    return typeAdapters.getAdapter(parser, outputDataClass).fromJsonTree(outputData);
   }
 
   /**
@@ -0,0 +1,427 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable options of a {@link LocalServiceClient}, built by the {@link
+ * LocalServiceClientFactoryBuilder} and shared by the factory and the local services it creates.
+ *
+ * @since 2.6.0
+ */
+final class LocalServiceClientConfig {
+
+  private final Executor remoteServiceExecutor;
+  private final boolean isCommandBatchingEnabled;
+  private final int readerMetadataTimeToLiveSeconds;
+  private final int sessionFlightRecorderCapacity;
+  private final CompressionAlgorithm compressionAlgorithm;
+  private final int compressionThreshold;
+  private final boolean isBinaryEncodingEnabled;
+  private final boolean isVirtualThreadsEnabled;
+  private final int sessionResumeGraceWindowSeconds;
+  private final Map<String, LocalSelectionScenario> localSelectionScenarios;
+  private final int adaptiveTimeoutFloorMillis;
+  private final int adaptiveTimeoutCeilingMillis;
+  private final int sessionPoolSize;
+  private final int sessionPoolIdleTimeoutSeconds;
+  private final LatencyStatisticsExporter latencyStatisticsExporter;
+  private final int latencyStatisticsExportPeriodSeconds;
+
+  private LocalServiceClientConfig(Builder builder) {
+    this.remoteServiceExecutor = builder.remoteServiceExecutor;
+    this.isCommandBatchingEnabled = builder.isCommandBatchingEnabled;
+    this.readerMetadataTimeToLiveSeconds = builder.readerMetadataTimeToLiveSeconds;
+    this.sessionFlightRecorderCapacity = builder.sessionFlightRecorderCapacity;
+    this.compressionAlgorithm = builder.compressionAlgorithm;
+    this.compressionThreshold = builder.compressionThreshold;
+    this.isBinaryEncodingEnabled = builder.isBinaryEncodingEnabled;
+    this.isVirtualThreadsEnabled = builder.isVirtualThreadsEnabled;
+    this.sessionResumeGraceWindowSeconds = builder.sessionResumeGraceWindowSeconds;
+    this.localSelectionScenarios =
+        Collections.unmodifiableMap(new HashMap<>(builder.localSelectionScenarios));
+    this.adaptiveTimeoutFloorMillis = builder.adaptiveTimeoutFloorMillis;
+    this.adaptiveTimeoutCeilingMillis = builder.adaptiveTimeoutCeilingMillis;
+    this.sessionPoolSize = builder.sessionPoolSize;
+    this.sessionPoolIdleTimeoutSeconds = builder.sessionPoolIdleTimeoutSeconds;
+    this.latencyStatisticsExporter = builder.latencyStatisticsExporter;
+    this.latencyStatisticsExportPeriodSeconds = builder.latencyStatisticsExportPeriodSeconds;
+  }
+
+  /**
+   * Creates a new builder of options, all disabled.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Gets the executor of the asynchronous remote services.
+   *
+   * @return Null to use an internal cached thread pool created on demand.
+   * @since 2.6.0
+   */
+  Executor getRemoteServiceExecutor() {
+    return remoteServiceExecutor;
+  }
+
+  /**
+   * Indicates whether the server is allowed to send batches of commands.
+   *
+   * @return True if the command batching is enabled.
+   * @since 2.6.0
+   */
+  boolean isCommandBatchingEnabled() {
+    return isCommandBatchingEnabled;
+  }
+
+  /**
+   * Gets the time to live of the cached reader metadata.
+   *
+   * @return A number of seconds, 0 if the metadata never expire.
+   * @since 2.6.0
+   */
+  int getReaderMetadataTimeToLiveSeconds() {
+    return readerMetadataTimeToLiveSeconds;
+  }
+
+  /**
+   * Gets the number of session events kept by the flight recorder.
+   *
+   * @return A positive number.
+   * @since 2.6.0
+   */
+  int getSessionFlightRecorderCapacity() {
+    return sessionFlightRecorderCapacity;
+  }
+
+  /**
+   * Gets the algorithm used to compress the bodies.
+   *
+   * @return Null if the compression is disabled.
+   * @since 2.6.0
+   */
+  CompressionAlgorithm getCompressionAlgorithm() {
+    return compressionAlgorithm;
+  }
+
+  /**
+   * Gets the minimum length of the bodies to compress.
+   *
+   * @return A positive number.
+   * @since 2.6.0
+   */
+  int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Indicates whether the bodies may be exchanged using the binary encoding.
+   *
+   * @return True if the binary encoding is enabled.
+   * @since 2.6.0
+   */
+  boolean isBinaryEncodingEnabled() {
+    return isBinaryEncodingEnabled;
+  }
+
+  /**
+   * Indicates whether the internal executor of the asynchronous remote services must start a
+   * virtual thread per remote service.
+   *
+   * @return True if the virtual threads are enabled.
+   * @since 2.6.0
+   */
+  boolean isVirtualThreadsEnabled() {
+    return isVirtualThreadsEnabled;
+  }
+
+  /**
+   * Gets the time during which a session may be resumed after a network failure.
+   *
+   * @return A number of seconds, 0 if the resumption is disabled.
+   * @since 2.6.0
+   */
+  int getSessionResumeGraceWindowSeconds() {
+    return sessionResumeGraceWindowSeconds;
+  }
+
+  /**
+   * Gets the selection scenarios to execute locally before the remote services.
+   *
+   * @return A not null unmodifiable map, by service ID.
+   * @since 2.6.0
+   */
+  Map<String, LocalSelectionScenario> getLocalSelectionScenarios() {
+    return localSelectionScenarios;
+  }
+
+  /**
+   * Gets the minimum adaptive timeout of the requests.
+   *
+   * @return A number of milliseconds.
+   * @since 2.6.0
+   */
+  int getAdaptiveTimeoutFloorMillis() {
+    return adaptiveTimeoutFloorMillis;
+  }
+
+  /**
+   * Gets the maximum adaptive timeout of the requests.
+   *
+   * @return A number of milliseconds, 0 if the timeouts are not adaptive.
+   * @since 2.6.0
+   */
+  int getAdaptiveTimeoutCeilingMillis() {
+    return adaptiveTimeoutCeilingMillis;
+  }
+
+  /**
+   * Gets the number of sessions opened in advance.
+   *
+   * @return A positive number, 0 if the pool is disabled.
+   * @since 2.6.0
+   */
+  int getSessionPoolSize() {
+    return sessionPoolSize;
+  }
+
+  /**
+   * Gets the idle timeout of the pooled sessions.
+   *
+   * @return A number of seconds.
+   * @since 2.6.0
+   */
+  int getSessionPoolIdleTimeoutSeconds() {
+    return sessionPoolIdleTimeoutSeconds;
+  }
+
+  /**
+   * Gets the exporter of the latency statistics.
+   *
+   * @return Null if the statistics are not exported.
+   * @since 2.6.0
+   */
+  LatencyStatisticsExporter getLatencyStatisticsExporter() {
+    return latencyStatisticsExporter;
+  }
+
+  /**
+   * Gets the export period of the latency statistics.
+   *
+   * @return A number of seconds.
+   * @since 2.6.0
+   */
+  int getLatencyStatisticsExportPeriodSeconds() {
+    return latencyStatisticsExportPeriodSeconds;
+  }
+
+  /**
+   * Builder of {@link LocalServiceClientConfig}.
+   *
+   * <p>The values are not checked, the caller being in charge of the validation.
+   *
+   * @since 2.6.0
+   */
+  static final class Builder {
+
+    private Executor remoteServiceExecutor;
+    private boolean isCommandBatchingEnabled;
+    private int readerMetadataTimeToLiveSeconds;
+    private int sessionFlightRecorderCapacity;
+    private CompressionAlgorithm compressionAlgorithm;
+    private int compressionThreshold;
+    private boolean isBinaryEncodingEnabled;
+    private boolean isVirtualThreadsEnabled;
+    private int sessionResumeGraceWindowSeconds;
+    private Map<String, LocalSelectionScenario> localSelectionScenarios =
+        Collections.emptyMap();
+    private int adaptiveTimeoutFloorMillis;
+    private int adaptiveTimeoutCeilingMillis;
+    private int sessionPoolSize;
+    private int sessionPoolIdleTimeoutSeconds;
+    private LatencyStatisticsExporter latencyStatisticsExporter;
+    private int latencyStatisticsExportPeriodSeconds;
+
+    private Builder() {}
+
+    /**
+     * Sets the executor of the asynchronous remote services.
+     *
+     * @param executor The executor (null to use an internal one).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder remoteServiceExecutor(Executor executor) {
+      this.remoteServiceExecutor = executor;
+      return this;
+    }
+
+    /**
+     * Enables or disables the command batching.
+     *
+     * @param isEnabled True if the server is allowed to send batches of commands.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder commandBatchingEnabled(boolean isEnabled) {
+      this.isCommandBatchingEnabled = isEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the time to live of the cached reader metadata.
+     *
+     * @param timeToLiveSeconds The time to live (in seconds, 0 if the metadata never expire).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder readerMetadataTimeToLiveSeconds(int timeToLiveSeconds) {
+      this.readerMetadataTimeToLiveSeconds = timeToLiveSeconds;
+      return this;
+    }
+
+    /**
+     * Sets the number of session events kept by the flight recorder.
+     *
+     * @param capacity The number of events.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder sessionFlightRecorderCapacity(int capacity) {
+      this.sessionFlightRecorderCapacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets the compression of the bodies.
+     *
+     * @param algorithm The compression algorithm (null to disable the compression).
+     * @param threshold The minimum length of the bodies to compress.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder compression(CompressionAlgorithm algorithm, int threshold) {
+      this.compressionAlgorithm = algorithm;
+      this.compressionThreshold = threshold;
+      return this;
+    }
+
+    /**
+     * Enables or disables the binary encoding of the bodies.
+     *
+     * @param isEnabled True if the binary encoding of the bodies is enabled.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder binaryEncodingEnabled(boolean isEnabled) {
+      this.isBinaryEncodingEnabled = isEnabled;
+      return this;
+    }
+
+    /**
+     * Enables or disables the virtual threads.
+     *
+     * @param isEnabled True if the virtual threads are enabled.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder virtualThreadsEnabled(boolean isEnabled) {
+      this.isVirtualThreadsEnabled = isEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the grace window of the session resumption.
+     *
+     * @param graceWindowSeconds The grace window (in seconds, 0 to disable the resumption).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder sessionResumeGraceWindowSeconds(int graceWindowSeconds) {
+      this.sessionResumeGraceWindowSeconds = graceWindowSeconds;
+      return this;
+    }
+
+    /**
+     * Sets the selection scenarios to execute locally, copied when the options are built.
+     *
+     * @param scenarios The scenarios, by service ID.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder localSelectionScenarios(Map<String, LocalSelectionScenario> scenarios) {
+      this.localSelectionScenarios = scenarios;
+      return this;
+    }
+
+    /**
+     * Sets the bounds of the adaptive timeouts.
+     *
+     * @param floorMillis The minimum adaptive timeout (in milliseconds).
+     * @param ceilingMillis The maximum adaptive timeout (in milliseconds, 0 if the timeouts are
+     *     not adaptive).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder adaptiveTimeout(int floorMillis, int ceilingMillis) {
+      this.adaptiveTimeoutFloorMillis = floorMillis;
+      this.adaptiveTimeoutCeilingMillis = ceilingMillis;
+      return this;
+    }
+
+    /**
+     * Sets the session pool.
+     *
+     * @param size The number of sessions opened in advance (0 to disable the pool).
+     * @param idleTimeoutSeconds The idle timeout of the pooled sessions (in seconds).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder sessionPool(int size, int idleTimeoutSeconds) {
+      this.sessionPoolSize = size;
+      this.sessionPoolIdleTimeoutSeconds = idleTimeoutSeconds;
+      return this;
+    }
+
+    /**
+     * Sets the exporter of the latency statistics.
+     *
+     * @param exporter The exporter (null to disable the export).
+     * @param periodSeconds The export period (in seconds).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder latencyStatisticsExporter(LatencyStatisticsExporter exporter, int periodSeconds) {
+      this.latencyStatisticsExporter = exporter;
+      this.latencyStatisticsExportPeriodSeconds = periodSeconds;
+      return this;
+    }
+
+    /**
+     * Creates the options.
+     *
+     * @return A not null reference.
+     * @since 2.6.0
+     */
+    LocalServiceClientConfig build() {
+      return new LocalServiceClientConfig(this);
+    }
+  }
+}
@@ -31,6 +31,7 @@ final class LocalServiceClientFactoryAdapter extends AbstractLocalServiceFactory
   private final SyncEndpointClientSpi syncEndpointClientSpi;
   private final AsyncEndpointClientSpi asyncEndpointClientSpi;
   private final int asyncNodeClientTimeoutSeconds;
+  private final LocalServiceClientConfig config;
 
   /**
    * Constructor.
@@ -39,17 +40,20 @@ final class LocalServiceClientFactoryAdapter extends AbstractLocalServiceFactory
    * @param syncEndpointClientSpi The sync endpoint client to bind.
    * @param asyncEndpointClientSpi The async endpoint client to bind.
    * @param asyncNodeClientTimeoutSeconds The async node client timeout (in seconds).
+   * @param config The options of the local services to build.
    * @since 2.0.0
    */
   LocalServiceClientFactoryAdapter(
       String localServiceName,
       SyncEndpointClientSpi syncEndpointClientSpi,
       AsyncEndpointClientSpi asyncEndpointClientSpi,
-      int asyncNodeClientTimeoutSeconds) {
+      int asyncNodeClientTimeoutSeconds,
+      LocalServiceClientConfig config) {
     super(localServiceName);
     this.syncEndpointClientSpi = syncEndpointClientSpi;
     this.asyncEndpointClientSpi = asyncEndpointClientSpi;
     this.asyncNodeClientTimeoutSeconds = asyncNodeClientTimeoutSeconds;
+    this.config = config;
   }
 
   /**
@@ -61,7 +65,14 @@ final class LocalServiceClientFactoryAdapter extends AbstractLocalServiceFactory
   public LocalServiceSpi getLocalService() {
 
     // Create the local service.
-    LocalServiceClientAdapter localService = new LocalServiceClientAdapter(getLocalServiceName());
+    LocalServiceClientAdapter localService =
+        new LocalServiceClientAdapter(getLocalServiceName(), config);
+
+    // Configure the export of the latency statistics, started once connected to the core.
+    if (config.getLatencyStatisticsExporter() != null) {
+      localService.setLatencyStatisticsExporter(
+          config.getLatencyStatisticsExporter(), config.getLatencyStatisticsExportPeriodSeconds());
+    }
 
     // Bind the node.
     if (syncEndpointClientSpi != null) {
@@ -71,6 +82,10 @@ public LocalServiceSpi getLocalService() {
           getLocalServiceName());
     } else {
       localService.bindAsyncNodeClient(asyncEndpointClientSpi, asyncNodeClientTimeoutSeconds);
+      if (config.getSessionPoolSize() > 0) {
+        localService.createSessionPool(
+            config.getSessionPoolSize(), config.getSessionPoolIdleTimeoutSeconds());
+      }
       logger.info(
           "New 'LocalServiceClient' created [name={}, nodeType=AsyncNodeClient, timeoutSeconds={}]",
           getLocalServiceName(),
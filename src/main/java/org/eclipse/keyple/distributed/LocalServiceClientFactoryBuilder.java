@@ -11,6 +11,10 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
 import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
@@ -22,6 +26,8 @@
  */
 public final class LocalServiceClientFactoryBuilder {
 
+  private static final int DEFAULT_SESSION_FLIGHT_RECORDER_CAPACITY = 1024;
+
   /** Constructor */
   private LocalServiceClientFactoryBuilder() {}
 
@@ -76,6 +82,235 @@ public interface NodeStep {
    */
   public interface BuilderStep {
 
+    /**
+     * Configures the service with the executor to use to process the remote services executed
+     * asynchronously (see {@link LocalServiceClient#executeRemoteServiceAsync(String, String,
+     * Object, Object, Class)}).
+     *
+     * <p>By default, an internal cached pool of daemon threads is created on first use.
+     *
+     * <p>The lifecycle of the executor (shutdown) remains the responsibility of the application.
+     *
+     * @param executor The executor to use.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the executor is null.
+     * @since 2.6.0
+     */
+    BuilderStep withRemoteServiceExecutor(Executor executor);
+
+    /**
+     * Allows the server to send the commands of a remote service by batches.
+     *
+     * <p>The support of the batches is declared to the server when the remote service is started.
+     * A server supporting them may then send several commands in a single message. They are
+     * executed locally in order and their responses are sent back in a single message, which saves
+     * one network round trip per command. As for the commands sent one by one, the execution of a
+     * batch stops at the first failure.
+     *
+     * <p>By default, the commands are exchanged one by one.
+     *
+     * @return Next configuration step.
+     * @since 2.6.0
+     */
+    BuilderStep withCommandBatching();
+
+    /**
+     * Configures the time to live of the cached metadata of the local readers.
+     *
+     * <p>The metadata of each local reader (e.g. contactless or not) are retrieved from the Keyple
+     * core on the first remote service executed on the reader, then cached. By default, they never
+     * expire and must be invalidated explicitly if the configuration of a reader changes (see
+     * {@link LocalServiceClient#invalidateReaderMetadata(String)}).
+     *
+     * @param timeToLiveSeconds The time to live (in seconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the time to live {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withReaderMetadataTimeToLive(int timeToLiveSeconds);
+
+    /**
+     * Configures the number of session events kept by the service (see {@link
+     * LocalServiceClient#getSessionEvents()}).
+     *
+     * <p>By default, the 1024 most recent events are kept. The capacity is rounded up to a power of
+     * 2.
+     *
+     * @param capacity The number of events.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the capacity {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withSessionFlightRecorderCapacity(int capacity);
+
+    /**
+     * Enables the compression of the message bodies exchanged with the server.
+     *
+     * <p>The algorithm is declared to the server when a remote service is started. Once the server
+     * has shown that it supports the compression, by sending a compressed body, the bodies whose
+     * length reaches the provided threshold are compressed. Servers which do not support the
+     * compression ignore the declaration and keep exchanging uncompressed bodies.
+     *
+     * <p>By default, the bodies are not compressed. The compressed bodies received are always
+     * decompressed, unless they expand beyond 8 MB.
+     *
+     * @param algorithm The algorithm to use.
+     * @param threshold The minimum length (in characters) of the bodies to compress.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the algorithm is null or if the threshold {@code <} 0.
+     * @since 2.6.0
+     */
+    BuilderStep withCompression(CompressionAlgorithm algorithm, int threshold);
+
+    /**
+     * Enables the compact binary encoding of the message bodies exchanged with the server.
+     *
+     * <p>The encoding is declared to the server when a remote service is started. Once the server
+     * has shown that it supports it, by sending an encoded body, the bodies are encoded before
+     * being sent (and before being compressed if the compression is enabled). Servers which do not
+     * support the encoding ignore the declaration and keep exchanging JSON bodies.
+     *
+     * <p>By default, the bodies are exchanged in JSON. The encoded bodies received are always
+     * decoded.
+     *
+     * @return Next configuration step.
+     * @since 2.6.0
+     */
+    BuilderStep withBinaryBodyEncoding();
+
+    /**
+     * Configures the internal executor of the asynchronous remote services (see {@link
+     * LocalServiceClient#executeRemoteServiceAsync(String, String, Object, Object, Class)}) to run
+     * each remote service on its own virtual thread.
+     *
+     * <p>Virtual threads are only available on Java 21 and later, their API being looked up at
+     * runtime. An executor provided with {@link #withRemoteServiceExecutor(Executor)} takes
+     * precedence over this setting.
+     *
+     * <p>By default, an internal cached pool of daemon platform threads is used.
+     *
+     * @return Next configuration step.
+     * @throws IllegalStateException If the virtual threads are not supported by the JVM.
+     * @since 2.6.0
+     */
+    BuilderStep withVirtualThreads();
+
+    /**
+     * Configures the service to resume the remote service sessions interrupted by a network
+     * failure, instead of failing the whole remote service.
+     *
+     * <p>The requests of each session are then numbered. If the sending of a request fails, it is
+     * sent again on a new node session, with an increasing delay, until the server answers or the
+     * grace window expires. The transaction then continues from the last step acknowledged by the
+     * server, without executing again the previous commands on the card.
+     *
+     * <p>The requests are sent again only if the server supports the resumption, which it shows
+     * by acknowledging the numbered requests. Otherwise, a network failure ends the remote service
+     * as usual.
+     *
+     * <p>By default, the sessions are not resumed.
+     *
+     * @param graceWindowSeconds The time (in seconds) during which a session may be resumed after a
+     *     network failure.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the grace window {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withSessionResume(int graceWindowSeconds);
+
+    /**
+     * Registers a card selection scenario to execute locally before each remote service having the
+     * provided ID.
+     *
+     * <p>When such a remote service is executed without initial card content, the scenario is
+     * processed on the local reader first, and the selected smart card it returns is transmitted
+     * to the server as initial card content. The server can then start directly from the selected
+     * card, without sending the selection commands one round trip at a time.
+     *
+     * <p>This method may be invoked once per ticketing service. By default, no selection is
+     * executed locally.
+     *
+     * @param serviceId The ticketing service ID.
+     * @param scenario The selection scenario to execute.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the service ID is null or empty, if the scenario is null
+     *     or if a scenario is already registered for this service ID.
+     * @since 2.6.0
+     */
+    BuilderStep withLocalPreSelection(String serviceId, LocalSelectionScenario scenario);
+
+    /**
+     * Configures the service to derive the timeout of each request sent to the server from the
+     * round trip times observed for the same ticketing service and the same action, so that an
+     * unresponsive server is detected much sooner than with the timeout of the async node.
+     *
+     * <p>The timeout of a request is twice the 99th percentile of the recent round trips, bounded
+     * by the provided floor and ceiling. The ceiling is used until enough round trips have been
+     * observed, and the timeout is doubled each time it expires. A request which is not answered
+     * in time fails the remote service with an {@link IllegalStateException}, unless the session
+     * is resumed (see {@link #withSessionResume(int)}).
+     *
+     * <p>The requests are then sent by a thread of the local service, the thread of the remote
+     * service waiting for the response at most for the timeout. Neither thread is interrupted by
+     * the local service: a request which is not answered in time keeps its sending thread until
+     * the response arrives or the timeout of the async node expires.
+     *
+     * <p>The timeout of the async node still applies. By default, only this timeout is used.
+     *
+     * @param floorMillis The minimum timeout (in milliseconds).
+     * @param ceilingMillis The maximum timeout (in milliseconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the floor {@code <} 1, if the ceiling is lower than the
+     *     floor or if the ceiling exceeds the timeout of the async node.
+     * @throws IllegalStateException If the service is configured with a sync node.
+     * @since 2.6.0
+     */
+    BuilderStep withAdaptiveTimeout(int floorMillis, int ceilingMillis);
+
+    /**
+     * Configures the service to keep a pool of sessions opened in advance on the async node, so
+     * that the remote services start on an already open session instead of waiting for its opening.
+     *
+     * <p>Each session is used by a single remote service and closed at its end, as usual. The pool
+     * is replenished in the background by a dedicated daemon thread, and the sessions which have
+     * not been used within the idle timeout are closed and replaced. The idle timeout should
+     * therefore be lower than the time after which the server closes an inactive session. When the
+     * pool is empty, the remote service opens its own session.
+     *
+     * <p>When no remote service has been executed for the idle timeout, the expired sessions are
+     * no longer replaced and the pool drains, so that an idle terminal does not keep reopening
+     * sessions on the server. The pool is refilled by the next remote service.
+     *
+     * <p>The pool is filled once the local service is registered, and its thread and idle sessions
+     * are closed when the local service is closed (see {@link LocalServiceClient#close()}).
+     *
+     * <p>By default, no session is opened in advance.
+     *
+     * @param size The number of sessions to keep open.
+     * @param idleTimeoutSeconds The time (in seconds) after which an unused session is closed.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the size {@code <} 1 or if the idle timeout {@code <} 1.
+     * @throws IllegalStateException If the service is configured with a sync node.
+     * @since 2.6.0
+     */
+    BuilderStep withSessionPool(int size, int idleTimeoutSeconds);
+
+    /**
+     * Configures the service to export periodically its latency statistics (see {@link
+     * LocalServiceClient#getLatencyStatistics()}) using the provided exporter.
+     *
+     * <p>The export is performed on a dedicated daemon thread. The latencies are always measured,
+     * even if no exporter is configured.
+     *
+     * @param exporter The exporter to invoke.
+     * @param periodSeconds The export period (in seconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the exporter is null or if the period {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withLatencyStatisticsExporter(
+        LatencyStatisticsExporter exporter, int periodSeconds);
+
     /**
      * Creates a new instance of {@link LocalServiceClientFactory} using the current configuration.
      *
@@ -92,6 +327,22 @@ private static final class Builder implements NodeStep, BuilderStep {
     private SyncEndpointClientSpi syncEndpoint;
     private AsyncEndpointClientSpi asyncEndpoint;
     private int timeoutSeconds;
+    private Executor remoteServiceExecutor;
+    private boolean isCommandBatchingEnabled;
+    private int readerMetadataTimeToLiveSeconds;
+    private int sessionFlightRecorderCapacity = DEFAULT_SESSION_FLIGHT_RECORDER_CAPACITY;
+    private CompressionAlgorithm compressionAlgorithm;
+    private int compressionThreshold;
+    private boolean isBinaryEncodingEnabled;
+    private boolean isVirtualThreadsEnabled;
+    private int sessionResumeGraceWindowSeconds;
+    private final Map<String, LocalSelectionScenario> localSelectionScenarios = new HashMap<>();
+    private int adaptiveTimeoutFloorMillis;
+    private int adaptiveTimeoutCeilingMillis;
+    private int sessionPoolSize;
+    private int sessionPoolIdleTimeoutSeconds;
+    private LatencyStatisticsExporter latencyStatisticsExporter;
+    private int latencyStatisticsExportPeriodSeconds;
 
     private Builder(String localServiceName) {
       Assert.getInstance().notEmpty(localServiceName, "localServiceName");
@@ -125,6 +376,178 @@ public BuilderStep withAsyncNode(AsyncEndpointClientSpi endpoint, int timeoutSec
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withRemoteServiceExecutor(Executor executor) {
+      Assert.getInstance().notNull(executor, "executor");
+      this.remoteServiceExecutor = executor;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withCommandBatching() {
+      this.isCommandBatchingEnabled = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withReaderMetadataTimeToLive(int timeToLiveSeconds) {
+      Assert.getInstance().greaterOrEqual(timeToLiveSeconds, 1, "timeToLiveSeconds");
+      this.readerMetadataTimeToLiveSeconds = timeToLiveSeconds;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withSessionFlightRecorderCapacity(int capacity) {
+      Assert.getInstance().greaterOrEqual(capacity, 1, "capacity");
+      this.sessionFlightRecorderCapacity = capacity;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withCompression(CompressionAlgorithm algorithm, int threshold) {
+      Assert.getInstance()
+          .notNull(algorithm, "algorithm")
+          .greaterOrEqual(threshold, 0, "threshold");
+      this.compressionAlgorithm = algorithm;
+      this.compressionThreshold = threshold;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withBinaryBodyEncoding() {
+      this.isBinaryEncodingEnabled = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withVirtualThreads() {
+      if (!VirtualThreads.isSupported()) {
+        throw new IllegalStateException("Virtual threads require Java 21 or later");
+      }
+      this.isVirtualThreadsEnabled = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withSessionResume(int graceWindowSeconds) {
+      Assert.getInstance().greaterOrEqual(graceWindowSeconds, 1, "graceWindowSeconds");
+      this.sessionResumeGraceWindowSeconds = graceWindowSeconds;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withLocalPreSelection(String serviceId, LocalSelectionScenario scenario) {
+      Assert.getInstance()
+          .notEmpty(serviceId, "serviceId")
+          .notNull(scenario, "scenario")
+          .isTrue(
+              !localSelectionScenarios.containsKey(serviceId),
+              "no scenario already registered for the service ID");
+      localSelectionScenarios.put(serviceId, scenario);
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withAdaptiveTimeout(int floorMillis, int ceilingMillis) {
+      Assert.getInstance()
+          .greaterOrEqual(floorMillis, 1, "floorMillis")
+          .greaterOrEqual(ceilingMillis, floorMillis, "ceilingMillis");
+      if (asyncEndpoint == null) {
+        throw new IllegalStateException("The adaptive timeouts require an async node");
+      }
+      Assert.getInstance()
+          .isTrue(
+              ceilingMillis <= TimeUnit.SECONDS.toMillis(timeoutSeconds),
+              "ceilingMillis <= timeoutSeconds");
+      this.adaptiveTimeoutFloorMillis = floorMillis;
+      this.adaptiveTimeoutCeilingMillis = ceilingMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withSessionPool(int size, int idleTimeoutSeconds) {
+      Assert.getInstance()
+          .greaterOrEqual(size, 1, "size")
+          .greaterOrEqual(idleTimeoutSeconds, 1, "idleTimeoutSeconds");
+      if (asyncEndpoint == null) {
+        throw new IllegalStateException("The session pool requires an async node");
+      }
+      this.sessionPoolSize = size;
+      this.sessionPoolIdleTimeoutSeconds = idleTimeoutSeconds;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withLatencyStatisticsExporter(
+        LatencyStatisticsExporter exporter, int periodSeconds) {
+      Assert.getInstance()
+          .notNull(exporter, "exporter")
+          .greaterOrEqual(periodSeconds, 1, "periodSeconds");
+      this.latencyStatisticsExporter = exporter;
+      this.latencyStatisticsExportPeriodSeconds = periodSeconds;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -133,7 +556,25 @@ public BuilderStep withAsyncNode(AsyncEndpointClientSpi endpoint, int timeoutSec
     @Override
     public LocalServiceClientFactory build() {
       return new LocalServiceClientFactoryAdapter(
-          localServiceName, syncEndpoint, asyncEndpoint, timeoutSeconds);
+          localServiceName,
+          syncEndpoint,
+          asyncEndpoint,
+          timeoutSeconds,
+          LocalServiceClientConfig.builder()
+              .remoteServiceExecutor(remoteServiceExecutor)
+              .commandBatchingEnabled(isCommandBatchingEnabled)
+              .readerMetadataTimeToLiveSeconds(readerMetadataTimeToLiveSeconds)
+              .sessionFlightRecorderCapacity(sessionFlightRecorderCapacity)
+              .compression(compressionAlgorithm, compressionThreshold)
+              .binaryEncodingEnabled(isBinaryEncodingEnabled)
+              .virtualThreadsEnabled(isVirtualThreadsEnabled)
+              .sessionResumeGraceWindowSeconds(sessionResumeGraceWindowSeconds)
+              .localSelectionScenarios(localSelectionScenarios)
+              .adaptiveTimeout(adaptiveTimeoutFloorMillis, adaptiveTimeoutCeilingMillis)
+              .sessionPool(sessionPoolSize, sessionPoolIdleTimeoutSeconds)
+              .latencyStatisticsExporter(
+                  latencyStatisticsExporter, latencyStatisticsExportPeriodSeconds)
+              .build());
     }
   }
 }
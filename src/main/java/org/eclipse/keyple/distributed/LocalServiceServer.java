@@ -11,6 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.List;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtension;
 
 /**
@@ -27,7 +28,8 @@
  *       Keyple service.
  *   <li>To <b>access</b> the service, use the available accessors in the Keyple service, but it is
  *       not necessary because this service is only used internally by Keyple.
- *   <li>To <b>stop</b> the service, unregister it from the Keyple service.
+ *   <li>To <b>stop</b> the service, unregister it from the Keyple service, then invoke {@link
+ *       #close()}.
  * </ul>
  *
  * @since 2.0.0
@@ -55,4 +57,101 @@ public interface LocalServiceServer extends KeypleDistributedLocalServiceExtensi
    * @since 2.0.0
    */
   AsyncNodeServer getAsyncNode();
+
+  /**
+   * Gets a snapshot of the outbound event queues of the remote clients currently subscribed to the
+   * plugin or reader events.
+   *
+   * <p>Event queues exist only if the service is configured with an event dispatch executor (see
+   * {@link LocalServiceServerFactoryBuilder.BuilderStep#withEventDispatchExecutor(
+   * java.util.concurrent.Executor)}) and are created when the first event is sent to a client.
+   *
+   * @return A not null list, empty if no event queue exists.
+   * @since 2.6.0
+   */
+  List<EventQueueStatistics> getEventQueueStatistics();
+
+  /**
+   * Gets the number of subscriptions currently referenced for the delivery of the plugin and reader
+   * events.
+   *
+   * <p>A subscription is referenced for each remote client having sent a plugin command, and for
+   * each pair of remote client and local reader targeted by a reader command.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getSubscriptionCount();
+
+  /**
+   * Gets the number of subscriptions that have been de-referenced because their remote client
+   * remained inactive longer than the configured time-to-live (see {@link
+   * LocalServiceServerFactoryBuilder.BuilderStep#withSubscriptionTimeToLive(int)}).
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getEvictedSubscriptionCount();
+
+  /**
+   * Gets a snapshot of the latencies measured by the service since its creation.
+   *
+   * <p>The list contains the latencies of the processing of the commands received from the remote
+   * clients ({@link LatencyMetricType#SERVER_COMMAND}) and of their local execution on the card
+   * readers ({@link LatencyMetricType#LOCAL_EXECUTION}).
+   *
+   * @return A not null list.
+   * @since 2.6.0
+   */
+  List<LatencyStatistics> getLatencyStatistics();
+
+  /**
+   * Gets a snapshot of the stripes of the command worker pool.
+   *
+   * <p>The pool exists only if the service is configured with an asynchronous node and a striped
+   * command execution (see {@link
+   * LocalServiceServerFactoryBuilder.BuilderStep#withStripedCommandExecution(int)}).
+   *
+   * @return A not null list, sorted by stripe index, empty if there is no pool.
+   * @since 2.6.0
+   */
+  List<CommandStripeStatistics> getCommandStripeStatistics();
+
+  /**
+   * Gets a snapshot of the admission state of the remote clients.
+   *
+   * <p>The admission control is enabled only if the service is configured with a rate limit (see
+   * {@link LocalServiceServerFactoryBuilder.BuilderStep#withClientRateLimit(int, int)}) or with a
+   * maximum number of in-flight commands (see {@link
+   * LocalServiceServerFactoryBuilder.BuilderStep#withClientMaxInFlightCommands(int)}). The state
+   * of the clients without recent activity may be discarded.
+   *
+   * @return A not null list, empty if the admission control is disabled.
+   * @since 2.6.0
+   */
+  List<ClientAdmissionStatistics> getClientAdmissionStatistics();
+
+  /**
+   * Gets a snapshot of the wait queues of the reader allocation requests of the pool plugins.
+   *
+   * <p>The queues exist only if the service is configured with {@link
+   * LocalServiceServerFactoryBuilder.BuilderStep#withReaderAllocationQueue(ReaderAllocationPolicy,
+   * int)}. A queue is created for each group of readers targeted by an allocation request.
+   *
+   * @return A not null list, sorted by reader group reference, empty if there is no queue.
+   * @since 2.6.0
+   */
+  List<ReaderAllocationStatistics> getReaderAllocationStatistics();
+
+  /**
+   * Stops the background tasks of the service and releases their resources (threads, timers,
+   * waiting reader allocation requests).
+   *
+   * <p>The Keyple service does not notify the local service of its unregistration: this method
+   * should therefore be invoked once the service has been unregistered from the Keyple service. If
+   * the service is registered again, its background tasks are restarted.
+   *
+   * @since 2.6.0
+   */
+  void close();
 }
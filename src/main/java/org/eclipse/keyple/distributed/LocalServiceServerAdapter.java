@@ -11,11 +11,21 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
 import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
@@ -32,24 +42,77 @@ final class LocalServiceServerAdapter extends AbstractLocalServiceAdapter
 
   private static final Logger logger = LoggerFactory.getLogger(LocalServiceServerAdapter.class);
 
+  private static final long SUBSCRIPTION_TIMER_TICK_MILLIS = 1000;
+  private static final int SUBSCRIPTION_TIMER_TICKS_PER_WHEEL = 512;
+
+  private final Executor eventDispatchExecutor;
+  private final int eventQueueCapacity;
+  private final EventQueueOverflowPolicy eventQueueOverflowPolicy;
+  private final long subscriptionTimeToLiveNanos;
+  private final HashedTimingWheel subscriptionTimer;
+  private final AtomicLong evictedSubscriptionCount;
+  private final StripedCommandExecutor commandExecutor;
+  private final int compressionThreshold;
+  private final boolean isBinaryEncodingEnabled;
+  private final ClientAdmissionController admissionController;
+  private final ReaderAllocationScheduler readerAllocationScheduler;
   private final String[] poolPluginNames;
-  private final Set<ClientInfo> pluginClients;
-  private final Map<String, Set<ClientInfo>> readerClients;
-  private final Object readerClientsMonitor;
+  private final SnapshotSet<ClientInfo> pluginClients;
+  private final ConcurrentMap<String, SnapshotSet<ClientInfo>> readerClients;
+  private final ConcurrentMap<String, ClientEventMailbox> clientMailboxes;
 
   /**
    * Constructor.
    *
    * @param localServiceName The name of the local service to build.
-   * @param poolPluginNames One or more pool plugin names to bind (for pool only).
+   * @param config The options of the service (see {@link LocalServiceServerConfig}).
    * @since 2.0.0
    */
-  LocalServiceServerAdapter(String localServiceName, String... poolPluginNames) {
-    super(localServiceName);
-    this.poolPluginNames = poolPluginNames;
-    this.pluginClients = Collections.newSetFromMap(new ConcurrentHashMap<>(1));
+  LocalServiceServerAdapter(String localServiceName, LocalServiceServerConfig config) {
+    super(localServiceName, LatencyMetricType.SERVER_COMMAND, LatencyMetricType.LOCAL_EXECUTION);
+    int subscriptionTimeToLiveSeconds = config.getSubscriptionTimeToLiveSeconds();
+    this.eventDispatchExecutor =
+        config.getEventDispatchExecutor() == null && config.isVirtualThreadsEnabled()
+            ? VirtualThreads.newThreadPerTaskExecutor("keyple-" + localServiceName + "-event")
+            : config.getEventDispatchExecutor();
+    this.eventQueueCapacity = config.getEventQueueCapacity();
+    this.eventQueueOverflowPolicy = config.getEventQueueOverflowPolicy();
+    this.subscriptionTimeToLiveNanos = TimeUnit.SECONDS.toNanos(subscriptionTimeToLiveSeconds);
+    this.subscriptionTimer =
+        subscriptionTimeToLiveSeconds > 0
+            ? new HashedTimingWheel(
+                SUBSCRIPTION_TIMER_TICK_MILLIS,
+                SUBSCRIPTION_TIMER_TICKS_PER_WHEEL,
+                "keyple-" + localServiceName + "-subscription-timer")
+            : null;
+    this.evictedSubscriptionCount = new AtomicLong();
+    this.commandExecutor =
+        config.getCommandStripeCount() > 0
+            ? new StripedCommandExecutor(
+                config.getCommandStripeCount(),
+                "keyple-" + localServiceName + "-command",
+                config.isVirtualThreadsEnabled())
+            : null;
+    this.compressionThreshold = config.getCompressionThreshold();
+    this.isBinaryEncodingEnabled = config.isBinaryEncodingEnabled();
+    this.admissionController =
+        config.getClientRateLimit() > 0 || config.getClientMaxInFlightCommands() > 0
+            ? new ClientAdmissionController(
+                config.getClientRateLimit(),
+                config.getClientBurstSize(),
+                config.getClientMaxInFlightCommands())
+            : null;
+    this.readerAllocationScheduler =
+        config.getReaderAllocationPolicy() != null
+            ? new ReaderAllocationScheduler(
+                config.getReaderAllocationPolicy(),
+                config.getReaderAllocationMaxWaitMillis(),
+                "keyple-" + localServiceName + "-reader-allocation")
+            : null;
+    this.poolPluginNames = config.getPoolPluginNames();
+    this.pluginClients = new SnapshotSet<>(ClientInfo.NONE);
     this.readerClients = new ConcurrentHashMap<>(1);
-    this.readerClientsMonitor = new Object();
+    this.clientMailboxes = new ConcurrentHashMap<>();
   }
 
   /**
@@ -82,6 +145,93 @@ public AsyncNodeServer getAsyncNode() {
             + "' is not configured with an asynchronous network protocol");
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<EventQueueStatistics> getEventQueueStatistics() {
+    List<EventQueueStatistics> statistics = new ArrayList<>(clientMailboxes.size());
+    for (Map.Entry<String, ClientEventMailbox> entry : clientMailboxes.entrySet()) {
+      statistics.add(entry.getValue().getStatistics(entry.getKey()));
+    }
+    return statistics;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getSubscriptionCount() {
+    int count = pluginClients.size();
+    for (SnapshotSet<ClientInfo> clientInfos : readerClients.values()) {
+      count += clientInfos.size();
+    }
+    return count;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getEvictedSubscriptionCount() {
+    return evictedSubscriptionCount.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<LatencyStatistics> getLatencyStatistics() {
+    return getLatencyRecorder().getStatistics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<CommandStripeStatistics> getCommandStripeStatistics() {
+    if (commandExecutor == null) {
+      return Collections.emptyList();
+    }
+    return commandExecutor.getStatistics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<ClientAdmissionStatistics> getClientAdmissionStatistics() {
+    if (admissionController == null) {
+      return Collections.emptyList();
+    }
+    return admissionController.getStatistics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public List<ReaderAllocationStatistics> getReaderAllocationStatistics() {
+    if (readerAllocationScheduler == null) {
+      return Collections.emptyList();
+    }
+    return readerAllocationScheduler.getStatistics();
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -93,6 +243,51 @@ public void connect(LocalServiceApi localServiceApi) {
     getLocalServiceApi().setPoolPluginNames(poolPluginNames);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void close() {
+    stopBackgroundTasks();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Also starts the reader allocation scheduler if enabled.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void startBackgroundTasks() {
+    super.startBackgroundTasks();
+    if (readerAllocationScheduler != null) {
+      readerAllocationScheduler.start();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Also stops the reader allocation scheduler if enabled, the waiting requests being answered
+   * with an error, and the subscription timer, the subscriptions being checked again once their
+   * client is active.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  void stopBackgroundTasks() {
+    super.stopBackgroundTasks();
+    if (readerAllocationScheduler != null) {
+      readerAllocationScheduler.stop();
+    }
+    if (subscriptionTimer != null) {
+      subscriptionTimer.stop();
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -100,20 +295,7 @@ public void connect(LocalServiceApi localServiceApi) {
    */
   @Override
   public void onPluginEvent(String readerName, String jsonData) {
-    Set<ClientInfo> pluginClientsCopy = new HashSet<>(pluginClients);
-    for (ClientInfo clientInfo : pluginClientsCopy) {
-      try {
-        sendMessage(MessageDto.Action.PLUGIN_EVENT, readerName, jsonData, clientInfo);
-      } catch (Exception e) {
-        pluginClients.remove(clientInfo);
-        logger.warn(
-            "Client of plugin event de-referenced due to an unexpected error [readerName={}, clientNodeId={}, sessionId={}, error={}]",
-            readerName,
-            clientInfo.clientNodeId,
-            clientInfo.sessionId,
-            e.getMessage());
-      }
-    }
+    dispatchEvent(MessageDto.Action.PLUGIN_EVENT, readerName, jsonData, pluginClients.snapshot());
   }
 
   /**
@@ -123,46 +305,206 @@ public void onPluginEvent(String readerName, String jsonData) {
    */
   @Override
   public void onReaderEvent(String readerName, String jsonData) {
-    Set<ClientInfo> readerClientsRef = readerClients.get(readerName);
+    SnapshotSet<ClientInfo> readerClientsRef = readerClients.get(readerName);
     if (readerClientsRef == null) {
       return;
     }
-    Set<ClientInfo> readerClientsCopy = new HashSet<>(readerClientsRef);
-    for (ClientInfo clientInfo : readerClientsCopy) {
-      try {
-        sendMessage(MessageDto.Action.READER_EVENT, readerName, jsonData, clientInfo);
-      } catch (Exception e) {
-        readerClientsRef.remove(clientInfo);
-        logger.warn(
-            "Client of reader event de-referenced due to an unexpected error [readerName={}, clientNodeId={}, sessionId={}, error={}]",
-            readerName,
-            clientInfo.clientNodeId,
-            clientInfo.sessionId,
-            e.getMessage());
-      }
-    }
+    dispatchEvent(
+        MessageDto.Action.READER_EVENT, readerName, jsonData, readerClientsRef.snapshot());
   }
 
   /**
-   * Sends a message using the provided reader name for local and remote reader.
+   * Dispatches an event to the provided clients.
+   *
+   * <p>If an event dispatch executor is configured, the event is posted to the mailbox of each
+   * client and the method returns immediately. A single mailbox is used for all the subscriptions
+   * of a client, so that the client receives its plugin and reader events in the order in which
+   * they occurred. Otherwise, the event is sent to each client
+   * sequentially on the caller thread.
    *
    * @param action The action.
    * @param readerName The reader name (local and remote).
    * @param jsonData The body content.
+   * @param clientInfos The snapshot of the clients to notify.
+   */
+  private void dispatchEvent(
+      MessageDto.Action action, String readerName, String jsonData, ClientInfo[] clientInfos) {
+    if (clientInfos.length == 0) {
+      return;
+    }
+    ClientEventMailbox.Event event = new ClientEventMailbox.Event(action, readerName, jsonData);
+    if (eventDispatchExecutor == null) {
+      for (ClientInfo clientInfo : clientInfos) {
+        try {
+          sendMessage(event, clientInfo);
+        } catch (Exception e) {
+          unregisterClient(action, readerName, clientInfo, e);
+        }
+      }
+    } else {
+      for (ClientInfo clientInfo : clientInfos) {
+        // A mailbox closed because its client has been de-referenced is replaced, in case the
+        // client has subscribed again in the meantime.
+        ClientEventMailbox mailbox = getMailbox(clientInfo.clientNodeId);
+        while (!mailbox.post(event)) {
+          clientMailboxes.remove(clientInfo.clientNodeId, mailbox);
+          mailbox = getMailbox(clientInfo.clientNodeId);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the event mailbox of the provided client, creating it if needed.
+   *
+   * @param clientNodeId The client node ID.
+   * @return A not null reference.
+   */
+  private ClientEventMailbox getMailbox(String clientNodeId) {
+    ClientEventMailbox mailbox = clientMailboxes.get(clientNodeId);
+    if (mailbox == null) {
+      // The mailbox created by a thread losing the race is simply discarded, as it is not used yet.
+      ClientEventMailbox newMailbox =
+          new ClientEventMailbox(
+              eventDispatchExecutor,
+              eventQueueCapacity,
+              eventQueueOverflowPolicy,
+              new ClientEventHandler(clientNodeId));
+      mailbox = clientMailboxes.putIfAbsent(clientNodeId, newMailbox);
+      if (mailbox == null) {
+        mailbox = newMailbox;
+      }
+    }
+    return mailbox;
+  }
+
+  /**
+   * Gets the subscription of a client to the plugin events or to the events of a reader.
+   *
+   * @param clientInfo The client information, or any instance having the same client node ID.
+   * @param action The action of the event.
+   * @param readerName The reader name.
+   * @return Null if the client is not subscribed.
+   */
+  private ClientInfo getSubscription(
+      ClientInfo clientInfo, MessageDto.Action action, String readerName) {
+    if (action == MessageDto.Action.PLUGIN_EVENT) {
+      return pluginClients.get(clientInfo);
+    }
+    SnapshotSet<ClientInfo> readerClientsRef = readerClients.get(readerName);
+    return readerClientsRef != null ? readerClientsRef.get(clientInfo) : null;
+  }
+
+  /**
+   * Closes and removes the event mailbox of the provided client if it no longer has any
+   * subscription.
+   *
+   * @param clientInfo The client information, or any instance having the same client node ID.
+   */
+  private void releaseMailboxIfUnsubscribed(ClientInfo clientInfo) {
+    ClientEventMailbox mailbox = clientMailboxes.get(clientInfo.clientNodeId);
+    if (mailbox == null || pluginClients.get(clientInfo) != null) {
+      return;
+    }
+    for (SnapshotSet<ClientInfo> readerClientsRef : readerClients.values()) {
+      if (readerClientsRef.get(clientInfo) != null) {
+        return;
+      }
+    }
+    // A client subscribing again concurrently gets a new mailbox, see "dispatchEvent".
+    mailbox.close();
+    clientMailboxes.remove(clientInfo.clientNodeId, mailbox);
+  }
+
+  /**
+   * De-references all the subscriptions of a client after its event mailbox has been closed,
+   * because an event could not be delivered to it or because its mailbox overflowed.
+   *
+   * @param clientInfo The client information, or any instance having the same client node ID.
+   * @param event The event that could not be delivered.
+   * @param e The cause.
+   */
+  private void unregisterClient(
+      ClientInfo clientInfo, ClientEventMailbox.Event event, Exception e) {
+    removeSubscription(pluginClients, clientInfo);
+    for (SnapshotSet<ClientInfo> readerClientsRef : readerClients.values()) {
+      removeSubscription(readerClientsRef, clientInfo);
+    }
+    releaseMailboxIfUnsubscribed(clientInfo);
+    logger.warn(
+        "Client of plugin and reader events de-referenced due to an unexpected error [action={}, readerName={}, clientNodeId={}, error={}]",
+        event.getAction(),
+        event.getReaderName(),
+        clientInfo.clientNodeId,
+        e.getMessage());
+  }
+
+  /**
+   * Removes the subscription of a client from the provided subscribers, if present.
+   *
+   * @param clientInfos The subscribers.
+   * @param clientInfo The client information, or any instance having the same client node ID.
+   */
+  private static void removeSubscription(
+      SnapshotSet<ClientInfo> clientInfos, ClientInfo clientInfo) {
+    ClientInfo subscription = clientInfos.get(clientInfo);
+    if (subscription != null && clientInfos.remove(subscription)) {
+      subscription.release();
+    }
+  }
+
+  /**
+   * De-references a client after an unexpected error occurred while sending an event to it.
+   *
+   * @param action The action of the event.
+   * @param readerName The reader name.
+   * @param clientInfo The client information.
+   * @param e The cause.
+   */
+  private void unregisterClient(
+      MessageDto.Action action, String readerName, ClientInfo clientInfo, Exception e) {
+    clientInfo.release();
+    if (action == MessageDto.Action.PLUGIN_EVENT) {
+      pluginClients.remove(clientInfo);
+      logger.warn(
+          "Client of plugin event de-referenced due to an unexpected error [readerName={}, clientNodeId={}, sessionId={}, error={}]",
+          readerName,
+          clientInfo.clientNodeId,
+          clientInfo.sessionId,
+          e.getMessage());
+    } else {
+      SnapshotSet<ClientInfo> readerClientsRef = readerClients.get(readerName);
+      if (readerClientsRef != null) {
+        readerClientsRef.remove(clientInfo);
+      }
+      logger.warn(
+          "Client of reader event de-referenced due to an unexpected error [readerName={}, clientNodeId={}, sessionId={}, error={}]",
+          readerName,
+          clientInfo.clientNodeId,
+          clientInfo.sessionId,
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Sends an event to a client using the event reader name for local and remote reader.
+   *
+   * <p>The body is encoded and compressed if the binary encoding and the compression are enabled
+   * and supported by the client.
+   *
+   * @param event The event.
    * @param clientInfo The client information.
    */
-  private void sendMessage(
-      MessageDto.Action action, String readerName, String jsonData, ClientInfo clientInfo) {
+  private void sendMessage(ClientEventMailbox.Event event, ClientInfo clientInfo) {
     getNode()
         .sendMessage(
-            new MessageDto()
-                .setApiLevel(clientInfo.clientDistributedApiLevel)
-                .setAction(action.name())
-                .setLocalReaderName(readerName)
-                .setRemoteReaderName(readerName)
-                .setClientNodeId(clientInfo.clientNodeId)
-                .setSessionId(clientInfo.sessionId)
-                .setBody(jsonData));
+            event.buildMessage(
+                clientInfo.clientDistributedApiLevel,
+                isBinaryEncodingEnabled && clientInfo.isBinaryEncodingSupported,
+                compressionThreshold >= 0 ? clientInfo.compressionAlgorithm : null,
+                compressionThreshold,
+                clientInfo.clientNodeId,
+                clientInfo.sessionId));
   }
 
   /**
@@ -171,12 +513,157 @@ private void sendMessage(
    * @since 2.0.0
    */
   @Override
-  void onMessage(MessageDto message) {
+  void onMessage(final MessageDto message) {
+
+    final long startNanos = System.nanoTime();
+
+    // Reject the command immediately if the client exceeds its limits.
+    final ClientAdmissionController.ClientQuota quota;
+    if (admissionController != null) {
+      try {
+        quota = admissionController.acquire(message.getClientNodeId());
+      } catch (CommandRejectedException e) {
+        rejectCommand(message, e);
+        return;
+      }
+    } else {
+      quota = null;
+    }
+
+    // With a synchronous node, the response is expected on the calling thread.
+    if (commandExecutor == null || isBoundToSyncNode()) {
+      processCommand(message, quota, startNanos);
+      return;
+    }
+
+    // Commands of a given reader are processed sequentially by the same stripe.
+    commandExecutor.execute(
+        message.getLocalReaderName(),
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              processCommand(message, quota, startNanos);
+            } catch (RuntimeException e) {
+              logger.error(
+                  "Failed to process command [localReaderName={}, clientNodeId={}, sessionId={}, error={}]",
+                  message.getLocalReaderName(),
+                  message.getClientNodeId(),
+                  message.getSessionId(),
+                  e.getMessage());
+            }
+          }
+        });
+  }
+
+  /**
+   * Sends back to the client an error response for a command not admitted, without executing it.
+   *
+   * <p>The rejection is reported as an {@link IllegalStateException}, which the remote clients are
+   * able to resolve, and flagged by the {@value CommandRejectedException#COMMAND_REJECTED} property
+   * of the error body.
+   *
+   * @param message The incoming message.
+   * @param e The cause of the rejection.
+   */
+  private void rejectCommand(MessageDto message, CommandRejectedException e) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "Command rejected [localReaderName={}, clientNodeId={}, sessionId={}, reason={}]",
+          message.getLocalReaderName(),
+          message.getClientNodeId(),
+          message.getSessionId(),
+          e.getMessage());
+    }
+    JsonObject body =
+        JsonUtil.getParser()
+            .toJsonTree(
+                new BodyError(
+                    new IllegalStateException(
+                        "Command rejected by the local service '"
+                            + getName()
+                            + "', it can be sent again later: "
+                            + e.getMessage())))
+            .getAsJsonObject();
+    body.addProperty(CommandRejectedException.COMMAND_REJECTED, e.getReason().name());
+    getNode()
+        .sendMessage(
+            new MessageDto(message)
+                .setAction(MessageDto.Action.ERROR.name())
+                .setBody(body.toString()));
+  }
 
-    // Register the client for events management.
-    registerClient(message);
+  /**
+   * Executes a command locally and sends back the response to the client, then releases the
+   * admission quota of the command.
+   *
+   * @param message The incoming message.
+   * @param quota The admission quota of the command (null if the admission control is disabled).
+   * @param startNanos The reception time of the message.
+   */
+  private void processCommand(
+      MessageDto message, ClientAdmissionController.ClientQuota quota, long startNanos) {
+    boolean isResponsePending = false;
+    try {
+      isResponsePending = executeCommand(message, quota, startNanos);
+    } finally {
+      if (quota != null && !isResponsePending) {
+        quota.release();
+      }
+    }
+  }
+
+  /**
+   * Executes a command locally and sends back the response to the client, possibly
+   * asynchronously.
+   *
+   * @param message The incoming message.
+   * @param quota The admission quota of the command (null if the admission control is disabled).
+   * @param startNanos The reception time of the message.
+   * @return True if the response will be sent asynchronously, the quota being then released once
+   *     it is sent.
+   */
+  private boolean executeCommand(
+      MessageDto message, ClientAdmissionController.ClientQuota quota, long startNanos) {
+
+    CompressionAlgorithm clientAlgorithm;
+    boolean isClientBinary;
+    try {
+      // Decompress the body if needed, the client then supports the compression.
+      clientAlgorithm = BodyCompression.getAlgorithm(message.getBody());
+      if (clientAlgorithm != null) {
+        if (compressionThreshold < 0) {
+          throw new IllegalArgumentException(
+              "Compressed message bodies are not accepted by the local service");
+        }
+        message.setBody(BodyCompression.decompress(message.getBody(), clientAlgorithm));
+      }
+
+      // Decode the body if needed, the client then supports the binary encoding.
+      isClientBinary = BinaryBodyCodec.isEncoded(message.getBody());
+      if (isClientBinary) {
+        message.setBody(BinaryBodyCodec.decode(message.getBody()));
+      }
+    } catch (RuntimeException e) {
+      // The command cannot be read, the error is sent back to the client without registering it.
+      sendResponse(buildErrorResponse(message, e), null, false, startNanos);
+      return false;
+    }
+
+    // Register the client for events management. The responses are compressed with the
+    // algorithm and encoded with the encoding the client has shown to support, even if the command
+    // itself was not compressed or encoded.
+    ClientInfo clientInfo = registerClient(message, clientAlgorithm, isClientBinary);
+    clientAlgorithm = clientInfo.compressionAlgorithm;
+    isClientBinary = clientInfo.isBinaryEncodingSupported;
+
+    // The plugin commands go through the reader allocation scheduler if enabled.
+    if (readerAllocationScheduler != null && message.getLocalReaderName() == null) {
+      return schedulePluginCommand(message, clientAlgorithm, isClientBinary, quota, startNanos);
+    }
 
     MessageDto result;
+    long executionStartNanos = System.nanoTime();
     try {
       // Execute the command locally.
       String jsonResult =
@@ -187,56 +674,399 @@ void onMessage(MessageDto message) {
 
     } catch (Exception e) {
       // Build the error response to send back to the client.
-      result =
-          new MessageDto(message)
-              .setAction(MessageDto.Action.ERROR.name())
-              .setBody(JsonUtil.toJson(new BodyError(e)));
+      result = buildErrorResponse(message, e);
+    }
+    getLatencyRecorder().record(LatencyMetricType.LOCAL_EXECUTION, executionStartNanos);
+
+    sendResponse(result, clientAlgorithm, isClientBinary, startNanos);
+    return false;
+  }
+
+  /**
+   * Submits a plugin command to the reader allocation scheduler and sends back the response to the
+   * client once the command is executed.
+   *
+   * @param message The incoming message.
+   * @param clientAlgorithm The compression algorithm used by the client (null if none).
+   * @param isClientBinary True if the client used the binary encoding.
+   * @param quota The admission quota of the command (null if the admission control is disabled).
+   * @param startNanos The reception time of the message.
+   * @return True if the response will be sent asynchronously, the quota being then released once
+   *     it is sent.
+   */
+  private boolean schedulePluginCommand(
+      final MessageDto message,
+      final CompressionAlgorithm clientAlgorithm,
+      final boolean isClientBinary,
+      final ClientAdmissionController.ClientQuota quota,
+      final long startNanos) {
+
+    long executionStartNanos = System.nanoTime();
+    CompletableFuture<String> jsonResult =
+        readerAllocationScheduler.execute(
+            getLocalServiceApi(), message.getClientNodeId(), message.getBody());
+
+    // The time spent waiting for a reader is measured by the scheduler.
+    if (jsonResult.isDone()) {
+      getLatencyRecorder().record(LatencyMetricType.LOCAL_EXECUTION, executionStartNanos);
+    }
+
+    // With a synchronous node, the response is expected on the calling thread, which waits at most
+    // until the request is answered by the scheduler.
+    if (jsonResult.isDone() || isBoundToSyncNode()) {
+      sendResponse(
+          buildPluginResponse(
+              message, jsonResult, readerAllocationScheduler.getMaxResultWaitMillis()),
+          clientAlgorithm,
+          isClientBinary,
+          startNanos);
+      return false;
+    }
+
+    jsonResult.whenComplete(
+        new BiConsumer<String, Throwable>() {
+          @Override
+          public void accept(String result, Throwable error) {
+            try {
+              sendResponse(
+                  buildPluginResponse(message, jsonResult, 0),
+                  clientAlgorithm,
+                  isClientBinary,
+                  startNanos);
+            } catch (RuntimeException e) {
+              logger.error(
+                  "Failed to send reader allocation response [clientNodeId={}, sessionId={}, error={}]",
+                  message.getClientNodeId(),
+                  message.getSessionId(),
+                  e.getMessage());
+            } finally {
+              if (quota != null) {
+                quota.release();
+              }
+            }
+          }
+        });
+    return true;
+  }
+
+  /**
+   * Builds the response to a plugin command, waiting for its execution if needed.
+   *
+   * @param message The incoming message.
+   * @param jsonResult The result of the plugin command.
+   * @param timeoutMillis The maximum time to wait for the result (in milliseconds).
+   * @return A not null reference.
+   */
+  private static MessageDto buildPluginResponse(
+      MessageDto message, CompletableFuture<String> jsonResult, long timeoutMillis) {
+    Exception error;
+    try {
+      return new MessageDto(message)
+          .setAction(MessageDto.Action.RESP.name())
+          .setBody(getPluginResult(jsonResult, timeoutMillis));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      error = e;
+    } catch (ExecutionException e) {
+      error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    } catch (TimeoutException e) {
+      error =
+          new IllegalStateException(
+              "No result of the plugin command after " + timeoutMillis + " ms");
+    }
+    return buildErrorResponse(message, error);
+  }
+
+  /**
+   * Waits for the result of a plugin command and cancels it if it is not available in time.
+   *
+   * <p>A reader allocation request being submitted to the Keyple core cannot be cancelled: its
+   * result is then awaited, so that the reader it may obtain is not lost.
+   *
+   * @param jsonResult The result of the plugin command.
+   * @param timeoutMillis The maximum time to wait for the result (in milliseconds).
+   * @return The JSON result.
+   * @throws InterruptedException If the thread is interrupted and the command is cancelled.
+   * @throws ExecutionException If the command failed.
+   * @throws TimeoutException If the command is cancelled after the timeout.
+   */
+  private static String getPluginResult(CompletableFuture<String> jsonResult, long timeoutMillis)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    try {
+      return jsonResult.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      if (jsonResult.cancel(false)) {
+        throw e;
+      }
+      // The interruption is kept while waiting for the end of the allocation.
+      Thread.currentThread().interrupt();
+    } catch (TimeoutException e) {
+      if (jsonResult.cancel(false)) {
+        throw e;
+      }
+    }
+    try {
+      return jsonResult.join();
+    } catch (CompletionException e) {
+      throw new ExecutionException(e.getCause());
+    }
+  }
+
+  /**
+   * Builds the error response to a command.
+   *
+   * @param message The incoming message.
+   * @param e The error.
+   * @return A not null reference.
+   */
+  private static MessageDto buildErrorResponse(MessageDto message, Exception e) {
+    return new MessageDto(message)
+        .setAction(MessageDto.Action.ERROR.name())
+        .setBody(JsonUtil.toJson(new BodyError(e)));
+  }
+
+  /**
+   * Encodes and compresses the response as expected by the client, then sends it.
+   *
+   * @param result The response.
+   * @param clientAlgorithm The compression algorithm supported by the client (null if none).
+   * @param isClientBinary True if the client used the binary encoding.
+   * @param startNanos The reception time of the command.
+   */
+  private void sendResponse(
+      MessageDto result,
+      CompressionAlgorithm clientAlgorithm,
+      boolean isClientBinary,
+      long startNanos) {
+
+    // Encode the response if enabled and if the client used the binary encoding.
+    if (isBinaryEncodingEnabled && isClientBinary && result.getBody() != null) {
+      result.setBody(BinaryBodyCodec.encode(result.getBody()));
+    }
+
+    // Compress the response if enabled and if it is large enough, using the algorithm supported by
+    // the client.
+    if (compressionThreshold >= 0 && clientAlgorithm != null) {
+      result.setBody(
+          BodyCompression.compress(result.getBody(), clientAlgorithm, compressionThreshold));
     }
 
     // Send the response.
-    getNode().sendMessage(result);
+    try {
+      getNode().sendMessage(result);
+    } finally {
+      getLatencyRecorder().record(LatencyMetricType.SERVER_COMMAND, startNanos);
+    }
   }
 
   /**
    * Registers a client.
    *
    * @param message The incoming message.
+   * @param compressionAlgorithm The compression algorithm used by the client (null if none).
+   * @param isBinaryEncodingSupported True if the client used the binary encoding.
+   * @return The registered client information.
    */
-  private void registerClient(MessageDto message) {
+  private ClientInfo registerClient(
+      MessageDto message,
+      CompressionAlgorithm compressionAlgorithm,
+      boolean isBinaryEncodingSupported) {
 
     if (message.getLocalReaderName() != null) {
       // Reader command
-      Set<ClientInfo> readerClientInfos = readerClients.get(message.getLocalReaderName());
+      SnapshotSet<ClientInfo> readerClientInfos = readerClients.get(message.getLocalReaderName());
       if (readerClientInfos == null) {
-        synchronized (readerClientsMonitor) {
-          readerClientInfos = readerClients.get(message.getLocalReaderName());
-          if (readerClientInfos == null) {
-            readerClientInfos = Collections.newSetFromMap(new ConcurrentHashMap<>(1));
-            readerClients.put(message.getLocalReaderName(), readerClientInfos);
-          }
+        // No monitor is used, so that the carrier of a virtual thread is never pinned.
+        SnapshotSet<ClientInfo> newReaderClientInfos = new SnapshotSet<>(ClientInfo.NONE);
+        readerClientInfos =
+            readerClients.putIfAbsent(message.getLocalReaderName(), newReaderClientInfos);
+        if (readerClientInfos == null) {
+          readerClientInfos = newReaderClientInfos;
         }
       }
-      readerClientInfos.add(
-          new ClientInfo(message.getApiLevel(), message.getClientNodeId(), message.getSessionId()));
+      return addClient(
+          readerClientInfos,
+          message,
+          message.getLocalReaderName(),
+          compressionAlgorithm,
+          isBinaryEncodingSupported);
 
     } else {
       // Plugin command
-      pluginClients.add(
-          new ClientInfo(message.getApiLevel(), message.getClientNodeId(), message.getSessionId()));
+      return addClient(
+          pluginClients, message, null, compressionAlgorithm, isBinaryEncodingSupported);
+    }
+  }
+
+  /**
+   * Adds the client of the provided message to the provided subscribers if it is not already
+   * referenced, otherwise updates its session, and records its activity if the subscription
+   * time-to-live is enabled.
+   *
+   * @param clientInfos The subscribers.
+   * @param message The incoming message.
+   * @param readerName The reader name (null for plugin events).
+   * @param compressionAlgorithm The compression algorithm used by the client (null if none).
+   * @param isBinaryEncodingSupported True if the client used the binary encoding.
+   * @return The registered client information.
+   */
+  private ClientInfo addClient(
+      SnapshotSet<ClientInfo> clientInfos,
+      MessageDto message,
+      String readerName,
+      CompressionAlgorithm compressionAlgorithm,
+      boolean isBinaryEncodingSupported) {
+    ClientInfo clientInfo =
+        new ClientInfo(message.getApiLevel(), message.getClientNodeId(), message.getSessionId());
+    clientInfo.compressionAlgorithm = compressionAlgorithm;
+    clientInfo.isBinaryEncodingSupported = isBinaryEncodingSupported;
+    ClientInfo registeredClientInfo = clientInfos.addIfAbsent(clientInfo);
+    if (registeredClientInfo != clientInfo) {
+      // The events are sent on the last session used by the client.
+      registeredClientInfo.sessionId = clientInfo.sessionId;
+      // The clients do not compress the small bodies nor encode the bodies which the encoding
+      // would not shorten, so the support of the compression and of the encoding is never
+      // forgotten once shown.
+      if (compressionAlgorithm != null) {
+        registeredClientInfo.compressionAlgorithm = compressionAlgorithm;
+      }
+      if (isBinaryEncodingSupported) {
+        registeredClientInfo.isBinaryEncodingSupported = true;
+      }
+    }
+    if (subscriptionTimer == null) {
+      return registeredClientInfo;
+    }
+    if (registeredClientInfo != clientInfo) {
+      registeredClientInfo.lastActivityNanos = clientInfo.lastActivityNanos;
+      HashedTimingWheel.Timeout timeout = registeredClientInfo.expiryTimeout;
+      if (timeout != null && !timeout.isCancelled()) {
+        return registeredClientInfo;
+      }
+      // The expiry check has been dropped by the stop of the timer.
+    }
+    registeredClientInfo.expiryTimeout =
+        subscriptionTimer.schedule(
+            new SubscriptionExpiryTask(clientInfos, registeredClientInfo, readerName),
+            subscriptionTimeToLiveNanos);
+    return registeredClientInfo;
+  }
+
+  /** Task evicting a subscription when its client has been inactive for too long. */
+  private final class SubscriptionExpiryTask implements Runnable {
+
+    private final SnapshotSet<ClientInfo> clientInfos;
+    private final ClientInfo clientInfo;
+    private final String readerName;
+
+    private SubscriptionExpiryTask(
+        SnapshotSet<ClientInfo> clientInfos, ClientInfo clientInfo, String readerName) {
+      this.clientInfos = clientInfos;
+      this.clientInfo = clientInfo;
+      this.readerName = readerName;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Evicts the subscription if the client has been inactive for longer than the
+     * time-to-live, otherwise re-schedules the check at the new expiry time.
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public void run() {
+      long idleNanos = System.nanoTime() - clientInfo.lastActivityNanos;
+      if (idleNanos < subscriptionTimeToLiveNanos) {
+        clientInfo.expiryTimeout =
+            subscriptionTimer.schedule(this, subscriptionTimeToLiveNanos - idleNanos);
+        return;
+      }
+      if (clientInfos.remove(clientInfo)) {
+        clientInfo.release();
+        if (eventDispatchExecutor != null) {
+          releaseMailboxIfUnsubscribed(clientInfo);
+        }
+        evictedSubscriptionCount.incrementAndGet();
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "Inactive client de-referenced [readerName={}, clientNodeId={}, sessionId={}, idleSeconds={}]",
+              readerName,
+              clientInfo.clientNodeId,
+              clientInfo.sessionId,
+              TimeUnit.NANOSECONDS.toSeconds(idleNanos));
+        }
+      }
+    }
+  }
+
+  /**
+   * Handler delivering the events posted to the mailbox of a client, whatever the subscription
+   * they come from.
+   */
+  private final class ClientEventHandler implements ClientEventMailbox.EventHandler {
+
+    private final ClientInfo clientKey;
+
+    private ClientEventHandler(String clientNodeId) {
+      this.clientKey = new ClientInfo(0, clientNodeId, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The subscription is resolved at delivery time, so that the event is sent using the
+     * current session of the client, and skipped if the client has unsubscribed in the meantime.
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public void onEvent(ClientEventMailbox.Event event) {
+      ClientInfo clientInfo = getSubscription(clientKey, event.getAction(), event.getReaderName());
+      if (clientInfo != null) {
+        sendMessage(event, clientInfo);
+      } else {
+        releaseMailboxIfUnsubscribed(clientKey);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public void onDeliveryFailure(ClientEventMailbox.Event event, RuntimeException e) {
+      unregisterClient(clientKey, event, e);
     }
   }
 
   /** Client info. */
   private static class ClientInfo {
 
+    private static final ClientInfo[] NONE = new ClientInfo[0];
+
     private final int clientDistributedApiLevel;
     private final String clientNodeId;
-    private final String sessionId;
+    private volatile String sessionId;
+    private volatile CompressionAlgorithm compressionAlgorithm;
+    private volatile boolean isBinaryEncodingSupported;
+    private volatile long lastActivityNanos;
+    private volatile HashedTimingWheel.Timeout expiryTimeout;
 
     private ClientInfo(int clientDistributedApiLevel, String clientNodeId, String sessionId) {
       this.clientDistributedApiLevel = clientDistributedApiLevel;
       this.clientNodeId = clientNodeId;
       this.sessionId = sessionId;
+      this.lastActivityNanos = System.nanoTime();
+    }
+
+    /** Releases the resources associated to the client once it is de-referenced. */
+    private void release() {
+      HashedTimingWheel.Timeout timeout = expiryTimeout;
+      if (timeout != null) {
+        timeout.cancel();
+      }
     }
 
     /**
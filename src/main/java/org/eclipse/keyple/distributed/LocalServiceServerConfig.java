@@ -0,0 +1,430 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable options of a {@link LocalServiceServer}, built by the {@link
+ * LocalServiceServerFactoryBuilder} and shared by the factory and the local services it creates.
+ *
+ * @since 2.6.0
+ */
+final class LocalServiceServerConfig {
+
+  private final Executor eventDispatchExecutor;
+  private final int eventQueueCapacity;
+  private final EventQueueOverflowPolicy eventQueueOverflowPolicy;
+  private final int subscriptionTimeToLiveSeconds;
+  private final int commandStripeCount;
+  private final int compressionThreshold;
+  private final boolean isBinaryEncodingEnabled;
+  private final boolean isVirtualThreadsEnabled;
+  private final LatencyStatisticsExporter latencyStatisticsExporter;
+  private final int latencyStatisticsExportPeriodSeconds;
+  private final int clientRateLimit;
+  private final int clientBurstSize;
+  private final int clientMaxInFlightCommands;
+  private final ReaderAllocationPolicy readerAllocationPolicy;
+  private final int readerAllocationMaxWaitMillis;
+  private final String[] poolPluginNames;
+
+  private LocalServiceServerConfig(Builder builder) {
+    this.eventDispatchExecutor = builder.eventDispatchExecutor;
+    this.eventQueueCapacity = builder.eventQueueCapacity;
+    this.eventQueueOverflowPolicy = builder.eventQueueOverflowPolicy;
+    this.subscriptionTimeToLiveSeconds = builder.subscriptionTimeToLiveSeconds;
+    this.commandStripeCount = builder.commandStripeCount;
+    this.compressionThreshold = builder.compressionThreshold;
+    this.isBinaryEncodingEnabled = builder.isBinaryEncodingEnabled;
+    this.isVirtualThreadsEnabled = builder.isVirtualThreadsEnabled;
+    this.latencyStatisticsExporter = builder.latencyStatisticsExporter;
+    this.latencyStatisticsExportPeriodSeconds = builder.latencyStatisticsExportPeriodSeconds;
+    this.clientRateLimit = builder.clientRateLimit;
+    this.clientBurstSize = builder.clientBurstSize;
+    this.clientMaxInFlightCommands = builder.clientMaxInFlightCommands;
+    this.readerAllocationPolicy = builder.readerAllocationPolicy;
+    this.readerAllocationMaxWaitMillis = builder.readerAllocationMaxWaitMillis;
+    this.poolPluginNames =
+        builder.poolPluginNames != null ? builder.poolPluginNames.clone() : null;
+  }
+
+  /**
+   * Creates a new builder of options, all disabled.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Gets the executor delivering the events.
+   *
+   * @return The executor to use to deliver plugin and reader events to the clients (null to
+   *     deliver them synchronously on the caller thread).
+   * @since 2.6.0
+   */
+  Executor getEventDispatchExecutor() {
+    return eventDispatchExecutor;
+  }
+
+  /**
+   * Gets the capacity of the event queues.
+   *
+   * @return The maximum number of pending events per client.
+   * @since 2.6.0
+   */
+  int getEventQueueCapacity() {
+    return eventQueueCapacity;
+  }
+
+  /**
+   * Gets the overflow policy of the event queues.
+   *
+   * @return The policy to apply when the event queue of a client is full.
+   * @since 2.6.0
+   */
+  EventQueueOverflowPolicy getEventQueueOverflowPolicy() {
+    return eventQueueOverflowPolicy;
+  }
+
+  /**
+   * Gets the subscription time-to-live.
+   *
+   * @return The time (in seconds) after which a client without activity is no longer notified of
+   *     the events (0 to keep the clients indefinitely).
+   * @since 2.6.0
+   */
+  int getSubscriptionTimeToLiveSeconds() {
+    return subscriptionTimeToLiveSeconds;
+  }
+
+  /**
+   * Gets the number of stripes of the command worker pool.
+   *
+   * @return The number of stripes of the command worker pool (0 to process the commands on the
+   *     thread of the endpoint).
+   * @since 2.6.0
+   */
+  int getCommandStripeCount() {
+    return commandStripeCount;
+  }
+
+  /**
+   * Gets the compression threshold.
+   *
+   * @return The minimum length of the bodies to compress for the clients supporting the
+   *     compression (-1 to disable the compression).
+   * @since 2.6.0
+   */
+  int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Indicates whether the binary encoding of the bodies is enabled.
+   *
+   * @return True if the bodies may be sent using the binary encoding to the clients supporting it.
+   * @since 2.6.0
+   */
+  boolean isBinaryEncodingEnabled() {
+    return isBinaryEncodingEnabled;
+  }
+
+  /**
+   * Indicates whether the virtual threads are enabled.
+   *
+   * @return True if the events and the commands must be processed on virtual threads (an internal
+   *     executor is then used if no event dispatch executor is provided).
+   * @since 2.6.0
+   */
+  boolean isVirtualThreadsEnabled() {
+    return isVirtualThreadsEnabled;
+  }
+
+  /**
+   * Gets the exporter of the latency statistics.
+   *
+   * @return The exporter of the latency statistics (null if the statistics are not exported).
+   * @since 2.6.0
+   */
+  LatencyStatisticsExporter getLatencyStatisticsExporter() {
+    return latencyStatisticsExporter;
+  }
+
+  /**
+   * Gets the export period of the latency statistics.
+   *
+   * @return The export period of the latency statistics (in seconds).
+   * @since 2.6.0
+   */
+  int getLatencyStatisticsExportPeriodSeconds() {
+    return latencyStatisticsExportPeriodSeconds;
+  }
+
+  /**
+   * Gets the rate limit of each client.
+   *
+   * @return The sustained number of commands per second allowed for each client (0 to disable the
+   *     rate limit).
+   * @since 2.6.0
+   */
+  int getClientRateLimit() {
+    return clientRateLimit;
+  }
+
+  /**
+   * Gets the burst size of the rate limit.
+   *
+   * @return The number of commands a client can send at once after an idle period.
+   * @since 2.6.0
+   */
+  int getClientBurstSize() {
+    return clientBurstSize;
+  }
+
+  /**
+   * Gets the in-flight commands limit of each client.
+   *
+   * @return The maximum number of in-flight commands of each client (0 to disable the limit).
+   * @since 2.6.0
+   */
+  int getClientMaxInFlightCommands() {
+    return clientMaxInFlightCommands;
+  }
+
+  /**
+   * Gets the policy of the reader allocation queues.
+   *
+   * @return The order in which the reader allocation requests waiting for a reader are served
+   *     (null to forward the requests to the Keyple core without queueing).
+   * @since 2.6.0
+   */
+  ReaderAllocationPolicy getReaderAllocationPolicy() {
+    return readerAllocationPolicy;
+  }
+
+  /**
+   * Gets the maximum wait time of the reader allocation requests.
+   *
+   * @return The maximum time (in milliseconds) a reader allocation request may wait for a reader.
+   * @since 2.6.0
+   */
+  int getReaderAllocationMaxWaitMillis() {
+    return readerAllocationMaxWaitMillis;
+  }
+
+  /**
+   * Gets a copy of the pool plugin names.
+   *
+   * @return The pool plugin names to bind (null if the service is not bound to pool plugins).
+   * @since 2.6.0
+   */
+  String[] getPoolPluginNames() {
+    return poolPluginNames != null ? poolPluginNames.clone() : null;
+  }
+
+  /**
+   * Builder of {@link LocalServiceServerConfig}.
+   *
+   * <p>The values are not checked, the caller being in charge of the validation.
+   *
+   * @since 2.6.0
+   */
+  static final class Builder {
+
+    private Executor eventDispatchExecutor;
+    private int eventQueueCapacity;
+    private EventQueueOverflowPolicy eventQueueOverflowPolicy;
+    private int subscriptionTimeToLiveSeconds;
+    private int commandStripeCount;
+    private int compressionThreshold = -1;
+    private boolean isBinaryEncodingEnabled;
+    private boolean isVirtualThreadsEnabled;
+    private LatencyStatisticsExporter latencyStatisticsExporter;
+    private int latencyStatisticsExportPeriodSeconds;
+    private int clientRateLimit;
+    private int clientBurstSize;
+    private int clientMaxInFlightCommands;
+    private ReaderAllocationPolicy readerAllocationPolicy;
+    private int readerAllocationMaxWaitMillis;
+    private String[] poolPluginNames;
+
+    private Builder() {}
+
+    /**
+     * Sets the executor delivering the events.
+     *
+     * @param executor The executor to use to deliver the events (null to deliver them
+     *     synchronously).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder eventDispatchExecutor(Executor executor) {
+      this.eventDispatchExecutor = executor;
+      return this;
+    }
+
+    /**
+     * Sets the capacity and the overflow policy of the event queues.
+     *
+     * @param capacity The maximum number of pending events per client.
+     * @param overflowPolicy The policy to apply when the event queue of a client is full.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder eventQueue(int capacity, EventQueueOverflowPolicy overflowPolicy) {
+      this.eventQueueCapacity = capacity;
+      this.eventQueueOverflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the subscription time-to-live.
+     *
+     * @param timeToLiveSeconds The subscription time-to-live (in seconds, 0 to disable).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder subscriptionTimeToLiveSeconds(int timeToLiveSeconds) {
+      this.subscriptionTimeToLiveSeconds = timeToLiveSeconds;
+      return this;
+    }
+
+    /**
+     * Sets the number of stripes of the command worker pool.
+     *
+     * @param stripeCount The number of stripes of the command worker pool (0 to disable).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder commandStripeCount(int stripeCount) {
+      this.commandStripeCount = stripeCount;
+      return this;
+    }
+
+    /**
+     * Sets the compression threshold.
+     *
+     * @param threshold The minimum length of the bodies to compress (-1 to disable).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder compressionThreshold(int threshold) {
+      this.compressionThreshold = threshold;
+      return this;
+    }
+
+    /**
+     * Enables or disables the binary encoding of the bodies.
+     *
+     * @param isEnabled True if the binary encoding of the bodies is enabled.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder binaryEncodingEnabled(boolean isEnabled) {
+      this.isBinaryEncodingEnabled = isEnabled;
+      return this;
+    }
+
+    /**
+     * Enables or disables the virtual threads.
+     *
+     * @param isEnabled True if the virtual threads are enabled.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder virtualThreadsEnabled(boolean isEnabled) {
+      this.isVirtualThreadsEnabled = isEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the exporter of the latency statistics.
+     *
+     * @param exporter The exporter of the latency statistics (null to disable the export).
+     * @param periodSeconds The export period (in seconds).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder latencyStatisticsExporter(LatencyStatisticsExporter exporter, int periodSeconds) {
+      this.latencyStatisticsExporter = exporter;
+      this.latencyStatisticsExportPeriodSeconds = periodSeconds;
+      return this;
+    }
+
+    /**
+     * Sets the rate limit of each client.
+     *
+     * @param rateLimit The number of commands per second allowed per client (0 to disable).
+     * @param burstSize The burst size of the rate limit.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder clientRateLimit(int rateLimit, int burstSize) {
+      this.clientRateLimit = rateLimit;
+      this.clientBurstSize = burstSize;
+      return this;
+    }
+
+    /**
+     * Sets the in-flight commands limit of each client.
+     *
+     * @param maxInFlightCommands The maximum number of in-flight commands per client (0 to
+     *     disable).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder clientMaxInFlightCommands(int maxInFlightCommands) {
+      this.clientMaxInFlightCommands = maxInFlightCommands;
+      return this;
+    }
+
+    /**
+     * Sets the policy and the maximum wait time of the reader allocation queues.
+     *
+     * @param policy The policy of the reader allocation queues (null to disable).
+     * @param maxWaitMillis The maximum wait time of the reader allocation requests.
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder readerAllocation(ReaderAllocationPolicy policy, int maxWaitMillis) {
+      this.readerAllocationPolicy = policy;
+      this.readerAllocationMaxWaitMillis = maxWaitMillis;
+      return this;
+    }
+
+    /**
+     * Sets the pool plugin names.
+     *
+     * @param poolPluginNames The pool plugin names to bind (null for regular plugins).
+     * @return The current builder.
+     * @since 2.6.0
+     */
+    Builder poolPluginNames(String[] poolPluginNames) {
+      this.poolPluginNames = poolPluginNames;
+      return this;
+    }
+
+    /**
+     * Creates the options.
+     *
+     * @return A not null reference.
+     * @since 2.6.0
+     */
+    LocalServiceServerConfig build() {
+      return new LocalServiceServerConfig(this);
+    }
+  }
+}
@@ -30,23 +30,23 @@ final class LocalServiceServerFactoryAdapter extends AbstractLocalServiceFactory
       LoggerFactory.getLogger(LocalServiceServerFactoryAdapter.class);
 
   private final AsyncEndpointServerSpi asyncEndpointServerSpi;
-  private final String[] poolPluginNames;
+  private final LocalServiceServerConfig config;
 
   /**
    * Constructor.
    *
    * @param localServiceName The name of the local service to build.
-   * @param asyncEndpointServerSpi The async endpoint server to bind.
-   * @param poolPluginNames One or more pool plugin names to bind (for pool only).
+   * @param asyncEndpointServerSpi The async endpoint server to bind (null for a sync node).
+   * @param config The options of the local services to build.
    * @since 2.0.0
    */
   LocalServiceServerFactoryAdapter(
       String localServiceName,
       AsyncEndpointServerSpi asyncEndpointServerSpi,
-      String... poolPluginNames) {
+      LocalServiceServerConfig config) {
     super(localServiceName);
     this.asyncEndpointServerSpi = asyncEndpointServerSpi;
-    this.poolPluginNames = poolPluginNames;
+    this.config = config;
   }
 
   /**
@@ -59,7 +59,13 @@ public LocalServiceSpi getLocalService() {
 
     // Create the local service.
     LocalServiceServerAdapter localService =
-        new LocalServiceServerAdapter(getLocalServiceName(), poolPluginNames);
+        new LocalServiceServerAdapter(getLocalServiceName(), config);
+
+    // Configure the export of the latency statistics, started once connected to the core.
+    if (config.getLatencyStatisticsExporter() != null) {
+      localService.setLatencyStatisticsExporter(
+          config.getLatencyStatisticsExporter(), config.getLatencyStatisticsExportPeriodSeconds());
+    }
 
     // Bind the node.
     if (asyncEndpointServerSpi == null) {
@@ -68,10 +74,12 @@ public LocalServiceSpi getLocalService() {
       localService.bindAsyncNodeServer(asyncEndpointServerSpi);
     }
     logger.info(
-        "New 'LocalServiceServer' created [name={}, nodeType={}, withPoolPluginNames={}]",
+        "New 'LocalServiceServer' created [name={}, nodeType={}, withPoolPluginNames={}, withEventDispatchExecutor={}, commandStripeCount={}]",
         getLocalServiceName(),
         asyncEndpointServerSpi != null ? "AsyncNodeServer" : "SyncNodeServer",
-        Arrays.toString(poolPluginNames));
+        Arrays.toString(config.getPoolPluginNames()),
+        config.getEventDispatchExecutor() != null,
+        config.getCommandStripeCount());
 
     return localService;
   }
@@ -11,6 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.distributed;
 
+import java.util.concurrent.Executor;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
 
@@ -21,6 +22,8 @@
  */
 public final class LocalServiceServerFactoryBuilder {
 
+  private static final int DEFAULT_EVENT_QUEUE_CAPACITY = 1024;
+
   /** Constructor */
   private LocalServiceServerFactoryBuilder() {}
 
@@ -81,10 +84,234 @@ public interface BuilderStep {
      */
     BuilderStep withPoolPlugins(String... poolPluginNames);
 
+    /**
+     * Configures the service with an executor dedicated to the delivery of the plugin and reader
+     * events to the remote clients.
+     *
+     * <p>By default, the events are sent to each subscribed client one after the other, on the
+     * thread of the Keyple core that notifies the event.
+     *
+     * <p>When an executor is provided, each client has its own outbound event queue drained by the
+     * executor: the events of a given client, plugin and reader events alike, are delivered in the
+     * order in which they occurred, whereas the deliveries to different clients are performed in
+     * parallel. The event notification method then returns immediately.
+     *
+     * <p>The lifecycle of the executor (shutdown) remains the responsibility of the application.
+     *
+     * @param executor The executor to use (e.g. a fixed thread pool).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the executor is null.
+     * @since 2.6.0
+     */
+    BuilderStep withEventDispatchExecutor(Executor executor);
+
+    /**
+     * Bounds the outbound event queue of each remote client.
+     *
+     * <p>This setting requires an event dispatch executor (see {@link
+     * #withEventDispatchExecutor(Executor)} and {@link #withVirtualThreads()}). By default, the
+     * event queues hold up to 1024 events and a client whose queue overflows is no longer notified
+     * of the events ({@link EventQueueOverflowPolicy#DISCONNECT}) until its next request.
+     *
+     * <p>Each client has its own queue, shared by all its subscriptions (plugin events and events
+     * of each observed reader), so a stalled client cannot slow down the delivery of the events to
+     * the other clients. The queue depths and the number of dropped events are available via {@link
+     * LocalServiceServer#getEventQueueStatistics()}.
+     *
+     * @param capacity The maximum number of pending events per client.
+     * @param overflowPolicy The policy to apply when the queue of a client is full.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the capacity {@code <} 1 or if the policy is null.
+     * @since 2.6.0
+     */
+    BuilderStep withEventQueueCapacity(int capacity, EventQueueOverflowPolicy overflowPolicy);
+
+    /**
+     * Configures the service to stop notifying the plugin and reader events to the remote clients
+     * that have not sent any request for the provided duration.
+     *
+     * <p>By default, a remote client remains referenced until an event cannot be sent to it. On
+     * long-running servers with many short-lived clients, this setting bounds the memory used by
+     * the subscriptions and the cost of the event delivery. An evicted client is referenced again
+     * at its next request.
+     *
+     * <p>The time-to-live must therefore be greater than the longest period during which a client
+     * observes a reader without sending any request. The number of live and evicted subscriptions
+     * is available via {@link LocalServiceServer#getSubscriptionCount()} and {@link
+     * LocalServiceServer#getEvictedSubscriptionCount()}.
+     *
+     * @param timeToLiveSeconds The maximum inactivity duration (in seconds) of a client.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the time-to-live {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withSubscriptionTimeToLive(int timeToLiveSeconds);
+
+    /**
+     * Configures the service to process the commands received from the remote clients on a pool
+     * of worker threads striped by local reader.
+     *
+     * <p>By default, each command is executed on the thread of the endpoint that delivered it, so
+     * a slow card on one reader delays the commands for the other readers received on the same
+     * thread.
+     *
+     * <p>With a striped execution, each local reader is assigned to one of the workers: the
+     * commands for a given reader are executed strictly in their reception order, whereas the
+     * commands for readers assigned to different workers are executed in parallel. The queue depth
+     * of each worker is available via {@link LocalServiceServer#getCommandStripeStatistics()}.
+     *
+     * <p>This setting is only taken into account with an asynchronous node (see {@link
+     * NodeStep#withAsyncNode(AsyncEndpointServerSpi)}), since a synchronous node must return the
+     * response on the thread of the request.
+     *
+     * @param poolSize The number of workers (e.g. the number of available processors).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the pool size {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withStripedCommandExecution(int poolSize);
+
+    /**
+     * Enables the compression of the message bodies sent to the remote clients supporting it.
+     *
+     * <p>A client declares that it supports the compression by sending compressed bodies. The
+     * responses and the events sent to this client are then compressed with the same algorithm
+     * when their length reaches the provided threshold. The clients which do not support the
+     * compression keep receiving uncompressed bodies. An event sent to several clients is
+     * compressed only once per algorithm.
+     *
+     * <p>By default, the bodies are not compressed and the commands with a compressed body are
+     * rejected. Whatever the setting, a compressed body expanding beyond 8 MB is rejected.
+     *
+     * @param threshold The minimum length (in characters) of the bodies to compress.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the threshold {@code <} 0.
+     * @since 2.6.0
+     */
+    BuilderStep withCompression(int threshold);
+
+    /**
+     * Enables the compact binary encoding of the message bodies sent to the remote clients
+     * supporting it.
+     *
+     * <p>A client declares that it supports the binary encoding by sending encoded bodies. The
+     * responses and the events sent to this client are then encoded (before being compressed if
+     * the compression is enabled). The clients which do not support the encoding keep receiving
+     * JSON bodies. An event sent to several clients is encoded only once.
+     *
+     * <p>By default, the bodies are sent in JSON. The encoded bodies received are always decoded.
+     *
+     * @return Next configuration step.
+     * @since 2.6.0
+     */
+    BuilderStep withBinaryBodyEncoding();
+
+    /**
+     * Configures the service to use virtual threads instead of platform threads.
+     *
+     * <p>The plugin and reader events are then delivered to the remote clients by an internal
+     * executor starting a virtual thread per delivery, unless an executor is provided with {@link
+     * #withEventDispatchExecutor(Executor)}. The workers of the striped command execution (see
+     * {@link #withStripedCommandExecution(int)}) are virtual threads too, which makes large pool
+     * sizes (e.g. one worker per local reader) inexpensive.
+     *
+     * <p>Virtual threads are only available on Java 21 and later, their API being looked up at
+     * runtime.
+     *
+     * @return Next configuration step.
+     * @throws IllegalStateException If the virtual threads are not supported by the JVM.
+     * @since 2.6.0
+     */
+    BuilderStep withVirtualThreads();
+
+    /**
+     * Configures the service to limit the rate of the commands accepted from each remote client.
+     *
+     * <p>Each client is allowed to send {@code commandsPerSecond} commands per second on average,
+     * and up to {@code burstSize} commands at once after an idle period (token bucket). The
+     * commands exceeding the limit are not executed: an error response carrying an {@link
+     * IllegalStateException} is sent back immediately to the client. Its body contains the
+     * additional property {@code "COMMAND_REJECTED":"RATE_LIMIT_EXCEEDED"}, so that the rejection
+     * can be told apart from a failure of the command.
+     *
+     * <p>By default, the rate of the commands is not limited.
+     *
+     * @param commandsPerSecond The sustained number of commands per second allowed for a client.
+     * @param burstSize The maximum number of commands a client can send at once.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If one of the values is {@code <} 1.
+     * @see LocalServiceServer#getClientAdmissionStatistics()
+     * @since 2.6.0
+     */
+    BuilderStep withClientRateLimit(int commandsPerSecond, int burstSize);
+
+    /**
+     * Configures the service to limit the number of commands of each remote client being processed
+     * at the same time.
+     *
+     * <p>The commands received while the limit is reached are not executed: an error response
+     * carrying an {@link IllegalStateException} is sent back immediately to the client. Its body
+     * contains the additional property {@code "COMMAND_REJECTED":"TOO_MANY_IN_FLIGHT_COMMANDS"},
+     * so that the rejection can be told apart from a failure of the command.
+     *
+     * <p>By default, the number of in-flight commands is not limited.
+     *
+     * @param maxInFlightCommands The maximum number of in-flight commands of a client.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the value is {@code <} 1.
+     * @see LocalServiceServer#getClientAdmissionStatistics()
+     * @since 2.6.0
+     */
+    BuilderStep withClientMaxInFlightCommands(int maxInFlightCommands);
+
+    /**
+     * Configures the service to queue the reader allocation requests of the pool plugins when no
+     * reader of the requested group is available, instead of answering them with an error
+     * immediately.
+     *
+     * <p>The requests are queued per group of readers and served in the order defined by the
+     * provided policy as soon as a reader is released. A request which does not obtain a reader
+     * within the maximum wait time is answered with the allocation error of the Keyple core. The
+     * other errors and the other plugin commands are not queued.
+     *
+     * <p>With a synchronous node, the thread handling the request waits for the reader, up to the
+     * maximum wait time. The waiting requests are answered with an error when the local service is
+     * closed (see {@link LocalServiceServer#close()}).
+     *
+     * <p>By default, the reader allocation requests are not queued.
+     *
+     * @param policy The order in which the waiting requests are served.
+     * @param maxWaitMillis The maximum time (in milliseconds) a request may wait for a reader.
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the policy is null or if the maximum wait time {@code <}
+     *     1.
+     * @see LocalServiceServer#getReaderAllocationStatistics()
+     * @since 2.6.0
+     */
+    BuilderStep withReaderAllocationQueue(ReaderAllocationPolicy policy, int maxWaitMillis);
+
+    /**
+     * Configures the service to export periodically its latency statistics (see {@link
+     * LocalServiceServer#getLatencyStatistics()}) using the provided exporter.
+     *
+     * <p>The export is performed on a dedicated daemon thread. The latencies are always measured,
+     * even if no exporter is configured.
+     *
+     * @param exporter The exporter to invoke.
+     * @param periodSeconds The export period (in seconds).
+     * @return Next configuration step.
+     * @throws IllegalArgumentException If the exporter is null or if the period {@code <} 1.
+     * @since 2.6.0
+     */
+    BuilderStep withLatencyStatisticsExporter(
+        LatencyStatisticsExporter exporter, int periodSeconds);
+
     /**
      * Creates a new instance of {@link LocalServiceServerFactory} using the current configuration.
      *
      * @return A not null reference.
+     * @throws IllegalStateException If an event queue capacity is set without any event dispatch
+     *     executor.
      * @since 2.0.0
      */
     LocalServiceServerFactory build();
@@ -96,6 +323,23 @@ private static final class Builder implements NodeStep, BuilderStep {
     private final String localServiceName;
     private AsyncEndpointServerSpi asyncEndpoint;
     private String[] poolPluginNames;
+    private Executor eventDispatchExecutor;
+    private int eventQueueCapacity = DEFAULT_EVENT_QUEUE_CAPACITY;
+    private EventQueueOverflowPolicy eventQueueOverflowPolicy =
+        EventQueueOverflowPolicy.DISCONNECT;
+    private boolean isEventQueueCapacitySet;
+    private int subscriptionTimeToLiveSeconds;
+    private int commandStripeCount;
+    private int compressionThreshold = -1;
+    private boolean isBinaryEncodingEnabled;
+    private boolean isVirtualThreadsEnabled;
+    private LatencyStatisticsExporter latencyStatisticsExporter;
+    private int latencyStatisticsExportPeriodSeconds;
+    private int clientRateLimit;
+    private int clientBurstSize;
+    private int clientMaxInFlightCommands;
+    private ReaderAllocationPolicy readerAllocationPolicy;
+    private int readerAllocationMaxWaitMillis;
 
     private Builder(String localServiceName) {
       Assert.getInstance().notEmpty(localServiceName, "localServiceName");
@@ -139,6 +383,154 @@ public BuilderStep withPoolPlugins(String... poolPluginNames) {
       return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withEventDispatchExecutor(Executor executor) {
+      Assert.getInstance().notNull(executor, "executor");
+      this.eventDispatchExecutor = executor;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withEventQueueCapacity(
+        int capacity, EventQueueOverflowPolicy overflowPolicy) {
+      Assert.getInstance()
+          .greaterOrEqual(capacity, 1, "capacity")
+          .notNull(overflowPolicy, "overflowPolicy");
+      this.eventQueueCapacity = capacity;
+      this.eventQueueOverflowPolicy = overflowPolicy;
+      this.isEventQueueCapacitySet = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withSubscriptionTimeToLive(int timeToLiveSeconds) {
+      Assert.getInstance().greaterOrEqual(timeToLiveSeconds, 1, "timeToLiveSeconds");
+      this.subscriptionTimeToLiveSeconds = timeToLiveSeconds;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withStripedCommandExecution(int poolSize) {
+      Assert.getInstance().greaterOrEqual(poolSize, 1, "poolSize");
+      this.commandStripeCount = poolSize;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withCompression(int threshold) {
+      Assert.getInstance().greaterOrEqual(threshold, 0, "threshold");
+      this.compressionThreshold = threshold;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withBinaryBodyEncoding() {
+      this.isBinaryEncodingEnabled = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withVirtualThreads() {
+      if (!VirtualThreads.isSupported()) {
+        throw new IllegalStateException("Virtual threads require Java 21 or later");
+      }
+      this.isVirtualThreadsEnabled = true;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withClientRateLimit(int commandsPerSecond, int burstSize) {
+      Assert.getInstance()
+          .greaterOrEqual(commandsPerSecond, 1, "commandsPerSecond")
+          .greaterOrEqual(burstSize, 1, "burstSize");
+      this.clientRateLimit = commandsPerSecond;
+      this.clientBurstSize = burstSize;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withClientMaxInFlightCommands(int maxInFlightCommands) {
+      Assert.getInstance().greaterOrEqual(maxInFlightCommands, 1, "maxInFlightCommands");
+      this.clientMaxInFlightCommands = maxInFlightCommands;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withReaderAllocationQueue(ReaderAllocationPolicy policy, int maxWaitMillis) {
+      Assert.getInstance()
+          .notNull(policy, "policy")
+          .greaterOrEqual(maxWaitMillis, 1, "maxWaitMillis");
+      this.readerAllocationPolicy = policy;
+      this.readerAllocationMaxWaitMillis = maxWaitMillis;
+      return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public BuilderStep withLatencyStatisticsExporter(
+        LatencyStatisticsExporter exporter, int periodSeconds) {
+      Assert.getInstance()
+          .notNull(exporter, "exporter")
+          .greaterOrEqual(periodSeconds, 1, "periodSeconds");
+      this.latencyStatisticsExporter = exporter;
+      this.latencyStatisticsExportPeriodSeconds = periodSeconds;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -146,7 +538,28 @@ public BuilderStep withPoolPlugins(String... poolPluginNames) {
      */
     @Override
     public LocalServiceServerFactory build() {
-      return new LocalServiceServerFactoryAdapter(localServiceName, asyncEndpoint, poolPluginNames);
+      if (isEventQueueCapacitySet && eventDispatchExecutor == null && !isVirtualThreadsEnabled) {
+        throw new IllegalStateException(
+            "The event queue capacity requires an event dispatch executor");
+      }
+      return new LocalServiceServerFactoryAdapter(
+          localServiceName,
+          asyncEndpoint,
+          LocalServiceServerConfig.builder()
+              .eventDispatchExecutor(eventDispatchExecutor)
+              .eventQueue(eventQueueCapacity, eventQueueOverflowPolicy)
+              .subscriptionTimeToLiveSeconds(subscriptionTimeToLiveSeconds)
+              .commandStripeCount(commandStripeCount)
+              .compressionThreshold(compressionThreshold)
+              .binaryEncodingEnabled(isBinaryEncodingEnabled)
+              .virtualThreadsEnabled(isVirtualThreadsEnabled)
+              .latencyStatisticsExporter(
+                  latencyStatisticsExporter, latencyStatisticsExportPeriodSeconds)
+              .clientRateLimit(clientRateLimit, clientBurstSize)
+              .clientMaxInFlightCommands(clientMaxInFlightCommands)
+              .readerAllocation(readerAllocationPolicy, readerAllocationMaxWaitMillis)
+              .poolPluginNames(poolPluginNames)
+              .build());
     }
   }
 }
@@ -0,0 +1,43 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Source of the monotonic time used by the time-based components, allowing the tests to control
+ * the elapsed time.
+ *
+ * @since 2.6.0
+ */
+interface NanoClock {
+
+  /**
+   * Clock based on {@link System#nanoTime()}.
+   *
+   * @since 2.6.0
+   */
+  NanoClock SYSTEM =
+      new NanoClock() {
+        @Override
+        public long nanoTime() {
+          return System.nanoTime();
+        }
+      };
+
+  /**
+   * Gets the current value of the clock.
+   *
+   * @return A value in nanoseconds, only meaningful when compared with another value of the same
+   *     clock.
+   * @since 2.6.0
+   */
+  long nanoTime();
+}
@@ -0,0 +1,39 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Order in which a {@link LocalServiceServer} serves the reader allocation requests waiting for a
+ * reader of the same group of a pool plugin.
+ *
+ * @see LocalServiceServerFactoryBuilder.BuilderStep#withReaderAllocationQueue(
+ *     ReaderAllocationPolicy, int)
+ * @since 2.6.0
+ */
+public enum ReaderAllocationPolicy {
+
+  /**
+   * The requests are served in their order of arrival.
+   *
+   * @since 2.6.0
+   */
+  FIFO,
+
+  /**
+   * The remote clients are served in turn (round robin), each client getting an equal share of the
+   * readers released, and the requests of a given client are served in their order of arrival. A
+   * client sending a burst of requests therefore does not delay the requests of the other clients.
+   *
+   * @since 2.6.0
+   */
+  FAIR
+}
@@ -0,0 +1,705 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scheduler of the plugin commands received by a {@link LocalServiceServer} bound to pool plugins.
+ *
+ * <p>The reader allocation commands ({@code ALLOCATE_READER}) are queued per group of readers and
+ * served according to a {@link ReaderAllocationPolicy}. The request at the head of a queue is
+ * submitted to the Keyple core, and an allocation failure of the pool plugin (error coded {@value
+ * #NO_READER_AVAILABLE_CODE} by the Keyple core) is interpreted as the absence of available reader:
+ * the request then keeps its place until a reader is released by a {@code RELEASE_READER} command,
+ * or until the next retry for the readers released by other means. Any other error is returned to
+ * the client immediately. A request still waiting after the maximum wait time is answered with the
+ * last allocation failure of its group, as it would have been without queue.
+ *
+ * <p>The retries are performed by a thread running between {@link #start()} and {@link #stop()},
+ * and only while requests are waiting. Without it, the requests are not queued.
+ *
+ * <p>The other plugin commands are executed immediately on the calling thread.
+ *
+ * <p>Note: the commands and results are read using the JSON format of the Keyple core distributed
+ * local service (properties {@code service}, {@code readerGroupReference} and {@code error}, error
+ * code being the class name of the exception thrown by the core). Only the exact error of the
+ * absence of available reader makes a request wait: any result which is not a JSON object, or which
+ * contains an error of another code or shape, is returned to the client immediately. A change of
+ * this format can therefore only disable the queuing, never delay the responses.
+ *
+ * @since 2.6.0
+ */
+final class ReaderAllocationScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReaderAllocationScheduler.class);
+
+  // Properties and services of the plugin commands of the Keyple core.
+  private static final String SERVICE = "service";
+  private static final String PARAMETERS = "parameters";
+  private static final String READER_GROUP_REFERENCE = "readerGroupReference";
+  private static final String ERROR = "error";
+  private static final String CODE = "code";
+  private static final String ALLOCATE_READER = "ALLOCATE_READER";
+  private static final String RELEASE_READER = "RELEASE_READER";
+
+  /**
+   * Error code of the Keyple core when the pool plugin is unable to allocate a reader.
+   *
+   * @since 2.6.0
+   */
+  static final String NO_READER_AVAILABLE_CODE =
+      "org.eclipse.keyple.core.service.KeyplePluginException";
+
+  private static final long RETRY_PERIOD_MILLIS = 100;
+
+  private final ReaderAllocationPolicy policy;
+  private final long maxWaitNanos;
+  private final String threadName;
+  private final ConcurrentMap<String, GroupQueue> groupQueues;
+  private final AtomicReference<ScheduledExecutorService> retryExecutor;
+  private final AtomicBoolean isRetryScheduled;
+  private final Runnable drainAllTask;
+  private final Runnable retryTask;
+
+  /**
+   * Constructor.
+   *
+   * @param policy The order in which the waiting requests are served.
+   * @param maxWaitMillis The maximum time (in milliseconds) a request may wait for a reader.
+   * @param threadName The name of the thread performing the retries.
+   * @since 2.6.0
+   */
+  ReaderAllocationScheduler(ReaderAllocationPolicy policy, int maxWaitMillis, String threadName) {
+    this.policy = policy;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.threadName = threadName;
+    this.groupQueues = new ConcurrentHashMap<>();
+    this.retryExecutor = new AtomicReference<>();
+    this.isRetryScheduled = new AtomicBoolean();
+    this.drainAllTask =
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              drainAll();
+            } catch (RuntimeException e) {
+              logger.error("Failed to serve reader allocation requests [error={}]", e.getMessage());
+            }
+          }
+        };
+    this.retryTask =
+        new Runnable() {
+          @Override
+          public void run() {
+            isRetryScheduled.set(false);
+            drainAllTask.run();
+            if (hasWaitingRequests()) {
+              scheduleRetry();
+            }
+          }
+        };
+  }
+
+  /**
+   * Starts the thread performing the retries, allowing the reader allocation requests to be
+   * queued.
+   *
+   * @since 2.6.0
+   */
+  void start() {
+    if (retryExecutor.get() == null) {
+      ScheduledExecutorService executor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(threadName));
+      if (!retryExecutor.compareAndSet(null, executor)) {
+        executor.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Stops the thread performing the retries and answers the waiting requests with an error.
+   *
+   * @since 2.6.0
+   */
+  void stop() {
+    ScheduledExecutorService executor = retryExecutor.getAndSet(null);
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    isRetryScheduled.set(false);
+    for (GroupQueue groupQueue : groupQueues.values()) {
+      groupQueue.cancelRequests();
+    }
+  }
+
+  /**
+   * Gets the maximum time to wait for the result of a command, the allocation requests being
+   * answered at the latest at the first retry after their maximum wait time.
+   *
+   * @return A positive number of milliseconds.
+   * @since 2.6.0
+   */
+  long getMaxResultWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + 2 * RETRY_PERIOD_MILLIS;
+  }
+
+  /**
+   * Executes a plugin command, or queues it if it is a reader allocation command and the scheduler
+   * is started.
+   *
+   * @param localServiceApi The Keyple core local service API.
+   * @param clientNodeId The client node ID.
+   * @param jsonCommand The JSON plugin command.
+   * @return A not null future completed with the JSON result of the command, or exceptionally with
+   *     the exception thrown by the Keyple core.
+   * @since 2.6.0
+   */
+  CompletableFuture<String> execute(
+      LocalServiceApi localServiceApi, String clientNodeId, String jsonCommand) {
+
+    JsonObject command = parseObject(jsonCommand);
+    String service = getString(command, SERVICE);
+
+    // Reader allocation
+    if (ALLOCATE_READER.equals(service) && retryExecutor.get() != null) {
+      String readerGroupReference = getString(command, READER_GROUP_REFERENCE);
+      if (readerGroupReference == null && command.has(PARAMETERS)) {
+        readerGroupReference = getString(getObject(command, PARAMETERS), READER_GROUP_REFERENCE);
+      }
+      if (readerGroupReference != null) {
+        Request request = new Request(localServiceApi, clientNodeId, jsonCommand);
+        GroupQueue groupQueue = getGroupQueue(readerGroupReference);
+        groupQueue.add(request);
+        groupQueue.drain();
+        if (!request.isDone() && !scheduleRetry()) {
+          // Stopped in the meantime.
+          groupQueue.cancelRequests();
+        }
+        return request;
+      }
+    }
+
+    // Other commands
+    CompletableFuture<String> result = new CompletableFuture<>();
+    try {
+      String jsonResult = localServiceApi.executeLocally(jsonCommand, null);
+      result.complete(jsonResult);
+      if (RELEASE_READER.equals(service) && !isFailure(jsonResult) && hasWaitingRequests()) {
+        // Serve the waiting requests without delaying the response to the release.
+        ScheduledExecutorService executor = retryExecutor.get();
+        if (executor != null) {
+          try {
+            executor.execute(drainAllTask);
+          } catch (RejectedExecutionException e) {
+            // Stopped in the meantime.
+          }
+        }
+      }
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  /**
+   * Gets a snapshot of the wait queues.
+   *
+   * @return A not null list, sorted by reader group reference.
+   * @since 2.6.0
+   */
+  List<ReaderAllocationStatistics> getStatistics() {
+    List<ReaderAllocationStatistics> statistics = new ArrayList<>(groupQueues.size());
+    for (GroupQueue groupQueue : new TreeMap<>(groupQueues).values()) {
+      statistics.add(groupQueue.getStatistics());
+    }
+    return statistics;
+  }
+
+  /**
+   * Gets the queue of a group of readers, creating it if needed.
+   *
+   * @param readerGroupReference The reader group reference.
+   * @return A not null reference.
+   */
+  private GroupQueue getGroupQueue(String readerGroupReference) {
+    GroupQueue groupQueue = groupQueues.get(readerGroupReference);
+    if (groupQueue == null) {
+      GroupQueue newGroupQueue = new GroupQueue(readerGroupReference);
+      groupQueue = groupQueues.putIfAbsent(readerGroupReference, newGroupQueue);
+      if (groupQueue == null) {
+        groupQueue = newGroupQueue;
+      }
+    }
+    return groupQueue;
+  }
+
+  /**
+   * Schedules the next retry if none is already scheduled.
+   *
+   * @return False if the scheduler is stopped.
+   */
+  private boolean scheduleRetry() {
+    ScheduledExecutorService executor = retryExecutor.get();
+    if (executor == null) {
+      return false;
+    }
+    if (isRetryScheduled.compareAndSet(false, true)) {
+      try {
+        executor.schedule(retryTask, RETRY_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        isRetryScheduled.set(false);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Indicates if requests are waiting in any group.
+   *
+   * @return True if at least one request is waiting.
+   */
+  private boolean hasWaitingRequests() {
+    for (GroupQueue groupQueue : groupQueues.values()) {
+      if (groupQueue.getWaitingRequestCount() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Serves the waiting requests of all groups and answers the requests which have timed out. */
+  private void drainAll() {
+    for (GroupQueue groupQueue : groupQueues.values()) {
+      if (groupQueue.getWaitingRequestCount() > 0) {
+        groupQueue.drain();
+      }
+    }
+  }
+
+  /**
+   * Indicates if the result of a plugin command is a failure, i.e. if it is not a JSON object or if
+   * it contains an error, whatever its shape.
+   *
+   * @param jsonResult The JSON result (may be null).
+   * @return True if the result is a failure.
+   */
+  private static boolean isFailure(String jsonResult) {
+    JsonObject result = parseObject(jsonResult);
+    return result == null || result.has(ERROR);
+  }
+
+  /**
+   * Indicates if the result of a reader allocation contains exactly the error reported by the
+   * Keyple core when the pool plugin is unable to allocate a reader.
+   *
+   * @param jsonResult The JSON result (may be null).
+   * @return True if no reader is available, false for any other result.
+   */
+  private static boolean isNoReaderAvailable(String jsonResult) {
+    return NO_READER_AVAILABLE_CODE.equals(
+        getString(getObject(parseObject(jsonResult), ERROR), CODE));
+  }
+
+  /**
+   * Parses a JSON object.
+   *
+   * @param json The JSON content (may be null).
+   * @return Null if the content is not a JSON object.
+   */
+  private static JsonObject parseObject(String json) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return JsonUtil.getParser().fromJson(json, JsonObject.class);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets a child JSON object.
+   *
+   * @param object The parent JSON object (may be null).
+   * @param name The property name.
+   * @return Null if the property is absent or is not a JSON object.
+   */
+  private static JsonObject getObject(JsonObject object, String name) {
+    JsonElement element = object != null ? object.get(name) : null;
+    return element != null && element.isJsonObject() ? element.getAsJsonObject() : null;
+  }
+
+  /**
+   * Gets a string property.
+   *
+   * @param object The JSON object (may be null).
+   * @param name The property name.
+   * @return Null if the property is absent or is not a primitive value.
+   */
+  private static String getString(JsonObject object, String name) {
+    JsonElement element = object != null ? object.get(name) : null;
+    return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+  }
+
+  /**
+   * Reader allocation request, completed with the JSON result of the command.
+   *
+   * <p>A request being submitted to the Keyple core cannot be cancelled, so that the reader it may
+   * obtain is always delivered: the cancellation is then postponed to the end of the submission,
+   * and only applies if no reader has been allocated.
+   *
+   * @since 2.6.0
+   */
+  private static final class Request extends CompletableFuture<String> {
+
+    private static final int WAITING = 0;
+    private static final int ALLOCATING = 1;
+    private static final int ALLOCATING_ABANDONED = 2;
+    private static final int ABANDONED = 3;
+
+    private final LocalServiceApi localServiceApi;
+    private final String clientNodeId;
+    private final String jsonCommand;
+    private final long enqueueNanos;
+    private final AtomicInteger state;
+
+    private Request(LocalServiceApi localServiceApi, String clientNodeId, String jsonCommand) {
+      this.localServiceApi = localServiceApi;
+      this.clientNodeId = clientNodeId;
+      this.jsonCommand = jsonCommand;
+      this.enqueueNanos = System.nanoTime();
+      this.state = new AtomicInteger(WAITING);
+    }
+
+    /**
+     * Marks the request as being submitted to the Keyple core.
+     *
+     * @return False if the request has been abandoned.
+     */
+    private boolean startAllocation() {
+      return state.compareAndSet(WAITING, ALLOCATING);
+    }
+
+    /**
+     * Puts the request back in the waiting state after an unsuccessful allocation.
+     *
+     * @return False if the request has been abandoned during the allocation.
+     */
+    private boolean resumeWaiting() {
+      return state.compareAndSet(ALLOCATING, WAITING);
+    }
+
+    /**
+     * Abandons the request if it is waiting, or postpones the abandonment to the end of the
+     * allocation in progress.
+     *
+     * @return True if the request has been abandoned by this call and must be answered by the
+     *     caller.
+     */
+    private boolean abandon() {
+      while (true) {
+        int currentState = state.get();
+        if (currentState == WAITING && state.compareAndSet(WAITING, ABANDONED)) {
+          return true;
+        }
+        if (currentState == ALLOCATING
+            && state.compareAndSet(ALLOCATING, ALLOCATING_ABANDONED)) {
+          return false;
+        }
+        if (currentState == ALLOCATING_ABANDONED || currentState == ABANDONED) {
+          return false;
+        }
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns false if the request is being submitted to the Keyple core, its result being
+     * then delivered once available.
+     *
+     * @since 2.6.0
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      return abandon() && super.cancel(mayInterruptIfRunning);
+    }
+  }
+
+  /**
+   * Wait queue of the requests of a group of readers.
+   *
+   * <p>The requests are stored in sub-queues served in turn: one per client with the {@link
+   * ReaderAllocationPolicy#FAIR} policy, a single one with the {@link ReaderAllocationPolicy#FIFO}
+   * policy. The requests are submitted to the Keyple core by a single thread at a time.
+   *
+   * @since 2.6.0
+   */
+  private final class GroupQueue {
+
+    private final String readerGroupReference;
+    private final ReentrantLock lock;
+    private final Map<String, ArrayDeque<Request>> subQueues;
+    private final AtomicInteger drainRequestCount;
+    private final LongAdder allocatedRequestCount;
+    private final LongAdder timedOutRequestCount;
+    private final LatencyHistogram waitTimeHistogram;
+    private volatile int waitingRequestCount;
+    private volatile int maxWaitingRequestCount;
+    private volatile String lastFailure;
+
+    private GroupQueue(String readerGroupReference) {
+      this.readerGroupReference = readerGroupReference;
+      this.lock = new ReentrantLock();
+      this.subQueues = new LinkedHashMap<>();
+      this.drainRequestCount = new AtomicInteger();
+      this.allocatedRequestCount = new LongAdder();
+      this.timedOutRequestCount = new LongAdder();
+      this.waitTimeHistogram = new LatencyHistogram();
+    }
+
+    private int getWaitingRequestCount() {
+      return waitingRequestCount;
+    }
+
+    private void add(Request request) {
+      String subQueueKey = policy == ReaderAllocationPolicy.FAIR ? request.clientNodeId : "";
+      lock.lock();
+      try {
+        ArrayDeque<Request> subQueue = subQueues.get(subQueueKey);
+        if (subQueue == null) {
+          subQueue = new ArrayDeque<>();
+          subQueues.put(subQueueKey, subQueue);
+        }
+        subQueue.addLast(request);
+        waitingRequestCount++;
+        if (waitingRequestCount > maxWaitingRequestCount) {
+          maxWaitingRequestCount = waitingRequestCount;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Serves the waiting requests, unless another thread is already doing it, in which case this
+     * thread will perform a new pass once done.
+     */
+    private void drain() {
+      if (drainRequestCount.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        expireRequests();
+        serveRequests();
+        missed = drainRequestCount.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    /** Submits the requests to the Keyple core until no reader is available. */
+    private void serveRequests() {
+      Request request;
+      while ((request = peekRequest()) != null) {
+        if (!request.startAllocation()) {
+          // Abandoned request.
+          removeRequest(request, false);
+          continue;
+        }
+        String jsonResult;
+        try {
+          jsonResult = request.localServiceApi.executeLocally(request.jsonCommand, null);
+        } catch (RuntimeException e) {
+          removeRequest(request, false);
+          request.completeExceptionally(e);
+          continue;
+        }
+        if (isNoReaderAvailable(jsonResult)) {
+          lastFailure = jsonResult;
+          if (!request.resumeWaiting()) {
+            // Abandoned during the allocation, answered as it would have been without queue.
+            removeRequest(request, false);
+            request.complete(jsonResult);
+          }
+          return;
+        }
+        if (isFailure(jsonResult)) {
+          // Other errors are not resolved by waiting.
+          removeRequest(request, false);
+        } else {
+          removeRequest(request, true);
+          allocatedRequestCount.increment();
+          waitTimeHistogram.record(System.nanoTime() - request.enqueueNanos);
+        }
+        request.complete(jsonResult);
+      }
+    }
+
+    /** Answers the requests which have been waiting longer than the maximum wait time. */
+    private void expireRequests() {
+      long nowNanos = System.nanoTime();
+      List<Request> expiredRequests = null;
+      lock.lock();
+      try {
+        Iterator<ArrayDeque<Request>> subQueueIterator = subQueues.values().iterator();
+        while (subQueueIterator.hasNext()) {
+          ArrayDeque<Request> subQueue = subQueueIterator.next();
+          // Within a sub-queue, the requests are sorted by arrival time.
+          while (!subQueue.isEmpty()
+              && nowNanos - subQueue.peekFirst().enqueueNanos >= maxWaitNanos) {
+            if (expiredRequests == null) {
+              expiredRequests = new ArrayList<>();
+            }
+            expiredRequests.add(subQueue.pollFirst());
+            waitingRequestCount--;
+          }
+          if (subQueue.isEmpty()) {
+            subQueueIterator.remove();
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (expiredRequests == null) {
+        return;
+      }
+      String failure = lastFailure;
+      for (Request request : expiredRequests) {
+        if (!request.abandon()) {
+          // Already cancelled.
+          continue;
+        }
+        timedOutRequestCount.increment();
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "Reader allocation request timed out [readerGroupReference={}, clientNodeId={}]",
+              readerGroupReference,
+              request.clientNodeId);
+        }
+        if (failure != null) {
+          request.complete(failure);
+        } else {
+          request.completeExceptionally(
+              new IllegalStateException(
+                  "No reader available in group '"
+                      + readerGroupReference
+                      + "' after "
+                      + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)
+                      + " ms"));
+        }
+      }
+    }
+
+    /** Answers all the waiting requests with an error. */
+    private void cancelRequests() {
+      List<Request> cancelledRequests = new ArrayList<>();
+      lock.lock();
+      try {
+        for (ArrayDeque<Request> subQueue : subQueues.values()) {
+          cancelledRequests.addAll(subQueue);
+        }
+        subQueues.clear();
+        waitingRequestCount = 0;
+      } finally {
+        lock.unlock();
+      }
+      for (Request request : cancelledRequests) {
+        if (!request.abandon()) {
+          // Already cancelled, or answered at the end of the allocation in progress.
+          continue;
+        }
+        request.completeExceptionally(
+            new IllegalStateException(
+                "Reader allocation request cancelled, the local service is closed"));
+      }
+    }
+
+    private Request peekRequest() {
+      lock.lock();
+      try {
+        Iterator<ArrayDeque<Request>> subQueueIterator = subQueues.values().iterator();
+        return subQueueIterator.hasNext() ? subQueueIterator.next().peekFirst() : null;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Removes the request at the head of the first sub-queue.
+     *
+     * @param request The request to remove.
+     * @param isServed True if the request has been served, its client then yields its turn.
+     */
+    private void removeRequest(Request request, boolean isServed) {
+      lock.lock();
+      try {
+        Iterator<Map.Entry<String, ArrayDeque<Request>>> subQueueIterator =
+            subQueues.entrySet().iterator();
+        if (!subQueueIterator.hasNext()) {
+          // Cancelled in the meantime.
+          return;
+        }
+        Map.Entry<String, ArrayDeque<Request>> entry = subQueueIterator.next();
+        ArrayDeque<Request> subQueue = entry.getValue();
+        if (!subQueue.remove(request)) {
+          return;
+        }
+        waitingRequestCount--;
+        if (subQueue.isEmpty()) {
+          subQueueIterator.remove();
+        } else if (isServed && subQueues.size() > 1) {
+          // Move the client to the end of the round.
+          subQueueIterator.remove();
+          subQueues.put(entry.getKey(), subQueue);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private ReaderAllocationStatistics getStatistics() {
+      return new ReaderAllocationStatisticsAdapter(
+          readerGroupReference,
+          waitingRequestCount,
+          maxWaitingRequestCount,
+          allocatedRequestCount.sum(),
+          timedOutRequestCount.sum(),
+          waitTimeHistogram.snapshot(LatencyMetricType.READER_ALLOCATION_WAIT, null));
+    }
+  }
+}
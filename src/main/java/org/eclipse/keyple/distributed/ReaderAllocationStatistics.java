@@ -0,0 +1,71 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Snapshot of the wait queue of the reader allocation requests of a group of readers of a pool
+ * plugin.
+ *
+ * @see LocalServiceServer#getReaderAllocationStatistics()
+ * @since 2.6.0
+ */
+public interface ReaderAllocationStatistics {
+
+  /**
+   * Gets the reference of the group of readers.
+   *
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  String getReaderGroupReference();
+
+  /**
+   * Gets the number of requests currently waiting for a reader.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getWaitingRequestCount();
+
+  /**
+   * Gets the highest number of requests that have been waiting at the same time.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getMaxWaitingRequestCount();
+
+  /**
+   * Gets the number of requests which have obtained a reader.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getAllocatedRequestCount();
+
+  /**
+   * Gets the number of requests which have not obtained a reader within the maximum wait time.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getTimedOutRequestCount();
+
+  /**
+   * Gets the distribution of the time spent in the queue by the requests which have obtained a
+   * reader.
+   *
+   * @return A not null reference of type {@link LatencyMetricType#READER_ALLOCATION_WAIT}.
+   * @since 2.6.0
+   */
+  LatencyStatistics getWaitTimeStatistics();
+}
@@ -0,0 +1,137 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link ReaderAllocationStatistics}.
+ *
+ * @since 2.6.0
+ */
+final class ReaderAllocationStatisticsAdapter implements ReaderAllocationStatistics {
+
+  private final String readerGroupReference;
+  private final int waitingRequestCount;
+  private final int maxWaitingRequestCount;
+  private final long allocatedRequestCount;
+  private final long timedOutRequestCount;
+  private final LatencyStatistics waitTimeStatistics;
+
+  /**
+   * Constructor.
+   *
+   * @param readerGroupReference The reader group reference.
+   * @param waitingRequestCount The number of waiting requests.
+   * @param maxWaitingRequestCount The highest number of waiting requests.
+   * @param allocatedRequestCount The number of requests which have obtained a reader.
+   * @param timedOutRequestCount The number of requests which have timed out.
+   * @param waitTimeStatistics The distribution of the wait time.
+   * @since 2.6.0
+   */
+  ReaderAllocationStatisticsAdapter(
+      String readerGroupReference,
+      int waitingRequestCount,
+      int maxWaitingRequestCount,
+      long allocatedRequestCount,
+      long timedOutRequestCount,
+      LatencyStatistics waitTimeStatistics) {
+    this.readerGroupReference = readerGroupReference;
+    this.waitingRequestCount = waitingRequestCount;
+    this.maxWaitingRequestCount = maxWaitingRequestCount;
+    this.allocatedRequestCount = allocatedRequestCount;
+    this.timedOutRequestCount = timedOutRequestCount;
+    this.waitTimeStatistics = waitTimeStatistics;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String getReaderGroupReference() {
+    return readerGroupReference;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getWaitingRequestCount() {
+    return waitingRequestCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getMaxWaitingRequestCount() {
+    return maxWaitingRequestCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getAllocatedRequestCount() {
+    return allocatedRequestCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getTimedOutRequestCount() {
+    return timedOutRequestCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public LatencyStatistics getWaitTimeStatistics() {
+    return waitTimeStatistics;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "ReaderAllocationStatistics{"
+        + "readerGroupReference='"
+        + readerGroupReference
+        + '\''
+        + ", waitingRequestCount="
+        + waitingRequestCount
+        + ", maxWaitingRequestCount="
+        + maxWaitingRequestCount
+        + ", allocatedRequestCount="
+        + allocatedRequestCount
+        + ", timedOutRequestCount="
+        + timedOutRequestCount
+        + ", waitTimeStatistics="
+        + waitTimeStatistics
+        + '}';
+  }
+}
@@ -0,0 +1,113 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+
+/**
+ * Cache of the metadata of the local readers, avoiding a call to the Keyple core for each remote
+ * service executed on the same reader.
+ *
+ * <p>The metadata of a reader are retrieved on the first lookup, then kept until they are
+ * invalidated or, if a time to live is configured, until they expire. The failed lookups are not
+ * cached.
+ *
+ * @since 2.6.0
+ */
+final class ReaderMetadataCache {
+
+  private final long timeToLiveNanos;
+  private final ConcurrentMap<String, Entry> entries;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+
+  /**
+   * Constructor.
+   *
+   * @param timeToLiveMillis The time to live of the entries (in milliseconds), 0 if they never
+   *     expire.
+   * @since 2.6.0
+   */
+  ReaderMetadataCache(long timeToLiveMillis) {
+    this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+    this.entries = new ConcurrentHashMap<>();
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+  }
+
+  /**
+   * Indicates if the provided reader is contactless, using the cached value if available.
+   *
+   * @param localServiceApi The API of the Keyple core, used if the value is not cached.
+   * @param localReaderName The name of the local reader.
+   * @return True if the reader is contactless.
+   * @since 2.6.0
+   */
+  boolean isReaderContactless(LocalServiceApi localServiceApi, String localReaderName) {
+    Entry entry = entries.get(localReaderName);
+    long nowNanos = timeToLiveNanos > 0 ? System.nanoTime() : 0;
+    if (entry != null && (timeToLiveNanos == 0 || nowNanos - entry.expirationNanos < 0)) {
+      hitCount.increment();
+      return entry.isContactless;
+    }
+    missCount.increment();
+    boolean isContactless = localServiceApi.isReaderContactless(localReaderName);
+    entries.put(localReaderName, new Entry(isContactless, nowNanos + timeToLiveNanos));
+    return isContactless;
+  }
+
+  /**
+   * Removes the metadata of the provided reader.
+   *
+   * @param localReaderName The name of the local reader.
+   * @since 2.6.0
+   */
+  void invalidate(String localReaderName) {
+    entries.remove(localReaderName);
+  }
+
+  /**
+   * Removes the metadata of all readers.
+   *
+   * @since 2.6.0
+   */
+  void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * Gets a snapshot of the cache statistics.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  ReaderMetadataCacheStatistics getStatistics() {
+    return new ReaderMetadataCacheStatisticsAdapter(
+        entries.size(), hitCount.sum(), missCount.sum());
+  }
+
+  /** The metadata of a reader. */
+  private static final class Entry {
+
+    private final boolean isContactless;
+    private final long expirationNanos;
+
+    private Entry(boolean isContactless, long expirationNanos) {
+      this.isContactless = isContactless;
+      this.expirationNanos = expirationNanos;
+    }
+  }
+}
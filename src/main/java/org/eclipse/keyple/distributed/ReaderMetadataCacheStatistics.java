@@ -0,0 +1,45 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Snapshot of the state of the cache of the local reader metadata of a {@link LocalServiceClient}.
+ *
+ * @see LocalServiceClient#getReaderMetadataCacheStatistics()
+ * @since 2.6.0
+ */
+public interface ReaderMetadataCacheStatistics {
+
+  /**
+   * Gets the number of readers whose metadata are currently cached.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int getEntryCount();
+
+  /**
+   * Gets the number of lookups served by the cache.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getHitCount();
+
+  /**
+   * Gets the number of lookups that required a call to the Keyple core (unknown or expired reader).
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getMissCount();
+}
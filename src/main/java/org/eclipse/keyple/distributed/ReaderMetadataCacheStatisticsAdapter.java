@@ -0,0 +1,85 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link ReaderMetadataCacheStatistics}.
+ *
+ * @since 2.6.0
+ */
+final class ReaderMetadataCacheStatisticsAdapter implements ReaderMetadataCacheStatistics {
+
+  private final int entryCount;
+  private final long hitCount;
+  private final long missCount;
+
+  /**
+   * Constructor.
+   *
+   * @param entryCount The number of cached readers.
+   * @param hitCount The number of lookups served by the cache.
+   * @param missCount The number of lookups not served by the cache.
+   * @since 2.6.0
+   */
+  ReaderMetadataCacheStatisticsAdapter(int entryCount, long hitCount, long missCount) {
+    this.entryCount = entryCount;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "ReaderMetadataCacheStatistics{"
+        + "entryCount="
+        + entryCount
+        + ", hitCount="
+        + hitCount
+        + ", missCount="
+        + missCount
+        + '}';
+  }
+}
@@ -0,0 +1,166 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Future of a remote service executed asynchronously.
+ *
+ * <p>Unlike a plain {@link CompletableFuture}, cancelling it with {@code mayInterruptIfRunning} set
+ * to true interrupts the thread running the transaction while it waits for the server. In any case,
+ * once the future is completed (cancelled, timed out...), the transaction is aborted before the
+ * next exchange with the server.
+ *
+ * <p>The thread is never interrupted while a command is executed locally, so that the exchange with
+ * the card is not broken in the middle, and only the interruption set by the future itself is
+ * cleared when the transaction ends, the other ones being kept for the owner of the thread.
+ *
+ * <p>The runner thread is guarded by a {@link ReentrantLock} rather than by a monitor, so that a
+ * virtual thread running the transaction never pins its carrier thread.
+ *
+ * @param <T> The type of the output data.
+ * @since 2.6.0
+ */
+final class RemoteServiceFuture<T> extends CompletableFuture<T> {
+
+  private final ReentrantLock runnerLock = new ReentrantLock();
+  private Thread runner;
+  private boolean isLocalExecutionInProgress;
+  private boolean isRunnerInterrupted;
+
+  /**
+   * Binds the current thread as the one running the transaction.
+   *
+   * @since 2.6.0
+   */
+  void bindCurrentThread() {
+    runnerLock.lock();
+    try {
+      runner = Thread.currentThread();
+    } finally {
+      runnerLock.unlock();
+    }
+  }
+
+  /**
+   * Unbinds the thread running the transaction and clears its interrupted status if it has been set
+   * by a cancellation of the future.
+   *
+   * @since 2.6.0
+   */
+  void unbindCurrentThread() {
+    boolean isInterruptedByFuture;
+    runnerLock.lock();
+    try {
+      runner = null;
+      isInterruptedByFuture = isRunnerInterrupted;
+      isRunnerInterrupted = false;
+    } finally {
+      runnerLock.unlock();
+    }
+    if (isInterruptedByFuture) {
+      Thread.interrupted(); // NOSONAR - the interruption only targeted the transaction
+    }
+  }
+
+  /**
+   * Indicates that a command is being executed locally, the thread running the transaction must not
+   * be interrupted until {@link #endLocalExecution()} is invoked.
+   *
+   * @since 2.6.0
+   */
+  void beginLocalExecution() {
+    runnerLock.lock();
+    try {
+      isLocalExecutionInProgress = true;
+    } finally {
+      runnerLock.unlock();
+    }
+  }
+
+  /**
+   * Indicates that the local execution of a command is finished.
+   *
+   * <p>If the future has been completed meanwhile, the transaction is aborted by the next call to
+   * {@link #checkNotDone()}.
+   *
+   * @since 2.6.0
+   */
+  void endLocalExecution() {
+    runnerLock.lock();
+    try {
+      isLocalExecutionInProgress = false;
+    } finally {
+      runnerLock.unlock();
+    }
+  }
+
+  /**
+   * Throws an exception if the future has already been completed from outside the transaction.
+   *
+   * @throws CancellationException If the transaction must be aborted.
+   * @since 2.6.0
+   */
+  void checkNotDone() {
+    if (isDone()) {
+      throw new CancellationException("Remote service aborted");
+    }
+  }
+
+  /**
+   * Completes the future exceptionally and interrupts the transaction if it is running.
+   *
+   * @param e The cause.
+   * @return True if this invocation caused the future to transition to a completed state.
+   * @since 2.6.0
+   */
+  boolean abort(Throwable e) {
+    boolean isCompleted = completeExceptionally(e);
+    if (isCompleted) {
+      interruptRunner();
+    }
+    return isCompleted;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If {@code mayInterruptIfRunning} is true, the thread running the transaction is
+   * interrupted, unless it is executing a command locally.
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    boolean isCancelled = super.cancel(mayInterruptIfRunning);
+    if (isCancelled && mayInterruptIfRunning) {
+      interruptRunner();
+    }
+    return isCancelled;
+  }
+
+  /** Interrupts the thread running the transaction, if any and if it is waiting for the server. */
+  private void interruptRunner() {
+    runnerLock.lock();
+    try {
+      if (runner != null && !isLocalExecutionInProgress) {
+        isRunnerInterrupted = true;
+        runner.interrupt();
+      }
+    } finally {
+      runnerLock.unlock();
+    }
+  }
+}
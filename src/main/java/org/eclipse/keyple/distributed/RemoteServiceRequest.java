@@ -0,0 +1,74 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import org.eclipse.keyple.core.util.Assert;
+
+/**
+ * An item of a batch of remote services to execute on several local readers.
+ *
+ * @see LocalServiceClient#executeRemoteServices(String, java.util.List, Class, int)
+ * @since 2.6.0
+ */
+public final class RemoteServiceRequest {
+
+  private final String localReaderName;
+  private final Object initialCardContent;
+  private final Object inputData;
+
+  /**
+   * Constructor.
+   *
+   * @param localReaderName The name of the local reader to manage remotely from the server.
+   * @param initialCardContent (optional) : The initial smart card content to transmit to the
+   *     remote ticketing service.
+   * @param inputData (optional) : A DTO containing additional information if needed.
+   * @throws IllegalArgumentException If the local reader name is null or empty.
+   * @since 2.6.0
+   */
+  public RemoteServiceRequest(String localReaderName, Object initialCardContent, Object inputData) {
+    Assert.getInstance().notEmpty(localReaderName, "localReaderName");
+    this.localReaderName = localReaderName;
+    this.initialCardContent = initialCardContent;
+    this.inputData = inputData;
+  }
+
+  /**
+   * Gets the name of the local reader.
+   *
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  public String getLocalReaderName() {
+    return localReaderName;
+  }
+
+  /**
+   * Gets the initial smart card content.
+   *
+   * @return Null if not set.
+   * @since 2.6.0
+   */
+  public Object getInitialCardContent() {
+    return initialCardContent;
+  }
+
+  /**
+   * Gets the input data.
+   *
+   * @return Null if not set.
+   * @since 2.6.0
+   */
+  public Object getInputData() {
+    return inputData;
+  }
+}
@@ -0,0 +1,55 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Outcome of an item of a batch of remote services.
+ *
+ * @param <T> The generic type of the expected output data.
+ * @see LocalServiceClient#executeRemoteServices(String, java.util.List, Class, int)
+ * @since 2.6.0
+ */
+public interface RemoteServiceResult<T> {
+
+  /**
+   * Gets the request at the origin of this result.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  RemoteServiceRequest getRequest();
+
+  /**
+   * Indicates if the remote service has been successfully executed.
+   *
+   * @return True if no error occurred.
+   * @since 2.6.0
+   */
+  boolean isSuccessful();
+
+  /**
+   * Gets the output data returned by the server.
+   *
+   * @return Null if the remote service failed, if the output data class is null or if the returned
+   *     server output data is null.
+   * @since 2.6.0
+   */
+  T getOutputData();
+
+  /**
+   * Gets the error that occurred during the execution of the remote service.
+   *
+   * @return Null if the remote service has been successfully executed.
+   * @since 2.6.0
+   */
+  RuntimeException getError();
+}
@@ -0,0 +1,79 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link RemoteServiceResult}.
+ *
+ * @param <T> The generic type of the output data.
+ * @since 2.6.0
+ */
+final class RemoteServiceResultAdapter<T> implements RemoteServiceResult<T> {
+
+  private final RemoteServiceRequest request;
+  private final T outputData;
+  private final RuntimeException error;
+
+  /**
+   * Constructor.
+   *
+   * @param request The request.
+   * @param outputData The output data (null if none or if failed).
+   * @param error The error (null if successful).
+   * @since 2.6.0
+   */
+  RemoteServiceResultAdapter(RemoteServiceRequest request, T outputData, RuntimeException error) {
+    this.request = request;
+    this.outputData = outputData;
+    this.error = error;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public RemoteServiceRequest getRequest() {
+    return request;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public boolean isSuccessful() {
+    return error == null;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public T getOutputData() {
+    return outputData;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public RuntimeException getError() {
+    return error;
+  }
+}
@@ -0,0 +1,185 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.io.Writer;
+
+/**
+ * Unsynchronized {@link Writer} accumulating characters into a buffer reused by the successive
+ * serializations performed on the same thread.
+ *
+ * <p>The buffer grows with the largest content written, so that large messages are serialized
+ * without intermediate reallocations once the size has been reached. It is released if its
+ * capacity exceeds {@value #MAX_RETAINED_CAPACITY} characters, in order not to retain occasional
+ * very large messages.
+ *
+ * @since 2.6.0
+ */
+final class ReusableStringWriter extends Writer {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+  private static final ThreadLocal<ReusableStringWriter> instances =
+      new ThreadLocal<ReusableStringWriter>() {
+        @Override
+        protected ReusableStringWriter initialValue() {
+          return new ReusableStringWriter();
+        }
+      };
+
+  private StringBuilder buffer;
+  private boolean isInUse;
+
+  private ReusableStringWriter() {
+    this.buffer = new StringBuilder(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Gets an empty writer, which must be released by {@link #toStringAndRelease()}.
+   *
+   * <p>The writer of the current thread is returned, unless it is already in use (nested
+   * serialization), in which case a new instance is returned.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  static ReusableStringWriter acquire() {
+    ReusableStringWriter writer = instances.get();
+    if (writer.isInUse) {
+      writer = new ReusableStringWriter();
+    }
+    writer.isInUse = true;
+    return writer;
+  }
+
+  /**
+   * Gets the written content and releases the writer.
+   *
+   * @return A not null string.
+   * @since 2.6.0
+   */
+  String toStringAndRelease() {
+    try {
+      return buffer.toString();
+    } finally {
+      release();
+    }
+  }
+
+  /**
+   * Discards the written content and releases the writer.
+   *
+   * @since 2.6.0
+   */
+  void release() {
+    if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+      buffer = new StringBuilder(INITIAL_CAPACITY);
+    } else {
+      buffer.setLength(0);
+    }
+    isInUse = false;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void write(int c) {
+    buffer.append((char) c);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void write(char[] chars, int offset, int length) {
+    buffer.append(chars, offset, length);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void write(String str) {
+    buffer.append(str);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void write(String str, int offset, int length) {
+    buffer.append(str, offset, offset + length);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public Writer append(CharSequence csq) {
+    buffer.append(csq);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public Writer append(CharSequence csq, int start, int end) {
+    buffer.append(csq, start, end);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public Writer append(char c) {
+    buffer.append(c);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void flush() {
+    // NOP
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public void close() {
+    // NOP
+  }
+}
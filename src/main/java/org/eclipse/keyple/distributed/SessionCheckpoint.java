@@ -0,0 +1,160 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Checkpoint of a remote service session, allowing the session to be resumed after a network
+ * failure.
+ *
+ * <p>When the resumption is enabled, the client declares the duration of its grace window in the
+ * body of the {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} message using the {@value
+ * #SESSION_RESUME} property, this message being the request 0 of the session. A server supporting
+ * the resumption acknowledges each request by wrapping the body of its response in a JSON object
+ * containing the {@value #SEQUENCE_NUMBER} property (the number of the request acknowledged) and
+ * the {@value #BODY} property (the original body), and keeps its last response so that it can
+ * replay it if the same request is received again. The next requests of the client are then
+ * wrapped the same way with their sequence number.
+ *
+ * <p>The bodies produced by Keyple core are therefore never modified, and the requests are wrapped
+ * only once the server has shown that it supports the resumption: a server which does not support
+ * it receives the bodies unchanged.
+ *
+ * <p>A request can be sent again on a new node session without risk of double processing, but only
+ * once the server has acknowledged a request of the session. With a server which does not support
+ * the resumption, the requests are never sent again.
+ *
+ * <p>An instance is used by a single thread, the one processing the session.
+ *
+ * @since 2.6.0
+ */
+final class SessionCheckpoint {
+
+  /**
+   * Property of the {@link MessageDto.Action#EXECUTE_REMOTE_SERVICE} body containing the grace
+   * window (in seconds) during which the client may resume the session.
+   *
+   * @since 2.6.0
+   */
+  static final String SESSION_RESUME = "SESSION_RESUME";
+
+  /**
+   * Property placed first in the wrapper of the bodies exchanged in a resumable session, containing
+   * the sequence number of the request.
+   *
+   * @since 2.6.0
+   */
+  static final String SEQUENCE_NUMBER = "SEQUENCE_NUMBER";
+
+  /**
+   * Property of the wrapper containing the original body, absent if the body is null.
+   *
+   * @since 2.6.0
+   */
+  static final String BODY = "BODY";
+
+  private static final String PREFIX = "{\"" + SEQUENCE_NUMBER + "\":";
+  private static final String BODY_SEPARATOR = ",\"" + BODY + "\":";
+
+  private int sequenceNumber;
+  private int acknowledgedSequenceNumber;
+  private boolean isStamped;
+
+  /**
+   * Constructor.
+   *
+   * @since 2.6.0
+   */
+  SessionCheckpoint() {
+    this.sequenceNumber = -1;
+    this.acknowledgedSequenceNumber = -1;
+  }
+
+  /**
+   * Numbers the next request of the session.
+   *
+   * <p>The request is wrapped with its sequence number only if the server has already acknowledged
+   * a request of the session.
+   *
+   * @param body The JSON body of the request (may be null).
+   * @return The body wrapped with the sequence number, or the body unchanged if the server has not
+   *     acknowledged any request or if the body is not a JSON object, in which case the request is
+   *     not resumable.
+   * @since 2.6.0
+   */
+  String stamp(String body) {
+    sequenceNumber++;
+    isStamped = acknowledgedSequenceNumber >= 0 && body != null && body.startsWith("{");
+    if (!isStamped) {
+      return body;
+    }
+    return new StringBuilder(body.length() + PREFIX.length() + BODY_SEPARATOR.length() + 12)
+        .append(PREFIX)
+        .append(sequenceNumber)
+        .append(BODY_SEPARATOR)
+        .append(body)
+        .append('}')
+        .toString();
+  }
+
+  /**
+   * Registers the acknowledgement contained in a response and unwraps its body.
+   *
+   * @param body The JSON body of the response (may be null).
+   * @return The original body, or the body unchanged if it is not wrapped.
+   * @since 2.6.0
+   */
+  String acknowledge(String body) {
+    if (body == null || !body.startsWith(PREFIX)) {
+      return body;
+    }
+    int end = PREFIX.length();
+    while (end < body.length() && Character.isDigit(body.charAt(end))) {
+      end++;
+    }
+    if (end == PREFIX.length()) {
+      return body;
+    }
+    String originalBody;
+    if (body.startsWith("}", end) && end == body.length() - 1) {
+      originalBody = null;
+    } else if (body.startsWith(BODY_SEPARATOR, end) && body.endsWith("}")) {
+      originalBody = body.substring(end + BODY_SEPARATOR.length(), body.length() - 1).trim();
+    } else {
+      return body;
+    }
+    if (Integer.parseInt(body.substring(PREFIX.length(), end)) == sequenceNumber) {
+      acknowledgedSequenceNumber = sequenceNumber;
+    }
+    return originalBody;
+  }
+
+  /**
+   * Indicates if the current request can be sent again after a network failure, i.e. if the server
+   * has already acknowledged a request of the session and if the current request is numbered.
+   *
+   * @return True if the current request is resumable.
+   * @since 2.6.0
+   */
+  boolean isResumable() {
+    return isStamped && acknowledgedSequenceNumber >= 0;
+  }
+
+  /**
+   * Gets the sequence number of the current request.
+   *
+   * @return -1 if no request has been numbered.
+   * @since 2.6.0
+   */
+  int getSequenceNumber() {
+    return sequenceNumber;
+  }
+}
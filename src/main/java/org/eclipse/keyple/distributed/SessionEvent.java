@@ -0,0 +1,69 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Event recorded during a remote service executed by a {@link LocalServiceClient}.
+ *
+ * @see LocalServiceClient#getSessionEvents()
+ * @since 2.6.0
+ */
+public interface SessionEvent {
+
+  /**
+   * Gets the sequence number of the event, incremented for each event recorded by the service.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getSequenceNumber();
+
+  /**
+   * Gets the time of the event, in milliseconds since the epoch.
+   *
+   * @return A positive long.
+   * @since 2.6.0
+   */
+  long getTimestampMillis();
+
+  /**
+   * Gets the ID of the session of the remote service.
+   *
+   * @return A not empty string.
+   * @since 2.6.0
+   */
+  String getSessionId();
+
+  /**
+   * Gets the type of the event.
+   *
+   * @return A not null reference.
+   * @since 2.6.0
+   */
+  SessionEventType getType();
+
+  /**
+   * Gets the duration associated to the event (see {@link SessionEventType}).
+   *
+   * @return 0 if the event has no duration.
+   * @since 2.6.0
+   */
+  long getDurationNanos();
+
+  /**
+   * Gets the detail associated to the event (see {@link SessionEventType}).
+   *
+   * @return Null if the event has no detail.
+   * @since 2.6.0
+   */
+  String getDetail();
+}
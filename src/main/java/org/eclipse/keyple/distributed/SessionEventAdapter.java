@@ -0,0 +1,138 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Adapter of {@link SessionEvent}.
+ *
+ * @since 2.6.0
+ */
+final class SessionEventAdapter implements SessionEvent {
+
+  private final long sequenceNumber;
+  private final long timestampMillis;
+  private final String sessionId;
+  private final SessionEventType type;
+  private final long durationNanos;
+  private final String detail;
+
+  /**
+   * Constructor.
+   *
+   * @param sequenceNumber The sequence number.
+   * @param timestampMillis The time of the event.
+   * @param sessionId The session ID.
+   * @param type The event type.
+   * @param durationNanos The duration (0 if none).
+   * @param detail The detail (null if none).
+   * @since 2.6.0
+   */
+  SessionEventAdapter(
+      long sequenceNumber,
+      long timestampMillis,
+      String sessionId,
+      SessionEventType type,
+      long durationNanos,
+      String detail) {
+    this.sequenceNumber = sequenceNumber;
+    this.timestampMillis = timestampMillis;
+    this.sessionId = sessionId;
+    this.type = type;
+    this.durationNanos = durationNanos;
+    this.detail = detail;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String getSessionId() {
+    return sessionId;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public SessionEventType getType() {
+    return type;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String getDetail() {
+    return detail;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.6.0
+   */
+  @Override
+  public String toString() {
+    return "SessionEvent{"
+        + "sequenceNumber="
+        + sequenceNumber
+        + ", timestampMillis="
+        + timestampMillis
+        + ", sessionId='"
+        + sessionId
+        + '\''
+        + ", type="
+        + type
+        + ", durationNanos="
+        + durationNanos
+        + ", detail='"
+        + detail
+        + '\''
+        + '}';
+  }
+}
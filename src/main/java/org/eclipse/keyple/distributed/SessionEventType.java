@@ -0,0 +1,75 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+/**
+ * Type of an event recorded during a remote service executed by a {@link LocalServiceClient}.
+ *
+ * @see SessionEvent
+ * @since 2.6.0
+ */
+public enum SessionEventType {
+
+  /**
+   * Start of the remote service. The detail contains the service ID.
+   *
+   * @since 2.6.0
+   */
+  SESSION_START,
+
+  /**
+   * Local execution of the selection scenario registered for the service, before the first
+   * request. The duration is the execution time and the detail indicates if a card has been
+   * selected.
+   *
+   * @since 2.6.0
+   */
+  LOCAL_SELECTION,
+
+  /**
+   * Request/response exchange with the server. The duration is the round trip time.
+   *
+   * @since 2.6.0
+   */
+  ROUND_TRIP,
+
+  /**
+   * Local execution of a command on the card reader. The duration is the execution time.
+   *
+   * @since 2.6.0
+   */
+  LOCAL_EXECUTION,
+
+  /**
+   * Resumption of the session on a new node session after a network failure, before sending again
+   * the last request. The detail contains the sequence number of the request and the error
+   * message of the failure.
+   *
+   * @since 2.6.0
+   */
+  SESSION_RESUME,
+
+  /**
+   * Successful end of the remote service. The duration is the total duration of the service.
+   *
+   * @since 2.6.0
+   */
+  SESSION_END,
+
+  /**
+   * Failure of the remote service. The duration is the total duration of the service and the detail
+   * contains the error message.
+   *
+   * @since 2.6.0
+   */
+  ERROR
+}
@@ -0,0 +1,145 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring buffer keeping the most recent events of the remote services, in order to
+ * diagnose a failure without logging each session.
+ *
+ * <p>Recording an event is lock-free and does not allocate: the fields of the event are written
+ * into preallocated slots, the strings being only referenced. Each slot is guarded by its sequence
+ * number, which is cleared before the slot is overwritten and published once all fields are
+ * written, so that a reader never returns a partially overwritten event.
+ *
+ * @since 2.6.0
+ */
+final class SessionFlightRecorder {
+
+  private static final SessionEventType[] TYPES = SessionEventType.values();
+
+  /** Marks a slot never written or being overwritten. */
+  private static final long NO_SEQUENCE = -1;
+
+  private final int mask;
+  private final AtomicLong nextSequence;
+  private final AtomicLongArray sequences;
+  private final AtomicLongArray timestamps;
+  private final AtomicLongArray durations;
+  private final AtomicIntegerArray types;
+  private final AtomicReferenceArray<String> sessionIds;
+  private final AtomicReferenceArray<String> details;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The number of events kept (rounded up to a power of 2).
+   * @since 2.6.0
+   */
+  SessionFlightRecorder(int capacity) {
+    int size = Math.max(Integer.highestOneBit(Math.max(capacity, 1) - 1) << 1, 1);
+    this.mask = size - 1;
+    this.nextSequence = new AtomicLong();
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, NO_SEQUENCE);
+    }
+    this.timestamps = new AtomicLongArray(size);
+    this.durations = new AtomicLongArray(size);
+    this.types = new AtomicIntegerArray(size);
+    this.sessionIds = new AtomicReferenceArray<>(size);
+    this.details = new AtomicReferenceArray<>(size);
+  }
+
+  /**
+   * Gets the number of events kept.
+   *
+   * @return A power of 2.
+   * @since 2.6.0
+   */
+  int getCapacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Records an event, overwriting the oldest one if the buffer is full.
+   *
+   * @param type The event type.
+   * @param sessionId The session ID.
+   * @param durationNanos The duration (0 if none).
+   * @param detail The detail (null if none).
+   * @since 2.6.0
+   */
+  void record(SessionEventType type, String sessionId, long durationNanos, String detail) {
+    long sequence = nextSequence.getAndIncrement();
+    int index = (int) sequence & mask;
+    sequences.set(index, NO_SEQUENCE);
+    timestamps.set(index, System.currentTimeMillis());
+    durations.set(index, durationNanos);
+    types.set(index, type.ordinal());
+    sessionIds.set(index, sessionId);
+    details.set(index, detail);
+    sequences.set(index, sequence);
+  }
+
+  /**
+   * Gets the events currently kept, from the oldest to the most recent.
+   *
+   * @return A not null list.
+   * @since 2.6.0
+   */
+  List<SessionEvent> getEvents() {
+    return getEvents(null);
+  }
+
+  /**
+   * Gets the events of a session currently kept, from the oldest to the most recent.
+   *
+   * @param sessionId The session ID (null for all sessions).
+   * @return A not null list.
+   * @since 2.6.0
+   */
+  List<SessionEvent> getEvents(String sessionId) {
+    long last = nextSequence.get();
+    long first = Math.max(last - getCapacity(), 0);
+    List<SessionEvent> events = new ArrayList<>();
+    for (long sequence = first; sequence < last; sequence++) {
+      int index = (int) sequence & mask;
+      if (sequences.get(index) != sequence) {
+        // Not yet published or already overwritten.
+        continue;
+      }
+      SessionEvent event =
+          new SessionEventAdapter(
+              sequence,
+              timestamps.get(index),
+              sessionIds.get(index),
+              TYPES[types.get(index)],
+              durations.get(index),
+              details.get(index));
+      if (sequences.get(index) != sequence) {
+        // Overwritten while reading.
+        continue;
+      }
+      if (sessionId == null || sessionId.equals(event.getSessionId())) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+}
@@ -0,0 +1,158 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe set exposing its content as immutable array snapshots.
+ *
+ * <p>Reading the content is a single volatile read without any allocation, and the membership of
+ * an element is checked in constant time using a concurrent hash index. Each modification creates a
+ * new array which is swapped under a lock. This structure is therefore intended for content that is
+ * read much more often than it is modified (e.g. the subscribers of an event).
+ *
+ * <p>Element equality is based on {@link Object#equals(Object)} when adding, whereas removal is
+ * based on identity so that a stale reference never removes an equal element added later.
+ *
+ * @param <E> The type of the elements.
+ * @since 2.6.0
+ */
+final class SnapshotSet<E> {
+
+  private final ConcurrentMap<E, E> index;
+  private final ReentrantLock writeLock;
+  private volatile E[] elements;
+
+  /**
+   * Constructor.
+   *
+   * @param emptyArray An empty array, used to create the snapshots with the right runtime type.
+   * @since 2.6.0
+   */
+  SnapshotSet(E[] emptyArray) {
+    this.index = new ConcurrentHashMap<>();
+    this.writeLock = new ReentrantLock();
+    this.elements = emptyArray;
+  }
+
+  /**
+   * Gets the current content.
+   *
+   * <p>The returned array must not be modified.
+   *
+   * @return A not null array.
+   * @since 2.6.0
+   */
+  E[] snapshot() {
+    return elements;
+  }
+
+  /**
+   * Gets the element equal to the provided one.
+   *
+   * @param element The element to search.
+   * @return Null if no equal element is present.
+   * @since 2.6.0
+   */
+  E get(E element) {
+    return index.get(element);
+  }
+
+  /**
+   * Adds the provided element if no equal element is already present.
+   *
+   * <p>If an equal element is present, the method does not lock nor allocate.
+   *
+   * @param element The element to add.
+   * @return The element contained in the set after the operation, i.e. the provided one or the
+   *     equal element already present.
+   * @since 2.6.0
+   */
+  E addIfAbsent(E element) {
+    E existing = index.get(element);
+    if (existing != null) {
+      return existing;
+    }
+    writeLock.lock();
+    try {
+      existing = index.putIfAbsent(element, element);
+      if (existing != null) {
+        return existing;
+      }
+      E[] current = elements;
+      E[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] = element;
+      elements = updated;
+      return element;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes the provided element instance, if present.
+   *
+   * @param element The element to remove.
+   * @return True if the element was removed.
+   * @since 2.6.0
+   */
+  boolean remove(E element) {
+    if (index.get(element) != element) {
+      return false;
+    }
+    writeLock.lock();
+    try {
+      if (index.get(element) != element) {
+        return false;
+      }
+      index.remove(element);
+      E[] current = elements;
+      int i = indexOfInstance(current, element);
+      E[] updated = Arrays.copyOf(current, current.length - 1);
+      System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+      elements = updated;
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Gets the number of elements.
+   *
+   * @return A positive int.
+   * @since 2.6.0
+   */
+  int size() {
+    return elements.length;
+  }
+
+  /**
+   * Gets the index of the provided element instance.
+   *
+   * @param array The array to search in.
+   * @param element The element to search.
+   * @return -1 if not found.
+   */
+  private static int indexOfInstance(Object[] array, Object element) {
+    for (int i = 0; i < array.length; i++) {
+      if (array[i] == element) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,159 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor dispatching tasks on a fixed number of single-threaded stripes according to a key.
+ *
+ * <p>The tasks having the same key are always executed by the same stripe, one at a time and in
+ * submission order. The tasks having different keys are executed in parallel, unless their keys
+ * are assigned to the same stripe.
+ *
+ * <p>The stripe threads are daemon threads (platform or virtual threads), created on demand and
+ * released after {@value #KEEP_ALIVE_SECONDS} seconds of inactivity.
+ *
+ * @since 2.6.0
+ */
+final class StripedCommandExecutor {
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final Stripe[] stripes;
+
+  /**
+   * Constructor.
+   *
+   * @param stripeCount The number of stripes.
+   * @param threadNamePrefix The prefix of the names of the stripe threads.
+   * @param isVirtual True if the stripe threads must be virtual threads.
+   * @since 2.6.0
+   */
+  StripedCommandExecutor(int stripeCount, String threadNamePrefix, boolean isVirtual) {
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      String threadName = threadNamePrefix + "-" + i;
+      stripes[i] =
+          new Stripe(
+              i,
+              isVirtual
+                  ? VirtualThreads.newThreadFactory(threadName)
+                  : new DaemonThreadFactory(threadName));
+    }
+  }
+
+  /**
+   * Submits a task to the stripe associated with the provided key.
+   *
+   * @param key The key (null is allowed).
+   * @param task The task.
+   * @throws java.util.concurrent.RejectedExecutionException If the task cannot be accepted.
+   * @since 2.6.0
+   */
+  void execute(String key, Runnable task) {
+    stripes[indexOf(key)].execute(task);
+  }
+
+  /**
+   * Gets a snapshot of the state of each stripe.
+   *
+   * @return A not null list, sorted by stripe index.
+   * @since 2.6.0
+   */
+  List<CommandStripeStatistics> getStatistics() {
+    List<CommandStripeStatistics> statistics = new ArrayList<>(stripes.length);
+    for (Stripe stripe : stripes) {
+      statistics.add(stripe.getStatistics());
+    }
+    return statistics;
+  }
+
+  /**
+   * Gets the index of the stripe associated with the provided key.
+   *
+   * @param key The key.
+   * @return The stripe index.
+   * @since 2.6.0
+   */
+  int indexOf(String key) {
+    if (key == null) {
+      return 0;
+    }
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    return (hash & Integer.MAX_VALUE) % stripes.length;
+  }
+
+  /** A stripe, backed by a single thread. */
+  private static final class Stripe {
+
+    private final int index;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger queueDepth;
+    private final AtomicInteger maxQueueDepth;
+    private final AtomicLong processedCommandCount;
+
+    private Stripe(int index, ThreadFactory threadFactory) {
+      this.index = index;
+      this.executor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<Runnable>(),
+              threadFactory);
+      this.executor.allowCoreThreadTimeOut(true);
+      this.queueDepth = new AtomicInteger();
+      this.maxQueueDepth = new AtomicInteger();
+      this.processedCommandCount = new AtomicLong();
+    }
+
+    private void execute(final Runnable task) {
+      int depth = queueDepth.incrementAndGet();
+      int max;
+      while (depth > (max = maxQueueDepth.get()) && !maxQueueDepth.compareAndSet(max, depth)) {
+        // retry
+      }
+      try {
+        executor.execute(
+            new Runnable() {
+              @Override
+              public void run() {
+                queueDepth.decrementAndGet();
+                try {
+                  task.run();
+                } finally {
+                  processedCommandCount.incrementAndGet();
+                }
+              }
+            });
+      } catch (RuntimeException e) {
+        queueDepth.decrementAndGet();
+        throw e;
+      }
+    }
+
+    private CommandStripeStatistics getStatistics() {
+      return new CommandStripeStatisticsAdapter(
+          index, queueDepth.get(), maxQueueDepth.get(), processedCommandCount.get());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to the virtual threads.
+ *
+ * <p>The library is compiled for Java 8, so the virtual threads API of Java 21 and later is looked
+ * up by reflection once. It is therefore available from the same JAR on any JVM providing it.
+ *
+ * <p>The code executed by the local services on virtual threads does not hold any monitor while
+ * blocking, so that the carrier threads are never pinned: the shared states are protected by
+ * atomic variables or by {@link java.util.concurrent.locks.ReentrantLock}.
+ *
+ * @since 2.6.0
+ */
+final class VirtualThreads {
+
+  private static final Method OF_VIRTUAL;
+  private static final Method NAME;
+  private static final Method FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method name = null;
+    Method factory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      Class<?> builderClass = ofVirtual.getReturnType();
+      name = builderClass.getMethod("name", String.class, long.class);
+      factory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+    } catch (NoSuchMethodException e) {
+      // Java versions prior to 21.
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    FACTORY = factory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  /** Private constructor. */
+  private VirtualThreads() {}
+
+  /**
+   * Indicates if the virtual threads are supported by the current JVM.
+   *
+   * @return True if the JVM is a Java 21 or later one.
+   * @since 2.6.0
+   */
+  static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Creates a factory of named virtual threads.
+   *
+   * @param namePrefix The prefix of the thread names, completed by a sequence number.
+   * @return A not null reference.
+   * @throws IllegalStateException If the virtual threads are not supported.
+   * @since 2.6.0
+   */
+  static ThreadFactory newThreadFactory(String namePrefix) {
+    Object builder = invoke(OF_VIRTUAL, null);
+    invoke(NAME, builder, namePrefix + "-", 1L);
+    return (ThreadFactory) invoke(FACTORY, builder);
+  }
+
+  /**
+   * Creates an executor starting a new named virtual thread for each task.
+   *
+   * @param namePrefix The prefix of the thread names, completed by a sequence number.
+   * @return A not null reference.
+   * @throws IllegalStateException If the virtual threads are not supported.
+   * @since 2.6.0
+   */
+  static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+    return (ExecutorService)
+        invoke(NEW_THREAD_PER_TASK_EXECUTOR, null, newThreadFactory(namePrefix));
+  }
+
+  /**
+   * Invokes a method of the virtual threads API.
+   *
+   * @param method The method.
+   * @param target The target object (null for a static method).
+   * @param args The arguments.
+   * @return The result of the method.
+   * @throws IllegalStateException If the virtual threads are not supported.
+   */
+  private static Object invoke(Method method, Object target, Object... args) {
+    if (!isSupported()) {
+      throw new IllegalStateException("Virtual threads require Java 21 or later");
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
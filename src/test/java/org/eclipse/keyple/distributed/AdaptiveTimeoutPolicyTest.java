@@ -0,0 +1,102 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class AdaptiveTimeoutPolicyTest {
+
+  private static final String SERVICE_ID = "serviceId";
+  private static final String ACTION = "RESP";
+
+  @Test
+  public void getTimeoutNanos_whenNoRoundTripIsObserved_shouldReturnTheCeiling() {
+    AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(100, 5000);
+    assertThat(policy.getTimeoutNanos(SERVICE_ID, ACTION))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5000));
+  }
+
+  @Test
+  public void getTimeoutNanos_whenFewRoundTripsAreObserved_shouldReturnTheCeiling() {
+    FakeNanoClock clock = new FakeNanoClock();
+    AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(100, 5000, clock);
+    AdaptiveTimeoutPolicy.SessionTimer timer = policy.newSessionTimer(SERVICE_ID);
+    for (int i = 0; i < AdaptiveTimeoutPolicy.MIN_SAMPLE_COUNT - 1; i++) {
+      timer.start(ACTION);
+      clock.advance(10, TimeUnit.MILLISECONDS);
+      timer.stop(false);
+    }
+    assertThat(policy.getTimeoutNanos(SERVICE_ID, ACTION))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5000));
+  }
+
+  @Test
+  public void getTimeoutNanos_whenFastRoundTripsAreObserved_shouldReturnTheFloor() {
+    FakeNanoClock clock = new FakeNanoClock();
+    AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(100, 5000, clock);
+    AdaptiveTimeoutPolicy.SessionTimer timer = policy.newSessionTimer(SERVICE_ID);
+    for (int i = 0; i < AdaptiveTimeoutPolicy.MIN_SAMPLE_COUNT; i++) {
+      timer.start(ACTION);
+      clock.advance(10, TimeUnit.MILLISECONDS);
+      timer.stop(false);
+    }
+    assertThat(policy.getTimeoutNanos(SERVICE_ID, ACTION))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(policy.getTimeoutNanos(SERVICE_ID, "other"))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5000));
+    assertThat(policy.getTimeoutNanos("otherServiceId", ACTION))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5000));
+  }
+
+  @Test
+  public void getTimeoutNanos_whenSlowRoundTripsAreObserved_shouldReturnTwiceThePercentile() {
+    FakeNanoClock clock = new FakeNanoClock();
+    AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(100, 5000, clock);
+    AdaptiveTimeoutPolicy.SessionTimer timer = policy.newSessionTimer(SERVICE_ID);
+    for (int i = 0; i < AdaptiveTimeoutPolicy.MIN_SAMPLE_COUNT; i++) {
+      timer.start(ACTION);
+      clock.advance(300, TimeUnit.MILLISECONDS);
+      timer.stop(false);
+    }
+    assertThat(policy.getTimeoutNanos(SERVICE_ID, ACTION))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+  }
+
+  @Test
+  public void start_shouldReturnTheCurrentTimeout() {
+    AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(50, 80, new FakeNanoClock());
+    AdaptiveTimeoutPolicy.SessionTimer timer = policy.newSessionTimer(SERVICE_ID);
+    assertThat(timer.start(ACTION)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(80));
+    assertThat(timer.getTimeoutMillis()).isEqualTo(80);
+  }
+
+  @Test
+  public void stop_whenTimeoutHasExpired_shouldDoubleTheTimeout() {
+    FakeNanoClock clock = new FakeNanoClock();
+    AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(100, 5000, clock);
+    AdaptiveTimeoutPolicy.SessionTimer timer = policy.newSessionTimer(SERVICE_ID);
+    for (int i = 0; i < AdaptiveTimeoutPolicy.MIN_SAMPLE_COUNT; i++) {
+      timer.start(ACTION);
+      clock.advance(10, TimeUnit.MILLISECONDS);
+      timer.stop(false);
+    }
+    long timeoutNanos = timer.start(ACTION);
+    assertThat(timeoutNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    clock.advance(timeoutNanos, TimeUnit.NANOSECONDS);
+    timer.stop(true);
+    assertThat(policy.getTimeoutNanos(SERVICE_ID, ACTION))
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+}
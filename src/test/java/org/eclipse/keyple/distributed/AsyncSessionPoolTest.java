@@ -0,0 +1,172 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncSessionPoolTest {
+
+  private static final long WAIT_TIMEOUT_MILLIS = 5000;
+
+  private AsyncSessionPool pool;
+
+  private static final class FakeSessionFactory implements AsyncSessionPool.SessionFactory {
+
+    private final AtomicInteger openedSessionCount = new AtomicInteger();
+    private final Queue<String> closedSessionIds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isFailing = new AtomicBoolean();
+
+    @Override
+    public String openSession() {
+      if (isFailing.get()) {
+        throw new IllegalStateException("network failure");
+      }
+      return "session" + openedSessionCount.incrementAndGet();
+    }
+
+    @Override
+    public void closeSession(String sessionId) {
+      closedSessionIds.add(sessionId);
+    }
+  }
+
+  private static boolean waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAIT_TIMEOUT_MILLIS);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadlineNanos) {
+        return false;
+      }
+      Thread.sleep(10);
+    }
+    return true;
+  }
+
+  private static boolean waitUntilIdleSessionCount(AsyncSessionPool pool, int count)
+      throws InterruptedException {
+    return waitUntil(() -> pool.getIdleSessionCount() == count);
+  }
+
+  private AsyncSessionPool startPool(
+      int size, long idleTimeoutMillis, FakeSessionFactory sessionFactory, NanoClock clock) {
+    pool = new AsyncSessionPool("test", size, idleTimeoutMillis, sessionFactory, clock);
+    pool.start();
+    return pool;
+  }
+
+  @After
+  public void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void start_shouldOpenTheSessionsInBackground() throws Exception {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    startPool(3, 60000, sessionFactory, NanoClock.SYSTEM);
+    assertThat(waitUntilIdleSessionCount(pool, 3)).isTrue();
+    assertThat(sessionFactory.openedSessionCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void poll_shouldReturnAnOpenSessionAndReplenishThePool() throws Exception {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    startPool(2, 60000, sessionFactory, NanoClock.SYSTEM);
+    assertThat(waitUntilIdleSessionCount(pool, 2)).isTrue();
+    assertThat(pool.poll()).isEqualTo("session1");
+    assertThat(waitUntilIdleSessionCount(pool, 2)).isTrue();
+    assertThat(sessionFactory.openedSessionCount.get()).isEqualTo(3);
+    assertThat(sessionFactory.closedSessionIds).isEmpty();
+  }
+
+  @Test
+  public void poll_whenSessionsCannotBeOpened_shouldReturnNull() {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    sessionFactory.isFailing.set(true);
+    startPool(2, 60000, sessionFactory, NanoClock.SYSTEM);
+    assertThat(pool.poll()).isNull();
+    assertThat(pool.getIdleSessionCount()).isZero();
+  }
+
+  @Test
+  public void poll_whenNotStarted_shouldReturnNullWithoutOpeningSessions() {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    pool = new AsyncSessionPool("test", 2, 60000, sessionFactory, NanoClock.SYSTEM);
+    assertThat(pool.poll()).isNull();
+    assertThat(sessionFactory.openedSessionCount.get()).isZero();
+  }
+
+  @Test
+  public void poll_whenSessionsAreExpired_shouldCloseAndReplaceThem() throws Exception {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    FakeNanoClock clock = new FakeNanoClock();
+    startPool(1, 200, sessionFactory, clock);
+    assertThat(waitUntilIdleSessionCount(pool, 1)).isTrue();
+    clock.advance(200, TimeUnit.MILLISECONDS);
+    assertThat(waitUntil(() -> sessionFactory.closedSessionIds.contains("session1"))).isTrue();
+    String sessionId = pool.poll();
+    assertThat(sessionId).isNotEqualTo("session1");
+  }
+
+  @Test
+  public void poll_whenSessionsExpireWhileThePoolIsUsed_shouldReplaceThem() throws Exception {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    FakeNanoClock clock = new FakeNanoClock();
+    startPool(2, 200, sessionFactory, clock);
+    assertThat(waitUntilIdleSessionCount(pool, 2)).isTrue();
+    clock.advance(150, TimeUnit.MILLISECONDS);
+    assertThat(pool.poll()).isEqualTo("session1");
+    assertThat(waitUntil(() -> sessionFactory.openedSessionCount.get() == 3)).isTrue();
+    clock.advance(60, TimeUnit.MILLISECONDS);
+    assertThat(waitUntil(() -> sessionFactory.closedSessionIds.contains("session2"))).isTrue();
+    assertThat(waitUntil(() -> sessionFactory.openedSessionCount.get() == 4)).isTrue();
+    assertThat(waitUntilIdleSessionCount(pool, 2)).isTrue();
+  }
+
+  @Test
+  public void poll_whenPoolHasDrainedWhileUnused_shouldRefillIt() throws Exception {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    FakeNanoClock clock = new FakeNanoClock();
+    startPool(1, 200, sessionFactory, clock);
+    assertThat(waitUntilIdleSessionCount(pool, 1)).isTrue();
+    clock.advance(200, TimeUnit.MILLISECONDS);
+    assertThat(waitUntil(() -> sessionFactory.closedSessionIds.contains("session1"))).isTrue();
+    // Several sweep periods elapse without any session being reopened.
+    Thread.sleep(300);
+    assertThat(pool.getIdleSessionCount()).isZero();
+    assertThat(sessionFactory.openedSessionCount.get()).isEqualTo(1);
+    assertThat(pool.poll()).isNull();
+    assertThat(waitUntilIdleSessionCount(pool, 1)).isTrue();
+    assertThat(sessionFactory.openedSessionCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void close_shouldCloseTheIdleSessionsAndStopReplenishing() throws Exception {
+    FakeSessionFactory sessionFactory = new FakeSessionFactory();
+    startPool(2, 60000, sessionFactory, NanoClock.SYSTEM);
+    assertThat(waitUntilIdleSessionCount(pool, 2)).isTrue();
+    pool.close();
+    assertThat(sessionFactory.closedSessionIds).containsOnly("session1", "session2");
+    assertThat(pool.getIdleSessionCount()).isZero();
+    assertThat(pool.poll()).isNull();
+    assertThat(sessionFactory.openedSessionCount.get()).isEqualTo(2);
+  }
+}
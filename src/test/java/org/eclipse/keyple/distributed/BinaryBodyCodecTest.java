@@ -0,0 +1,81 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+public class BinaryBodyCodecTest {
+
+  static final String BODY =
+      "{\"SERVICE_ID\":\"TRANSMIT\",\"INPUT_DATA\":{\"apdu\":\"00A4040007A0000004040125\","
+          + "\"text\":\"Hello\",\"lowercaseHex\":\"00a4\",\"oddHex\":\"ABC\",\"empty\":\"\","
+          + "\"number\":12.5e3,\"isTrue\":true,\"isFalse\":false,\"nothing\":null,"
+          + "\"array\":[1,\"9000\",[],{}]}}";
+
+  @Test
+  public void isEncoded_whenBodyIsNotEncoded_shouldReturnFalse() {
+    assertThat(BinaryBodyCodec.isEncoded(null)).isFalse();
+    assertThat(BinaryBodyCodec.isEncoded("")).isFalse();
+    assertThat(BinaryBodyCodec.isEncoded(BODY)).isFalse();
+  }
+
+  @Test
+  public void encode_whenNull_shouldReturnNull() {
+    assertThat(BinaryBodyCodec.encode(null)).isNull();
+  }
+
+  @Test
+  public void encode_shouldProduceAShorterEncodedBody() {
+    String encodedBody = BinaryBodyCodec.encode(BODY);
+    assertThat(BinaryBodyCodec.isEncoded(encodedBody)).isTrue();
+    assertThat(encodedBody.length()).isLessThan(BODY.length());
+  }
+
+  @Test
+  public void encode_whenEncodedBodyIsNotShorter_shouldReturnTheJsonBody() {
+    String body = "{\"text\":\"Hello\",\"data\":\"9000\"}";
+    assertThat(BinaryBodyCodec.encode(body)).isSameAs(body);
+  }
+
+  @Test
+  public void decode_shouldRestoreTheEncodedBody() {
+    assertThat(BinaryBodyCodec.decode(BinaryBodyCodec.encode(BODY))).isEqualTo(BODY);
+  }
+
+  @Test
+  public void decode_whenBodyContainsLongValues_shouldRestoreTheEncodedBody() {
+    StringBuilder sb = new StringBuilder("{\"OUTPUT_DATA\":\"");
+    for (int i = 0; i < 1000; i++) {
+      sb.append("9000");
+    }
+    String body = sb.append("\"}").toString();
+    assertThat(BinaryBodyCodec.decode(BinaryBodyCodec.encode(body))).isEqualTo(body);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void encode_whenMalformed_shouldThrowIAE() {
+    BinaryBodyCodec.encode("{\"a\":");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decode_whenVersionIsUnknown_shouldThrowIAE() {
+    BinaryBodyCodec.decode("!AAAA");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decode_whenTruncated_shouldThrowIAE() {
+    String encodedBody = BinaryBodyCodec.encode(BODY);
+    BinaryBodyCodec.decode(encodedBody.substring(0, encodedBody.length() - 8));
+  }
+}
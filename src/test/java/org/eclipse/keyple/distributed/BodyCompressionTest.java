@@ -0,0 +1,84 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+public class BodyCompressionTest {
+
+  static final String SMALL_BODY = "{\"a\":1}";
+
+  static String buildLargeBody() {
+    StringBuilder sb = new StringBuilder("{\"apdus\":[");
+    for (int i = 0; i < 100; i++) {
+      sb.append("\"00A4040C0A").append(i).append("\",");
+    }
+    return sb.append("\"9000\"]}").toString();
+  }
+
+  @Test
+  public void getAlgorithm_whenBodyIsNotCompressed_shouldReturnNull() {
+    assertThat(BodyCompression.getAlgorithm(null)).isNull();
+    assertThat(BodyCompression.getAlgorithm("")).isNull();
+    assertThat(BodyCompression.getAlgorithm(SMALL_BODY)).isNull();
+    assertThat(BodyCompression.getAlgorithm("#DEFLATE")).isNull();
+    assertThat(BodyCompression.getAlgorithm("#UNKNOWN:abc")).isNull();
+  }
+
+  @Test
+  public void compress_whenBodyIsShorterThanThreshold_shouldReturnTheBody() {
+    String body = buildLargeBody();
+    assertThat(BodyCompression.compress(body, CompressionAlgorithm.DEFLATE, body.length() + 1))
+        .isSameAs(body);
+  }
+
+  @Test
+  public void compress_whenCompressionIsNotWorthIt_shouldReturnTheBody() {
+    assertThat(BodyCompression.compress(SMALL_BODY, CompressionAlgorithm.DEFLATE, 0))
+        .isSameAs(SMALL_BODY);
+  }
+
+  @Test
+  public void compress_whenNull_shouldReturnNull() {
+    assertThat(BodyCompression.compress(null, CompressionAlgorithm.DEFLATE, 0)).isNull();
+  }
+
+  @Test
+  public void decompress_shouldRestoreTheCompressedBody() {
+    String body = buildLargeBody();
+    for (CompressionAlgorithm algorithm : CompressionAlgorithm.values()) {
+      String compressedBody = BodyCompression.compress(body, algorithm, 0);
+      assertThat(compressedBody.length()).isLessThan(body.length());
+      assertThat(BodyCompression.getAlgorithm(compressedBody)).isEqualTo(algorithm);
+      assertThat(BodyCompression.decompress(compressedBody, algorithm)).isEqualTo(body);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decompress_whenMalformed_shouldThrowIAE() {
+    BodyCompression.decompress("#DEFLATE:AAAA", CompressionAlgorithm.DEFLATE);
+  }
+
+  @Test
+  public void decompress_whenDecompressedSizeExceedsTheMaximum_shouldThrowIAE() {
+    char[] chars = new char[BodyCompression.MAX_DECOMPRESSED_SIZE + 1];
+    Arrays.fill(chars, 'a');
+    for (CompressionAlgorithm algorithm : CompressionAlgorithm.values()) {
+      String compressedBody = BodyCompression.compress(new String(chars), algorithm, 0);
+      assertThatThrownBy(() -> BodyCompression.decompress(compressedBody, algorithm))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class ClientAdmissionControllerTest {
+
+  static final String CLIENT_NODE_ID_1 = "clientNodeId1";
+  static final String CLIENT_NODE_ID_2 = "clientNodeId2";
+
+  @Test
+  public void acquire_whenBurstIsExhausted_shouldThrowCommandRejectedException() {
+    ClientAdmissionController controller =
+        new ClientAdmissionController(1, 3, 0, new FakeNanoClock());
+    for (int i = 0; i < 3; i++) {
+      controller.acquire(CLIENT_NODE_ID_1).release();
+    }
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_1))
+        .isInstanceOf(CommandRejectedException.class)
+        .hasMessageContaining("Rate limit exceeded");
+    try {
+      controller.acquire(CLIENT_NODE_ID_1);
+      fail("The command should have been rejected");
+    } catch (CommandRejectedException e) {
+      assertThat(e.getReason()).isEqualTo(CommandRejectedException.Reason.RATE_LIMIT_EXCEEDED);
+    }
+  }
+
+  @Test
+  public void acquire_whenOtherClientIsThrottled_shouldAdmit() {
+    ClientAdmissionController controller =
+        new ClientAdmissionController(1, 1, 0, new FakeNanoClock());
+    controller.acquire(CLIENT_NODE_ID_1).release();
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_1))
+        .isInstanceOf(CommandRejectedException.class);
+    controller.acquire(CLIENT_NODE_ID_2).release();
+  }
+
+  @Test
+  public void acquire_whenTokenIsRefilled_shouldAdmit() {
+    FakeNanoClock clock = new FakeNanoClock();
+    ClientAdmissionController controller = new ClientAdmissionController(20, 1, 0, clock);
+    controller.acquire(CLIENT_NODE_ID_1).release();
+    clock.advance(40, TimeUnit.MILLISECONDS);
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_1))
+        .isInstanceOf(CommandRejectedException.class);
+    clock.advance(10, TimeUnit.MILLISECONDS);
+    controller.acquire(CLIENT_NODE_ID_1).release();
+  }
+
+  @Test
+  public void acquire_whenMaxInFlightCommandsIsReached_shouldThrowUntilReleased() {
+    ClientAdmissionController controller =
+        new ClientAdmissionController(0, 0, 2, new FakeNanoClock());
+    ClientAdmissionController.ClientQuota quota = controller.acquire(CLIENT_NODE_ID_1);
+    controller.acquire(CLIENT_NODE_ID_1);
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_1))
+        .isInstanceOf(CommandRejectedException.class)
+        .hasMessageContaining("Too many in-flight commands");
+    quota.release();
+    controller.acquire(CLIENT_NODE_ID_1);
+  }
+
+  @Test
+  public void acquire_whenInFlightCommandIsRejected_shouldNotConsumeToken() {
+    ClientAdmissionController controller =
+        new ClientAdmissionController(1, 2, 1, new FakeNanoClock());
+    ClientAdmissionController.ClientQuota quota = controller.acquire(CLIENT_NODE_ID_1);
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_1))
+        .isInstanceOf(CommandRejectedException.class);
+    quota.release();
+    controller.acquire(CLIENT_NODE_ID_1).release();
+  }
+
+  @Test
+  public void getStatistics_shouldReturnTheCountersOfEachClient() {
+    ClientAdmissionController controller =
+        new ClientAdmissionController(1, 1, 1, new FakeNanoClock());
+    controller.acquire(CLIENT_NODE_ID_1);
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_1))
+        .isInstanceOf(CommandRejectedException.class);
+    controller.acquire(CLIENT_NODE_ID_2).release();
+    assertThatThrownBy(() -> controller.acquire(CLIENT_NODE_ID_2))
+        .isInstanceOf(CommandRejectedException.class);
+    List<ClientAdmissionStatistics> statistics = controller.getStatistics();
+    assertThat(statistics).hasSize(2);
+    for (ClientAdmissionStatistics clientStatistics : statistics) {
+      assertThat(clientStatistics.getAdmittedCommandCount()).isEqualTo(1);
+      if (clientStatistics.getClientNodeId().equals(CLIENT_NODE_ID_1)) {
+        assertThat(clientStatistics.getInFlightCommandCount()).isEqualTo(1);
+        assertThat(clientStatistics.getThrottledCommandCount()).isZero();
+        assertThat(clientStatistics.getRejectedCommandCount()).isEqualTo(1);
+      } else {
+        assertThat(clientStatistics.getInFlightCommandCount()).isZero();
+        assertThat(clientStatistics.getThrottledCommandCount()).isEqualTo(1);
+        assertThat(clientStatistics.getRejectedCommandCount()).isZero();
+      }
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClientEventMailboxTest {
+
+  static final String CLIENT_NODE_ID = "clientNodeId";
+  static final String READER_NAME = "readerName";
+
+  List<Runnable> tasks;
+  List<String> deliveredEvents;
+  List<String> failedEvents;
+  ClientEventMailbox.EventHandler eventHandler;
+
+  @Before
+  public void setUp() {
+    tasks = new ArrayList<>();
+    deliveredEvents = new ArrayList<>();
+    failedEvents = new ArrayList<>();
+    eventHandler =
+        new ClientEventMailbox.EventHandler() {
+          @Override
+          public void onEvent(ClientEventMailbox.Event event) {
+            deliveredEvents.add(event.getJsonData());
+          }
+
+          @Override
+          public void onDeliveryFailure(ClientEventMailbox.Event event, RuntimeException e) {
+            failedEvents.add(event.getJsonData());
+          }
+        };
+  }
+
+  ClientEventMailbox.Event event(String jsonData) {
+    return new ClientEventMailbox.Event(MessageDto.Action.READER_EVENT, READER_NAME, jsonData);
+  }
+
+  void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+  }
+
+  @Test
+  public void post_shouldDeliverEventsInOrder() {
+    ClientEventMailbox mailbox =
+        new ClientEventMailbox(
+            tasks::add, Integer.MAX_VALUE, EventQueueOverflowPolicy.DROP_NEWEST, eventHandler);
+    for (int i = 0; i < 40; i++) {
+      mailbox.post(event(String.valueOf(i)));
+    }
+    assertThat(tasks).hasSize(1);
+    runTasks();
+    assertThat(deliveredEvents).hasSize(40);
+    for (int i = 0; i < 40; i++) {
+      assertThat(deliveredEvents.get(i)).isEqualTo(String.valueOf(i));
+    }
+  }
+
+  @Test
+  public void post_whenFullAndDropNewest_shouldDiscardNewEvent() {
+    ClientEventMailbox mailbox =
+        new ClientEventMailbox(tasks::add, 2, EventQueueOverflowPolicy.DROP_NEWEST, eventHandler);
+    mailbox.post(event("1"));
+    mailbox.post(event("2"));
+    mailbox.post(event("3"));
+    EventQueueStatistics statistics = mailbox.getStatistics(CLIENT_NODE_ID);
+    assertThat(statistics.getQueueDepth()).isEqualTo(2);
+    assertThat(statistics.getMaxQueueDepth()).isEqualTo(2);
+    assertThat(statistics.getDroppedEventCount()).isEqualTo(1);
+    runTasks();
+    assertThat(deliveredEvents).containsExactly("1", "2");
+    assertThat(mailbox.getStatistics(CLIENT_NODE_ID).getQueueDepth()).isZero();
+  }
+
+  @Test
+  public void post_whenFullAndDropOldest_shouldDiscardOldestEvent() {
+    ClientEventMailbox mailbox =
+        new ClientEventMailbox(tasks::add, 2, EventQueueOverflowPolicy.DROP_OLDEST, eventHandler);
+    mailbox.post(event("1"));
+    mailbox.post(event("2"));
+    mailbox.post(event("3"));
+    assertThat(mailbox.getStatistics(CLIENT_NODE_ID).getDroppedEventCount())
+        .isEqualTo(1);
+    runTasks();
+    assertThat(deliveredEvents).containsExactly("2", "3");
+  }
+
+  @Test
+  public void post_whenFullAndDisconnect_shouldCloseMailboxAndNotifyFailure() {
+    ClientEventMailbox mailbox =
+        new ClientEventMailbox(tasks::add, 2, EventQueueOverflowPolicy.DISCONNECT, eventHandler);
+    mailbox.post(event("1"));
+    mailbox.post(event("2"));
+    mailbox.post(event("3"));
+    assertThat(mailbox.isClosed()).isTrue();
+    assertThat(failedEvents).containsExactly("3");
+    runTasks();
+    assertThat(deliveredEvents).isEmpty();
+  }
+
+  @Test
+  public void post_whenClosed_shouldRejectTheEvent() {
+    ClientEventMailbox mailbox =
+        new ClientEventMailbox(tasks::add, 2, EventQueueOverflowPolicy.DROP_NEWEST, eventHandler);
+    assertThat(mailbox.post(event("1"))).isTrue();
+    mailbox.close();
+    assertThat(mailbox.post(event("2"))).isFalse();
+    runTasks();
+    assertThat(deliveredEvents).isEmpty();
+  }
+
+  @Test
+  public void post_whenClosedConcurrently_shouldLeaveNoPendingEvent() throws Exception {
+    for (int i = 0; i < 500; i++) {
+      final ClientEventMailbox mailbox =
+          new ClientEventMailbox(
+              task -> {}, Integer.MAX_VALUE, EventQueueOverflowPolicy.DROP_NEWEST, eventHandler);
+      final ClientEventMailbox.Event event = event("1");
+      Thread poster =
+          new Thread(
+              () -> {
+                while (mailbox.post(event)) {
+                  // Posts until the mailbox is closed.
+                }
+              });
+      poster.start();
+      while (mailbox.getStatistics(CLIENT_NODE_ID).getQueueDepth() < 100) {
+        Thread.yield();
+      }
+      mailbox.close();
+      poster.join();
+      assertThat(mailbox.getStatistics(CLIENT_NODE_ID).getQueueDepth()).isZero();
+    }
+  }
+
+  @Test
+  public void run_whenDeliveryFails_shouldCloseMailboxAndNotifyFailure() {
+    ClientEventMailbox mailbox =
+        new ClientEventMailbox(
+            tasks::add,
+            Integer.MAX_VALUE,
+            EventQueueOverflowPolicy.DROP_NEWEST,
+            new ClientEventMailbox.EventHandler() {
+              @Override
+              public void onEvent(ClientEventMailbox.Event event) {
+                throw new IllegalStateException("network error");
+              }
+
+              @Override
+              public void onDeliveryFailure(ClientEventMailbox.Event event, RuntimeException e) {
+                failedEvents.add(event.getJsonData());
+              }
+            });
+    mailbox.post(event("1"));
+    mailbox.post(event("2"));
+    runTasks();
+    assertThat(mailbox.isClosed()).isTrue();
+    assertThat(failedEvents).containsExactly("1");
+  }
+
+  @Test
+  public void buildMessage_shouldFillInTheSharedPartAndTheRoutingFields() {
+    ClientEventMailbox.Event event = event("{\"data\":\"1\"}");
+    MessageDto message =
+        event.buildMessage(MessageDto.API_LEVEL, false, null, 0, CLIENT_NODE_ID, "sessionId");
+    assertThat(message.getApiLevel()).isEqualTo(MessageDto.API_LEVEL);
+    assertThat(message.getAction()).isEqualTo(MessageDto.Action.READER_EVENT.name());
+    assertThat(message.getLocalReaderName()).isEqualTo(READER_NAME);
+    assertThat(message.getRemoteReaderName()).isEqualTo(READER_NAME);
+    assertThat(message.getClientNodeId()).isEqualTo(CLIENT_NODE_ID);
+    assertThat(message.getSessionId()).isEqualTo("sessionId");
+    assertThat(message.getBody()).isEqualTo("{\"data\":\"1\"}");
+  }
+
+  @Test
+  public void buildMessage_whenSeveralClients_shouldBuildDistinctMessagesSharingTheBody() {
+    String body = "{\"data\":\"00A4040007A0000004040125\"}";
+    ClientEventMailbox.Event event = event(body);
+    MessageDto message1 =
+        event.buildMessage(MessageDto.API_LEVEL, true, null, 0, "clientNodeId1", "sessionId1");
+    MessageDto message2 =
+        event.buildMessage(MessageDto.API_LEVEL, true, null, 0, "clientNodeId2", "sessionId2");
+    MessageDto message3 = event.buildMessage(1, false, null, 0, "clientNodeId3", "sessionId3");
+    assertThat(message1).isNotSameAs(message2);
+    assertThat(message1.getClientNodeId()).isEqualTo("clientNodeId1");
+    assertThat(message2.getClientNodeId()).isEqualTo("clientNodeId2");
+    assertThat(message1.getBody()).isSameAs(message2.getBody());
+    assertThat(BinaryBodyCodec.decode(message1.getBody())).isEqualTo(body);
+    assertThat(message3.getApiLevel()).isEqualTo(1);
+    assertThat(message3.getBody()).isEqualTo(body);
+  }
+}
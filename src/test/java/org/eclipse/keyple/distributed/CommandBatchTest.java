@@ -0,0 +1,53 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.google.gson.JsonObject;
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.keyple.core.util.json.BodyError;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.junit.Test;
+
+public class CommandBatchTest {
+
+  @Test
+  public void parseCommands_shouldReturnTheCommandsInOrder() {
+    assertThat(CommandBatch.parseCommands("{\"COMMANDS\":[{\"c\":1},{\"c\":2},{\"c\":3}]}"))
+        .containsExactly("{\"c\":1}", "{\"c\":2}", "{\"c\":3}");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parseCommands_whenCommandsAreMissing_shouldThrowIAE() {
+    CommandBatch.parseCommands("{\"OTHER\":[]}");
+  }
+
+  @Test
+  public void buildResponse_whenNoError_shouldContainOnlyTheResponses() {
+    assertThat(CommandBatch.buildResponse(Arrays.asList("{\"r\":1}", "{\"r\":2}"), null))
+        .isEqualTo("{\"RESPONSES\":[{\"r\":1},{\"r\":2}]}");
+  }
+
+  @Test
+  public void buildResponse_whenError_shouldAppendTheError() {
+    String body =
+        CommandBatch.buildResponse(
+            Collections.singletonList("{\"r\":1}"), new IllegalStateException("failure"));
+    assertThat(body).startsWith("{\"RESPONSES\":[{\"r\":1}],\"ERROR\":");
+    JsonObject json = JsonUtil.getParser().fromJson(body, JsonObject.class);
+    assertThat(JsonUtil.getParser().fromJson(json.get("ERROR"), BodyError.class).getException())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failure");
+  }
+}
@@ -0,0 +1,30 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Clock advanced manually by the tests. */
+final class FakeNanoClock implements NanoClock {
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Override
+  public long nanoTime() {
+    return nanos.get();
+  }
+
+  void advance(long duration, TimeUnit unit) {
+    nanos.addAndGet(unit.toNanos(duration));
+  }
+}
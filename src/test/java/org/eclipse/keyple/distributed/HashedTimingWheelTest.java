@@ -0,0 +1,162 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+
+public class HashedTimingWheelTest {
+
+  @Test
+  public void schedule_shouldExecuteTaskAfterDelay() throws Exception {
+    HashedTimingWheel timingWheel = new HashedTimingWheel(10, 8, "test-timer");
+    final CountDownLatch latch = new CountDownLatch(1);
+    long startNanos = System.nanoTime();
+    timingWheel.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            latch.countDown();
+          }
+        },
+        TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - startNanos)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  public void cancel_shouldPreventTaskExecution() throws Exception {
+    HashedTimingWheel timingWheel = new HashedTimingWheel(10, 8, "test-timer");
+    final AtomicBoolean isExecuted = new AtomicBoolean();
+    final CountDownLatch latch = new CountDownLatch(1);
+    timingWheel
+        .schedule(
+            new Runnable() {
+              @Override
+              public void run() {
+                isExecuted.set(true);
+              }
+            },
+            TimeUnit.MILLISECONDS.toNanos(50))
+        .cancel();
+    timingWheel.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            latch.countDown();
+          }
+        },
+        TimeUnit.MILLISECONDS.toNanos(150));
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(isExecuted).isFalse();
+  }
+
+  @Test
+  public void stop_shouldDropPendingTasksAndEndTheWorkerThread() throws Exception {
+    HashedTimingWheel timingWheel = new HashedTimingWheel(10, 8, "test-timer-stop");
+    final AtomicBoolean isExecuted = new AtomicBoolean();
+    HashedTimingWheel.Timeout timeout =
+        timingWheel.schedule(
+            new Runnable() {
+              @Override
+              public void run() {
+                isExecuted.set(true);
+              }
+            },
+            TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(isWorkerAlive("test-timer-stop")).isTrue();
+    timingWheel.stop();
+    long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (isWorkerAlive("test-timer-stop") && System.nanoTime() < deadlineNanos) {
+      Thread.sleep(10);
+    }
+    assertThat(isWorkerAlive("test-timer-stop")).isFalse();
+    Thread.sleep(200);
+    assertThat(isExecuted).isFalse();
+    assertThat(timeout.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void schedule_whenStopped_shouldRestartTheWorkerThread() throws Exception {
+    HashedTimingWheel timingWheel = new HashedTimingWheel(10, 8, "test-timer-restart");
+    timingWheel.stop();
+    final CountDownLatch latch = new CountDownLatch(1);
+    timingWheel.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            latch.countDown();
+          }
+        },
+        TimeUnit.MILLISECONDS.toNanos(50));
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    timingWheel.stop();
+  }
+
+  @Test
+  public void schedule_whenIdle_shouldSleepUntilTheNextScheduling() throws Exception {
+    HashedTimingWheel timingWheel = new HashedTimingWheel(10, 8, "test-timer-idle");
+    final CountDownLatch firstLatch = new CountDownLatch(1);
+    timingWheel.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            firstLatch.countDown();
+          }
+        },
+        TimeUnit.MILLISECONDS.toNanos(20));
+    assertThat(firstLatch.await(2, TimeUnit.SECONDS)).isTrue();
+    long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (getWorkerState("test-timer-idle") != Thread.State.WAITING
+        && System.nanoTime() < deadlineNanos) {
+      Thread.sleep(10);
+    }
+    assertThat(getWorkerState("test-timer-idle")).isEqualTo(Thread.State.WAITING);
+    final CountDownLatch secondLatch = new CountDownLatch(1);
+    long startNanos = System.nanoTime();
+    timingWheel.schedule(
+        new Runnable() {
+          @Override
+          public void run() {
+            secondLatch.countDown();
+          }
+        },
+        TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(secondLatch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - startNanos)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    timingWheel.stop();
+  }
+
+  private static Thread.State getWorkerState(String threadName) {
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals(threadName)) {
+        return thread.getState();
+      }
+    }
+    return null;
+  }
+
+  private static boolean isWorkerAlive(String threadName) {
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals(threadName) && thread.isAlive()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,44 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import org.junit.Test;
+
+public class JsonTypeAdapterCacheTest {
+
+  static class Data {
+    String data = "data";
+  }
+
+  @Test
+  public void getAdapter_whenSameParser_shouldReturnTheCachedAdapter() {
+    JsonTypeAdapterCache cache = new JsonTypeAdapterCache();
+    Gson parser = new Gson();
+    TypeAdapter<Data> adapter = cache.getAdapter(parser, Data.class);
+    assertThat(cache.getAdapter(parser, Data.class)).isSameAs(adapter);
+    assertThat(adapter.toJson(new Data())).isEqualTo("{\"data\":\"data\"}");
+  }
+
+  @Test
+  public void getAdapter_whenParserChanged_shouldResolveTheAdapterWithTheNewParser() {
+    JsonTypeAdapterCache cache = new JsonTypeAdapterCache();
+    Gson parser = new Gson();
+    Gson newParser = new Gson();
+    TypeAdapter<Data> adapter = cache.getAdapter(parser, Data.class);
+    TypeAdapter<Data> newAdapter = cache.getAdapter(newParser, Data.class);
+    assertThat(newAdapter).isNotSameAs(adapter).isSameAs(newParser.getAdapter(Data.class));
+  }
+}
@@ -0,0 +1,67 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void indexOf_shouldReturnABucketContainingTheValue() {
+    for (long value : new long[] {0, 1, 31, 32, 63, 64, 65, 1000, 123456789L, Long.MAX_VALUE}) {
+      int index = LatencyHistogram.indexOf(value);
+      long lowestValue = index == 0 ? 0 : LatencyHistogram.highestValueOf(index - 1) + 1;
+      assertThat(value).isBetween(lowestValue, LatencyHistogram.highestValueOf(index));
+    }
+  }
+
+  @Test
+  public void snapshot_whenEmpty_shouldReturnZeroValues() {
+    LatencyStatistics statistics =
+        new LatencyHistogram().snapshot(LatencyMetricType.REMOTE_SERVICE, "serviceId");
+    assertThat(statistics.getType()).isEqualTo(LatencyMetricType.REMOTE_SERVICE);
+    assertThat(statistics.getServiceId()).isEqualTo("serviceId");
+    assertThat(statistics.getCount()).isZero();
+    assertThat(statistics.getMeanNanos()).isZero();
+    assertThat(statistics.getMaxNanos()).isZero();
+    assertThat(statistics.getP50Nanos()).isZero();
+    assertThat(statistics.getP99Nanos()).isZero();
+    assertThat(statistics.getP999Nanos()).isZero();
+  }
+
+  @Test
+  public void snapshot_shouldReturnPercentilesWithin3Percent() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100000; i++) {
+      histogram.record(i * 1000L);
+    }
+    LatencyStatistics statistics = histogram.snapshot(LatencyMetricType.ROUND_TRIP, null);
+    assertThat(statistics.getCount()).isEqualTo(100000);
+    assertThat(statistics.getMeanNanos()).isEqualTo(50000500);
+    assertThat(statistics.getMaxNanos()).isEqualTo(100000000);
+    assertThat(statistics.getP50Nanos()).isCloseTo(50000000, within(1500000L));
+    assertThat(statistics.getP99Nanos()).isCloseTo(99000000, within(2970000L));
+    assertThat(statistics.getP999Nanos()).isCloseTo(99900000, within(2997000L));
+  }
+
+  @Test
+  public void record_whenValueIsNegative_shouldRecordZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-1);
+    LatencyStatistics statistics = histogram.snapshot(LatencyMetricType.ROUND_TRIP, null);
+    assertThat(statistics.getCount()).isEqualTo(1);
+    assertThat(statistics.getMaxNanos()).isZero();
+  }
+}
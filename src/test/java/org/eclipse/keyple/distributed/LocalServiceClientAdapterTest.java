@@ -16,8 +16,16 @@
 import static org.mockito.Mockito.*;
 
 import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointClientSpi;
 import org.eclipse.keyple.distributed.spi.SyncEndpointClientSpi;
@@ -200,6 +208,616 @@ public void executeRemoteService_whenSyncAndOutputDataClassIsSet_shouldReturnANo
     syncService.connect(null);
   }
 
+  @Test
+  public void executeRemoteService_whenServerReturnsAnError_shouldThrowTheError() {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    doReturn(
+            Collections.singletonList(
+                new MessageDto(endRemoteServiceMessage)
+                    .setAction(Action.ERROR.name())
+                    .setBody(JsonUtil.toJson(new BodyError(new IllegalStateException("error"))))))
+        .when(endpoint)
+        .sendRequest(ArgumentMatchers.<MessageDto>any());
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    assertThatThrownBy(
+            () ->
+                service.executeRemoteService(
+                    SERVICE_ID, LOCAL_READER_NAME, null, null, OutputData.class))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void buildMessage_shouldProduceTheSameBodyAsTheJsonTreeSerialization() {
+    syncService.connect(localServiceApi);
+    InputData initialCardContent = new InputData();
+    initialCardContent.data = "<html> & 'quotes' \u2028";
+    InputData inputData = new InputData();
+    inputData.data = null;
+    JsonObject expectedBody = new JsonObject();
+    expectedBody.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), syncService.getCoreApiLevel());
+    expectedBody.addProperty(JsonProperty.SERVICE_ID.getKey(), SERVICE_ID);
+    expectedBody.addProperty(JsonProperty.IS_READER_CONTACTLESS.getKey(), true);
+    expectedBody.add(
+        JsonProperty.INITIAL_CARD_CONTENT.getKey(),
+        JsonUtil.getParser().toJsonTree(initialCardContent));
+    expectedBody.addProperty(
+        JsonProperty.INITIAL_CARD_CONTENT_CLASS_NAME.getKey(), InputData.class.getName());
+    expectedBody.add(JsonProperty.INPUT_DATA.getKey(), JsonUtil.getParser().toJsonTree(inputData));
+    MessageDto message =
+        syncService.buildMessage(
+            SERVICE_ID, LOCAL_READER_NAME, initialCardContent, inputData, SESSION_ID);
+    assertThat(message.getBody()).isEqualTo(expectedBody.toString());
+    assertThat(message.getAction()).isEqualTo(Action.EXECUTE_REMOTE_SERVICE.name());
+    assertThat(message.getSessionId()).isEqualTo(SESSION_ID);
+    assertThat(message.getLocalReaderName()).isEqualTo(LOCAL_READER_NAME);
+    syncService.connect(null);
+  }
+
+  @Test
+  public void buildMessage_whenCommandBatchingIsDisabled_shouldNotDeclareTheBatchApiLevel() {
+    syncService.connect(localServiceApi);
+    MessageDto message = syncService.buildMessage(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(message.getBody(), JsonObject.class)
+                .has(CommandBatch.COMMAND_BATCH_API_LEVEL))
+        .isFalse();
+    syncService.connect(null);
+  }
+
+  @Test
+  public void buildMessage_whenCommandBatchingIsEnabled_shouldDeclareTheBatchApiLevel() {
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(syncEndpointClientSpi)
+                        .withCommandBatching()
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    MessageDto message = service.buildMessage(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(message.getBody(), JsonObject.class)
+                .get(CommandBatch.COMMAND_BATCH_API_LEVEL)
+                .getAsInt())
+        .isEqualTo(CommandBatch.API_LEVEL);
+  }
+
+  @Test
+  public void executeRemoteService_whenCommandBatchFails_shouldStopAtTheFirstFailure() {
+    MessageDto commandBatchMessage =
+        new MessageDto()
+            .setApiLevel(API_LEVEL)
+            .setAction(CommandBatch.CMD_BATCH)
+            .setSessionId(SESSION_ID)
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setServerNodeId(SERVER_NODE_ID)
+            .setBody("{\"COMMANDS\":[{\"c\":1},{\"c\":2},{\"c\":3}]}");
+    final List<String> sentActions = new ArrayList<>();
+    final List<String> sentBodies = new ArrayList<>();
+    SyncEndpointClientSpi endpoint =
+        message -> {
+          sentActions.add(message.getAction());
+          sentBodies.add(message.getBody());
+          return Collections.singletonList(
+              sentActions.size() == 1 ? commandBatchMessage : endRemoteServiceMessage);
+        };
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn("{\"r\":1}").when(api).executeLocally("{\"c\":1}", LOCAL_READER_NAME);
+    doThrow(new IllegalStateException("failure"))
+        .when(api)
+        .executeLocally("{\"c\":2}", LOCAL_READER_NAME);
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .withCommandBatching()
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    verify(api, never()).executeLocally("{\"c\":3}", LOCAL_READER_NAME);
+    assertThat(sentActions)
+        .containsExactly(Action.EXECUTE_REMOTE_SERVICE.name(), CommandBatch.RESP_BATCH);
+    JsonObject response = JsonUtil.getParser().fromJson(sentBodies.get(1), JsonObject.class);
+    assertThat(response.getAsJsonArray("RESPONSES").size()).isEqualTo(1);
+    assertThat(response.getAsJsonArray("RESPONSES").get(0).toString()).isEqualTo("{\"r\":1}");
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(response.get(JsonProperty.ERROR.getKey()), BodyError.class)
+                .getException())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failure");
+  }
+
+  @Test
+  public void buildMessage_whenReaderMetadataAreCached_shouldNotCallTheCoreAgain() {
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(true).when(api).isReaderContactless(LOCAL_READER_NAME);
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(syncEndpointClientSpi)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.buildMessage(SERVICE_ID, LOCAL_READER_NAME, null, null, SESSION_ID);
+    service.buildMessage(SERVICE_ID, LOCAL_READER_NAME, null, null, SESSION_ID);
+    verify(api, times(1)).isReaderContactless(LOCAL_READER_NAME);
+    assertThat(service.getReaderMetadataCacheStatistics().getHitCount()).isEqualTo(1);
+    assertThat(service.getReaderMetadataCacheStatistics().getMissCount()).isEqualTo(1);
+    service.invalidateReaderMetadata(LOCAL_READER_NAME);
+    service.buildMessage(SERVICE_ID, LOCAL_READER_NAME, null, null, SESSION_ID);
+    verify(api, times(2)).isReaderContactless(LOCAL_READER_NAME);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidateReaderMetadata_whenReaderNameIsEmpty_shouldThrowIAE() {
+    syncService.invalidateReaderMetadata("");
+  }
+
+  @Test
+  public void getSessionEvents_shouldContainTheEventsOfTheExecutedRemoteService() {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    doReturn(Collections.singletonList(endRemoteServiceMessage))
+        .when(endpoint)
+        .sendRequest(ArgumentMatchers.<MessageDto>any());
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    List<SessionEvent> events = service.getSessionEvents();
+    assertThat(events).hasSize(3);
+    assertThat(events.get(0).getType()).isEqualTo(SessionEventType.SESSION_START);
+    assertThat(events.get(0).getDetail()).isEqualTo(SERVICE_ID);
+    assertThat(events.get(1).getType()).isEqualTo(SessionEventType.ROUND_TRIP);
+    assertThat(events.get(2).getType()).isEqualTo(SessionEventType.SESSION_END);
+    assertThat(events.get(2).getSessionId()).isEqualTo(events.get(0).getSessionId());
+  }
+
+  @Test
+  public void getSessionEvents_whenRemoteServiceFails_shouldContainAnErrorEvent() {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    doThrow(new IllegalStateException("network failure"))
+        .when(endpoint)
+        .sendRequest(ArgumentMatchers.<MessageDto>any());
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    assertThatThrownBy(
+            () -> service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null))
+        .isInstanceOf(IllegalStateException.class);
+    List<SessionEvent> events = service.getSessionEvents();
+    SessionEvent lastEvent = events.get(events.size() - 1);
+    assertThat(lastEvent.getType()).isEqualTo(SessionEventType.ERROR);
+    assertThat(lastEvent.getDetail()).isEqualTo("network failure");
+  }
+
+  @Test
+  public void executeRemoteService_whenPreSelectionIsRegistered_shouldSendTheSelectedCard() {
+    final List<MessageDto> requests = new ArrayList<>();
+    SyncEndpointClientSpi endpoint =
+        message -> {
+          requests.add(message);
+          return Collections.singletonList(endRemoteServiceMessage);
+        };
+    final InputData smartCard = new InputData();
+    smartCard.data = "selectedCard";
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .withLocalPreSelection(SERVICE_ID, localReaderName -> smartCard)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0).getBody())
+        .contains("\"" + JsonProperty.INITIAL_CARD_CONTENT.getKey() + "\"")
+        .contains("selectedCard");
+    List<SessionEvent> events = service.getSessionEvents();
+    assertThat(events.get(1).getType()).isEqualTo(SessionEventType.LOCAL_SELECTION);
+    assertThat(events.get(1).getDetail()).isEqualTo("selected");
+  }
+
+  @Test
+  public void executeRemoteService_whenInitialCardContentIsProvided_shouldNotPreSelect() {
+    final List<String> selectedReaders = new ArrayList<>();
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(syncEndpointClientSpi)
+                        .withLocalPreSelection(
+                            SERVICE_ID,
+                            localReaderName -> {
+                              selectedReaders.add(localReaderName);
+                              return null;
+                            })
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, new InputData(), null, null);
+    assertThat(selectedReaders).isEmpty();
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    assertThat(selectedReaders).containsExactly(LOCAL_READER_NAME);
+  }
+
+  @Test
+  public void executeRemoteService_whenServerCompresses_shouldCompressTheNextRequests() {
+    StringBuilder sb = new StringBuilder("{\"r\":\"");
+    for (int i = 0; i < 100; i++) {
+      sb.append("9000");
+    }
+    final String largeBody = sb.append("\"}").toString();
+    final MessageDto compressedCommandMessage =
+        new MessageDto()
+            .setApiLevel(API_LEVEL)
+            .setAction(Action.CMD.name())
+            .setSessionId(SESSION_ID)
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setServerNodeId(SERVER_NODE_ID)
+            .setBody(BodyCompression.compress(largeBody, CompressionAlgorithm.DEFLATE, 0));
+    final List<String> sentBodies = new ArrayList<>();
+    SyncEndpointClientSpi endpoint =
+        message -> {
+          sentBodies.add(message.getBody());
+          return Collections.singletonList(
+              sentBodies.size() == 1 ? compressedCommandMessage : endRemoteServiceMessage);
+        };
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(largeBody).when(api).executeLocally(largeBody, LOCAL_READER_NAME);
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .withCompression(CompressionAlgorithm.DEFLATE, 0)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    verify(api).executeLocally(largeBody, LOCAL_READER_NAME);
+    assertThat(sentBodies).hasSize(2);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(sentBodies.get(0), JsonObject.class)
+                .get(BodyCompression.BODY_COMPRESSION)
+                .getAsString())
+        .isEqualTo(CompressionAlgorithm.DEFLATE.name());
+    assertThat(BodyCompression.getAlgorithm(sentBodies.get(1)))
+        .isEqualTo(CompressionAlgorithm.DEFLATE);
+  }
+
+  @Test
+  public void executeRemoteService_whenServerEncodes_shouldEncodeTheNextRequests() {
+    final String body = "{\"r\":\"00A4040007A00000040401259000\"}";
+    final MessageDto encodedCommandMessage =
+        new MessageDto()
+            .setApiLevel(API_LEVEL)
+            .setAction(Action.CMD.name())
+            .setSessionId(SESSION_ID)
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setServerNodeId(SERVER_NODE_ID)
+            .setBody(BinaryBodyCodec.encode(body));
+    final List<String> sentBodies = new ArrayList<>();
+    SyncEndpointClientSpi endpoint =
+        message -> {
+          sentBodies.add(message.getBody());
+          return Collections.singletonList(
+              sentBodies.size() == 1 ? encodedCommandMessage : endRemoteServiceMessage);
+        };
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(body).when(api).executeLocally(body, LOCAL_READER_NAME);
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .withBinaryBodyEncoding()
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    verify(api).executeLocally(body, LOCAL_READER_NAME);
+    assertThat(sentBodies).hasSize(2);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(sentBodies.get(0), JsonObject.class)
+                .get(BinaryBodyCodec.BODY_ENCODING)
+                .getAsString())
+        .isEqualTo(BinaryBodyCodec.BINARY);
+    assertThat(BinaryBodyCodec.isEncoded(sentBodies.get(1))).isTrue();
+    assertThat(BinaryBodyCodec.decode(sentBodies.get(1))).isEqualTo(body);
+  }
+
+  @Test
+  public void executeRemoteService_whenServerDoesNotSupportResumption_shouldSendTheCoreBodies() {
+    final String result = "{\"r\":\"9000\"}";
+    final MessageDto commandMessage =
+        new MessageDto()
+            .setApiLevel(API_LEVEL)
+            .setAction(Action.CMD.name())
+            .setSessionId(SESSION_ID)
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setServerNodeId(SERVER_NODE_ID)
+            .setBody(COMMAND);
+    final List<MessageDto> sentMessages = new ArrayList<>();
+    SyncEndpointClientSpi endpoint =
+        message -> {
+          sentMessages.add(
+              new MessageDto().setAction(message.getAction()).setBody(message.getBody()));
+          return Collections.singletonList(
+              sentMessages.size() == 1 ? commandMessage : endRemoteServiceMessage);
+        };
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(result).when(api).executeLocally(COMMAND, LOCAL_READER_NAME);
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .withSessionResume(10)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    assertThat(sentMessages).hasSize(2);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(sentMessages.get(0).getBody(), JsonObject.class)
+                .has(SessionCheckpoint.SESSION_RESUME))
+        .isTrue();
+    assertThat(sentMessages.get(1).getAction()).isEqualTo(Action.RESP.name());
+    assertThat(sentMessages.get(1).getBody()).isEqualTo(result);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(sentMessages.get(1).getBody(), JsonObject.class)
+                .has(SessionCheckpoint.SEQUENCE_NUMBER))
+        .isFalse();
+  }
+
+  @Test
+  public void executeRemoteService_whenAdaptiveTimeoutExpires_shouldFailWithoutInterrupting()
+      throws Exception {
+    final AtomicReference<Thread> sendingThread = new AtomicReference<>();
+    final AtomicReference<LocalServiceClientAdapter> serviceReference = new AtomicReference<>();
+    AsyncEndpointClientSpi endpoint =
+        new AsyncEndpointClientSpi() {
+          @Override
+          public void openSession(String sessionId) {
+            serviceReference.get().getAsyncNode().onOpen(sessionId);
+          }
+
+          @Override
+          public void sendMessage(MessageDto message) {
+            // Never answers, like an unresponsive server.
+            sendingThread.set(Thread.currentThread());
+          }
+
+          @Override
+          public void closeSession(String sessionId) {
+            serviceReference.get().getAsyncNode().onClose(sessionId);
+          }
+        };
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(endpoint, 5)
+                        .withAdaptiveTimeout(50, 200)
+                        .build())
+                .getLocalService();
+    serviceReference.set(service);
+    service.connect(localServiceApi);
+    assertThatThrownBy(
+            () -> service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("adaptive timeout of 200 ms");
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    assertThat(sendingThread.get()).isNotSameAs(Thread.currentThread());
+    assertThat(sendingThread.get().isInterrupted()).isFalse();
+    service.close();
+  }
+
+  @Test
+  public void connect_shouldStartAndStopTheLatencyStatisticsExport() {
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(syncEndpointClientSpi)
+                        .withLatencyStatisticsExporter(mock(LatencyStatisticsExporter.class), 60)
+                        .build())
+                .getLocalService();
+    assertThat(service.getLatencyRecorder().isExportStarted()).isFalse();
+    service.connect(localServiceApi);
+    assertThat(service.getLatencyRecorder().isExportStarted()).isTrue();
+    service.connect(null);
+    assertThat(service.getLatencyRecorder().isExportStarted()).isFalse();
+  }
+
+  @Test
+  public void getLatencyStatistics_shouldContainTheMeasuresOfTheExecutedRemoteServices() {
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(syncEndpointClientSpi)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    service.executeRemoteService(SERVICE_ID, LOCAL_READER_NAME, null, null, null);
+    List<LatencyStatistics> statistics = service.getLatencyStatistics();
+    assertThat(statistics).hasSize(3);
+    assertThat(statistics.get(0).getType()).isEqualTo(LatencyMetricType.ROUND_TRIP);
+    assertThat(statistics.get(0).getCount()).isEqualTo(1);
+    assertThat(statistics.get(1).getType()).isEqualTo(LatencyMetricType.LOCAL_EXECUTION);
+    assertThat(statistics.get(1).getCount()).isZero();
+    assertThat(statistics.get(2).getType()).isEqualTo(LatencyMetricType.REMOTE_SERVICE);
+    assertThat(statistics.get(2).getServiceId()).isEqualTo(SERVICE_ID);
+    assertThat(statistics.get(2).getCount()).isEqualTo(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void executeRemoteServiceAsync_whenServiceIdIsEmpty_shouldThrowIAE() {
+    syncService.executeRemoteServiceAsync("", LOCAL_READER_NAME, null, null, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void executeRemoteServiceAsync_whenTimeoutIsLessThan1_shouldThrowIAE() {
+    syncService.executeRemoteServiceAsync(
+        SERVICE_ID, LOCAL_READER_NAME, null, null, null, 0, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void executeRemoteServiceAsync_whenSyncAndOutputDataClassIsSet_shouldCompleteWithValue()
+      throws Exception {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    doReturn(Collections.singletonList(endRemoteServiceMessage))
+        .when(endpoint)
+        .sendRequest(ArgumentMatchers.<MessageDto>any());
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    OutputData outputData =
+        service
+            .executeRemoteServiceAsync(
+                SERVICE_ID, LOCAL_READER_NAME, null, null, OutputData.class, 5, TimeUnit.SECONDS)
+            .get(5, TimeUnit.SECONDS);
+    assertThat(outputData).isEqualToComparingFieldByField(new OutputData());
+  }
+
+  @Test
+  public void close_whenUnregistered_shouldEndTheThreadsOfTheAsynchronousRemoteServices()
+      throws Exception {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    doReturn(Collections.singletonList(endRemoteServiceMessage))
+        .when(endpoint)
+        .sendRequest(ArgumentMatchers.<MessageDto>any());
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder("STOPPED_SERVICE")
+                        .withSyncNode(endpoint)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    service
+        .executeRemoteServiceAsync(
+            SERVICE_ID, LOCAL_READER_NAME, null, null, null, 5, TimeUnit.SECONDS)
+        .get(5, TimeUnit.SECONDS);
+    assertThat(countThreads("keyple-STOPPED_SERVICE-")).isPositive();
+    service.close();
+    long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (countThreads("keyple-STOPPED_SERVICE-") > 0 && System.nanoTime() < deadlineNanos) {
+      Thread.sleep(10);
+    }
+    assertThat(countThreads("keyple-STOPPED_SERVICE-")).isZero();
+  }
+
+  static int countThreads(String namePrefix) {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().startsWith(namePrefix) && thread.isAlive()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void executeRemoteServiceAsync_whenCancelledBeforeStart_shouldNotContactServer() {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    final List<Runnable> tasks = new ArrayList<>();
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .withRemoteServiceExecutor(tasks::add)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    CompletableFuture<OutputData> future =
+        service.executeRemoteServiceAsync(
+            SERVICE_ID, LOCAL_READER_NAME, null, null, OutputData.class);
+    assertThat(future.cancel(true)).isTrue();
+    tasks.get(0).run();
+    assertThat(future).isCancelled();
+    verifyNoInteractions(endpoint);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void executeRemoteServices_whenMaxParallelismIsLessThan1_shouldThrowIAE() {
+    syncService.executeRemoteServices(
+        SERVICE_ID,
+        Collections.singletonList(new RemoteServiceRequest(LOCAL_READER_NAME, null, null)),
+        null,
+        0);
+  }
+
+  @Test
+  public void executeRemoteServices_shouldReturnOneResultPerRequestInOrder() {
+    SyncEndpointClientSpi endpoint = mock(SyncEndpointClientSpi.class);
+    doReturn(Collections.singletonList(endRemoteServiceMessage))
+        .when(endpoint)
+        .sendRequest(ArgumentMatchers.<MessageDto>any());
+    LocalServiceClientAdapter service =
+        (LocalServiceClientAdapter)
+            ((LocalServiceClientFactoryAdapter)
+                    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+                        .withSyncNode(endpoint)
+                        .build())
+                .getLocalService();
+    service.connect(localServiceApi);
+    List<RemoteServiceRequest> requests =
+        Arrays.asList(
+            new RemoteServiceRequest(LOCAL_READER_NAME, null, null),
+            new RemoteServiceRequest("otherReaderName", null, null),
+            new RemoteServiceRequest(LOCAL_READER_NAME, null, null));
+    List<RemoteServiceResult<OutputData>> results =
+        service.executeRemoteServices(SERVICE_ID, requests, OutputData.class, 2);
+    assertThat(results).hasSize(3);
+    for (int i = 0; i < results.size(); i++) {
+      assertThat(results.get(i).getRequest()).isSameAs(requests.get(i));
+      assertThat(results.get(i).isSuccessful()).isTrue();
+      assertThat(results.get(i).getOutputData()).isEqualToComparingFieldByField(new OutputData());
+    }
+  }
+
   @Test(expected = UnsupportedOperationException.class)
   public void onPluginEvent_shouldThrowUOE() {
     syncService.onPluginEvent(null, null);
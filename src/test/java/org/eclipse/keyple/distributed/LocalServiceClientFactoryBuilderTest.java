@@ -12,6 +12,7 @@
 package org.eclipse.keyple.distributed;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.assumeFalse;
 import static org.mockito.Mockito.*;
 
 import org.eclipse.keyple.core.distributed.local.spi.LocalServiceFactorySpi;
@@ -59,6 +60,137 @@ public void builder_whenAsyncNodeAndTimeoutIsLessThan1_shouldThrowIAE() {
         .build();
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenRemoteServiceExecutorIsNull_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withRemoteServiceExecutor(null)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenLatencyStatisticsExporterIsNull_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withLatencyStatisticsExporter(null, 1)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenLatencyStatisticsExportPeriodIsLessThan1_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withLatencyStatisticsExporter(mock(LatencyStatisticsExporter.class), 0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenReaderMetadataTimeToLiveIsLessThan1_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withReaderMetadataTimeToLive(0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenSessionFlightRecorderCapacityIsLessThan1_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withSessionFlightRecorderCapacity(0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenCompressionAlgorithmIsNull_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withCompression(null, 0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenCompressionThresholdIsNegative_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withCompression(CompressionAlgorithm.DEFLATE, -1)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenSessionResumeGraceWindowIsLessThan1_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withSessionResume(0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenPreSelectionScenarioIsNull_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withLocalPreSelection("serviceId", null)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenPreSelectionIsRegisteredTwiceForAService_shouldThrowIAE() {
+    LocalSelectionScenario scenario = mock(LocalSelectionScenario.class);
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withLocalPreSelection("serviceId", scenario)
+        .withLocalPreSelection("serviceId", scenario)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenAdaptiveTimeoutFloorIsLessThan1_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withAsyncNode(asyncEndpointClientSpi, 1)
+        .withAdaptiveTimeout(0, 1000)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenAdaptiveTimeoutCeilingExceedsTheNodeTimeout_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withAsyncNode(asyncEndpointClientSpi, 1)
+        .withAdaptiveTimeout(100, 1001)
+        .build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builder_whenAdaptiveTimeoutIsUsedWithSyncNode_shouldThrowISE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withAdaptiveTimeout(100, 1000)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenSessionPoolSizeIsLessThan1_shouldThrowIAE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withAsyncNode(asyncEndpointClientSpi, 1)
+        .withSessionPool(0, 30)
+        .build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builder_whenSessionPoolIsUsedWithSyncNode_shouldThrowISE() {
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withSessionPool(2, 30)
+        .build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builder_whenVirtualThreadsAreNotSupported_shouldThrowISE() {
+    assumeFalse(VirtualThreads.isSupported());
+    LocalServiceClientFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode(syncEndpointClientSpi)
+        .withVirtualThreads()
+        .build();
+  }
+
   @Test
   public void builder_whenSyncNodeSuccess_shouldReturnANotNullInstance() {
     LocalServiceClientFactory factory =
@@ -14,10 +14,16 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keyple.distributed.spi.AsyncEndpointServerSpi;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentMatchers;
 
 public class LocalServiceServerAdapterTest {
 
@@ -150,4 +156,691 @@ public void onReaderEvent_whenNoReaderClientIsReferenced_shouldNotInvokeSendMess
     asyncService.onReaderEvent(LOCAL_READER_NAME, "eventData");
     verifyNoInteractions(asyncEndpointServerSpi);
   }
+
+  @Test
+  public void onReaderEvent_whenEventDispatchExecutorIsSet_shouldReturnBeforeSendingTheEvent() {
+    AsyncEndpointServerSpi endpoint = mock(AsyncEndpointServerSpi.class);
+    final List<Runnable> tasks = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(endpoint)
+                        .withEventDispatchExecutor(tasks::add)
+                        .build())
+                .getLocalService();
+    service.connect(mock(LocalServiceApi.class));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    verify(endpoint).sendMessage(ArgumentMatchers.<MessageDto>any());
+
+    service.onReaderEvent(LOCAL_READER_NAME, READER_EVENT_DATA);
+    service.onReaderEvent(LOCAL_READER_NAME, READER_EVENT_DATA);
+    verify(endpoint).sendMessage(ArgumentMatchers.<MessageDto>any());
+    assertThat(tasks).hasSize(1);
+
+    tasks.get(0).run();
+    verify(endpoint, times(3)).sendMessage(ArgumentMatchers.<MessageDto>any());
+  }
+
+  @Test
+  public void onEvents_whenEventDispatchExecutorIsSet_shouldPreserveTheOrderOfEachClient() {
+    final List<Runnable> tasks = new ArrayList<>();
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withEventDispatchExecutor(tasks::add)
+                        .build())
+                .getLocalService();
+    service.connect(mock(LocalServiceApi.class));
+    MessageDto readerCommand =
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND);
+    service.onMessage(readerCommand);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    sentMessages.clear();
+
+    service.onReaderEvent(LOCAL_READER_NAME, READER_EVENT_DATA + 1);
+    service.onPluginEvent(LOCAL_READER_NAME, PLUGIN_EVENT_DATA);
+    service.onReaderEvent(LOCAL_READER_NAME, READER_EVENT_DATA + 2);
+    assertThat(tasks).hasSize(1);
+    assertThat(service.getEventQueueStatistics()).hasSize(1);
+    assertThat(service.getEventQueueStatistics().get(0).getQueueDepth()).isEqualTo(3);
+
+    tasks.get(0).run();
+    assertThat(sentMessages).hasSize(3);
+    assertThat(sentMessages.get(0).getBody()).isEqualTo(READER_EVENT_DATA + 1);
+    assertThat(sentMessages.get(1).getAction()).isEqualTo(MessageDto.Action.PLUGIN_EVENT.name());
+    assertThat(sentMessages.get(1).getBody()).isEqualTo(PLUGIN_EVENT_DATA);
+    assertThat(sentMessages.get(2).getBody()).isEqualTo(READER_EVENT_DATA + 2);
+  }
+
+  @Test
+  public void onReaderEvent_whenDispatchedAndDeliveryFails_shouldUnregisterAllSubscriptions() {
+    final List<Runnable> tasks = new ArrayList<>();
+    final List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(
+                            message -> {
+                              if (!message.getAction().equals(MessageDto.Action.RESP.name())) {
+                                throw new IllegalStateException("network error");
+                              }
+                              sentMessages.add(message);
+                            })
+                        .withEventDispatchExecutor(tasks::add)
+                        .build())
+                .getLocalService();
+    service.connect(mock(LocalServiceApi.class));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    assertThat(service.getSubscriptionCount()).isEqualTo(2);
+
+    service.onReaderEvent(LOCAL_READER_NAME, READER_EVENT_DATA);
+    tasks.get(0).run();
+    assertThat(service.getSubscriptionCount()).isZero();
+    assertThat(service.getEventQueueStatistics()).isEmpty();
+  }
+
+  @Test
+  public void onMessage_shouldReferenceOneSubscriptionPerClientAndReader() {
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(mock(AsyncEndpointServerSpi.class))
+                        .withSubscriptionTimeToLive(60)
+                        .build())
+                .getLocalService();
+    service.connect(mock(LocalServiceApi.class));
+    MessageDto message =
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND);
+    service.onMessage(message);
+    service.onMessage(message);
+    assertThat(service.getSubscriptionCount()).isEqualTo(1);
+    assertThat(service.getEvictedSubscriptionCount()).isZero();
+    service.close();
+  }
+
+  @Test
+  public void onMessage_shouldRecordTheCommandAndLocalExecutionLatencies() {
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(mock(AsyncEndpointServerSpi.class))
+                        .build())
+                .getLocalService();
+    service.connect(mock(LocalServiceApi.class));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    List<LatencyStatistics> statistics = service.getLatencyStatistics();
+    assertThat(statistics).hasSize(2);
+    assertThat(statistics.get(0).getType()).isEqualTo(LatencyMetricType.SERVER_COMMAND);
+    assertThat(statistics.get(0).getCount()).isEqualTo(1);
+    assertThat(statistics.get(1).getType()).isEqualTo(LatencyMetricType.LOCAL_EXECUTION);
+    assertThat(statistics.get(1).getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void onMessage_whenStripedCommandExecutionIsSet_shouldProcessTheCommandOnAWorker() {
+    AsyncEndpointServerSpi endpoint = mock(AsyncEndpointServerSpi.class);
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(endpoint)
+                        .withStripedCommandExecution(2)
+                        .build())
+                .getLocalService();
+    service.connect(mock(LocalServiceApi.class));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    verify(endpoint, timeout(2000)).sendMessage(any(MessageDto.class));
+    assertThat(service.getCommandStripeStatistics()).hasSize(2);
+  }
+
+  @Test
+  public void onMessage_whenCompressionIsSetAndCommandIsCompressed_shouldCompressTheMessages() {
+    String command = buildLargeJson("command");
+    String response = buildLargeJson("response");
+    String event = buildLargeJson("event");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(response).when(api).executeLocally(command, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withCompression(0)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(BodyCompression.compress(command, CompressionAlgorithm.GZIP, 0)));
+    service.onReaderEvent(LOCAL_READER_NAME, event);
+    verify(api).executeLocally(command, LOCAL_READER_NAME);
+    assertThat(sentMessages).hasSize(2);
+    for (MessageDto sentMessage : sentMessages) {
+      assertThat(BodyCompression.getAlgorithm(sentMessage.getBody()))
+          .isEqualTo(CompressionAlgorithm.GZIP);
+    }
+    assertThat(BodyCompression.decompress(sentMessages.get(0).getBody(), CompressionAlgorithm.GZIP))
+        .isEqualTo(response);
+    assertThat(BodyCompression.decompress(sentMessages.get(1).getBody(), CompressionAlgorithm.GZIP))
+        .isEqualTo(event);
+  }
+
+  @Test
+  public void onMessage_whenCommandCannotBeDecompressed_shouldSendErrorWithoutExecuting() {
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withCompression(0)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody("#DEFLATE:AAAA"));
+    verify(api, never()).executeLocally(anyString(), anyString());
+    assertThat(sentMessages).hasSize(1);
+    assertThat(sentMessages.get(0).getAction()).isEqualTo(MessageDto.Action.ERROR.name());
+    assertThat(service.getSubscriptionCount()).isZero();
+  }
+
+  @Test
+  public void onMessage_whenCompressionIsNotSetAndCommandIsCompressed_shouldSendError() {
+    String command = buildLargeJson("command");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(BodyCompression.compress(command, CompressionAlgorithm.GZIP, 0)));
+    verify(api, never()).executeLocally(anyString(), anyString());
+    assertThat(sentMessages).hasSize(1);
+    assertThat(sentMessages.get(0).getAction()).isEqualTo(MessageDto.Action.ERROR.name());
+  }
+
+  @Test
+  public void onMessage_whenClientHasCompressedACommand_shouldKeepCompressingLargeResponses() {
+    String command = buildLargeJson("command");
+    String response = buildLargeJson("response");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(response).when(api).executeLocally(anyString(), anyString());
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withCompression(64)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(BodyCompression.compress(command, CompressionAlgorithm.GZIP, 0)));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    assertThat(sentMessages).hasSize(2);
+    assertThat(BodyCompression.getAlgorithm(sentMessages.get(1).getBody()))
+        .isEqualTo(CompressionAlgorithm.GZIP);
+    service.onReaderEvent(LOCAL_READER_NAME, buildLargeJson("event"));
+    assertThat(BodyCompression.getAlgorithm(sentMessages.get(2).getBody()))
+        .isEqualTo(CompressionAlgorithm.GZIP);
+  }
+
+  @Test
+  public void onMessage_whenCompressionIsSetAndCommandIsNotCompressed_shouldNotCompressMessages() {
+    String response = buildLargeJson("response");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(response).when(api).executeLocally(COMMAND, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withCompression(0)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    assertThat(sentMessages).hasSize(1);
+    assertThat(sentMessages.get(0).getBody()).isEqualTo(response);
+  }
+
+  @Test
+  public void onMessage_whenBinaryEncodingIsSetAndCommandIsEncoded_shouldEncodeTheMessages() {
+    String command = buildLargeJson("command");
+    String response = buildLargeJson("response");
+    String event = buildLargeJson("event");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(response).when(api).executeLocally(command, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withBinaryBodyEncoding()
+                        .withCompression(0)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(BinaryBodyCodec.encode(command)));
+    service.onReaderEvent(LOCAL_READER_NAME, event);
+    verify(api).executeLocally(command, LOCAL_READER_NAME);
+    assertThat(sentMessages).hasSize(2);
+    assertThat(BinaryBodyCodec.decode(sentMessages.get(0).getBody())).isEqualTo(response);
+    assertThat(BinaryBodyCodec.decode(sentMessages.get(1).getBody())).isEqualTo(event);
+  }
+
+  @Test
+  public void onMessage_whenNextCommandIsNotEncoded_shouldKeepEncodingTheMessages() {
+    String command = buildLargeJson("command");
+    String response = buildLargeJson("response");
+    String event = buildLargeJson("event");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(response).when(api).executeLocally(command, LOCAL_READER_NAME);
+    doReturn(response).when(api).executeLocally(COMMAND, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withBinaryBodyEncoding()
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(BinaryBodyCodec.encode(command)));
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(COMMAND));
+    service.onReaderEvent(LOCAL_READER_NAME, event);
+    assertThat(sentMessages).hasSize(3);
+    assertThat(BinaryBodyCodec.isEncoded(sentMessages.get(1).getBody())).isTrue();
+    assertThat(BinaryBodyCodec.decode(sentMessages.get(1).getBody())).isEqualTo(response);
+    assertThat(BinaryBodyCodec.decode(sentMessages.get(2).getBody())).isEqualTo(event);
+  }
+
+  @Test
+  public void onMessage_whenBinaryEncodingIsNotSetAndCommandIsEncoded_shouldDecodeTheCommand() {
+    String command = buildLargeJson("command");
+    String response = buildLargeJson("response");
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(response).when(api).executeLocally(command, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setLocalReaderName(LOCAL_READER_NAME)
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(BinaryBodyCodec.encode(command)));
+    assertThat(sentMessages).hasSize(1);
+    assertThat(sentMessages.get(0).getBody()).isEqualTo(response);
+  }
+
+  static String buildLargeJson(String name) {
+    StringBuilder sb = new StringBuilder("{\"").append(name).append("\":\"");
+    for (int i = 0; i < 100; i++) {
+      sb.append("00A4040C");
+    }
+    return sb.append("\"}").toString();
+  }
+
+  @Test
+  public void onReaderEvent_whenClientHasChangedSession_shouldSendTheEventOnTheLastSession() {
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(OUTPUT_DATA).when(api).executeLocally(COMMAND, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    for (String sessionId : new String[] {SESSION_ID, "otherSessionId"}) {
+      service.onMessage(
+          new MessageDto()
+              .setApiLevel(MessageDto.API_LEVEL)
+              .setAction(MessageDto.Action.CMD.name())
+              .setLocalReaderName(LOCAL_READER_NAME)
+              .setClientNodeId(CLIENT_NODE_ID)
+              .setSessionId(sessionId)
+              .setBody(COMMAND));
+    }
+    service.onReaderEvent(LOCAL_READER_NAME, "event");
+    assertThat(sentMessages).hasSize(3);
+    assertThat(sentMessages.get(2).getAction()).isEqualTo(MessageDto.Action.READER_EVENT.name());
+    assertThat(sentMessages.get(2).getSessionId()).isEqualTo("otherSessionId");
+  }
+
+  @Test
+  public void getCommandStripeStatistics_whenStripedCommandExecutionIsNotSet_shouldReturnEmpty() {
+    assertThat(asyncService.getCommandStripeStatistics()).isEmpty();
+  }
+
+  @Test
+  public void onMessage_whenClientRateLimitIsExceeded_shouldSendErrorWithoutExecuting() {
+    LocalServiceApi api = mock(LocalServiceApi.class);
+    doReturn(OUTPUT_DATA).when(api).executeLocally(COMMAND, LOCAL_READER_NAME);
+    List<MessageDto> sentMessages = new ArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withClientRateLimit(1, 2)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    for (int i = 0; i < 3; i++) {
+      service.onMessage(
+          new MessageDto()
+              .setApiLevel(MessageDto.API_LEVEL)
+              .setAction(MessageDto.Action.CMD.name())
+              .setLocalReaderName(LOCAL_READER_NAME)
+              .setClientNodeId(CLIENT_NODE_ID)
+              .setSessionId(SESSION_ID)
+              .setBody(COMMAND));
+    }
+    verify(api, times(2)).executeLocally(COMMAND, LOCAL_READER_NAME);
+    assertThat(sentMessages).hasSize(3);
+    assertThat(sentMessages.get(2).getAction()).isEqualTo(MessageDto.Action.ERROR.name());
+    assertThat(sentMessages.get(2).getSessionId()).isEqualTo(SESSION_ID);
+    assertThat(sentMessages.get(2).getBody())
+        .contains("IllegalStateException")
+        .contains("Rate limit exceeded");
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(sentMessages.get(2).getBody(), JsonObject.class)
+                .get(CommandRejectedException.COMMAND_REJECTED)
+                .getAsString())
+        .isEqualTo(CommandRejectedException.Reason.RATE_LIMIT_EXCEEDED.name());
+    List<ClientAdmissionStatistics> statistics = service.getClientAdmissionStatistics();
+    assertThat(statistics).hasSize(1);
+    assertThat(statistics.get(0).getClientNodeId()).isEqualTo(CLIENT_NODE_ID);
+    assertThat(statistics.get(0).getInFlightCommandCount()).isZero();
+    assertThat(statistics.get(0).getAdmittedCommandCount()).isEqualTo(2);
+    assertThat(statistics.get(0).getThrottledCommandCount()).isEqualTo(1);
+    assertThat(statistics.get(0).getRejectedCommandCount()).isZero();
+  }
+
+  @Test
+  public void getClientAdmissionStatistics_whenAdmissionControlIsNotSet_shouldReturnEmpty() {
+    assertThat(asyncService.getClientAdmissionStatistics()).isEmpty();
+  }
+
+  @Test
+  public void onMessage_whenReaderAllocationQueueIsSetAndNoReaderIsAvailable_shouldAnswerOnRelease()
+      throws Exception {
+    ReaderAllocationSchedulerTest.PoolLocalServiceApi api =
+        new ReaderAllocationSchedulerTest.PoolLocalServiceApi();
+    List<MessageDto> sentMessages = new CopyOnWriteArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withPoolPlugins(POOL_PLUGIN_NAME_1)
+                        .withReaderAllocationQueue(ReaderAllocationPolicy.FIFO, 10000)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(ReaderAllocationSchedulerTest.ALLOCATE_READER));
+    assertThat(sentMessages).isEmpty();
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId("otherSessionId")
+            .setBody(ReaderAllocationSchedulerTest.RELEASE_READER));
+    for (int i = 0; i < 500 && sentMessages.size() < 2; i++) {
+      Thread.sleep(10);
+    }
+    assertThat(sentMessages).hasSize(2);
+    MessageDto allocationResponse =
+        sentMessages.get(0).getSessionId().equals(SESSION_ID)
+            ? sentMessages.get(0)
+            : sentMessages.get(1);
+    assertThat(allocationResponse.getSessionId()).isEqualTo(SESSION_ID);
+    assertThat(allocationResponse.getAction()).isEqualTo(MessageDto.Action.RESP.name());
+    assertThat(allocationResponse.getBody())
+        .isEqualTo(ReaderAllocationSchedulerTest.ALLOCATION_SUCCESS);
+    assertThat(service.getReaderAllocationStatistics()).hasSize(1);
+    service.close();
+  }
+
+  @Test
+  public void onMessage_whenReaderAllocationIsQueued_shouldKeepTheCommandInFlightUntilAnswered()
+      throws Exception {
+    ReaderAllocationSchedulerTest.PoolLocalServiceApi api =
+        new ReaderAllocationSchedulerTest.PoolLocalServiceApi();
+    List<MessageDto> sentMessages = new CopyOnWriteArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+                        .withAsyncNode(sentMessages::add)
+                        .withPoolPlugins(POOL_PLUGIN_NAME_1)
+                        .withClientMaxInFlightCommands(2)
+                        .withReaderAllocationQueue(ReaderAllocationPolicy.FIFO, 10000)
+                        .build())
+                .getLocalService();
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(ReaderAllocationSchedulerTest.ALLOCATE_READER));
+    assertThat(sentMessages).isEmpty();
+    assertThat(service.getClientAdmissionStatistics().get(0).getInFlightCommandCount())
+        .isEqualTo(1);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId("otherSessionId")
+            .setBody(ReaderAllocationSchedulerTest.RELEASE_READER));
+    for (int i = 0;
+        i < 500 && service.getClientAdmissionStatistics().get(0).getInFlightCommandCount() > 0;
+        i++) {
+      Thread.sleep(10);
+    }
+    assertThat(sentMessages).hasSize(2);
+    assertThat(service.getClientAdmissionStatistics().get(0).getInFlightCommandCount()).isZero();
+    service.close();
+  }
+
+  @Test
+  public void close_whenUnregistered_shouldAnswerTheWaitingRequestsAndEndTheThreads()
+      throws Exception {
+    ReaderAllocationSchedulerTest.PoolLocalServiceApi api =
+        new ReaderAllocationSchedulerTest.PoolLocalServiceApi();
+    List<MessageDto> sentMessages = new CopyOnWriteArrayList<>();
+    LocalServiceServerAdapter service =
+        (LocalServiceServerAdapter)
+            ((LocalServiceServerFactoryAdapter)
+                    LocalServiceServerFactoryBuilder.builder("CLOSED_SERVICE")
+                        .withAsyncNode(sentMessages::add)
+                        .withPoolPlugins(POOL_PLUGIN_NAME_1)
+                        .withSubscriptionTimeToLive(60)
+                        .withReaderAllocationQueue(ReaderAllocationPolicy.FIFO, 10000)
+                        .build())
+                .getLocalService();
+    // Registration to the Keyple service.
+    service.connect(api);
+    service.onMessage(
+        new MessageDto()
+            .setApiLevel(MessageDto.API_LEVEL)
+            .setAction(MessageDto.Action.CMD.name())
+            .setClientNodeId(CLIENT_NODE_ID)
+            .setSessionId(SESSION_ID)
+            .setBody(ReaderAllocationSchedulerTest.ALLOCATE_READER));
+    assertThat(sentMessages).isEmpty();
+    assertThat(LocalServiceClientAdapterTest.countThreads("keyple-CLOSED_SERVICE-")).isPositive();
+
+    // Unregistration from the Keyple service, which does not notify the local service.
+    service.close();
+
+    for (int i = 0; i < 500 && sentMessages.isEmpty(); i++) {
+      Thread.sleep(10);
+    }
+    assertThat(sentMessages).hasSize(1);
+    assertThat(sentMessages.get(0).getAction()).isEqualTo(MessageDto.Action.ERROR.name());
+    for (int i = 0;
+        i < 500 && LocalServiceClientAdapterTest.countThreads("keyple-CLOSED_SERVICE-") > 0;
+        i++) {
+      Thread.sleep(10);
+    }
+    assertThat(LocalServiceClientAdapterTest.countThreads("keyple-CLOSED_SERVICE-")).isZero();
+  }
+
+  @Test
+  public void getReaderAllocationStatistics_whenReaderAllocationQueueIsNotSet_shouldReturnEmpty() {
+    assertThat(asyncService.getReaderAllocationStatistics()).isEmpty();
+  }
 }
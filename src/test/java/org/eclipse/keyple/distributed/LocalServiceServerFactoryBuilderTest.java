@@ -12,6 +12,7 @@
 package org.eclipse.keyple.distributed;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
 import static org.mockito.Mockito.mock;
 
 import org.eclipse.keyple.core.distributed.local.spi.LocalServiceFactorySpi;
@@ -60,6 +61,98 @@ public void builder_whenAsyncNodeAndPoolPluginsNameContainsEmpty_shouldThrowIAE(
         .build();
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenEventDispatchExecutorIsNull_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withEventDispatchExecutor(null)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenEventQueueCapacityIsLessThanOne_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withEventQueueCapacity(0, EventQueueOverflowPolicy.DROP_OLDEST)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenEventQueueOverflowPolicyIsNull_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withEventQueueCapacity(10, null)
+        .build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builder_whenEventQueueCapacityIsSetWithoutDispatchExecutor_shouldThrowISE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withEventQueueCapacity(10, EventQueueOverflowPolicy.DROP_OLDEST)
+        .build();
+  }
+
+  @Test
+  public void builder_whenEventQueueCapacityIsSetWithDispatchExecutor_shouldSucceed() {
+    LocalServiceServerFactory factory =
+        LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+            .withSyncNode()
+            .withEventDispatchExecutor(Runnable::run)
+            .withEventQueueCapacity(10, EventQueueOverflowPolicy.DROP_OLDEST)
+            .build();
+    assertThat(factory).isNotNull();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenSubscriptionTimeToLiveIsLessThanOne_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withSubscriptionTimeToLive(0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenStripedCommandExecutionPoolSizeIsLessThan1_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withAsyncNode(asyncEndpointServerSpi)
+        .withStripedCommandExecution(0)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenCompressionThresholdIsNegative_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withAsyncNode(asyncEndpointServerSpi)
+        .withCompression(-1)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenLatencyStatisticsExporterIsNull_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withLatencyStatisticsExporter(null, 1)
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builder_whenLatencyStatisticsExportPeriodIsLessThan1_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withLatencyStatisticsExporter(mock(LatencyStatisticsExporter.class), 0)
+        .build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builder_whenVirtualThreadsAreNotSupported_shouldThrowISE() {
+    assumeFalse(VirtualThreads.isSupported());
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withAsyncNode(asyncEndpointServerSpi)
+        .withVirtualThreads()
+        .build();
+  }
+
   @Test
   public void builder_whenSyncNodeSuccess_shouldReturnANotNullInstance() {
     LocalServiceServerFactory factory =
@@ -81,4 +174,35 @@ public void builder_whenAsyncNodeSuccess_shouldReturnANotNullInstance() {
         .isInstanceOf(LocalServiceFactorySpi.class)
         .isInstanceOf(LocalServiceServerFactoryAdapter.class);
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withClientRateLimit_whenRateIsLessThanOne_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME).withSyncNode().withClientRateLimit(0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withClientRateLimit_whenBurstSizeIsLessThanOne_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME).withSyncNode().withClientRateLimit(1, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withClientMaxInFlightCommands_whenValueIsLessThanOne_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withClientMaxInFlightCommands(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withReaderAllocationQueue_whenPolicyIsNull_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withReaderAllocationQueue(null, 1000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withReaderAllocationQueue_whenMaxWaitIsLessThanOne_shouldThrowIAE() {
+    LocalServiceServerFactoryBuilder.builder(SERVICE_NAME)
+        .withSyncNode()
+        .withReaderAllocationQueue(ReaderAllocationPolicy.FAIR, 0);
+  }
 }
@@ -0,0 +1,323 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+import org.eclipse.keyple.core.util.json.BodyError;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.junit.After;
+import org.junit.Test;
+
+public class ReaderAllocationSchedulerTest {
+
+  static final String CLIENT_NODE_ID_1 = "clientNodeId1";
+  static final String CLIENT_NODE_ID_2 = "clientNodeId2";
+  static final String GROUP_REFERENCE = "group1";
+  static final String ALLOCATE_READER =
+      "{\"service\":\"ALLOCATE_READER\",\"readerGroupReference\":\"" + GROUP_REFERENCE + "\"}";
+  static final String ALLOCATE_READER_WITH_PARAMETERS =
+      "{\"service\":\"ALLOCATE_READER\",\"parameters\":{\"readerGroupReference\":\""
+          + GROUP_REFERENCE
+          + "\"}}";
+  static final String RELEASE_READER =
+      "{\"service\":\"RELEASE_READER\",\"localReaderName\":\"reader1\"}";
+  static final String GET_READER_GROUP_REFERENCES =
+      "{\"service\":\"GET_READER_GROUP_REFERENCES\"}";
+  static final String ALLOCATION_SUCCESS =
+      "{\"service\":\"ALLOCATE_READER\",\"result\":\"reader1\"}";
+  static final String ALLOCATION_FAILURE =
+      buildErrorResult(
+          ReaderAllocationScheduler.NO_READER_AVAILABLE_CODE,
+          "The pool plugin is unable to allocate a reader of the reader group reference: "
+              + GROUP_REFERENCE);
+  static final String OTHER_FAILURE =
+      buildErrorResult(
+          new IllegalStateException("No pool plugin with the group reference " + GROUP_REFERENCE));
+  static final String UNKNOWN_FAILURE =
+      "{\"service\":\"ALLOCATE_READER\",\"error\":\"No reader available\"}";
+  static final String OTHER_RESULT = "{\"result\":\"ok\"}";
+
+  private ReaderAllocationScheduler scheduler;
+
+  /**
+   * Builds the result of an allocation failure as encoded by the Keyple core.
+   *
+   * @param exception The exception thrown by the pool plugin service.
+   * @return A not null JSON string.
+   */
+  static String buildErrorResult(RuntimeException exception) {
+    return buildErrorResult(JsonUtil.getParser().toJsonTree(new BodyError(exception)));
+  }
+
+  /**
+   * Builds the result of an allocation failure having the provided error code.
+   *
+   * @param code The error code.
+   * @param message The error message.
+   * @return A not null JSON string.
+   */
+  static String buildErrorResult(String code, String message) {
+    JsonObject error = new JsonObject();
+    error.addProperty("code", code);
+    error.addProperty("message", message);
+    return buildErrorResult(error);
+  }
+
+  private static String buildErrorResult(JsonElement error) {
+    JsonObject result = new JsonObject();
+    result.addProperty("service", "ALLOCATE_READER");
+    result.add("error", error);
+    return result.toString();
+  }
+
+  /** Pool of readers of a single group. */
+  static final class PoolLocalServiceApi implements LocalServiceApi {
+
+    final AtomicInteger availableReaderCount = new AtomicInteger();
+    final AtomicInteger allocationAttemptCount = new AtomicInteger();
+    volatile String allocationFailure = ALLOCATION_FAILURE;
+    volatile CountDownLatch allocationStartedLatch;
+    volatile CountDownLatch allocationResumeLatch;
+
+    @Override
+    public void setPoolPluginNames(String... poolPluginNames) {}
+
+    @Override
+    public String executeLocally(String jsonData, String readerName) {
+      if (jsonData.contains("ALLOCATE_READER")) {
+        allocationAttemptCount.incrementAndGet();
+        awaitAllocationResume();
+        if (availableReaderCount.get() > 0) {
+          availableReaderCount.decrementAndGet();
+          return ALLOCATION_SUCCESS;
+        }
+        return allocationFailure;
+      }
+      if (jsonData.contains("RELEASE_READER")) {
+        availableReaderCount.incrementAndGet();
+      }
+      return OTHER_RESULT;
+    }
+
+    @Override
+    public boolean isReaderContactless(String readerName) {
+      return false;
+    }
+
+    private void awaitAllocationResume() {
+      CountDownLatch resumeLatch = allocationResumeLatch;
+      if (resumeLatch == null) {
+        return;
+      }
+      allocationStartedLatch.countDown();
+      try {
+        resumeLatch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private ReaderAllocationScheduler startScheduler(
+      ReaderAllocationPolicy policy, int maxWaitMillis) {
+    ReaderAllocationScheduler newScheduler =
+        new ReaderAllocationScheduler(policy, maxWaitMillis, "test-allocation");
+    newScheduler.start();
+    return newScheduler;
+  }
+
+  @After
+  public void tearDown() {
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+  }
+
+  @Test
+  public void execute_whenCommandIsNotAnAllocation_shouldExecuteItImmediately() {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 1000);
+    CompletableFuture<String> result =
+        scheduler.execute(new PoolLocalServiceApi(), CLIENT_NODE_ID_1, GET_READER_GROUP_REFERENCES);
+    assertThat(result.getNow(null)).isEqualTo(OTHER_RESULT);
+    assertThat(scheduler.getStatistics()).isEmpty();
+  }
+
+  @Test
+  public void execute_whenReaderIsAvailable_shouldAllocateItImmediately() {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 1000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    api.availableReaderCount.set(1);
+    CompletableFuture<String> result =
+        scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER_WITH_PARAMETERS);
+    assertThat(result.getNow(null)).isEqualTo(ALLOCATION_SUCCESS);
+    List<ReaderAllocationStatistics> statistics = scheduler.getStatistics();
+    assertThat(statistics).hasSize(1);
+    assertThat(statistics.get(0).getReaderGroupReference()).isEqualTo(GROUP_REFERENCE);
+    assertThat(statistics.get(0).getWaitingRequestCount()).isZero();
+    assertThat(statistics.get(0).getAllocatedRequestCount()).isEqualTo(1);
+    assertThat(statistics.get(0).getWaitTimeStatistics().getType())
+        .isEqualTo(LatencyMetricType.READER_ALLOCATION_WAIT);
+    assertThat(statistics.get(0).getWaitTimeStatistics().getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void execute_whenNoReaderIsAvailable_shouldWaitUntilAReaderIsReleased() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.isDone()).isFalse();
+    assertThat(scheduler.getStatistics().get(0).getWaitingRequestCount()).isEqualTo(1);
+    scheduler.execute(api, CLIENT_NODE_ID_2, RELEASE_READER);
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(ALLOCATION_SUCCESS);
+    assertThat(scheduler.getStatistics().get(0).getWaitingRequestCount()).isZero();
+    assertThat(scheduler.getStatistics().get(0).getMaxWaitingRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void execute_whenMaxWaitIsExceeded_shouldReturnTheAllocationFailure() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 50);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(ALLOCATION_FAILURE);
+    assertThat(scheduler.getStatistics().get(0).getTimedOutRequestCount()).isEqualTo(1);
+    assertThat(scheduler.getStatistics().get(0).getAllocatedRequestCount()).isZero();
+  }
+
+  @Test
+  public void execute_whenPolicyIsFifo_shouldServeTheRequestsInArrivalOrder() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> request1 = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    CompletableFuture<String> request2 = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    CompletableFuture<String> request3 = scheduler.execute(api, CLIENT_NODE_ID_2, ALLOCATE_READER);
+    scheduler.execute(api, CLIENT_NODE_ID_1, RELEASE_READER);
+    request1.get(5, TimeUnit.SECONDS);
+    scheduler.execute(api, CLIENT_NODE_ID_1, RELEASE_READER);
+    request2.get(5, TimeUnit.SECONDS);
+    assertThat(request3.isDone()).isFalse();
+  }
+
+  @Test
+  public void execute_whenPolicyIsFair_shouldServeTheClientsInTurn() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FAIR, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> request1 = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    CompletableFuture<String> request2 = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    CompletableFuture<String> request3 = scheduler.execute(api, CLIENT_NODE_ID_2, ALLOCATE_READER);
+    scheduler.execute(api, CLIENT_NODE_ID_1, RELEASE_READER);
+    request1.get(5, TimeUnit.SECONDS);
+    scheduler.execute(api, CLIENT_NODE_ID_1, RELEASE_READER);
+    request3.get(5, TimeUnit.SECONDS);
+    assertThat(request2.isDone()).isFalse();
+  }
+
+  @Test
+  public void execute_whenAllocationFailsWithAnotherError_shouldReturnItImmediately() {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    api.allocationFailure = OTHER_FAILURE;
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.getNow(null)).isEqualTo(OTHER_FAILURE);
+    assertThat(api.allocationAttemptCount.get()).isEqualTo(1);
+    assertThat(scheduler.getStatistics().get(0).getWaitingRequestCount()).isZero();
+    assertThat(scheduler.getStatistics().get(0).getAllocatedRequestCount()).isZero();
+  }
+
+  @Test
+  public void execute_whenAllocationFailsWithAnUnknownErrorShape_shouldReturnItImmediately() {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    api.allocationFailure = UNKNOWN_FAILURE;
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.getNow(null)).isEqualTo(UNKNOWN_FAILURE);
+    assertThat(api.allocationAttemptCount.get()).isEqualTo(1);
+    assertThat(scheduler.getStatistics().get(0).getAllocatedRequestCount()).isZero();
+  }
+
+  @Test
+  public void execute_whenNoReaderIsAvailableAndNotStarted_shouldReturnTheFailureImmediately() {
+    scheduler =
+        new ReaderAllocationScheduler(ReaderAllocationPolicy.FIFO, 10000, "test-allocation");
+    CompletableFuture<String> result =
+        scheduler.execute(new PoolLocalServiceApi(), CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.getNow(null)).isEqualTo(ALLOCATION_FAILURE);
+    assertThat(scheduler.getStatistics()).isEmpty();
+  }
+
+  @Test
+  public void stop_whenRequestsAreWaiting_shouldAnswerThemWithAnErrorAndStopQueuing() {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.isDone()).isFalse();
+    scheduler.stop();
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(scheduler.getStatistics().get(0).getWaitingRequestCount()).isZero();
+    assertThat(scheduler.execute(api, CLIENT_NODE_ID_2, ALLOCATE_READER).getNow(null))
+        .isEqualTo(ALLOCATION_FAILURE);
+  }
+
+  @Test
+  public void cancel_whenRequestIsBeingAllocated_shouldDeliverTheReader() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    api.allocationStartedLatch = new CountDownLatch(1);
+    api.allocationResumeLatch = new CountDownLatch(1);
+    scheduler.execute(api, CLIENT_NODE_ID_2, RELEASE_READER);
+    assertThat(api.allocationStartedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(result.cancel(false)).isFalse();
+    api.allocationResumeLatch.countDown();
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(ALLOCATION_SUCCESS);
+    assertThat(api.availableReaderCount.get()).isZero();
+  }
+
+  @Test
+  public void cancel_whenAllocationInProgressFails_shouldAnswerWithTheFailure() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    api.allocationStartedLatch = new CountDownLatch(1);
+    api.allocationResumeLatch = new CountDownLatch(1);
+    assertThat(api.allocationStartedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(result.cancel(false)).isFalse();
+    api.allocationResumeLatch.countDown();
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(ALLOCATION_FAILURE);
+    assertThat(scheduler.getStatistics().get(0).getWaitingRequestCount()).isZero();
+  }
+
+  @Test
+  public void cancel_whenRequestIsWaiting_shouldSkipIt() throws Exception {
+    scheduler = startScheduler(ReaderAllocationPolicy.FIFO, 10000);
+    PoolLocalServiceApi api = new PoolLocalServiceApi();
+    CompletableFuture<String> result = scheduler.execute(api, CLIENT_NODE_ID_1, ALLOCATE_READER);
+    assertThat(result.cancel(false)).isTrue();
+    scheduler.execute(api, CLIENT_NODE_ID_2, RELEASE_READER);
+    CompletableFuture<String> nextResult =
+        scheduler.execute(api, CLIENT_NODE_ID_2, ALLOCATE_READER);
+    assertThat(nextResult.get(5, TimeUnit.SECONDS)).isEqualTo(ALLOCATION_SUCCESS);
+    assertThat(result.isCancelled()).isTrue();
+  }
+}
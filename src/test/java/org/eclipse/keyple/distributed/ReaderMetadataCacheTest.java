@@ -0,0 +1,82 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReaderMetadataCacheTest {
+
+  static final String READER_NAME = "readerName";
+  static final String OTHER_READER_NAME = "otherReaderName";
+
+  LocalServiceApi localServiceApi;
+
+  @Before
+  public void setUp() {
+    localServiceApi = mock(LocalServiceApi.class);
+    doReturn(true).when(localServiceApi).isReaderContactless(READER_NAME);
+    doReturn(false).when(localServiceApi).isReaderContactless(OTHER_READER_NAME);
+  }
+
+  @Test
+  public void isReaderContactless_shouldCallTheCoreOncePerReader() {
+    ReaderMetadataCache cache = new ReaderMetadataCache(0);
+    assertThat(cache.isReaderContactless(localServiceApi, READER_NAME)).isTrue();
+    assertThat(cache.isReaderContactless(localServiceApi, READER_NAME)).isTrue();
+    assertThat(cache.isReaderContactless(localServiceApi, OTHER_READER_NAME)).isFalse();
+    verify(localServiceApi, times(1)).isReaderContactless(READER_NAME);
+    verify(localServiceApi, times(1)).isReaderContactless(OTHER_READER_NAME);
+    ReaderMetadataCacheStatistics statistics = cache.getStatistics();
+    assertThat(statistics.getEntryCount()).isEqualTo(2);
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void isReaderContactless_whenInvalidated_shouldCallTheCoreAgain() {
+    ReaderMetadataCache cache = new ReaderMetadataCache(0);
+    cache.isReaderContactless(localServiceApi, READER_NAME);
+    cache.isReaderContactless(localServiceApi, OTHER_READER_NAME);
+    cache.invalidate(READER_NAME);
+    assertThat(cache.getStatistics().getEntryCount()).isEqualTo(1);
+    cache.isReaderContactless(localServiceApi, READER_NAME);
+    verify(localServiceApi, times(2)).isReaderContactless(READER_NAME);
+    cache.invalidateAll();
+    assertThat(cache.getStatistics().getEntryCount()).isZero();
+  }
+
+  @Test
+  public void isReaderContactless_whenExpired_shouldCallTheCoreAgain() throws Exception {
+    ReaderMetadataCache cache = new ReaderMetadataCache(1);
+    cache.isReaderContactless(localServiceApi, READER_NAME);
+    Thread.sleep(10);
+    cache.isReaderContactless(localServiceApi, READER_NAME);
+    verify(localServiceApi, times(2)).isReaderContactless(READER_NAME);
+    assertThat(cache.getStatistics().getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void isReaderContactless_whenTheCoreFails_shouldNotCacheTheFailure() {
+    ReaderMetadataCache cache = new ReaderMetadataCache(0);
+    doThrow(new IllegalStateException("failure"))
+        .when(localServiceApi)
+        .isReaderContactless(READER_NAME);
+    assertThatThrownBy(() -> cache.isReaderContactless(localServiceApi, READER_NAME))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(cache.getStatistics().getEntryCount()).isZero();
+  }
+}
@@ -0,0 +1,82 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteServiceFutureTest {
+
+  private RemoteServiceFuture<String> future;
+
+  @Before
+  public void setUp() {
+    future = new RemoteServiceFuture<>();
+    future.bindCurrentThread();
+  }
+
+  @After
+  public void tearDown() {
+    future.unbindCurrentThread();
+    Thread.interrupted();
+  }
+
+  @Test
+  public void cancel_whenMayInterrupt_shouldInterruptTheRunner() {
+    assertThat(future.cancel(true)).isTrue();
+    assertThat(Thread.currentThread().isInterrupted()).isTrue();
+  }
+
+  @Test
+  public void cancel_whenLocalExecutionIsInProgress_shouldNotInterruptTheRunner() {
+    future.beginLocalExecution();
+    assertThat(future.cancel(true)).isTrue();
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    future.endLocalExecution();
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
+  @Test(expected = CancellationException.class)
+  public void checkNotDone_whenAbortedDuringLocalExecution_shouldThrowCE() {
+    future.beginLocalExecution();
+    assertThat(future.abort(new TimeoutException())).isTrue();
+    future.endLocalExecution();
+    future.checkNotDone();
+  }
+
+  @Test
+  public void unbindCurrentThread_whenInterruptedByTheFuture_shouldClearTheInterruptedStatus() {
+    future.abort(new TimeoutException());
+    future.unbindCurrentThread();
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
+  @Test
+  public void unbindCurrentThread_whenInterruptedByTheOwner_shouldKeepTheInterruptedStatus() {
+    Thread.currentThread().interrupt();
+    future.unbindCurrentThread();
+    assertThat(Thread.currentThread().isInterrupted()).isTrue();
+  }
+
+  @Test
+  public void unbindCurrentThread_whenNotInterruptedByTheFuture_shouldKeepTheInterruptedStatus() {
+    future.cancel(false);
+    Thread.currentThread().interrupt();
+    future.unbindCurrentThread();
+    assertThat(Thread.currentThread().isInterrupted()).isTrue();
+  }
+}
@@ -0,0 +1,126 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonObject;
+import org.eclipse.keyple.core.util.json.BodyError;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SessionCheckpointTest {
+
+  private SessionCheckpoint checkpoint;
+
+  @Before
+  public void setUp() {
+    checkpoint = new SessionCheckpoint();
+  }
+
+  @Test
+  public void stamp_whenNoRequestIsAcknowledged_shouldReturnTheBodyUnchanged() {
+    assertThat(checkpoint.stamp("{\"a\":1}")).isEqualTo("{\"a\":1}");
+    checkpoint.acknowledge("{\"b\":true}");
+    assertThat(checkpoint.stamp("{\"a\":2}")).isEqualTo("{\"a\":2}");
+    assertThat(checkpoint.getSequenceNumber()).isEqualTo(1);
+  }
+
+  @Test
+  public void stamp_whenARequestIsAcknowledged_shouldWrapTheBodyWithTheSequenceNumber() {
+    checkpoint.stamp("{}");
+    checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0}");
+    assertThat(checkpoint.stamp("{\"a\":1}"))
+        .isEqualTo("{\"SEQUENCE_NUMBER\":1,\"BODY\":{\"a\":1}}");
+    assertThat(checkpoint.getSequenceNumber()).isEqualTo(1);
+  }
+
+  @Test
+  public void stamp_whenBodyIsNotAJsonObject_shouldReturnTheBodyUnchanged() {
+    checkpoint.stamp("{}");
+    checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0}");
+    assertThat(checkpoint.stamp("[1]")).isEqualTo("[1]");
+    assertThat(checkpoint.stamp(null)).isNull();
+  }
+
+  @Test
+  public void stamp_whenResponseBodyIsStamped_shouldKeepTheCoreBodyParsable() {
+    BodyError error = new BodyError(new IllegalStateException("failure"));
+    String coreBody = JsonUtil.toJson(error);
+    checkpoint.stamp("{}");
+    String unstampedBody = checkpoint.stamp(coreBody);
+    assertThat(unstampedBody).isEqualTo(coreBody);
+    assertThat(
+            JsonUtil.getParser()
+                .fromJson(unstampedBody, JsonObject.class)
+                .has(SessionCheckpoint.SEQUENCE_NUMBER))
+        .isFalse();
+    checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":1}");
+    JsonObject wrapper =
+        JsonUtil.getParser().fromJson(checkpoint.stamp(coreBody), JsonObject.class);
+    assertThat(wrapper.get(SessionCheckpoint.SEQUENCE_NUMBER).getAsInt()).isEqualTo(2);
+    assertThat(wrapper.get(SessionCheckpoint.BODY).toString())
+        .isEqualTo(JsonUtil.getParser().toJsonTree(error).toString());
+  }
+
+  @Test
+  public void acknowledge_shouldUnwrapTheBody() {
+    checkpoint.stamp("{}");
+    assertThat(checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0,\"BODY\":{\"b\":true}}"))
+        .isEqualTo("{\"b\":true}");
+    assertThat(checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0}")).isNull();
+  }
+
+  @Test
+  public void acknowledge_whenBodyIsNotWrapped_shouldReturnTheBodyUnchanged() {
+    checkpoint.stamp("{}");
+    assertThat(checkpoint.acknowledge("{\"b\":true}")).isEqualTo("{\"b\":true}");
+    assertThat(checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0,\"b\":true}"))
+        .isEqualTo("{\"SEQUENCE_NUMBER\":0,\"b\":true}");
+    assertThat(checkpoint.acknowledge(null)).isNull();
+    checkpoint.stamp("{}");
+    assertThat(checkpoint.isResumable()).isFalse();
+  }
+
+  @Test
+  public void isResumable_whenNoRequestIsAcknowledged_shouldReturnFalse() {
+    checkpoint.stamp("{}");
+    checkpoint.acknowledge("{}");
+    checkpoint.stamp("{}");
+    assertThat(checkpoint.isResumable()).isFalse();
+  }
+
+  @Test
+  public void isResumable_whenARequestIsAcknowledged_shouldReturnTrue() {
+    checkpoint.stamp("{}");
+    checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0}");
+    checkpoint.stamp("{}");
+    assertThat(checkpoint.isResumable()).isTrue();
+  }
+
+  @Test
+  public void isResumable_whenAcknowledgedNumberIsNotTheCurrentOne_shouldReturnFalse() {
+    checkpoint.stamp("{}");
+    checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":5}");
+    checkpoint.stamp("{}");
+    assertThat(checkpoint.isResumable()).isFalse();
+  }
+
+  @Test
+  public void isResumable_whenCurrentRequestIsNotNumbered_shouldReturnFalse() {
+    checkpoint.stamp("{}");
+    checkpoint.acknowledge("{\"SEQUENCE_NUMBER\":0}");
+    checkpoint.stamp(null);
+    assertThat(checkpoint.isResumable()).isFalse();
+  }
+}
@@ -0,0 +1,103 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+
+public class SessionFlightRecorderTest {
+
+  static final String SESSION_ID = "sessionId";
+  static final String OTHER_SESSION_ID = "otherSessionId";
+
+  @Test
+  public void getCapacity_shouldBeRoundedUpToAPowerOf2() {
+    assertThat(new SessionFlightRecorder(1).getCapacity()).isEqualTo(1);
+    assertThat(new SessionFlightRecorder(5).getCapacity()).isEqualTo(8);
+    assertThat(new SessionFlightRecorder(8).getCapacity()).isEqualTo(8);
+  }
+
+  @Test
+  public void getEvents_whenEmpty_shouldReturnAnEmptyList() {
+    assertThat(new SessionFlightRecorder(8).getEvents()).isEmpty();
+  }
+
+  @Test
+  public void getEvents_shouldReturnTheEventsInRecordingOrder() {
+    SessionFlightRecorder recorder = new SessionFlightRecorder(8);
+    recorder.record(SessionEventType.SESSION_START, SESSION_ID, 0, "serviceId");
+    recorder.record(SessionEventType.ROUND_TRIP, SESSION_ID, 10, null);
+    recorder.record(SessionEventType.SESSION_END, SESSION_ID, 20, null);
+    List<SessionEvent> events = recorder.getEvents();
+    assertThat(events).hasSize(3);
+    assertThat(events.get(0).getSequenceNumber()).isEqualTo(0);
+    assertThat(events.get(0).getType()).isEqualTo(SessionEventType.SESSION_START);
+    assertThat(events.get(0).getDetail()).isEqualTo("serviceId");
+    assertThat(events.get(1).getType()).isEqualTo(SessionEventType.ROUND_TRIP);
+    assertThat(events.get(1).getDurationNanos()).isEqualTo(10);
+    assertThat(events.get(2).getType()).isEqualTo(SessionEventType.SESSION_END);
+    assertThat(events.get(2).getSessionId()).isEqualTo(SESSION_ID);
+    assertThat(events.get(2).getTimestampMillis()).isPositive();
+  }
+
+  @Test
+  public void getEvents_whenFull_shouldKeepTheMostRecentEvents() {
+    SessionFlightRecorder recorder = new SessionFlightRecorder(4);
+    for (int i = 0; i < 10; i++) {
+      recorder.record(SessionEventType.ROUND_TRIP, SESSION_ID, i, null);
+    }
+    List<SessionEvent> events = recorder.getEvents();
+    assertThat(events).hasSize(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(events.get(i).getSequenceNumber()).isEqualTo(6 + i);
+      assertThat(events.get(i).getDurationNanos()).isEqualTo(6 + i);
+    }
+  }
+
+  @Test
+  public void getEvents_whenSessionIdIsProvided_shouldReturnOnlyTheEventsOfTheSession() {
+    SessionFlightRecorder recorder = new SessionFlightRecorder(8);
+    recorder.record(SessionEventType.SESSION_START, SESSION_ID, 0, null);
+    recorder.record(SessionEventType.SESSION_START, OTHER_SESSION_ID, 0, null);
+    recorder.record(SessionEventType.ERROR, SESSION_ID, 0, "failure");
+    List<SessionEvent> events = recorder.getEvents(SESSION_ID);
+    assertThat(events).hasSize(2);
+    assertThat(events.get(1).getType()).isEqualTo(SessionEventType.ERROR);
+    assertThat(events.get(1).getDetail()).isEqualTo("failure");
+  }
+
+  @Test
+  public void record_whenConcurrent_shouldNeverReturnInconsistentEvents() throws Exception {
+    final SessionFlightRecorder recorder = new SessionFlightRecorder(16);
+    final CountDownLatch latch = new CountDownLatch(4);
+    for (int t = 0; t < 4; t++) {
+      final String sessionId = "session" + t;
+      new Thread(
+              () -> {
+                for (int i = 0; i < 10000; i++) {
+                  recorder.record(SessionEventType.ROUND_TRIP, sessionId, i, sessionId);
+                }
+                latch.countDown();
+              })
+          .start();
+    }
+    while (latch.getCount() > 0) {
+      for (SessionEvent event : recorder.getEvents()) {
+        assertThat(event.getDetail()).isEqualTo(event.getSessionId());
+      }
+    }
+    assertThat(recorder.getEvents()).hasSize(16);
+  }
+}
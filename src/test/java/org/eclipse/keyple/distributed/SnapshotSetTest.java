@@ -0,0 +1,80 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class SnapshotSetTest {
+
+  @Test
+  public void addIfAbsent_whenAbsent_shouldAddTheElement() {
+    SnapshotSet<String> set = new SnapshotSet<>(new String[0]);
+    assertThat(set.addIfAbsent("a")).isEqualTo("a");
+    assertThat(set.addIfAbsent("b")).isEqualTo("b");
+    assertThat(set.snapshot()).containsExactly("a", "b");
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void addIfAbsent_whenPresent_shouldReturnTheExistingElement() {
+    SnapshotSet<String> set = new SnapshotSet<>(new String[0]);
+    String first = new String("a");
+    set.addIfAbsent(first);
+    assertThat(set.addIfAbsent(new String("a"))).isSameAs(first);
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void remove_shouldNotAlterPreviousSnapshots() {
+    SnapshotSet<String> set = new SnapshotSet<>(new String[0]);
+    set.addIfAbsent("a");
+    set.addIfAbsent("b");
+    set.addIfAbsent("c");
+    String[] snapshot = set.snapshot();
+    assertThat(set.remove("b")).isTrue();
+    assertThat(set.remove("b")).isFalse();
+    assertThat(set.snapshot()).containsExactly("a", "c");
+    assertThat(snapshot).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void remove_whenEqualButNotSameInstance_shouldNotRemove() {
+    SnapshotSet<String> set = new SnapshotSet<>(new String[0]);
+    set.addIfAbsent(new String("a"));
+    assertThat(set.remove(new String("a"))).isFalse();
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_shouldReturnTheEqualElementPresent() {
+    SnapshotSet<String> set = new SnapshotSet<>(new String[0]);
+    String first = new String("a");
+    set.addIfAbsent(first);
+    assertThat(set.get(new String("a"))).isSameAs(first);
+    assertThat(set.get("b")).isNull();
+  }
+
+  @Test
+  public void addIfAbsent_whenPreviouslyRemoved_shouldAddTheElementAgain() {
+    SnapshotSet<String> set = new SnapshotSet<>(new String[0]);
+    String first = new String("a");
+    set.addIfAbsent(first);
+    set.remove(first);
+    String second = new String("a");
+    assertThat(set.addIfAbsent(second)).isSameAs(second);
+    assertThat(set.get("a")).isSameAs(second);
+    assertThat(set.remove(first)).isFalse();
+    assertThat(set.snapshot()).containsExactly("a");
+  }
+}
@@ -0,0 +1,105 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class StripedCommandExecutorTest {
+
+  @Test
+  public void execute_whenSameKey_shouldExecuteTasksInSubmissionOrder() throws Exception {
+    StripedCommandExecutor executor = new StripedCommandExecutor(4, "test-stripe", false);
+    final List<Integer> executedTasks = new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(100);
+    for (int i = 0; i < 100; i++) {
+      final int taskIndex = i;
+      executor.execute(
+          "reader",
+          new Runnable() {
+            @Override
+            public void run() {
+              executedTasks.add(taskIndex);
+              latch.countDown();
+            }
+          });
+    }
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 100; i++) {
+      assertThat(executedTasks.get(i)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  public void execute_whenDifferentStripes_shouldExecuteTasksInParallel() throws Exception {
+    StripedCommandExecutor executor = new StripedCommandExecutor(2, "test-stripe", false);
+    final CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+    final CountDownLatch otherTaskLatch = new CountDownLatch(1);
+    // A null key is always assigned to the first stripe.
+    executor.execute(
+        null,
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              blockingTaskLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        });
+    String otherKey = findKeyOfSecondStripe(executor);
+    executor.execute(
+        otherKey,
+        new Runnable() {
+          @Override
+          public void run() {
+            otherTaskLatch.countDown();
+          }
+        });
+    assertThat(otherTaskLatch.await(2, TimeUnit.SECONDS)).isTrue();
+    blockingTaskLatch.countDown();
+  }
+
+  @Test
+  public void getStatistics_shouldReturnTheStateOfEachStripe() throws Exception {
+    StripedCommandExecutor executor = new StripedCommandExecutor(3, "test-stripe", false);
+    final CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(
+        null,
+        new Runnable() {
+          @Override
+          public void run() {
+            latch.countDown();
+          }
+        });
+    assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    List<CommandStripeStatistics> statistics = executor.getStatistics();
+    assertThat(statistics).hasSize(3);
+    assertThat(statistics.get(0).getStripeIndex()).isZero();
+    assertThat(statistics.get(0).getMaxQueueDepth()).isEqualTo(1);
+    assertThat(statistics.get(1).getMaxQueueDepth()).isZero();
+  }
+
+  private static String findKeyOfSecondStripe(StripedCommandExecutor executor) {
+    for (int i = 0; ; i++) {
+      if (executor.indexOf("reader" + i) == 1) {
+        return "reader" + i;
+      }
+    }
+  }
+}
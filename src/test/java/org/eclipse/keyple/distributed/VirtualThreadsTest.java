@@ -0,0 +1,52 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.distributed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class VirtualThreadsTest {
+
+  @Test(expected = IllegalStateException.class)
+  public void newThreadFactory_whenNotSupported_shouldThrowISE() {
+    assumeFalse(VirtualThreads.isSupported());
+    VirtualThreads.newThreadFactory("keyple-test");
+  }
+
+  @Test
+  public void newThreadPerTaskExecutor_whenSupported_shouldRunTheTasksOnNamedThreads()
+      throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("keyple-test");
+    try {
+      String threadName =
+          executor
+              .submit(
+                  new Callable<String>() {
+                    @Override
+                    public String call() {
+                      return Thread.currentThread().getName();
+                    }
+                  })
+              .get(5, TimeUnit.SECONDS);
+      assertThat(threadName).isEqualTo("keyple-test-1");
+    } finally {
+      executor.shutdown();
+    }
+  }
+}